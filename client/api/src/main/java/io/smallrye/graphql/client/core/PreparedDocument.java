@@ -0,0 +1,38 @@
+package io.smallrye.graphql.client.core;
+
+import static io.smallrye.graphql.client.core.utils.ServiceUtils.getNewInstanceOf;
+
+import java.util.Map;
+
+/**
+ * A {@link Document} that is rendered only once, e.g. for a constant document that is executed very often.
+ * The query text is interned, the SHA-256 hash of it (for persisted queries) is computed, and the variable
+ * definitions are checked, when the document is prepared; {@link #build()} then only returns the query text.
+ * <p>
+ * A prepared document is immutable and can be shared between threads.
+ */
+public interface PreparedDocument extends Document {
+
+    /*
+     * Static factory methods
+     */
+    static PreparedDocument prepare(Document document) {
+        PreparedDocument prepared = getNewInstanceOf(PreparedDocument.class);
+
+        prepared.setOperations(document.getOperations());
+
+        return prepared;
+    }
+
+    /** The lowercase hex SHA-256 hash of the query text */
+    String getSha256Hash();
+
+    /**
+     * Check the values of the variables against the variable definitions of the operations:
+     * all variables must be defined, non-null variables without a default value must be given,
+     * and the values of the built-in scalars must have a matching type.
+     *
+     * @throws IllegalArgumentException if the variables don't match
+     */
+    void validate(Map<String, Object> variables);
+}
@@ -0,0 +1,40 @@
+package io.smallrye.graphql.client.typesafe.api;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Cache the responses to the annotated query for some time, i.e. identical invocations with the same
+ * variables don't go to the service again. Annotations on a method override those on the API interface.
+ * <p>
+ * The cache has to be enabled for the client with the <code>cacheSize</code> configuration.
+ * If the service sends a <code>Cache-Control</code> header, a <code>max-age</code> limits the time to live,
+ * and <code>no-store</code> or <code>no-cache</code> prevent caching. Responses with errors are never cached.
+ * <p>
+ * E.g.
+ *
+ * <pre>
+ * &#64;GraphQLClientApi
+ * interface CountriesApi {
+ *     &#64;Cached(ttl = 3600, staleWhileRevalidate = 60)
+ *     List&lt;Country&gt; countries();
+ * }
+ * </pre>
+ */
+@Retention(RUNTIME)
+@Target({ TYPE, METHOD })
+public @interface Cached {
+    /** The time to live in seconds */
+    int ttl();
+
+    /**
+     * The number of seconds after the time to live, in which the expired response is still returned,
+     * while a fresh response is fetched in the background. If negative (the default), the
+     * <code>stale-while-revalidate</code> of the <code>Cache-Control</code> header is used, if the service sends one.
+     */
+    int staleWhileRevalidate() default -1;
+}
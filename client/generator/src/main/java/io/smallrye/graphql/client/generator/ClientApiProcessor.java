@@ -0,0 +1,156 @@
+package io.smallrye.graphql.client.generator;
+
+import static javax.tools.Diagnostic.Kind.NOTE;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.JavaFileObject;
+
+import io.smallrye.graphql.client.generator.CompiledQueryBuilder.UnsupportedMethodException;
+
+/**
+ * Renders the queries of the methods of each <code>@GraphQLClientApi</code> interface at compile time, so the typesafe
+ * client doesn't have to build them by reflection when a method is called for the first time.
+ * <p>
+ * For an API <code>com.example.SuperHeroesApi</code>, it generates a class
+ * <code>com.example.SuperHeroesApi_GraphQLQueries</code> that supplies a map from the method signatures to the queries;
+ * for a nested API <code>com.example.Heroes.Api</code>, it's <code>com.example.Heroes$Api_GraphQLQueries</code>.
+ * Methods that can't be rendered at compile time are left out; their queries are still built at runtime.
+ * <p>
+ * This only replaces the reflective query building, it does not generate a client: the calls still go through the
+ * proxy of the typesafe client, and the results are still decoded by reflection.
+ */
+@SupportedAnnotationTypes("io.smallrye.graphql.client.typesafe.api.GraphQLClientApi")
+public class ClientApiProcessor extends AbstractProcessor {
+    static final String SUFFIX = "_GraphQLQueries";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latest();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations)
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation))
+                if (element.getKind() == ElementKind.INTERFACE)
+                    generateQueriesFor((TypeElement) element);
+        return false; // other processors, e.g. for CDI, may also be interested in the client APIs
+    }
+
+    private void generateQueriesFor(TypeElement api) {
+        Map<String, String> queries = new LinkedHashMap<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(api))) {
+            if (!isApiMethod(method))
+                continue;
+            CompiledQueryBuilder builder = new CompiledQueryBuilder(processingEnv, method);
+            try {
+                queries.putIfAbsent(builder.signature(), builder.build());
+            } catch (UnsupportedMethodException e) {
+                processingEnv.getMessager().printMessage(NOTE,
+                        "the query is built at runtime, as it uses " + e.getMessage(), method);
+            }
+        }
+        if (!queries.isEmpty())
+            writeJavaSource(api, queries);
+    }
+
+    private boolean isApiMethod(ExecutableElement method) {
+        TypeElement declaring = (TypeElement) method.getEnclosingElement();
+        return method.getModifiers().contains(Modifier.ABSTRACT)
+                && !declaring.getQualifiedName().toString().startsWith("java.");
+    }
+
+    private void writeJavaSource(TypeElement api, Map<String, String> queries) {
+        String pkg = processingEnv.getElementUtils().getPackageOf(api).getQualifiedName().toString();
+        String className = simpleBinaryName(api, pkg) + SUFFIX;
+        String fileName = pkg.isEmpty() ? className : pkg + "." + className;
+        try {
+            JavaFileObject javaFileObject = processingEnv.getFiler().createSourceFile(fileName, api);
+            try (Writer writer = javaFileObject.openWriter()) {
+                writer.write(generateSource(pkg, className, api, queries));
+            }
+        } catch (IOException e) {
+            throw new GraphQLGeneratorException("can't write " + fileName, e);
+        }
+    }
+
+    /**
+     * The binary name without the package, i.e. the names of nested types are joined with a dollar sign, so the
+     * generated class names of different APIs can't collide
+     */
+    private String simpleBinaryName(TypeElement api, String pkg) {
+        String binaryName = processingEnv.getElementUtils().getBinaryName(api).toString();
+        return pkg.isEmpty() ? binaryName : binaryName.substring(pkg.length() + 1);
+    }
+
+    private static String generateSource(String pkg, String className, TypeElement api, Map<String, String> queries) {
+        StringBuilder source = new StringBuilder();
+        if (!pkg.isEmpty())
+            source.append("package ").append(pkg).append(";\n\n");
+        source.append("import java.util.Map;\n");
+        source.append("import java.util.function.Supplier;\n\n");
+        source.append("/** The queries of {@link ").append(api.getQualifiedName()).append("}, rendered at compile time */\n");
+        source.append("public class ").append(className).append(" implements Supplier<Map<String, String>> {\n");
+        source.append("    @Override\n");
+        source.append("    public Map<String, String> get() {\n");
+        source.append("        return Map.ofEntries(");
+        String delimiter = "\n";
+        for (Map.Entry<String, String> query : queries.entrySet()) {
+            source.append(delimiter).append("                Map.entry(")
+                    .append(literal(query.getKey())).append(", ")
+                    .append(literal(query.getValue())).append(")");
+            delimiter = ",\n";
+        }
+        source.append(");\n");
+        source.append("    }\n");
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private static String literal(String value) {
+        StringBuilder literal = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                case '\r':
+                    literal.append("\\r");
+                    break;
+                case '\t':
+                    literal.append("\\t");
+                    break;
+                default:
+                    if (c < ' ' || c == 0x7f) {
+                        // not as unicode escape, as the compiler would translate that before it reads the literal
+                        literal.append(String.format("\\%03o", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+            }
+        }
+        return literal.append('"').toString();
+    }
+}
@@ -0,0 +1,394 @@
+package io.smallrye.graphql.client.generator;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Builds the same query for a method of a typesafe client API as the <code>QueryBuilder</code> does at runtime,
+ * but at compile time from the source model of the API instead of by reflection.
+ * <p>
+ * Only the common cases are supported: if a method uses e.g. nested parameters, maps as parameters,
+ * or generic types, an {@link UnsupportedMethodException} is thrown, and the query is built at runtime as before.
+ */
+class CompiledQueryBuilder {
+    private static final String QUERY = "org.eclipse.microprofile.graphql.Query";
+    private static final String MUTATION = "org.eclipse.microprofile.graphql.Mutation";
+    private static final String SUBSCRIPTION = "io.smallrye.graphql.api.Subscription";
+    private static final String NAME = "org.eclipse.microprofile.graphql.Name";
+    private static final String NON_NULL = "org.eclipse.microprofile.graphql.NonNull";
+    private static final String ID = "org.eclipse.microprofile.graphql.Id";
+    private static final String INPUT = "org.eclipse.microprofile.graphql.Input";
+    private static final String IGNORE = "org.eclipse.microprofile.graphql.Ignore";
+    private static final String JSONB_PROPERTY = "jakarta.json.bind.annotation.JsonbProperty";
+    private static final String JACKSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+    private static final String HEADER = "io.smallrye.graphql.client.typesafe.api.Header";
+    private static final String NESTED_PARAMETER = "io.smallrye.graphql.client.typesafe.api.NestedParameter";
+    private static final String MULTIPLE = "io.smallrye.graphql.client.typesafe.api.Multiple";
+    private static final String ERROR_OR = "io.smallrye.graphql.client.typesafe.api.ErrorOr";
+
+    static class UnsupportedMethodException extends RuntimeException {
+        UnsupportedMethodException(String message) {
+            super(message);
+        }
+    }
+
+    private final Types types;
+    private final Elements elements;
+    private final ExecutableElement method;
+    private final Deque<String> typeStack = new ArrayDeque<>();
+
+    CompiledQueryBuilder(ProcessingEnvironment env, ExecutableElement method) {
+        this.types = env.getTypeUtils();
+        this.elements = env.getElementUtils();
+        this.method = method;
+    }
+
+    /** The key of the method in the generated queries: the name and the erased parameter types, like in reflection */
+    String signature() {
+        return method.getSimpleName() + method.getParameters().stream()
+                .map(parameter -> typeName(types.erasure(parameter.asType())))
+                .collect(joining(",", "(", ")"));
+    }
+
+    private String typeName(TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY)
+            return typeName(((ArrayType) type).getComponentType()) + "[]";
+        if (type.getKind() == TypeKind.DECLARED)
+            return elements.getBinaryName((TypeElement) types.asElement(type)).toString();
+        if (type.getKind().isPrimitive())
+            return type.getKind().name().toLowerCase(Locale.ROOT); // without type annotations
+        return type.toString();
+    }
+
+    String build() {
+        if (isAnnotated(types.asElement(method.getReturnType()), MULTIPLE))
+            throw new UnsupportedMethodException("multiple queries in one request");
+        List<VariableElement> valueParameters = method.getParameters().stream()
+                .filter(parameter -> !isAnnotated(parameter, HEADER))
+                .collect(toList());
+        if (valueParameters.stream().anyMatch(parameter -> isAnnotated(parameter, NESTED_PARAMETER)))
+            throw new UnsupportedMethodException("nested parameters");
+
+        StringBuilder request = new StringBuilder();
+        request.append(operationType()).append(" ");
+        request.append(name());
+        if (!valueParameters.isEmpty())
+            request.append(valueParameters.stream().map(this::declare).collect(joining(", ", "(", ")")));
+
+        request.append(" { ");
+        request.append(name());
+        if (!valueParameters.isEmpty())
+            request.append(valueParameters.stream().map(this::bind).collect(joining(", ", "(", ")")));
+
+        request.append(fields(method.getReturnType()));
+
+        request.append(" }");
+
+        return request.toString();
+    }
+
+    private String operationType() {
+        if (isAnnotated(method, MUTATION))
+            return "mutation";
+        if (isAnnotated(method, SUBSCRIPTION))
+            return "subscription";
+        return "query";
+    }
+
+    private String name() {
+        return nonEmptyValue(method, QUERY)
+                .or(() -> annotation(method, NAME).map(name -> value(name, "value")))
+                .or(() -> nonEmptyValue(method, MUTATION))
+                .or(() -> nonEmptyValue(method, SUBSCRIPTION))
+                .orElseGet(this::rawName);
+    }
+
+    private String rawName() {
+        String name = method.getSimpleName().toString();
+        if (name.startsWith("get") && name.length() > 3 && Character.isUpperCase(name.charAt(3)))
+            return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+        return name;
+    }
+
+    private String declare(VariableElement parameter) {
+        return "$" + parameter.getSimpleName() + ": " + inputTypeName(parameter);
+    }
+
+    private String bind(VariableElement parameter) {
+        String name = annotation(parameter, NAME).map(annotation -> value(annotation, "value"))
+                .orElseGet(() -> parameter.getSimpleName().toString());
+        return name + ": $" + parameter.getSimpleName();
+    }
+
+    private String inputTypeName(VariableElement parameter) {
+        TypeMirror type = parameter.asType();
+        if (type.getKind() == TypeKind.ARRAY && !((ArrayType) type).getComponentType().getKind().isPrimitive())
+            throw new UnsupportedMethodException("arrays of objects as parameters");
+        String exclamationMark = (type.getKind().isPrimitive() || isAnnotated(parameter, NON_NULL)) ? "!" : "";
+        if (isAnnotated(parameter, ID)) {
+            if (isCollection(type))
+                return "[ID" + optionalExclamationMark(itemType(type)) + "]" + exclamationMark;
+            return "ID" + exclamationMark;
+        }
+        if (isCollection(type))
+            return "[" + inputTypeName(itemType(type)) + optionalExclamationMark(itemType(type)) + "]" + exclamationMark;
+        if (isMap(type))
+            throw new UnsupportedMethodException("map parameters");
+        return inputTypeName(type) + exclamationMark;
+    }
+
+    private String optionalExclamationMark(TypeMirror itemType) {
+        if (itemType.getKind().isPrimitive()
+                || isAnnotated(itemType, NON_NULL)
+                || isAnnotated(types.asElement(itemType), NON_NULL))
+            return "!";
+        return "";
+    }
+
+    private String inputTypeName(TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY)
+            throw new UnsupportedMethodException("nested arrays");
+        if (type.getKind() == TypeKind.DECLARED && !((DeclaredType) type).getTypeArguments().isEmpty())
+            throw new UnsupportedMethodException("generic parameter type " + type);
+        Element element = types.asElement(type);
+        Optional<String> input = nonEmptyValue(element, INPUT);
+        if (input.isPresent())
+            return input.get();
+        Optional<AnnotationMirror> name = annotation(element, NAME);
+        if (name.isPresent())
+            return value(name.get(), "value");
+        String simpleName = (element == null) ? type.toString() : element.getSimpleName().toString();
+        switch (simpleName) {
+            case "int":
+            case "Integer":
+            case "short":
+            case "Short":
+            case "byte":
+            case "Byte":
+                return "Int";
+            case "float":
+            case "Float":
+            case "double":
+            case "Double":
+                return "Float";
+            case "String":
+            case "char":
+            case "Character":
+            case "UUID":
+                return "String";
+            case "boolean":
+            case "Boolean":
+                return "Boolean";
+            case "BigInteger":
+            case "long":
+            case "Long":
+                return "BigInteger";
+            case "BigDecimal":
+                return "BigDecimal";
+            case "LocalDate":
+                return "Date";
+            case "LocalTime":
+            case "OffsetTime":
+                return "Time";
+            case "LocalDateTime":
+            case "OffsetDateTime":
+            case "ZonedDateTime":
+            case "Instant":
+                return "DateTime";
+            default:
+                return simpleName + (isScalar(type) ? "" : "Input");
+        }
+    }
+
+    private String fields(TypeMirror type) {
+        String typeName = type.toString();
+        if (typeStack.contains(typeName))
+            throw new UnsupportedMethodException("field recursion");
+        try {
+            typeStack.push(typeName);
+
+            return recursionCheckedFields(type);
+        } finally {
+            typeStack.pop();
+        }
+    }
+
+    private String recursionCheckedFields(TypeMirror type) {
+        while (isType(type, "java.util.Optional") || isType(type, ERROR_OR))
+            type = itemType(type);
+
+        if (type.getKind() == TypeKind.VOID || isScalar(type))
+            return "";
+        if (isCollection(type) || isAsync(type))
+            return fields(itemType(type));
+        if (isMap(type)) {
+            String keyFields = fields(typeArgument(type, 0));
+            String valueFields = fields(typeArgument(type, 1));
+            return "{ key " + keyFields + " value " + valueFields + "}";
+        }
+        return fieldsOf((TypeElement) types.asElement(type))
+                .map(this::field)
+                .collect(joining(" ", " {", "}"));
+    }
+
+    private Stream<VariableElement> fieldsOf(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        Stream<VariableElement> inherited = (superclass.getKind() == TypeKind.DECLARED)
+                ? fieldsOf((TypeElement) types.asElement(superclass))
+                : Stream.of();
+        return Stream.concat(inherited, ElementFilter.fieldsIn(type.getEnclosedElements()).stream()
+                .filter(this::isGraphQlField));
+    }
+
+    private boolean isGraphQlField(VariableElement field) {
+        Set<Modifier> modifiers = field.getModifiers();
+        return !modifiers.contains(Modifier.STATIC) && !modifiers.contains(Modifier.TRANSIENT)
+                && !isAnnotated(field, IGNORE);
+    }
+
+    private String field(VariableElement field) {
+        StringBuilder expression = new StringBuilder();
+        String rawName = field.getSimpleName().toString();
+        Optional<AnnotationMirror> name = annotation(field, NAME);
+        if (name.isPresent())
+            expression.append(rawName).append(":").append(value(name.get(), "value"));
+        else
+            expression.append(nonEmptyValue(field, JSONB_PROPERTY)
+                    .or(() -> nonEmptyValue(field, JACKSON_PROPERTY))
+                    .orElse(rawName));
+        expression.append(fields(field.asType()));
+        return expression.toString();
+    }
+
+    private TypeMirror itemType(TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY)
+            return ((ArrayType) type).getComponentType();
+        return typeArgument(type, 0);
+    }
+
+    private TypeMirror typeArgument(TypeMirror type, int index) {
+        List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+        if (arguments.size() <= index)
+            throw new UnsupportedMethodException("raw type " + type);
+        TypeMirror argument = arguments.get(index);
+        if (argument.getKind() != TypeKind.DECLARED && argument.getKind() != TypeKind.ARRAY)
+            throw new UnsupportedMethodException("type argument " + argument);
+        return argument;
+    }
+
+    private boolean isScalar(TypeMirror type) {
+        if (type.getKind().isPrimitive())
+            return true;
+        if (type.getKind() == TypeKind.ARRAY)
+            return false;
+        if (type.getKind() != TypeKind.DECLARED)
+            throw new UnsupportedMethodException("type " + type);
+        TypeElement element = (TypeElement) types.asElement(type);
+        return element.getKind() == ElementKind.ENUM
+                || isSubtype(type, "java.lang.Number")
+                || isSubtype(type, "java.lang.Boolean")
+                || isSubtype(type, "java.lang.CharSequence")
+                || isType(type, "java.lang.Character")
+                || isType(type, "java.util.Date")
+                || isType(type, "java.util.UUID")
+                || hasScalarConstructor(type, element);
+    }
+
+    /** Like at runtime: a public static <code>of</code>, <code>valueOf</code>, or <code>parse</code> method */
+    private boolean hasScalarConstructor(TypeMirror type, TypeElement element) {
+        if (!((DeclaredType) type).getTypeArguments().isEmpty())
+            return false;
+        return ElementFilter.methodsIn(elements.getAllMembers(element)).stream()
+                .filter(method -> method.getModifiers().contains(Modifier.PUBLIC))
+                .filter(method -> method.getModifiers().contains(Modifier.STATIC))
+                .filter(method -> Set.of("of", "valueOf", "parse").contains(method.getSimpleName().toString()))
+                .filter(method -> types.isSameType(types.erasure(method.getReturnType()), types.erasure(type)))
+                .anyMatch(method -> method.getParameters().size() == 1
+                        && isSubtype(method.getParameters().get(0).asType(), "java.lang.CharSequence"));
+    }
+
+    private boolean isCollection(TypeMirror type) {
+        return type.getKind() == TypeKind.ARRAY || isSubtype(type, "java.util.Collection");
+    }
+
+    private boolean isMap(TypeMirror type) {
+        return isSubtype(type, "java.util.Map");
+    }
+
+    private boolean isAsync(TypeMirror type) {
+        return isSubtype(type, "io.smallrye.mutiny.Uni") || isSubtype(type, "io.smallrye.mutiny.Multi");
+    }
+
+    private boolean isType(TypeMirror type, String className) {
+        TypeElement element = elements.getTypeElement(className);
+        return element != null && type.getKind() == TypeKind.DECLARED
+                && types.isSameType(types.erasure(type), types.erasure(element.asType()));
+    }
+
+    private boolean isSubtype(TypeMirror type, String className) {
+        TypeElement element = elements.getTypeElement(className);
+        return element != null && type.getKind() == TypeKind.DECLARED
+                && types.isSubtype(types.erasure(type), types.erasure(element.asType()));
+    }
+
+    private boolean isAnnotated(Element element, String annotationName) {
+        return annotation(element, annotationName).isPresent();
+    }
+
+    private boolean isAnnotated(TypeMirror type, String annotationName) {
+        return type.getAnnotationMirrors().stream().anyMatch(annotation -> isNamed(annotation, annotationName));
+    }
+
+    private Optional<AnnotationMirror> annotation(Element element, String annotationName) {
+        if (element == null)
+            return Optional.empty();
+        return element.getAnnotationMirrors().stream()
+                .filter(annotation -> isNamed(annotation, annotationName))
+                .map(annotation -> (AnnotationMirror) annotation)
+                .findFirst();
+    }
+
+    private static boolean isNamed(AnnotationMirror annotation, String annotationName) {
+        return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName);
+    }
+
+    private Optional<String> nonEmptyValue(Element element, String annotationName) {
+        return annotation(element, annotationName)
+                .map(annotation -> value(annotation, "value"))
+                .filter(value -> !value.isEmpty());
+    }
+
+    private String value(AnnotationMirror annotation, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : elements
+                .getElementValuesWithDefaults(annotation).entrySet())
+            if (entry.getKey().getSimpleName().contentEquals(name))
+                return String.valueOf(entry.getValue().getValue());
+        return "";
+    }
+}
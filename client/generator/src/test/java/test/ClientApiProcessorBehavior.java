@@ -0,0 +1,194 @@
+package test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.data.MapEntry.entry;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.smallrye.graphql.client.generator.ClientApiProcessor;
+
+public class ClientApiProcessorBehavior {
+    private static final String HERO = "" +
+            "package the_package;\n" +
+            "\n" +
+            "public class Hero {\n" +
+            "    String name;\n" +
+            "    String realName;\n" +
+            "}\n";
+
+    @TempDir
+    Path dir;
+
+    private final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+    @Test
+    public void shouldRenderQueries() throws Exception {
+        givenSource("the_package.Hero", HERO);
+        givenSource("the_package.HeroesApi", "" +
+                "package the_package;\n" +
+                "\n" +
+                "import java.util.List;\n" +
+                "import io.smallrye.graphql.client.typesafe.api.GraphQLClientApi;\n" +
+                "\n" +
+                "@GraphQLClientApi\n" +
+                "public interface HeroesApi {\n" +
+                "    String greeting();\n" +
+                "    List<Hero> heroesIn(String location);\n" +
+                "    boolean retire(long id, int[] years);\n" +
+                "}\n");
+
+        Map<String, String> queries = compileAndLoad("the_package.HeroesApi_GraphQLQueries");
+
+        then(queries).containsOnly(
+                entry("greeting()", "query greeting { greeting }"),
+                entry("heroesIn(java.lang.String)",
+                        "query heroesIn($location: String) { heroesIn(location: $location) {name realName} }"),
+                entry("retire(long,int[])",
+                        "query retire($id: BigInteger!, $years: [Int!]) { retire(id: $id, years: $years) }"));
+    }
+
+    @Test
+    public void shouldRenderQueriesOfNestedApi() throws Exception {
+        givenSource("the_package.Outer", "" +
+                "package the_package;\n" +
+                "\n" +
+                "import io.smallrye.graphql.client.typesafe.api.GraphQLClientApi;\n" +
+                "\n" +
+                "public class Outer {\n" +
+                "    @GraphQLClientApi\n" +
+                "    public interface Api {\n" +
+                "        String greeting(String name);\n" +
+                "    }\n" +
+                "}\n");
+        // a top-level API with the name of the nested one with an underscore
+        givenSource("the_package.Outer_Api", "" +
+                "package the_package;\n" +
+                "\n" +
+                "import io.smallrye.graphql.client.typesafe.api.GraphQLClientApi;\n" +
+                "\n" +
+                "@GraphQLClientApi\n" +
+                "public interface Outer_Api {\n" +
+                "    String farewell(String name);\n" +
+                "}\n");
+
+        Map<String, String> nested = compileAndLoad("the_package.Outer$Api_GraphQLQueries");
+        Map<String, String> topLevel = compileAndLoad("the_package.Outer_Api_GraphQLQueries");
+
+        then(nested).containsOnly(
+                entry("greeting(java.lang.String)", "query greeting($name: String) { greeting(name: $name) }"));
+        then(topLevel).containsOnly(
+                entry("farewell(java.lang.String)", "query farewell($name: String) { farewell(name: $name) }"));
+    }
+
+    @Test
+    public void shouldEscapeControlCharacters() throws Exception {
+        // the MicroProfile GraphQL API is not on the test class path
+        givenSource("org.eclipse.microprofile.graphql.Name", "" +
+                "package org.eclipse.microprofile.graphql;\n" +
+                "\n" +
+                "public @interface Name {\n" +
+                "    String value();\n" +
+                "}\n");
+        givenSource("the_package.OddApi", "" +
+                "package the_package;\n" +
+                "\n" +
+                "import io.smallrye.graphql.client.typesafe.api.GraphQLClientApi;\n" +
+                "import org.eclipse.microprofile.graphql.Name;\n" +
+                "\n" +
+                "@GraphQLClientApi\n" +
+                "public interface OddApi {\n" +
+                "    @Name(\"odd\\r\\n\\t\\u0001\\\\u0041\\\"\")\n" +
+                "    String greeting();\n" +
+                "}\n");
+
+        Map<String, String> queries = compileAndLoad("the_package.OddApi_GraphQLQueries");
+
+        then(queries).containsOnly(entry("greeting()", "query odd\r\n\t\u0001\\u0041\" { odd\r\n\t\u0001\\u0041\" }"));
+    }
+
+    @Test
+    public void shouldLeaveMultipleQueriesToTheRuntime() throws Exception {
+        givenSource("the_package.Hero", HERO);
+        givenSource("the_package.Pair", "" +
+                "package the_package;\n" +
+                "\n" +
+                "import io.smallrye.graphql.client.typesafe.api.Multiple;\n" +
+                "\n" +
+                "@Multiple\n" +
+                "public class Pair {\n" +
+                "    Hero left;\n" +
+                "    Hero right;\n" +
+                "}\n");
+        givenSource("the_package.PairApi", "" +
+                "package the_package;\n" +
+                "\n" +
+                "import io.smallrye.graphql.client.typesafe.api.GraphQLClientApi;\n" +
+                "\n" +
+                "@GraphQLClientApi\n" +
+                "public interface PairApi {\n" +
+                "    Pair pair();\n" +
+                "    String greeting();\n" +
+                "}\n");
+
+        Map<String, String> queries = compileAndLoad("the_package.PairApi_GraphQLQueries");
+
+        then(queries).containsOnly(entry("greeting()", "query greeting { greeting }"));
+        then(notes()).containsExactly("the query is built at runtime, as it uses multiple queries in one request");
+    }
+
+    private void givenSource(String className, String source) throws Exception {
+        Path path = dir.resolve("src").resolve(className.replace('.', '/') + ".java");
+        Files.createDirectories(path.getParent());
+        Files.write(path, source.getBytes(UTF_8));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> compileAndLoad(String className) throws Exception {
+        Path classes = Files.createDirectories(dir.resolve("classes"));
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, UTF_8);
+                var sources = Files.walk(dir.resolve("src"))) {
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromPaths(
+                    sources.filter(Files::isRegularFile).collect(Collectors.toList()));
+            List<String> options = List.of("-proc:only", "-classpath", System.getProperty("java.class.path"),
+                    "-s", classes.toString(), "-d", classes.toString());
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, units);
+            task.setProcessors(List.of(new ClientApiProcessor()));
+            then(task.call()).describedAs("compilation %s", diagnostics.getDiagnostics()).isTrue();
+
+            // compile the generated source, too
+            units = fileManager.getJavaFileObjectsFromPaths(List.of(classes.resolve(className.replace('.', '/') + ".java")));
+            task = compiler.getTask(null, fileManager, diagnostics, List.of("-d", classes.toString()), null, units);
+            then(task.call()).describedAs("compilation %s", diagnostics.getDiagnostics()).isTrue();
+        }
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { classes.toUri().toURL() })) {
+            Class<?> generated = classLoader.loadClass(className);
+            return ((Supplier<Map<String, String>>) generated.getConstructor().newInstance()).get();
+        }
+    }
+
+    private List<String> notes() {
+        return diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.NOTE)
+                .map(diagnostic -> diagnostic.getMessage(null))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,47 @@
+package io.smallrye.graphql.client.vertx;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.client.HttpRequest;
+import io.vertx.ext.web.client.HttpResponse;
+
+/**
+ * Sends request bodies compressed with gzip, if they are big enough to be worth it.
+ */
+public class RequestCompression {
+
+    private RequestCompression() {
+    }
+
+    /**
+     * Send the body, compressed if it has at least <code>threshold</code> bytes.
+     *
+     * @param threshold the minimum size of a compressed body, or <code>null</code> to never compress
+     */
+    public static Future<HttpResponse<Buffer>> send(HttpRequest<Buffer> request, String body, Integer threshold) {
+        return send(request, Buffer.buffer(body), threshold);
+    }
+
+    /** Like {@link #send(HttpRequest, String, Integer)}, for a body that is already written to a buffer */
+    public static Future<HttpResponse<Buffer>> send(HttpRequest<Buffer> request, Buffer buffer, Integer threshold) {
+        if (threshold == null || buffer.length() < threshold) {
+            return request.sendBuffer(buffer);
+        }
+        return request.putHeader("Content-Encoding", "gzip").sendBuffer(gzip(buffer));
+    }
+
+    static Buffer gzip(Buffer buffer) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(buffer.length() / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(buffer.getBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Buffer.buffer(out.toByteArray());
+    }
+}
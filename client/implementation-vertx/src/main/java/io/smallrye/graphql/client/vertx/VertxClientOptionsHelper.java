@@ -5,6 +5,7 @@ import java.security.KeyStore;
 import io.smallrye.graphql.client.impl.GraphQLClientConfiguration;
 import io.smallrye.graphql.client.vertx.ssl.SSLTools;
 import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpVersion;
 import io.vertx.core.net.JksOptions;
 import io.vertx.core.net.ProxyOptions;
 
@@ -46,9 +47,44 @@ public class VertxClientOptionsHelper {
             options.setMaxRedirects(configuration.getMaxRedirects());
         }
 
+        applyConnectionConfig(options, configuration);
+
         if (options.isSsl()) {
             // TODO: this is not supported yet
             options.setVerifyHost(false);
         }
     }
+
+    private static void applyConnectionConfig(HttpClientOptions options, GraphQLClientConfiguration configuration) {
+        if (Boolean.TRUE.equals(configuration.getHttp2())) {
+            options.setProtocolVersion(HttpVersion.HTTP_2);
+            // over TLS, HTTP/2 has to be negotiated
+            options.setUseAlpn(true);
+        }
+        if (configuration.getHttp2ClearTextUpgrade() != null) {
+            options.setHttp2ClearTextUpgrade(configuration.getHttp2ClearTextUpgrade());
+        }
+        if (configuration.getHttp2MaxPoolSize() != null) {
+            options.setHttp2MaxPoolSize(configuration.getHttp2MaxPoolSize());
+        }
+        if (configuration.getHttp2MultiplexingLimit() != null) {
+            options.setHttp2MultiplexingLimit(configuration.getHttp2MultiplexingLimit());
+        }
+        if (configuration.getMaxPoolSize() != null) {
+            options.setMaxPoolSize(configuration.getMaxPoolSize());
+        }
+        if (configuration.getPipelining() != null) {
+            options.setPipelining(configuration.getPipelining());
+        }
+        if (configuration.getPipeliningLimit() != null) {
+            options.setPipeliningLimit(configuration.getPipeliningLimit());
+        }
+        if (configuration.getKeepAlive() != null) {
+            options.setKeepAlive(configuration.getKeepAlive());
+        }
+        if (configuration.getKeepAliveTimeout() != null) {
+            options.setKeepAliveTimeout(configuration.getKeepAliveTimeout());
+            options.setHttp2KeepAliveTimeout(configuration.getKeepAliveTimeout());
+        }
+    }
 }
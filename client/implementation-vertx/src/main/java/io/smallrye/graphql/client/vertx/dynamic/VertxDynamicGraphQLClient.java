@@ -3,26 +3,36 @@ package io.smallrye.graphql.client.vertx.dynamic;
 import static java.util.stream.Collectors.toList;
 
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
 
 import org.jboss.logging.Logger;
 
 import io.smallrye.graphql.client.Request;
 import io.smallrye.graphql.client.Response;
 import io.smallrye.graphql.client.core.Document;
+import io.smallrye.graphql.client.core.OperationType;
+import io.smallrye.graphql.client.core.PreparedDocument;
 import io.smallrye.graphql.client.dynamic.api.DynamicGraphQLClient;
+import io.smallrye.graphql.client.impl.OperationTypes;
+import io.smallrye.graphql.client.impl.PersistedQueries;
 import io.smallrye.graphql.client.impl.RequestImpl;
+import io.smallrye.graphql.client.impl.ResponseCache;
 import io.smallrye.graphql.client.impl.ResponseReader;
 import io.smallrye.graphql.client.impl.discovery.ServiceURLSupplier;
 import io.smallrye.graphql.client.impl.discovery.StaticURLSupplier;
 import io.smallrye.graphql.client.impl.discovery.StorkServiceURLSupplier;
+import io.smallrye.graphql.client.vertx.RequestCompression;
 import io.smallrye.graphql.client.vertx.websocket.BuiltinWebsocketSubprotocolHandlers;
 import io.smallrye.graphql.client.vertx.websocket.WebSocketSubprotocolHandler;
 import io.smallrye.graphql.client.websocket.WebsocketSubprotocol;
@@ -34,6 +44,8 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.WebSocket;
 import io.vertx.core.http.WebsocketVersion;
+import io.vertx.ext.web.client.HttpRequest;
+import io.vertx.ext.web.client.HttpResponse;
 import io.vertx.ext.web.client.WebClient;
 import io.vertx.ext.web.client.WebClientOptions;
 
@@ -52,6 +64,16 @@ public class VertxDynamicGraphQLClient implements DynamicGraphQLClient {
     private final Map<String, Object> initPayload;
     private final List<WebsocketSubprotocol> subprotocols;
     private final Integer subscriptionInitializationTimeout;
+    private final ResponseCache<Response> cache;
+    private final Integer cacheTtl;
+    private final List<String> cacheKeyHeaders;
+    private final boolean persistedQueries;
+    private final boolean persistedQueriesGet;
+    // set when the server responded that it doesn't support persisted queries
+    private volatile boolean persistedQueriesNotSupported;
+    private final Integer requestCompressionThreshold;
+    // the hashes of the prepared documents, so they don't have to be computed for every request
+    private final Map<String, String> preparedQueryHashes = new ConcurrentHashMap<>();
 
     // Do NOT use this field directly, always retrieve by calling `webSocketHandler()`.
     // When a websocket connection is required, then this is populated with a Uni
@@ -65,7 +87,9 @@ public class VertxDynamicGraphQLClient implements DynamicGraphQLClient {
     VertxDynamicGraphQLClient(Vertx vertx, WebClient webClient,
             String url, String websocketUrl, boolean executeSingleOperationsOverWebsocket,
             MultiMap headers, Map<String, Object> initPayload, WebClientOptions options,
-            List<WebsocketSubprotocol> subprotocols, Integer subscriptionInitializationTimeout) {
+            List<WebsocketSubprotocol> subprotocols, Integer subscriptionInitializationTimeout,
+            Integer cacheSize, Integer cacheTtl, List<String> cacheKeyHeaders,
+            boolean persistedQueries, boolean persistedQueriesGet, Integer requestCompressionThreshold) {
         if (options != null) {
             this.httpClient = vertx.createHttpClient(options);
         } else {
@@ -100,6 +124,14 @@ public class VertxDynamicGraphQLClient implements DynamicGraphQLClient {
         this.executeSingleOperationsOverWebsocket = executeSingleOperationsOverWebsocket;
         this.subprotocols = subprotocols;
         this.subscriptionInitializationTimeout = subscriptionInitializationTimeout;
+        this.cache = (cacheSize != null && cacheSize > 0)
+                ? new ResponseCache<>(cacheSize, response -> !response.hasError(), VertxDynamicGraphQLClient::cacheControl)
+                : null;
+        this.cacheTtl = cacheTtl;
+        this.cacheKeyHeaders = cacheKeyHeaders;
+        this.persistedQueries = persistedQueries;
+        this.persistedQueriesGet = persistedQueriesGet;
+        this.requestCompressionThreshold = requestCompressionThreshold;
     }
 
     @Override
@@ -269,6 +301,13 @@ public class VertxDynamicGraphQLClient implements DynamicGraphQLClient {
     }
 
     private Request buildRequest(Document document, Map<String, Object> variables, String operationName) {
+        if (document instanceof PreparedDocument) {
+            PreparedDocument prepared = (PreparedDocument) document;
+            prepared.validate(variables);
+            if (persistedQueries) {
+                preparedQueryHashes.putIfAbsent(prepared.build(), prepared.getSha256Hash());
+            }
+        }
         return buildRequest(document.build(), variables, operationName);
     }
 
@@ -330,19 +369,93 @@ public class VertxDynamicGraphQLClient implements DynamicGraphQLClient {
     }
 
     private Uni<Response> executeSingleResultOperationOverHttp(JsonObject json) {
+        if (cache != null && isQuery(json)) {
+            Duration ttl = (cacheTtl == null) ? null : Duration.ofSeconds(cacheTtl);
+            return Uni.createFrom()
+                    .completionStage(() -> cache.get(ResponseCache.key(json.toString(), headers, cacheKeyHeaders),
+                            ttl, null, () -> send(json).subscribeAsCompletionStage()));
+        }
+        return send(json);
+    }
+
+    /** Send the request, or only the hash of the query, and the query only if the server doesn't know it yet */
+    private Uni<Response> send(JsonObject json) {
+        if (!persistedQueries || persistedQueriesNotSupported) {
+            return post(json);
+        }
+        String hash = sha256(json.getString("query"));
+        JsonObject hashOnly = PersistedQueries.hashOnly(json, hash);
+        return ((persistedQueriesGet && isQuery(json)) ? get(hashOnly) : post(hashOnly))
+                .onItem().transformToUni(response -> {
+                    if (PersistedQueries.isNotSupported(response.getErrors())) {
+                        log.debug("the server doesn't support persisted queries; send the queries from now on");
+                        persistedQueriesNotSupported = true;
+                        return post(json);
+                    }
+                    if (PersistedQueries.isNotFound(response.getErrors())) {
+                        log.tracef("persisted query not found; send it with the query: %s", json);
+                        return post(PersistedQueries.withQuery(json, hash));
+                    }
+                    return Uni.createFrom().item(response);
+                });
+    }
+
+    private String sha256(String query) {
+        String hash = preparedQueryHashes.get(query);
+        return (hash != null) ? hash : PersistedQueries.sha256(query);
+    }
+
+    /** Only queries are cached, and documents that are not clear about the operation are not */
+    private static boolean isQuery(JsonObject json) {
+        return OperationTypes.of(json.getString("query", ""), json.getString("operationName", null)) == OperationType.QUERY;
+    }
+
+    private static String cacheControl(Response response) {
+        Map<String, List<String>> headers = response.getTransportMeta();
+        if (headers == null) {
+            return null;
+        }
+        return headers.entrySet().stream()
+                .filter(header -> header.getKey().equalsIgnoreCase("Cache-Control"))
+                .flatMap(header -> header.getValue().stream())
+                .collect(Collectors.collectingAndThen(Collectors.joining(","), value -> value.isEmpty() ? null : value));
+    }
+
+    private Uni<Response> post(JsonObject json) {
         return Uni.createFrom().completionStage(
-                url.get().subscribeAsCompletionStage().thenCompose(instanceUrl -> webClient.postAbs(instanceUrl)
-                        .putHeaders(headers)
-                        .sendBuffer(Buffer.buffer(json.toString()))
+                url.get().subscribeAsCompletionStage().thenCompose(instanceUrl -> RequestCompression.send(
+                        webClient.postAbs(instanceUrl).putHeaders(headers), json.toString(), requestCompressionThreshold)
                         .toCompletionStage()))
-                .map(response -> ResponseReader.readFrom(response.bodyAsString(),
-                        convertHeaders(response.headers()), response.statusCode(), response.statusMessage()));
+                .map(this::readResponse);
+    }
+
+    /** Send the request parameters as query parameters, the JSON ones as JSON */
+    private Uni<Response> get(JsonObject json) {
+        return Uni.createFrom().completionStage(
+                url.get().subscribeAsCompletionStage().thenCompose(instanceUrl -> {
+                    HttpRequest<Buffer> request = webClient.getAbs(instanceUrl).putHeaders(headers);
+                    json.forEach((name, value) -> request.addQueryParam(name,
+                            (value instanceof JsonString) ? ((JsonString) value).getString() : value.toString()));
+                    return request.send().toCompletionStage();
+                }))
+                .map(this::readResponse);
+    }
+
+    private Response readResponse(HttpResponse<Buffer> response) {
+        return ResponseReader.readFrom(body(response),
+                convertHeaders(response.headers()), response.statusCode(), response.statusMessage());
+    }
+
+    /** The bytes of the response body, to be parsed without decoding them into a String first */
+    private static ByteBuffer body(HttpResponse<Buffer> response) {
+        Buffer body = response.body();
+        return (body == null) ? null : body.getByteBuf().nioBuffer();
     }
 
     private Uni<Response> executeSingleResultOperationOverWebsocket(JsonObject json) {
         AtomicReference<String> operationId = new AtomicReference<>();
         AtomicReference<WebSocketSubprotocolHandler> handlerRef = new AtomicReference<>();
-        Uni<String> rawUni = Uni.createFrom().emitter(rawEmitter -> {
+        Uni<JsonObject> rawUni = Uni.createFrom().emitter(rawEmitter -> {
             webSocketHandler().subscribe().with(handler -> {
                 handlerRef.set(handler);
                 operationId.set(handler.executeUni(json, rawEmitter));
@@ -358,13 +471,13 @@ public class VertxDynamicGraphQLClient implements DynamicGraphQLClient {
                         log.trace("Received onCancellation on an operation that does not have an ID yet");
                     }
                 })
-                .onItem().transform(data -> ResponseReader.readFrom(data, Collections.emptyMap()));
+                .onItem().transform(data -> ResponseReader.readFromJson(data, Collections.emptyMap()));
     }
 
     private Multi<Response> executeSubscriptionOverWebsocket(JsonObject json) {
         AtomicReference<String> operationId = new AtomicReference<>();
         AtomicReference<WebSocketSubprotocolHandler> handlerRef = new AtomicReference<>();
-        Multi<String> rawMulti = Multi.createFrom().emitter(rawEmitter -> {
+        Multi<JsonObject> rawMulti = Multi.createFrom().emitter(rawEmitter -> {
             webSocketHandler().subscribe().with(handler -> {
                 handlerRef.set(handler);
                 operationId.set(handler.executeMulti(json, rawEmitter));
@@ -380,7 +493,7 @@ public class VertxDynamicGraphQLClient implements DynamicGraphQLClient {
                         log.trace("Received onCancellation on an operation that does not have an ID yet");
                     }
                 })
-                .onItem().transform(data -> ResponseReader.readFrom(data, Collections.emptyMap()));
+                .onItem().transform(data -> ResponseReader.readFromJson(data, Collections.emptyMap()));
     }
 
 }
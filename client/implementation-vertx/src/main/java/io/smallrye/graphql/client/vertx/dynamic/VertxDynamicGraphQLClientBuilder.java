@@ -37,6 +37,12 @@ public class VertxDynamicGraphQLClientBuilder implements DynamicGraphQLClientBui
     private WebClientOptions options;
     private List<WebsocketSubprotocol> subprotocols;
     private Integer subscriptionInitializationTimeout;
+    private Integer cacheSize;
+    private Integer cacheTtl;
+    private List<String> cacheKeyHeaders;
+    private Boolean persistedQueries;
+    private Boolean persistedQueriesGet;
+    private Integer requestCompressionThreshold;
 
     public VertxDynamicGraphQLClientBuilder() {
         headersMap = new HeadersMultiMap();
@@ -86,6 +92,57 @@ public class VertxDynamicGraphQLClientBuilder implements DynamicGraphQLClientBui
         return this;
     }
 
+    /**
+     * Cache the responses to queries, at most this many. The time to live is defined by the {@link #cacheTtl(Integer)}
+     * or the <code>Cache-Control: max-age</code> of the response.
+     */
+    public VertxDynamicGraphQLClientBuilder cacheSize(Integer size) {
+        this.cacheSize = size;
+        return this;
+    }
+
+    /**
+     * The time to live of cached responses.
+     */
+    public VertxDynamicGraphQLClientBuilder cacheTtl(Integer seconds) {
+        this.cacheTtl = seconds;
+        return this;
+    }
+
+    /**
+     * The request headers that select a different cached response, e.g. <code>Authorization</code>.
+     * By default, all headers do.
+     */
+    public VertxDynamicGraphQLClientBuilder cacheKeyHeaders(String... headers) {
+        this.cacheKeyHeaders = Arrays.asList(headers);
+        return this;
+    }
+
+    /**
+     * Send only the SHA-256 hash of the query, and the query itself only if the server doesn't know it yet
+     * (automatic persisted queries).
+     */
+    public VertxDynamicGraphQLClientBuilder persistedQueries(boolean enabled) {
+        this.persistedQueries = enabled;
+        return this;
+    }
+
+    /**
+     * Send the queries that only contain the hash of a persisted query with HTTP GET.
+     */
+    public VertxDynamicGraphQLClientBuilder persistedQueriesGet(boolean enabled) {
+        this.persistedQueriesGet = enabled;
+        return this;
+    }
+
+    /**
+     * Compress request bodies of at least this many bytes with gzip. The server has to support compressed requests.
+     */
+    public VertxDynamicGraphQLClientBuilder requestCompressionThreshold(Integer bytes) {
+        this.requestCompressionThreshold = bytes;
+        return this;
+    }
+
     @Override
     public VertxDynamicGraphQLClientBuilder url(String url) {
         this.url = url;
@@ -140,7 +197,8 @@ public class VertxDynamicGraphQLClientBuilder implements DynamicGraphQLClientBui
         }
         return new VertxDynamicGraphQLClient(toUseVertx, webClient, url, websocketUrl,
                 executeSingleOperationsOverWebsocket, headersMap, initPayload, options, subprotocols,
-                subscriptionInitializationTimeout);
+                subscriptionInitializationTimeout, cacheSize, cacheTtl, cacheKeyHeaders,
+                Boolean.TRUE.equals(persistedQueries), Boolean.TRUE.equals(persistedQueriesGet), requestCompressionThreshold);
     }
 
     /**
@@ -180,6 +238,24 @@ public class VertxDynamicGraphQLClientBuilder implements DynamicGraphQLClientBui
         if (executeSingleOperationsOverWebsocket == null && configuration.getExecuteSingleOperationsOverWebsocket() != null) {
             this.executeSingleOperationsOverWebsocket = configuration.getExecuteSingleOperationsOverWebsocket();
         }
+        if (cacheSize == null && configuration.getCacheSize() != null) {
+            this.cacheSize = configuration.getCacheSize();
+        }
+        if (cacheTtl == null && configuration.getCacheTtl() != null) {
+            this.cacheTtl = configuration.getCacheTtl();
+        }
+        if (cacheKeyHeaders == null && configuration.getCacheKeyHeaders() != null) {
+            this.cacheKeyHeaders = configuration.getCacheKeyHeaders();
+        }
+        if (persistedQueries == null && configuration.getPersistedQueries() != null) {
+            this.persistedQueries = configuration.getPersistedQueries();
+        }
+        if (persistedQueriesGet == null && configuration.getPersistedQueriesGet() != null) {
+            this.persistedQueriesGet = configuration.getPersistedQueriesGet();
+        }
+        if (requestCompressionThreshold == null && configuration.getRequestCompressionThreshold() != null) {
+            this.requestCompressionThreshold = configuration.getRequestCompressionThreshold();
+        }
 
         VertxClientOptionsHelper.applyConfigToVertxOptions(options, configuration);
     }
@@ -0,0 +1,101 @@
+package io.smallrye.graphql.client.vertx.typesafe;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+import jakarta.json.stream.JsonParserFactory;
+
+import io.smallrye.graphql.client.GraphQLError;
+import io.smallrye.graphql.client.impl.ByteBufferInputStream;
+import io.smallrye.graphql.client.impl.ResponseReader;
+import io.smallrye.graphql.client.impl.typesafe.ResultBuilder;
+import io.smallrye.graphql.client.impl.typesafe.json.JsonStreamReader;
+import io.smallrye.graphql.client.impl.typesafe.reflection.MethodInvocation;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.client.HttpResponse;
+
+/**
+ * The HTTP response to one operation: either the whole response body, or the part of a batch response for it.
+ * It can be read for any number of invocations, e.g. when it's cached.
+ */
+class OperationResponse {
+    private static final JsonParserFactory jsonParserFactory = Json.createParserFactory(null);
+
+    private final HttpResponse<Buffer> http;
+    /** <code>null</code> if the response body is the response to this operation */
+    private final JsonObject json;
+
+    OperationResponse(HttpResponse<Buffer> http) {
+        this(http, null);
+    }
+
+    OperationResponse(HttpResponse<Buffer> http, JsonObject json) {
+        this.http = http;
+        this.json = json;
+    }
+
+    Object read(MethodInvocation method) {
+        if (json != null) {
+            return new ResultBuilder(method, json, http.statusCode(), http.statusMessage()).read();
+        }
+        return new ResultBuilder(method, body(), http.statusCode(), http.statusMessage()).read();
+    }
+
+    /** The bytes of the response body, to be parsed without decoding them into a String first */
+    private ByteBuffer body() {
+        Buffer body = http.body();
+        return (body == null) ? null : body.getByteBuf().nioBuffer();
+    }
+
+    String cacheControl() {
+        return http.getHeader("Cache-Control");
+    }
+
+    /** A successful response without errors */
+    boolean isCacheable() {
+        return http.statusCode() / 100 == 2 && errors().isEmpty();
+    }
+
+    /**
+     * The errors in the response, if any. The data is skipped, not read. If the response can't be parsed,
+     * there are no errors, as reading it will fail anyway.
+     */
+    List<GraphQLError> errors() {
+        if (json != null) {
+            return (json.get("errors") instanceof JsonArray) ? readErrors(json.getJsonArray("errors")) : List.of();
+        }
+        ByteBuffer body = body();
+        if (body == null) {
+            return List.of();
+        }
+        try (JsonParser parser = jsonParserFactory.createParser(new ByteBufferInputStream(body), UTF_8)) {
+            if (!parser.hasNext() || parser.next() != Event.START_OBJECT) {
+                return List.of();
+            }
+            while (parser.next() == Event.KEY_NAME) {
+                String key = parser.getString();
+                Event event = parser.next();
+                if (key.equals("errors") && event == Event.START_ARRAY) {
+                    return readErrors(JsonStreamReader.readValue(parser, event).asJsonArray());
+                }
+                JsonStreamReader.skip(parser, event);
+            }
+            return List.of();
+        } catch (JsonException e) {
+            return List.of();
+        }
+    }
+
+    private static List<GraphQLError> readErrors(JsonArray errors) {
+        return errors.stream().map(ResponseReader::readError).collect(toList());
+    }
+}
@@ -0,0 +1,179 @@
+package io.smallrye.graphql.client.vertx.typesafe;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReaderFactory;
+import jakarta.json.JsonValue;
+
+import org.jboss.logging.Logger;
+
+import io.smallrye.graphql.client.InvalidResponseException;
+import io.smallrye.graphql.client.impl.ByteBufferInputStream;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.client.HttpResponse;
+
+/**
+ * Sends the queries that are submitted within a time window in one request, as an array of operations,
+ * and lets identical queries share one response while they are in flight. Only queries with the same headers
+ * go into the same request; a query that is alone in its window is sent as a normal request.
+ * <p>
+ * Mutations must not be submitted: the server may execute the operations of a batch concurrently, so they would not
+ * run in the order they were invoked.
+ */
+class RequestBatcher {
+    private static final Logger log = Logger.getLogger(RequestBatcher.class);
+
+    private static final JsonReaderFactory jsonReaderFactory = Json.createReaderFactory(null);
+
+    private final Vertx vertx;
+    private final long window;
+    private final BiFunction<String, MultiMap, CompletionStage<HttpResponse<Buffer>>> post;
+
+    /** the batches waiting for their window to close, by their headers */
+    private final Map<List<String>, Batch> batches = new HashMap<>();
+    /** the queries waiting or in flight, by their headers and request */
+    private final ConcurrentMap<String, CompletableFuture<OperationResponse>> inFlight = new ConcurrentHashMap<>();
+
+    RequestBatcher(Vertx vertx, long window, BiFunction<String, MultiMap, CompletionStage<HttpResponse<Buffer>>> post) {
+        this.vertx = vertx;
+        this.window = window;
+        this.post = post;
+    }
+
+    /**
+     * Submit the query to the next batch with the same headers, unless an identical query is in flight
+     */
+    CompletionStage<OperationResponse> submit(JsonObject request, MultiMap headers) {
+        List<String> headersKey = headersKey(headers);
+        String key = headersKey + request.toString();
+        CompletableFuture<OperationResponse> response = new CompletableFuture<>();
+        CompletableFuture<OperationResponse> existing = inFlight.putIfAbsent(key, response);
+        if (existing != null) {
+            log.tracef("deduplicate request %s", request);
+            return existing;
+        }
+        add(headersKey, request, headers).whenComplete((result, failure) -> {
+            inFlight.remove(key, response);
+            if (failure != null) {
+                response.completeExceptionally(failure);
+            } else {
+                response.complete(result);
+            }
+        });
+        return response;
+    }
+
+    private synchronized CompletionStage<OperationResponse> add(List<String> headersKey, JsonObject request, MultiMap headers) {
+        Batch batch = batches.get(headersKey);
+        if (batch == null) {
+            batch = new Batch(headers);
+            batches.put(headersKey, batch);
+            vertx.setTimer(window, timer -> send(headersKey));
+        }
+        return batch.add(request);
+    }
+
+    private void send(List<String> headersKey) {
+        Batch batch;
+        synchronized (this) {
+            batch = batches.remove(headersKey);
+        }
+        String body = batch.body();
+        log.tracef("batched graphql request: %s", body);
+        post.apply(body, batch.headers).whenComplete((response, failure) -> {
+            if (failure != null) {
+                batch.fail(failure);
+            } else {
+                batch.complete(response);
+            }
+        });
+    }
+
+    private static List<String> headersKey(MultiMap headers) {
+        List<String> key = new ArrayList<>();
+        headers.forEach(header -> key.add(header.getKey().toLowerCase() + ":" + header.getValue()));
+        return key;
+    }
+
+    private static class Batch {
+        private final MultiMap headers;
+        private final List<JsonObject> requests = new ArrayList<>();
+        private final List<CompletableFuture<OperationResponse>> responses = new ArrayList<>();
+
+        Batch(MultiMap headers) {
+            this.headers = headers;
+        }
+
+        CompletionStage<OperationResponse> add(JsonObject request) {
+            CompletableFuture<OperationResponse> response = new CompletableFuture<>();
+            requests.add(request);
+            responses.add(response);
+            return response;
+        }
+
+        String body() {
+            if (requests.size() == 1) {
+                return requests.get(0).toString();
+            }
+            JsonArrayBuilder operations = Json.createArrayBuilder();
+            requests.forEach(operations::add);
+            return operations.build().toString();
+        }
+
+        void complete(HttpResponse<Buffer> response) {
+            JsonValue json = parse(response);
+            if (requests.size() == 1 && json instanceof JsonObject) {
+                responses.get(0).complete(new OperationResponse(response, (JsonObject) json));
+            } else if (requests.size() > 1 && isBatchResponse(json)) {
+                JsonArray array = json.asJsonArray();
+                for (int i = 0; i < responses.size(); i++) {
+                    responses.get(i).complete(new OperationResponse(response, array.getJsonObject(i)));
+                }
+            } else {
+                fail(new InvalidResponseException(
+                        "Unexpected response. Code=" + response.statusCode() + ", message=\"" + response.statusMessage()
+                                + "\", " + "body=\"" + response.bodyAsString() + "\""));
+            }
+        }
+
+        private boolean isBatchResponse(JsonValue json) {
+            return json instanceof JsonArray
+                    && json.asJsonArray().size() == requests.size()
+                    && json.asJsonArray().stream().allMatch(JsonObject.class::isInstance);
+        }
+
+        private JsonValue parse(HttpResponse<Buffer> response) {
+            Buffer body = response.body();
+            if (body == null) {
+                return null;
+            }
+            try {
+                return jsonReaderFactory.createReader(new ByteBufferInputStream(body.getByteBuf().nioBuffer()), UTF_8)
+                        .readValue();
+            } catch (JsonException e) {
+                return null;
+            }
+        }
+
+        void fail(Throwable failure) {
+            responses.forEach(response -> response.completeExceptionally(failure));
+        }
+    }
+}
@@ -17,6 +17,7 @@ import io.smallrye.graphql.client.impl.ErrorMessageProvider;
 import io.smallrye.graphql.client.impl.GraphQLClientConfiguration;
 import io.smallrye.graphql.client.impl.GraphQLClientsConfiguration;
 import io.smallrye.graphql.client.impl.typesafe.reflection.MethodInvocation;
+import io.smallrye.graphql.client.typesafe.api.Cached;
 import io.smallrye.graphql.client.typesafe.api.GraphQLClientApi;
 import io.smallrye.graphql.client.typesafe.api.TypesafeGraphQLClientBuilder;
 import io.smallrye.graphql.client.vertx.VertxClientOptionsHelper;
@@ -44,6 +45,13 @@ public class VertxTypesafeGraphQLClientBuilder implements TypesafeGraphQLClientB
     private WebClient webClient;
     private HttpClient httpClient;
     private Integer websocketInitializationTimeout;
+    private Integer batchingWindow;
+    private Integer cacheSize;
+    private Integer cacheTtl;
+    private List<String> cacheKeyHeaders;
+    private Boolean persistedQueries;
+    private Boolean persistedQueriesGet;
+    private Integer requestCompressionThreshold;
 
     public VertxTypesafeGraphQLClientBuilder() {
         this.subprotocols = new ArrayList<>();
@@ -117,6 +125,67 @@ public class VertxTypesafeGraphQLClientBuilder implements TypesafeGraphQLClientB
         return this;
     }
 
+    /**
+     * Send the queries that are invoked within this many milliseconds in one request, and let identical queries
+     * share one response while they are in flight. Mutations are sent on their own, so they run in order.
+     * The server has to support batches.
+     */
+    public VertxTypesafeGraphQLClientBuilder batchingWindow(Integer milliseconds) {
+        this.batchingWindow = milliseconds;
+        return this;
+    }
+
+    /**
+     * Cache the responses to queries, at most this many. The time to live is defined by the {@link Cached} annotations,
+     * the {@link #cacheTtl(Integer)}, or the <code>Cache-Control: max-age</code> of the response.
+     */
+    public VertxTypesafeGraphQLClientBuilder cacheSize(Integer size) {
+        this.cacheSize = size;
+        return this;
+    }
+
+    /**
+     * The time to live of cached responses to the queries that are not annotated as {@link Cached}.
+     */
+    public VertxTypesafeGraphQLClientBuilder cacheTtl(Integer seconds) {
+        this.cacheTtl = seconds;
+        return this;
+    }
+
+    /**
+     * The request headers that select a different cached response, e.g. <code>Authorization</code>.
+     * By default, all headers do.
+     */
+    public VertxTypesafeGraphQLClientBuilder cacheKeyHeaders(String... headers) {
+        this.cacheKeyHeaders = Arrays.asList(headers);
+        return this;
+    }
+
+    /**
+     * Send only the SHA-256 hash of the query, and the query itself only if the server doesn't know it yet
+     * (automatic persisted queries).
+     */
+    public VertxTypesafeGraphQLClientBuilder persistedQueries(boolean enabled) {
+        this.persistedQueries = enabled;
+        return this;
+    }
+
+    /**
+     * Send the queries that only contain the hash of a persisted query with HTTP GET.
+     */
+    public VertxTypesafeGraphQLClientBuilder persistedQueriesGet(boolean enabled) {
+        this.persistedQueriesGet = enabled;
+        return this;
+    }
+
+    /**
+     * Compress request bodies of at least this many bytes with gzip. The server has to support compressed requests.
+     */
+    public VertxTypesafeGraphQLClientBuilder requestCompressionThreshold(Integer bytes) {
+        this.requestCompressionThreshold = bytes;
+        return this;
+    }
+
     @Override
     public <T> T build(Class<T> apiClass) {
         if (this.options == null) {
@@ -145,7 +214,8 @@ public class VertxTypesafeGraphQLClientBuilder implements TypesafeGraphQLClientB
         VertxTypesafeGraphQLClientProxy graphQlClient = new VertxTypesafeGraphQLClientProxy(apiClass, headers, initPayload,
                 endpoint,
                 websocketUrl, executeSingleOperationsOverWebsocket, httpClient, webClient, subprotocols,
-                websocketInitializationTimeout);
+                websocketInitializationTimeout, vertx(), batchingWindow, cacheSize, cacheTtl, cacheKeyHeaders,
+                Boolean.TRUE.equals(persistedQueries), Boolean.TRUE.equals(persistedQueriesGet), requestCompressionThreshold);
         return apiClass.cast(Proxy.newProxyInstance(getClassLoader(apiClass), new Class<?>[] { apiClass },
                 (proxy, method, args) -> invoke(graphQlClient, method, args)));
     }
@@ -216,6 +286,27 @@ public class VertxTypesafeGraphQLClientBuilder implements TypesafeGraphQLClientB
         if (this.websocketInitializationTimeout == null && configuration.getWebsocketInitializationTimeout() != null) {
             this.websocketInitializationTimeout = configuration.getWebsocketInitializationTimeout();
         }
+        if (this.batchingWindow == null && configuration.getBatchingWindow() != null) {
+            this.batchingWindow = configuration.getBatchingWindow();
+        }
+        if (this.cacheSize == null && configuration.getCacheSize() != null) {
+            this.cacheSize = configuration.getCacheSize();
+        }
+        if (this.cacheTtl == null && configuration.getCacheTtl() != null) {
+            this.cacheTtl = configuration.getCacheTtl();
+        }
+        if (this.cacheKeyHeaders == null && configuration.getCacheKeyHeaders() != null) {
+            this.cacheKeyHeaders = configuration.getCacheKeyHeaders();
+        }
+        if (this.persistedQueries == null && configuration.getPersistedQueries() != null) {
+            this.persistedQueries = configuration.getPersistedQueries();
+        }
+        if (this.persistedQueriesGet == null && configuration.getPersistedQueriesGet() != null) {
+            this.persistedQueriesGet = configuration.getPersistedQueriesGet();
+        }
+        if (requestCompressionThreshold == null && configuration.getRequestCompressionThreshold() != null) {
+            this.requestCompressionThreshold = configuration.getRequestCompressionThreshold();
+        }
         if (executeSingleOperationsOverWebsocket == null && configuration.getExecuteSingleOperationsOverWebsocket() != null) {
             this.executeSingleOperationsOverWebsocket = configuration.getExecuteSingleOperationsOverWebsocket();
         }
@@ -1,44 +1,46 @@
 package io.smallrye.graphql.client.vertx.typesafe;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.stream.Collectors.toList;
 
-import java.lang.reflect.Array;
-import java.math.BigDecimal;
-import java.math.BigInteger;
+import java.io.OutputStream;
 import java.net.URI;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.Date;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Stream;
 
 import jakarta.json.Json;
-import jakarta.json.JsonArray;
-import jakarta.json.JsonArrayBuilder;
-import jakarta.json.JsonBuilderFactory;
 import jakarta.json.JsonObject;
-import jakarta.json.JsonObjectBuilder;
-import jakarta.json.JsonValue;
+import jakarta.json.JsonReaderFactory;
+import jakarta.json.JsonString;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
 
 import org.jboss.logging.Logger;
 
 import io.smallrye.graphql.client.InvalidResponseException;
+import io.smallrye.graphql.client.core.OperationType;
+import io.smallrye.graphql.client.impl.ByteBufferInputStream;
+import io.smallrye.graphql.client.impl.PersistedQueries;
+import io.smallrye.graphql.client.impl.ResponseCache;
 import io.smallrye.graphql.client.impl.discovery.ServiceURLSupplier;
 import io.smallrye.graphql.client.impl.discovery.StaticURLSupplier;
 import io.smallrye.graphql.client.impl.discovery.StorkServiceURLSupplier;
+import io.smallrye.graphql.client.impl.typesafe.GeneratedQueries;
 import io.smallrye.graphql.client.impl.typesafe.HeaderBuilder;
 import io.smallrye.graphql.client.impl.typesafe.QueryBuilder;
 import io.smallrye.graphql.client.impl.typesafe.ResultBuilder;
-import io.smallrye.graphql.client.impl.typesafe.reflection.FieldInfo;
+import io.smallrye.graphql.client.impl.typesafe.json.JsonValueWriter;
 import io.smallrye.graphql.client.impl.typesafe.reflection.MethodInvocation;
-import io.smallrye.graphql.client.impl.typesafe.reflection.TypeInfo;
+import io.smallrye.graphql.client.typesafe.api.Cached;
+import io.smallrye.graphql.client.vertx.RequestCompression;
 import io.smallrye.graphql.client.vertx.websocket.BuiltinWebsocketSubprotocolHandlers;
 import io.smallrye.graphql.client.vertx.websocket.WebSocketSubprotocolHandler;
 import io.smallrye.graphql.client.websocket.WebsocketSubprotocol;
@@ -46,11 +48,13 @@ import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.WebSocket;
 import io.vertx.core.http.WebsocketVersion;
 import io.vertx.core.http.impl.headers.HeadersMultiMap;
+import io.vertx.ext.web.client.HttpRequest;
 import io.vertx.ext.web.client.HttpResponse;
 import io.vertx.ext.web.client.WebClient;
 
@@ -58,7 +62,8 @@ class VertxTypesafeGraphQLClientProxy {
 
     private static final Logger log = Logger.getLogger(VertxTypesafeGraphQLClientProxy.class);
 
-    private static final JsonBuilderFactory jsonObjectFactory = Json.createBuilderFactory(null);
+    private static final JsonGeneratorFactory jsonGeneratorFactory = Json.createGeneratorFactory(null);
+    private static final JsonReaderFactory jsonReaderFactory = Json.createReaderFactory(null);
 
     private final ConcurrentMap<String, String> queryCache = new ConcurrentHashMap<>();
 
@@ -72,6 +77,16 @@ class VertxTypesafeGraphQLClientProxy {
     private final Integer subscriptionInitializationTimeout;
     private final Class<?> api;
     private final boolean executeSingleOperationsOverWebsocket;
+    private final RequestBatcher batcher;
+    private final ResponseCache<OperationResponse> cache;
+    private final Integer cacheTtl;
+    private final List<String> cacheKeyHeaders;
+    private final boolean persistedQueries;
+    private final boolean persistedQueriesGet;
+    // set when the server responded that it doesn't support persisted queries
+    private volatile boolean persistedQueriesNotSupported;
+    private final ConcurrentMap<String, String> queryHashes = new ConcurrentHashMap<>();
+    private final Integer requestCompressionThreshold;
 
     // Do NOT use this field directly, always retrieve by calling `webSocketHandler()`.
     // When a websocket connection is required, then this is populated with a Uni
@@ -92,7 +107,15 @@ class VertxTypesafeGraphQLClientProxy {
             HttpClient httpClient,
             WebClient webClient,
             List<WebsocketSubprotocol> subprotocols,
-            Integer subscriptionInitializationTimeout) {
+            Integer subscriptionInitializationTimeout,
+            Vertx vertx,
+            Integer batchingWindow,
+            Integer cacheSize,
+            Integer cacheTtl,
+            List<String> cacheKeyHeaders,
+            boolean persistedQueries,
+            boolean persistedQueriesGet,
+            Integer requestCompressionThreshold) {
         this.api = api;
         this.additionalHeaders = additionalHeaders;
         this.initPayload = initPayload;
@@ -119,6 +142,17 @@ class VertxTypesafeGraphQLClientProxy {
         this.webClient = webClient;
         this.subprotocols = subprotocols;
         this.subscriptionInitializationTimeout = subscriptionInitializationTimeout;
+        this.batcher = (batchingWindow != null && batchingWindow > 0)
+                ? new RequestBatcher(vertx, batchingWindow, (body, headers) -> postAsync(Buffer.buffer(body), headers))
+                : null;
+        this.cache = (cacheSize != null && cacheSize > 0)
+                ? new ResponseCache<>(cacheSize, OperationResponse::isCacheable, OperationResponse::cacheControl)
+                : null;
+        this.cacheTtl = cacheTtl;
+        this.cacheKeyHeaders = cacheKeyHeaders;
+        this.persistedQueries = persistedQueries;
+        this.persistedQueriesGet = persistedQueriesGet;
+        this.requestCompressionThreshold = requestCompressionThreshold;
     }
 
     Object invoke(MethodInvocation method) {
@@ -128,46 +162,128 @@ class VertxTypesafeGraphQLClientProxy {
 
         MultiMap headers = HeadersMultiMap.headers()
                 .addAll(new HeaderBuilder(api, method, additionalHeaders).build());
-        JsonObject request = request(method);
+        Buffer request = request(method);
 
         if (method.getReturnType().isUni()) {
             if (executeSingleOperationsOverWebsocket) {
-                return executeSingleResultOperationOverWebsocket(method, request);
+                return executeSingleResultOperationOverWebsocket(method, json(request));
             } else {
                 return executeSingleResultOperationOverHttpAsync(method, request, headers);
             }
         } else if (method.getReturnType().isMulti()) {
-            return executeSubscriptionOverWebsocket(method, request);
+            return executeSubscriptionOverWebsocket(method, json(request));
         } else {
             if (executeSingleOperationsOverWebsocket) {
-                return executeSingleResultOperationOverWebsocket(method, request).await().indefinitely();
+                return executeSingleResultOperationOverWebsocket(method, json(request)).await().indefinitely();
             } else {
                 return executeSingleResultOperationOverHttpSync(method, request, headers);
             }
         }
     }
 
-    private Object executeSingleResultOperationOverHttpSync(MethodInvocation method, JsonObject request, MultiMap headers) {
-        HttpResponse<Buffer> response = postSync(request.toString(), headers);
+    private Object executeSingleResultOperationOverHttpSync(MethodInvocation method, Buffer request, MultiMap headers) {
+        if (batcher != null || cache != null || persistedQueries) {
+            return await(send(method, request, headers)).read(method);
+        }
+        HttpResponse<Buffer> response = postSync(request, headers);
         if (log.isTraceEnabled() && response != null) {
             log.tracef("response graphql: %s", response.bodyAsString());
         }
-        return new ResultBuilder(method, response.bodyAsString(),
-                response.statusCode(), response.statusMessage()).read();
+        return new OperationResponse(response).read(method);
     }
 
-    private Uni<Object> executeSingleResultOperationOverHttpAsync(MethodInvocation method, JsonObject request,
+    private Uni<Object> executeSingleResultOperationOverHttpAsync(MethodInvocation method, Buffer request,
             MultiMap headers) {
+        if (cache == null) {
+            // the request is sent right away, even if nobody subscribes, e.g. to a mutation
+            return Uni.createFrom()
+                    .completionStage(send(method, request, headers))
+                    .map(response -> response.read(method));
+        }
+        // with a cache, every subscription looks up the response when it subscribes
         return Uni.createFrom()
-                .completionStage(postAsync(request.toString(), headers))
-                .map(response -> new ResultBuilder(method, response.bodyAsString(),
-                        response.statusCode(), response.statusMessage()).read());
+                .completionStage(() -> send(method, request, headers))
+                .map(response -> response.read(method));
+    }
+
+    /**
+     * Send the request, or get the response from the cache, or send the request in a batch.
+     */
+    private CompletionStage<OperationResponse> send(MethodInvocation method, Buffer request, MultiMap headers) {
+        if (cache != null && isQuery(method)) {
+            Optional<Cached> cached = method.getResolvedAnnotations(api, Cached.class).reduce((first, second) -> second);
+            Duration ttl = cached.map(annotation -> Duration.ofSeconds(annotation.ttl()))
+                    .orElse((cacheTtl == null) ? null : Duration.ofSeconds(cacheTtl));
+            Duration staleWhileRevalidate = cached.filter(annotation -> annotation.staleWhileRevalidate() >= 0)
+                    .map(annotation -> Duration.ofSeconds(annotation.staleWhileRevalidate()))
+                    .orElse(null);
+            return cache.get(ResponseCache.key(request.toString(), headers, cacheKeyHeaders), ttl, staleWhileRevalidate,
+                    () -> post(method, request, headers));
+        }
+        return post(method, request, headers);
+    }
+
+    private CompletionStage<OperationResponse> post(MethodInvocation method, Buffer request, MultiMap headers) {
+        if (persistedQueries && !persistedQueriesNotSupported) {
+            return postPersisted(method, json(request), headers);
+        }
+        if (batcher != null && isQuery(method)) {
+            // mutations are not batched, as the server may execute the operations of a batch in any order
+            return batcher.submit(json(request), headers);
+        }
+        return postAsync(request, headers).thenApply(OperationResponse::new);
+    }
+
+    private CompletionStage<OperationResponse> postPersisted(MethodInvocation method, JsonObject request, MultiMap headers) {
+        String hash = queryHashes.computeIfAbsent(method.getKey(), key -> PersistedQueries.sha256(request.getString("query")));
+        return post(method, PersistedQueries.hashOnly(request, hash), headers, persistedQueriesGet && isQuery(method))
+                .thenCompose(response -> {
+                    if (PersistedQueries.isNotSupported(response.errors())) {
+                        log.debug("the server doesn't support persisted queries; send the queries from now on");
+                        persistedQueriesNotSupported = true;
+                        return post(method, request, headers, false);
+                    }
+                    if (PersistedQueries.isNotFound(response.errors())) {
+                        log.tracef("persisted query not found; send it with the query: %s", request);
+                        return post(method, PersistedQueries.withQuery(request, hash), headers, false);
+                    }
+                    return CompletableFuture.completedFuture(response);
+                });
+    }
+
+    private CompletionStage<OperationResponse> post(MethodInvocation method, JsonObject request, MultiMap headers,
+            boolean get) {
+        if (get) {
+            return getAsync(request, headers).thenApply(OperationResponse::new);
+        }
+        if (batcher != null && isQuery(method)) {
+            return batcher.submit(request, headers);
+        }
+        return postAsync(Buffer.buffer(request.toString()), headers).thenApply(OperationResponse::new);
+    }
+
+    private boolean isQuery(MethodInvocation method) {
+        return method.getOperationType() == OperationType.QUERY;
+    }
+
+    private OperationResponse await(CompletionStage<OperationResponse> response) {
+        try {
+            return response.toCompletableFuture().get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException("Request failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Request failed", e);
+        }
     }
 
     private Uni<Object> executeSingleResultOperationOverWebsocket(MethodInvocation method, JsonObject request) {
         AtomicReference<String> operationId = new AtomicReference<>();
         AtomicReference<WebSocketSubprotocolHandler> handlerRef = new AtomicReference<>();
-        Uni<String> rawUni = Uni.createFrom().emitter(rawEmitter -> {
+        Uni<JsonObject> rawUni = Uni.createFrom().emitter(rawEmitter -> {
             webSocketHandler().subscribe().with((handler) -> {
                 handlerRef.set(handler);
                 operationId.set(handler.executeUni(request, rawEmitter));
@@ -198,7 +314,7 @@ class VertxTypesafeGraphQLClientProxy {
     private Multi<Object> executeSubscriptionOverWebsocket(MethodInvocation method, JsonObject request) {
         AtomicReference<String> operationId = new AtomicReference<>();
         AtomicReference<WebSocketSubprotocolHandler> handlerRef = new AtomicReference<>();
-        Multi<String> rawMulti = Multi.createFrom().emitter(rawEmitter -> {
+        Multi<JsonObject> rawMulti = Multi.createFrom().emitter(rawEmitter -> {
             webSocketHandler().subscribe().with(handler -> {
                 handlerRef.set(handler);
                 operationId.set(handler.executeMulti(request, rawEmitter));
@@ -250,145 +366,82 @@ class VertxTypesafeGraphQLClientProxy {
         });
     }
 
-    private JsonObject request(MethodInvocation method) {
-        JsonObjectBuilder request = jsonObjectFactory.createObjectBuilder();
-        String query = queryCache.computeIfAbsent(method.getKey(), key -> new QueryBuilder(method).build());
-        request.add("query", query);
-        request.add("variables", variables(method));
-        request.add("operationName", method.getName());
-        JsonObject result = request.build();
-        log.tracef("full graphql request: %s", result.toString());
-        return result;
-    }
-
-    private JsonObjectBuilder variables(MethodInvocation method) {
-        JsonObjectBuilder builder = Json.createObjectBuilder();
-        method.valueParameters().forEach(parameter -> builder.add(parameter.getRawName(), value(parameter.getValue())));
-        return builder;
-    }
-
-    // TODO: the logic for serializing objects into JSON should probably be shared with server-side module
-    // through a common module. Also this is not vert.x specific, another reason to move it out of this module
-    private JsonValue value(Object value) {
-        if (value == null) {
-            return JsonValue.NULL;
-        }
-        TypeInfo type = TypeInfo.of(value.getClass());
-        if (type.isScalar()) {
-            return scalarValue(value);
-        }
-        if (type.isCollection()) {
-            return arrayValue(value);
-        }
-        if (type.isMap()) {
-            return mapValue(value);
-        }
-        return objectValue(value, type.fields());
-    }
-
-    private JsonValue scalarValue(Object value) {
-        if (value instanceof String) {
-            return Json.createValue((String) value);
-        }
-        if (value instanceof Date) {
-            return Json.createValue(((Date) value).toInstant().toString());
-        }
-        if (value instanceof Enum) {
-            return Json.createValue(((Enum<?>) value).name());
-        }
-        if (value instanceof Boolean) {
-            return ((Boolean) value) ? JsonValue.TRUE : JsonValue.FALSE;
-        }
-        if (value instanceof Byte) {
-            return Json.createValue((Byte) value);
-        }
-        if (value instanceof Short) {
-            return Json.createValue((Short) value);
-        }
-        if (value instanceof Integer) {
-            return Json.createValue((Integer) value);
-        }
-        if (value instanceof Long) {
-            return Json.createValue((Long) value);
-        }
-        if (value instanceof Double) {
-            return Json.createValue((Double) value);
-        }
-        if (value instanceof Float) {
-            return Json.createValue((Float) value);
-        }
-        if (value instanceof BigInteger) {
-            return Json.createValue((BigInteger) value);
-        }
-        if (value instanceof BigDecimal) {
-            return Json.createValue((BigDecimal) value);
+    /**
+     * The request is written straight into the buffer that is sent, instead of building a tree of JSON values
+     * and then serializing it; this saves a lot of garbage for large variables, e.g. bulk mutations.
+     */
+    private Buffer request(MethodInvocation method) {
+        String query = queryCache.computeIfAbsent(method.getKey(), key -> GeneratedQueries.query(api, method)
+                .orElseGet(() -> new QueryBuilder(method).build()));
+        Buffer buffer = Buffer.buffer(query.length() + 256);
+        try (JsonGenerator json = jsonGeneratorFactory.createGenerator(new BufferOutputStream(buffer), UTF_8)) {
+            json.writeStartObject();
+            json.write("query", query);
+            json.writeStartObject("variables");
+            method.valueParameters().forEach(parameter -> {
+                json.writeKey(parameter.getRawName());
+                JsonValueWriter.write(json, parameter.getValue());
+            });
+            json.writeEnd();
+            json.write("operationName", method.getName());
+            json.writeEnd();
         }
-        return Json.createValue(value.toString());
+        log.tracef("full graphql request: %s", buffer);
+        return buffer;
     }
 
-    private JsonArray arrayValue(Object value) {
-        JsonArrayBuilder array = Json.createArrayBuilder();
-        values(value).forEach(item -> array.add(value(item)));
-        return array.build();
+    /** For the websocket, batching, and persisted queries, that need the request as a JSON object */
+    private static JsonObject json(Buffer request) {
+        return jsonReaderFactory.createReader(new ByteBufferInputStream(request.getByteBuf().nioBuffer()), UTF_8)
+                .readObject();
     }
 
-    private JsonArray mapValue(Object value) {
-        Map<?, ?> map = (Map<?, ?>) value;
-        JsonArrayBuilder array = Json.createArrayBuilder();
-        map.forEach((k, v) -> {
-            JsonObjectBuilder entryBuilder = Json.createObjectBuilder();
-            entryBuilder.add("key", value(k));
-            entryBuilder.add("value", value(v));
-            array.add(entryBuilder.build());
-        });
-        return array.build();
-    }
+    private static class BufferOutputStream extends OutputStream {
+        private final Buffer buffer;
 
-    private Collection<?> values(Object value) {
-        return value.getClass().isArray() ? array(value) : (Collection<?>) value;
-    }
+        private BufferOutputStream(Buffer buffer) {
+            this.buffer = buffer;
+        }
 
-    private List<Object> array(Object value) {
-        if (value.getClass().getComponentType().isPrimitive()) {
-            return primitiveArray(value);
+        @Override
+        public void write(int b) {
+            buffer.appendByte((byte) b);
         }
-        return Arrays.asList((Object[]) value);
-    }
 
-    private List<Object> primitiveArray(Object value) {
-        int length = Array.getLength(value);
-        List<Object> out = new ArrayList<>(length);
-        for (int i = 0; i < length; i++) {
-            out.add(Array.get(value, i));
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            buffer.appendBytes(bytes, offset, length);
         }
-        return out;
     }
 
-    private JsonObject objectValue(Object object, Stream<FieldInfo> fields) {
-        JsonObjectBuilder builder = Json.createObjectBuilder();
-        fields.forEach(field -> {
-            if (field.isIncludeNull() || field.get(object) != null) {
-                builder.add(field.getName(), value(field.get(object)));
-            }
-        });
-        return builder.build();
+    private CompletionStage<HttpResponse<Buffer>> postAsync(Buffer request, MultiMap headers) {
+        return endpoint.get().subscribeAsCompletionStage()
+                .thenCompose(url -> RequestCompression.send(webClient.postAbs(url).putHeaders(headers), request,
+                        requestCompressionThreshold)
+                        .toCompletionStage());
     }
 
-    private CompletionStage<HttpResponse<Buffer>> postAsync(String request, MultiMap headers) {
+    /** Send the request parameters as query parameters, the JSON ones as JSON */
+    private CompletionStage<HttpResponse<Buffer>> getAsync(JsonObject request, MultiMap headers) {
         return endpoint.get().subscribeAsCompletionStage()
-                .thenCompose(url -> webClient.postAbs(url)
-                        .putHeaders(headers)
-                        .sendBuffer(Buffer.buffer(request))
-                        .toCompletionStage());
+                .thenCompose(url -> {
+                    HttpRequest<Buffer> get = webClient.getAbs(url).putHeaders(headers);
+                    request.forEach((name, value) -> get.addQueryParam(name,
+                            (value instanceof JsonString) ? ((JsonString) value).getString() : value.toString()));
+                    return get.send().toCompletionStage();
+                });
     }
 
-    private HttpResponse<Buffer> postSync(String request, MultiMap headers) {
-        Future<HttpResponse<Buffer>> future = webClient.postAbs(endpoint.get().await().indefinitely())
-                .putHeaders(headers)
-                .sendBuffer(Buffer.buffer(request));
+    private HttpResponse<Buffer> postSync(Buffer request, MultiMap headers) {
+        Future<HttpResponse<Buffer>> future = RequestCompression.send(
+                webClient.postAbs(endpoint.get().await().indefinitely()).putHeaders(headers), request,
+                requestCompressionThreshold);
         try {
             return future.toCompletionStage().toCompletableFuture().get();
-        } catch (InterruptedException | ExecutionException e) {
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Request failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             throw new RuntimeException("Request failed", e);
         }
     }
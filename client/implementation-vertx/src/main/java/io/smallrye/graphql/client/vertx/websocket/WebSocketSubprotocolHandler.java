@@ -28,18 +28,21 @@ public interface WebSocketSubprotocolHandler {
      * 
      * @param request Request in full JSON format describing the operation to be executed.
      * @param emitter Emitter that should receive the completion event (or an error) when the operation finishes.
+     *        The item is the payload of the response, as it was parsed from the message, so it doesn't have to be
+     *        parsed again.
      * @return The generated internal ID of this operation.
      */
-    String executeUni(JsonObject request, UniEmitter<? super String> emitter);
+    String executeUni(JsonObject request, UniEmitter<? super JsonObject> emitter);
 
     /**
      * Requests an execution of a subscription operation over the websocket.
      * 
      * @param request Request in full JSON format describing the operation to be executed.
      * @param emitter Emitter that should receive the completion events (or an error) from the subscription.
+     *        The items are the payloads of the responses, as they were parsed from the messages.
      * @return The generated internal ID of this operation.
      */
-    String executeMulti(JsonObject request, MultiEmitter<? super String> emitter);
+    String executeMulti(JsonObject request, MultiEmitter<? super JsonObject> emitter);
 
     /**
      * Cancels an active single-result operation with the given ID. This does not do anything with the Emitter for this
@@ -1,6 +1,8 @@
 package io.smallrye.graphql.client.vertx.websocket.graphqltransportws;
 
-import java.io.StringReader;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
@@ -13,6 +15,7 @@ import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonReaderFactory;
 import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
 import jakarta.json.stream.JsonParsingException;
@@ -22,6 +25,7 @@ import org.jboss.logging.Logger;
 import io.smallrye.graphql.client.GraphQLClientException;
 import io.smallrye.graphql.client.GraphQLError;
 import io.smallrye.graphql.client.InvalidResponseException;
+import io.smallrye.graphql.client.impl.ByteBufferInputStream;
 import io.smallrye.graphql.client.impl.ResponseReader;
 import io.smallrye.graphql.client.vertx.websocket.WebSocketSubprotocolHandler;
 import io.smallrye.graphql.client.vertx.websocket.opid.IncrementingNumberOperationIDGenerator;
@@ -30,6 +34,7 @@ import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.subscription.Cancellable;
 import io.smallrye.mutiny.subscription.MultiEmitter;
 import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.WebSocket;
 
 /**
@@ -39,6 +44,7 @@ import io.vertx.core.http.WebSocket;
 public class GraphQLTransportWSSubprotocolHandler implements WebSocketSubprotocolHandler {
 
     private static final Logger log = Logger.getLogger(GraphQLTransportWSSubprotocolHandler.class);
+    private static final JsonReaderFactory READERS = Json.createReaderFactory(null);
 
     private final Integer connectionInitializationTimeout;
 
@@ -48,8 +54,8 @@ public class GraphQLTransportWSSubprotocolHandler implements WebSocketSubprotoco
     private final WebSocket webSocket;
     private final CompletableFuture<Void> initialization;
 
-    private final Map<String, UniEmitter<? super String>> uniOperations;
-    private final Map<String, MultiEmitter<? super String>> multiOperations;
+    private final Map<String, UniEmitter<? super JsonObject>> uniOperations;
+    private final Map<String, MultiEmitter<? super JsonObject>> multiOperations;
 
     private final Runnable onClose;
 
@@ -136,7 +142,7 @@ public class GraphQLTransportWSSubprotocolHandler implements WebSocketSubprotoco
                     log.trace("<<< " + text);
                 }
                 try {
-                    JsonObject message = parseIncomingMessage(text.toString());
+                    JsonObject message = parseIncomingMessage(text);
                     MessageType messageType = getMessageType(message);
                     switch (messageType) {
                         case PING:
@@ -175,19 +181,19 @@ public class GraphQLTransportWSSubprotocolHandler implements WebSocketSubprotoco
         // If this is a uni operation, we remove it right away from the active operation map,
         // even though we still should receive a 'complete' message later - we don't wait for it.
         // This is to prevent a potential memory leak in case that the server doesn't actually send it.
-        UniEmitter<? super String> uniEmitter = uniOperations.remove(operationId);
+        UniEmitter<? super JsonObject> uniEmitter = uniOperations.remove(operationId);
         if (uniEmitter != null) {
             if (log.isTraceEnabled()) {
                 log.trace("Received data for single-result operation " + operationId);
             }
-            uniEmitter.complete(data.toString());
+            uniEmitter.complete(data);
         } else {
-            MultiEmitter<? super String> multiEmitter = multiOperations.get(operationId);
+            MultiEmitter<? super JsonObject> multiEmitter = multiOperations.get(operationId);
             if (multiEmitter != null) {
                 if (multiEmitter.isCancelled()) {
                     log.warn("Received data for already cancelled operation " + operationId);
                 } else {
-                    multiEmitter.emit(data.toString());
+                    multiEmitter.emit(data);
                 }
             } else {
                 log.warn("Received event for an unknown subscription ID: " + operationId);
@@ -198,11 +204,11 @@ public class GraphQLTransportWSSubprotocolHandler implements WebSocketSubprotoco
     private void handleOperationError(String operationId, JsonArray errors) {
         List<GraphQLError> parsedErrors = errors.stream().map(ResponseReader::readError).collect(Collectors.toList());
         GraphQLClientException exception = new GraphQLClientException("Received an error", parsedErrors);
-        UniEmitter<? super String> emitter = uniOperations.remove(operationId);
+        UniEmitter<? super JsonObject> emitter = uniOperations.remove(operationId);
         if (emitter != null) {
             emitter.fail(exception);
         } else {
-            MultiEmitter<? super String> multiEmitter = multiOperations.remove(operationId);
+            MultiEmitter<? super JsonObject> multiEmitter = multiOperations.remove(operationId);
             if (multiEmitter != null) {
                 multiEmitter.fail(exception);
             }
@@ -210,7 +216,7 @@ public class GraphQLTransportWSSubprotocolHandler implements WebSocketSubprotoco
     }
 
     private void handleComplete(String operationId) {
-        UniEmitter<? super String> emitter = uniOperations.remove(operationId);
+        UniEmitter<? super JsonObject> emitter = uniOperations.remove(operationId);
         if (emitter != null) {
             // For a uni operation, we should have received a 'next' message before the 'complete' message.
             // If that happened, the emitter was already completed and operation removed from the map.
@@ -218,7 +224,7 @@ public class GraphQLTransportWSSubprotocolHandler implements WebSocketSubprotoco
             emitter.fail(new InvalidResponseException("Protocol error: received a 'complete' message for" +
                     " this operation before the actual data"));
         } else {
-            MultiEmitter<? super String> multiEmitter = multiOperations.remove(operationId);
+            MultiEmitter<? super JsonObject> multiEmitter = multiOperations.remove(operationId);
             if (multiEmitter != null) {
                 log.debug("Completed operation " + operationId);
                 multiEmitter.complete();
@@ -229,13 +235,13 @@ public class GraphQLTransportWSSubprotocolHandler implements WebSocketSubprotoco
     private void failAllActiveOperationsWith(Throwable throwable) {
         log.debug("Failing all active operations");
         for (String s : uniOperations.keySet()) {
-            UniEmitter<? super String> emitter = uniOperations.remove(s);
+            UniEmitter<? super JsonObject> emitter = uniOperations.remove(s);
             if (emitter != null) {
                 emitter.fail(throwable);
             }
         }
         for (String s : multiOperations.keySet()) {
-            MultiEmitter<? super String> emitter = multiOperations.remove(s);
+            MultiEmitter<? super JsonObject> emitter = multiOperations.remove(s);
             if (emitter != null) {
                 emitter.fail(throwable);
             }
@@ -243,7 +249,7 @@ public class GraphQLTransportWSSubprotocolHandler implements WebSocketSubprotoco
     }
 
     @Override
-    public String executeUni(JsonObject request, UniEmitter<? super String> emitter) {
+    public String executeUni(JsonObject request, UniEmitter<? super JsonObject> emitter) {
         String id = operationIdGenerator.generate();
         ensureInitialized().subscribe().with(ready -> {
             uniOperations.put(id, emitter);
@@ -254,7 +260,7 @@ public class GraphQLTransportWSSubprotocolHandler implements WebSocketSubprotoco
     }
 
     @Override
-    public String executeMulti(JsonObject request, MultiEmitter<? super String> emitter) {
+    public String executeMulti(JsonObject request, MultiEmitter<? super JsonObject> emitter) {
         String id = operationIdGenerator.generate();
         ensureInitialized().subscribe().with(ready -> {
             multiOperations.put(id, emitter);
@@ -287,8 +293,9 @@ public class GraphQLTransportWSSubprotocolHandler implements WebSocketSubprotoco
         return MessageType.fromString(message.getString("type"));
     }
 
-    private JsonObject parseIncomingMessage(String message) {
-        return Json.createReader(new StringReader(message)).readObject();
+    private JsonObject parseIncomingMessage(Buffer message) {
+        ByteBuffer bytes = message.getByteBuf().nioBuffer();
+        return READERS.createReader(new ByteBufferInputStream(bytes), UTF_8).readObject();
     }
 
     private JsonObject createSubscribeMessage(JsonObject request, String id) {
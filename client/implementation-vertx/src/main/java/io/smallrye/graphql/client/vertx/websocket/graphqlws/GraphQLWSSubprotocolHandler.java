@@ -1,6 +1,8 @@
 package io.smallrye.graphql.client.vertx.websocket.graphqlws;
 
-import java.io.StringReader;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
@@ -10,6 +12,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonReaderFactory;
 import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
 import jakarta.json.stream.JsonParsingException;
@@ -19,6 +22,7 @@ import org.jboss.logging.Logger;
 import io.smallrye.graphql.client.GraphQLClientException;
 import io.smallrye.graphql.client.GraphQLError;
 import io.smallrye.graphql.client.InvalidResponseException;
+import io.smallrye.graphql.client.impl.ByteBufferInputStream;
 import io.smallrye.graphql.client.impl.ResponseReader;
 import io.smallrye.graphql.client.vertx.websocket.WebSocketSubprotocolHandler;
 import io.smallrye.graphql.client.vertx.websocket.opid.IncrementingNumberOperationIDGenerator;
@@ -27,6 +31,7 @@ import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.subscription.Cancellable;
 import io.smallrye.mutiny.subscription.MultiEmitter;
 import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.WebSocket;
 
 /**
@@ -36,14 +41,15 @@ import io.vertx.core.http.WebSocket;
 public class GraphQLWSSubprotocolHandler implements WebSocketSubprotocolHandler {
 
     private static final Logger log = Logger.getLogger(GraphQLWSSubprotocolHandler.class);
+    private static final JsonReaderFactory READERS = Json.createReaderFactory(null);
 
     private final Integer subscriptionInitializationTimeout;
 
     private final WebSocket webSocket;
     private final CompletableFuture<Void> initialization;
 
-    private final Map<String, UniEmitter<? super String>> uniOperations;
-    private final Map<String, MultiEmitter<? super String>> multiOperations;
+    private final Map<String, UniEmitter<? super JsonObject>> uniOperations;
+    private final Map<String, MultiEmitter<? super JsonObject>> multiOperations;
 
     private final Runnable onClose;
 
@@ -117,7 +123,7 @@ public class GraphQLWSSubprotocolHandler implements WebSocketSubprotocolHandler
                     log.trace("<<< " + text);
                 }
                 try {
-                    JsonObject message = parseIncomingMessage(text.toString());
+                    JsonObject message = parseIncomingMessage(text);
                     MessageType messageType = getMessageType(message);
                     switch (messageType) {
                         case GQL_CONNECTION_ERROR:
@@ -160,7 +166,7 @@ public class GraphQLWSSubprotocolHandler implements WebSocketSubprotocolHandler
     }
 
     @Override
-    public String executeUni(JsonObject request, UniEmitter<? super String> emitter) {
+    public String executeUni(JsonObject request, UniEmitter<? super JsonObject> emitter) {
         String id = operationIdGenerator.generate();
         ensureInitialized().subscribe().with(ready -> {
             uniOperations.put(id, emitter);
@@ -171,7 +177,7 @@ public class GraphQLWSSubprotocolHandler implements WebSocketSubprotocolHandler
     }
 
     @Override
-    public String executeMulti(JsonObject request, MultiEmitter<? super String> emitter) {
+    public String executeMulti(JsonObject request, MultiEmitter<? super JsonObject> emitter) {
         String id = operationIdGenerator.generate();
         ensureInitialized().subscribe().with(ready -> {
             multiOperations.put(id, emitter);
@@ -202,8 +208,9 @@ public class GraphQLWSSubprotocolHandler implements WebSocketSubprotocolHandler
         }
     }
 
-    private JsonObject parseIncomingMessage(String message) {
-        return Json.createReader(new StringReader(message)).readObject();
+    private JsonObject parseIncomingMessage(Buffer message) {
+        ByteBuffer bytes = message.getByteBuf().nioBuffer();
+        return READERS.createReader(new ByteBufferInputStream(bytes), UTF_8).readObject();
     }
 
     private MessageType getMessageType(JsonObject message) {
@@ -264,13 +271,13 @@ public class GraphQLWSSubprotocolHandler implements WebSocketSubprotocolHandler
     private void failAllActiveOperationsWith(Throwable throwable) {
         log.debug("Failing all active operations");
         for (String s : uniOperations.keySet()) {
-            UniEmitter<? super String> emitter = uniOperations.remove(s);
+            UniEmitter<? super JsonObject> emitter = uniOperations.remove(s);
             if (emitter != null) {
                 emitter.fail(throwable);
             }
         }
         for (String s : multiOperations.keySet()) {
-            MultiEmitter<? super String> emitter = multiOperations.remove(s);
+            MultiEmitter<? super JsonObject> emitter = multiOperations.remove(s);
             if (emitter != null) {
                 emitter.fail(throwable);
             }
@@ -281,19 +288,19 @@ public class GraphQLWSSubprotocolHandler implements WebSocketSubprotocolHandler
         // If this is a uni operation, we remove it right away from the active operation map,
         // even though we still should receive a 'complete' message later - we don't wait for it.
         // This is to prevent a potential memory leak in case that the server doesn't actually send it.
-        UniEmitter<? super String> uniEmitter = uniOperations.remove(operationId);
+        UniEmitter<? super JsonObject> uniEmitter = uniOperations.remove(operationId);
         if (uniEmitter != null) {
             if (log.isTraceEnabled()) {
                 log.trace("Received data for single-result operation " + operationId);
             }
-            uniEmitter.complete(data.toString());
+            uniEmitter.complete(data);
         } else {
-            MultiEmitter<? super String> multiEmitter = multiOperations.get(operationId);
+            MultiEmitter<? super JsonObject> multiEmitter = multiOperations.get(operationId);
             if (multiEmitter != null) {
                 if (multiEmitter.isCancelled()) {
                     log.warn("Received data for already cancelled operation " + operationId);
                 } else {
-                    multiEmitter.emit(data.toString());
+                    multiEmitter.emit(data);
                 }
             } else {
                 log.warn("Received event for an unknown subscription ID: " + operationId);
@@ -304,11 +311,11 @@ public class GraphQLWSSubprotocolHandler implements WebSocketSubprotocolHandler
     private void handleOperationError(String operationId, JsonObject error) {
         GraphQLError parsedError = ResponseReader.readError(error);
         GraphQLClientException exception = new GraphQLClientException("Received an error", parsedError);
-        UniEmitter<? super String> emitter = uniOperations.remove(operationId);
+        UniEmitter<? super JsonObject> emitter = uniOperations.remove(operationId);
         if (emitter != null) {
             emitter.fail(exception);
         } else {
-            MultiEmitter<? super String> multiEmitter = multiOperations.remove(operationId);
+            MultiEmitter<? super JsonObject> multiEmitter = multiOperations.remove(operationId);
             if (multiEmitter != null) {
                 multiEmitter.fail(exception);
             }
@@ -316,7 +323,7 @@ public class GraphQLWSSubprotocolHandler implements WebSocketSubprotocolHandler
     }
 
     private void handleComplete(String operationId) {
-        UniEmitter<? super String> emitter = uniOperations.remove(operationId);
+        UniEmitter<? super JsonObject> emitter = uniOperations.remove(operationId);
         if (emitter != null) {
             // For a uni operation, we should have received a 'next' message before the 'complete' message.
             // If that happened, the emitter was already completed and operation removed from the map.
@@ -324,7 +331,7 @@ public class GraphQLWSSubprotocolHandler implements WebSocketSubprotocolHandler
             emitter.fail(new InvalidResponseException("Protocol error: received a 'complete' message for" +
                     " this operation before the actual data"));
         } else {
-            MultiEmitter<? super String> multiEmitter = multiOperations.remove(operationId);
+            MultiEmitter<? super JsonObject> multiEmitter = multiOperations.remove(operationId);
             if (multiEmitter != null) {
                 log.debug("Completed operation " + operationId);
                 multiEmitter.complete();
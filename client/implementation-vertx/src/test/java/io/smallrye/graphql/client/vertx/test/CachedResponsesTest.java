@@ -0,0 +1,93 @@
+package io.smallrye.graphql.client.vertx.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.Closeable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.graphql.client.typesafe.api.Cached;
+import io.smallrye.graphql.client.typesafe.api.GraphQLClientApi;
+import io.smallrye.graphql.client.vertx.typesafe.VertxTypesafeGraphQLClientBuilder;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+
+public class CachedResponsesTest {
+
+    static Vertx vertx = Vertx.vertx();
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private HttpServer server;
+
+    @GraphQLClientApi
+    interface GreetingApi extends Closeable {
+        @Cached(ttl = 1)
+        String greeting();
+
+        @Cached(ttl = 1, staleWhileRevalidate = 0)
+        String farewell();
+    }
+
+    @BeforeEach
+    public void startServer() throws Exception {
+        server = vertx.createHttpServer()
+                .requestHandler(request -> request.body().onSuccess(body -> {
+                    String field = body.toJsonObject().getString("query").contains("greeting") ? "greeting" : "farewell";
+                    request.response()
+                            .putHeader("Content-Type", "application/json")
+                            .putHeader("Cache-Control", "max-age=60, stale-while-revalidate=60")
+                            .end("{\"data\":{\"" + field + "\":\"response " + requests.incrementAndGet() + "\"}}");
+                }))
+                .listen(0).toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.close();
+    }
+
+    private GreetingApi client() {
+        return new VertxTypesafeGraphQLClientBuilder()
+                .cacheSize(10)
+                .endpoint("http://localhost:" + server.actualPort())
+                .build(GreetingApi.class);
+    }
+
+    @Test
+    public void shouldUseTheStaleWhileRevalidateOfTheServer() throws Exception {
+        try (GreetingApi client = client()) {
+            assertEquals("response 1", client.greeting());
+            assertEquals("response 1", client.greeting());
+            assertEquals(1, requests.get());
+
+            Thread.sleep(1_100);
+
+            // expired, but within the stale-while-revalidate of the response
+            assertEquals("response 1", client.greeting());
+            awaitRequests(2);
+            assertEquals("response 2", client.greeting());
+        }
+    }
+
+    @Test
+    public void shouldNotServeStaleResponsesWithZeroStaleWhileRevalidate() throws Exception {
+        try (GreetingApi client = client()) {
+            assertEquals("response 1", client.farewell());
+
+            Thread.sleep(1_100);
+
+            assertEquals("response 2", client.farewell());
+        }
+    }
+
+    private void awaitRequests(int expected) throws InterruptedException {
+        for (int i = 0; i < 100 && requests.get() < expected; i++) {
+            Thread.sleep(50);
+        }
+        assertEquals(expected, requests.get());
+    }
+}
@@ -0,0 +1,151 @@
+package io.smallrye.graphql.client.vertx.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.graphql.client.Response;
+import io.smallrye.graphql.client.dynamic.api.DynamicGraphQLClient;
+import io.smallrye.graphql.client.impl.GraphQLClientsConfiguration;
+import io.smallrye.graphql.client.vertx.dynamic.VertxDynamicGraphQLClientBuilder;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.json.JsonObject;
+
+public class HttpConnectionOptionsTest {
+    static Vertx vertx = Vertx.vertx();
+
+    /** the HTTP version and content encoding of each request */
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private HttpServer server;
+
+    @BeforeEach
+    public void startServer() throws Exception {
+        // the response is delayed a bit, like a real service, so connections are busy for a while
+        server = vertx.createHttpServer(new HttpServerOptions())
+                .connectionHandler(connection -> connections.incrementAndGet())
+                .requestHandler(request -> request.body().onSuccess(body -> {
+                    String encoding = request.getHeader("Content-Encoding");
+                    requests.add(request.version() + " " + encoding);
+                    String query = new JsonObject("gzip".equals(encoding) ? gunzip(body) : body).getString("query");
+                    vertx.setTimer(2, timer -> request.response()
+                            .putHeader("Content-Type", "application/json")
+                            .end("{\"data\":{\"length\":" + query.length() + "}}"));
+                }))
+                .listen(0).toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    private static Buffer gunzip(Buffer body) {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body.getBytes()))) {
+            return Buffer.buffer(in.readAllBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.close();
+    }
+
+    @Test
+    public void shouldCompressLargeRequests() throws Exception {
+        String largeQuery = "query { length }" + " ".repeat(2000);
+        try (DynamicGraphQLClient client = new VertxDynamicGraphQLClientBuilder()
+                .requestCompressionThreshold(1000)
+                .url(url())
+                .build()) {
+            assertEquals(largeQuery.length(), client.executeSync(largeQuery).getData().getInt("length"));
+            assertEquals(16, client.executeSync("query { length }").getData().getInt("length"));
+        }
+
+        assertEquals(List.of("HTTP_1_1 gzip", "HTTP_1_1 null"), requests);
+    }
+
+    @Test
+    public void shouldUseConfiguredHttp2() throws Exception {
+        Response response = withConfig("h2c", List.of("http2=true", "http2ClearTextUpgrade=false"), () -> {
+            try (DynamicGraphQLClient client = new VertxDynamicGraphQLClientBuilder()
+                    .configKey("h2c")
+                    .url(url())
+                    .build()) {
+                return client.executeSync("query { length }");
+            }
+        });
+
+        assertEquals(16, response.getData().getInt("length"));
+
+        assertEquals(List.of("HTTP_2 null"), requests);
+    }
+
+    @Test
+    public void shouldPoolConcurrentHttp1Requests() throws Exception {
+        withConfig("http1", List.of("maxPoolSize=5"), () -> run("http1"));
+
+        assertEquals(Collections.nCopies(100, "HTTP_1_1 null"), requests);
+        assertTrue(connections.get() <= 5, "expected at most 5 connections, but got " + connections.get());
+    }
+
+    @Test
+    public void shouldMultiplexConcurrentRequests() throws Exception {
+        withConfig("http2", List.of("http2=true", "http2ClearTextUpgrade=false", "http2MaxPoolSize=1",
+                "http2MultiplexingLimit=100"), () -> run("http2"));
+
+        assertEquals(Collections.nCopies(100, "HTTP_2 null"), requests);
+        assertEquals(1, connections.get());
+    }
+
+    private Void run(String configKey) throws Exception {
+        try (DynamicGraphQLClient client = new VertxDynamicGraphQLClientBuilder()
+                .configKey(configKey)
+                .url(url())
+                .build()) {
+            List<Uni<Response>> responses = IntStream.range(0, 100)
+                    .mapToObj(i -> client.executeAsync("query { length }"))
+                    .collect(Collectors.toList());
+            Uni.join().all(responses).andFailFast().await().atMost(Duration.ofMinutes(1))
+                    .forEach(response -> assertEquals(16, response.getData().getInt("length")));
+            return null;
+        }
+    }
+
+    private String url() {
+        return "http://localhost:" + server.actualPort() + "/graphql";
+    }
+
+    interface ConfiguredTest<T> {
+        T run() throws Exception;
+    }
+
+    private <T> T withConfig(String configKey, List<String> properties, ConfiguredTest<T> test) throws Exception {
+        properties.forEach(property -> System.setProperty(configKey + "/mp-graphql/" + property.split("=")[0],
+                property.split("=")[1]));
+        GraphQLClientsConfiguration.clear();
+        try {
+            return test.run();
+        } finally {
+            properties.forEach(property -> System.clearProperty(configKey + "/mp-graphql/" + property.split("=")[0]));
+            GraphQLClientsConfiguration.clear();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package io.smallrye.graphql.client.vertx.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.graphql.client.Response;
+import io.smallrye.graphql.client.dynamic.api.DynamicGraphQLClient;
+import io.smallrye.graphql.client.impl.PersistedQueries;
+import io.smallrye.graphql.client.typesafe.api.GraphQLClientApi;
+import io.smallrye.graphql.client.vertx.dynamic.VertxDynamicGraphQLClientBuilder;
+import io.smallrye.graphql.client.vertx.typesafe.VertxTypesafeGraphQLClientBuilder;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.json.JsonObject;
+
+public class PersistedQueriesTest {
+
+    static Vertx vertx = Vertx.vertx();
+
+    /** the method of each request, and if it contained the query, with or without the hash */
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private final Map<String, String> persisted = new ConcurrentHashMap<>();
+    private volatile boolean supported = true;
+    private HttpServer server;
+
+    @GraphQLClientApi
+    interface GreetingApi extends Closeable {
+        String greeting();
+    }
+
+    @BeforeEach
+    public void startServer() throws Exception {
+        server = vertx.createHttpServer()
+                .requestHandler(request -> {
+                    if (request.method() == HttpMethod.GET) {
+                        JsonObject extensions = new JsonObject(request.getParam("extensions"));
+                        handle(request, request.getParam("query"), extensions);
+                    } else {
+                        request.body().onSuccess(body -> {
+                            JsonObject json = body.toJsonObject();
+                            handle(request, json.getString("query"), json.getJsonObject("extensions"));
+                        });
+                    }
+                })
+                .listen(0).toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    /** a server that supports automatic persisted queries */
+    private void handle(HttpServerRequest request, String query, JsonObject extensions) {
+        requests.add(request.method() + ((query == null) ? " hash" : (extensions == null) ? " plain query" : " query"));
+        if (extensions == null || !supported) {
+            String response = (extensions == null)
+                    ? "{\"data\":{\"greeting\":\"hello\"}}"
+                    : "{\"errors\":[{\"message\":\"PersistedQueryNotSupported\"," +
+                            "\"extensions\":{\"code\":\"PERSISTED_QUERY_NOT_SUPPORTED\"}}]}";
+            request.response().putHeader("Content-Type", "application/json").end(response);
+            return;
+        }
+        String hash = extensions.getJsonObject("persistedQuery").getString("sha256Hash");
+        if (query != null) {
+            assertEquals(PersistedQueries.sha256(query), hash);
+            persisted.put(hash, query);
+        }
+        String response = persisted.containsKey(hash)
+                ? "{\"data\":{\"greeting\":\"hello\"}}"
+                : "{\"errors\":[{\"message\":\"PersistedQueryNotFound\"," +
+                        "\"extensions\":{\"code\":\"PERSISTED_QUERY_NOT_FOUND\"}}]}";
+        request.response().putHeader("Content-Type", "application/json").end(response);
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.close();
+    }
+
+    @Test
+    public void typesafeClientShouldSendTheQueryOnlyWhenItIsNotFound() throws Exception {
+        try (GreetingApi client = new VertxTypesafeGraphQLClientBuilder()
+                .persistedQueries(true)
+                .endpoint("http://localhost:" + server.actualPort())
+                .build(GreetingApi.class)) {
+            assertEquals("hello", client.greeting());
+            assertEquals("hello", client.greeting());
+        }
+
+        assertEquals(List.of("POST hash", "POST query", "POST hash"), requests);
+    }
+
+    @Test
+    public void typesafeClientShouldStopSendingHashesWhenTheServerDoesNotSupportThem() throws Exception {
+        supported = false;
+        try (GreetingApi client = new VertxTypesafeGraphQLClientBuilder()
+                .persistedQueries(true)
+                .endpoint("http://localhost:" + server.actualPort())
+                .build(GreetingApi.class)) {
+            assertEquals("hello", client.greeting());
+            assertEquals("hello", client.greeting());
+        }
+
+        assertEquals(List.of("POST hash", "POST plain query", "POST plain query"), requests);
+    }
+
+    @Test
+    public void dynamicClientShouldStopSendingHashesWhenTheServerDoesNotSupportThem() throws Exception {
+        supported = false;
+        try (DynamicGraphQLClient client = new VertxDynamicGraphQLClientBuilder()
+                .persistedQueries(true)
+                .persistedQueriesGet(true)
+                .url("http://localhost:" + server.actualPort())
+                .build()) {
+            assertEquals("hello", client.executeSync("query { greeting }").getData().getString("greeting"));
+            assertEquals("hello", client.executeSync("query { greeting }").getData().getString("greeting"));
+        }
+
+        assertEquals(List.of("GET hash", "POST plain query", "POST plain query"), requests);
+    }
+
+    @Test
+    public void dynamicClientShouldSendHashOnlyQueriesWithGet() throws Exception {
+        try (DynamicGraphQLClient client = new VertxDynamicGraphQLClientBuilder()
+                .persistedQueries(true)
+                .persistedQueriesGet(true)
+                .url("http://localhost:" + server.actualPort())
+                .build()) {
+            Response first = client.executeSync("query { greeting }");
+            Response second = client.executeSync("query { greeting }");
+
+            assertNull(first.getErrors());
+            assertEquals("hello", first.getData().getString("greeting"));
+            assertEquals("hello", second.getData().getString("greeting"));
+        }
+
+        assertEquals(List.of("GET hash", "POST query", "GET hash"), requests);
+    }
+}
@@ -42,6 +42,7 @@ public class VertxTypesafeGraphQLClientFixture implements TypesafeGraphQLClientF
         HttpResponse<Buffer> mockHttpResponse = (HttpResponse<Buffer>) Mockito.mock(HttpResponse.class);
         given(mockHttpRequest.sendBuffer(any(Buffer.class))).willReturn(new SucceededFuture<>(mockHttpResponse));
         given(mockHttpResponse.bodyAsString()).will(i -> response);
+        given(mockHttpResponse.body()).will(i -> (response == null) ? null : Buffer.buffer(response));
         given(mockHttpResponse.statusCode()).will(i -> statusCode);
         given(mockHttpResponse.statusMessage()).will(i -> statusMessage);
     }
@@ -100,6 +100,97 @@ public class GraphQLClientConfiguration {
      */
     private Integer websocketInitializationTimeout;
 
+    /**
+     * If this is set, the queries of a typesafe client that are invoked within this many milliseconds are sent to
+     * the server in one request, as an array of operations, and identical queries share one response while they are
+     * in flight. Mutations are sent on their own, so they run in order. The server has to support such batches.
+     */
+    private Integer batchingWindow;
+
+    /**
+     * If this is set, the responses to queries are cached, and this is the maximum number of cached responses.
+     * The least recently used responses are evicted first.
+     */
+    private Integer cacheSize;
+
+    /**
+     * The time to live in seconds of cached responses, unless a typesafe client method defines its own
+     * with <code>@Cached</code>. Without it, only the responses with a <code>Cache-Control: max-age</code> are cached.
+     */
+    private Integer cacheTtl;
+
+    /**
+     * The names of the request headers that select a different cached response, e.g. <code>Authorization</code>.
+     * If this is not set, all request headers do.
+     */
+    private List<String> cacheKeyHeaders;
+
+    /**
+     * If this is true, the requests over HTTP only contain the SHA-256 hash of the query (automatic persisted queries),
+     * and the query is only sent if the server doesn't know it yet.
+     */
+    private Boolean persistedQueries;
+
+    /**
+     * If this is true, queries that only contain the hash of a persisted query are sent with HTTP GET, so they can be
+     * cached by HTTP caches.
+     */
+    private Boolean persistedQueriesGet;
+
+    /**
+     * If this is true, the client uses HTTP/2: over TLS it's negotiated with ALPN (h2), otherwise it's cleartext (h2c).
+     * Requests are then multiplexed over a few connections instead of using one connection each.
+     */
+    private Boolean http2;
+
+    /**
+     * If this is false, cleartext HTTP/2 connections are opened with prior knowledge instead of an HTTP/1.1 upgrade
+     * request. The server has to support that.
+     */
+    private Boolean http2ClearTextUpgrade;
+
+    /**
+     * The maximum number of HTTP/2 connections per server.
+     */
+    private Integer http2MaxPoolSize;
+
+    /**
+     * The maximum number of concurrent requests (streams) on one HTTP/2 connection.
+     */
+    private Integer http2MultiplexingLimit;
+
+    /**
+     * The maximum number of HTTP/1.x connections per server.
+     */
+    private Integer maxPoolSize;
+
+    /**
+     * If this is true, HTTP/1.1 requests are pipelined, i.e. sent on a connection before the previous responses
+     * arrived.
+     */
+    private Boolean pipelining;
+
+    /**
+     * The maximum number of pipelined requests on one HTTP/1.1 connection.
+     */
+    private Integer pipeliningLimit;
+
+    /**
+     * If this is false, HTTP/1.x connections are closed after each request instead of being reused.
+     */
+    private Boolean keepAlive;
+
+    /**
+     * The number of seconds after which an idle connection is closed, for HTTP/1.x and HTTP/2.
+     */
+    private Integer keepAliveTimeout;
+
+    /**
+     * If this is set, request bodies of at least this many bytes are compressed with gzip, e.g. large mutations.
+     * The server has to support compressed requests.
+     */
+    private Integer requestCompressionThreshold;
+
     public String getUrl() {
         return url;
     }
@@ -244,6 +335,134 @@ public class GraphQLClientConfiguration {
         this.websocketInitializationTimeout = websocketInitializationTimeout;
     }
 
+    public Integer getBatchingWindow() {
+        return batchingWindow;
+    }
+
+    public void setBatchingWindow(Integer batchingWindow) {
+        this.batchingWindow = batchingWindow;
+    }
+
+    public Integer getCacheSize() {
+        return cacheSize;
+    }
+
+    public void setCacheSize(Integer cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    public Integer getCacheTtl() {
+        return cacheTtl;
+    }
+
+    public void setCacheTtl(Integer cacheTtl) {
+        this.cacheTtl = cacheTtl;
+    }
+
+    public List<String> getCacheKeyHeaders() {
+        return cacheKeyHeaders;
+    }
+
+    public void setCacheKeyHeaders(List<String> cacheKeyHeaders) {
+        this.cacheKeyHeaders = cacheKeyHeaders;
+    }
+
+    public Boolean getPersistedQueries() {
+        return persistedQueries;
+    }
+
+    public void setPersistedQueries(Boolean persistedQueries) {
+        this.persistedQueries = persistedQueries;
+    }
+
+    public Boolean getPersistedQueriesGet() {
+        return persistedQueriesGet;
+    }
+
+    public void setPersistedQueriesGet(Boolean persistedQueriesGet) {
+        this.persistedQueriesGet = persistedQueriesGet;
+    }
+
+    public Boolean getHttp2() {
+        return http2;
+    }
+
+    public void setHttp2(Boolean http2) {
+        this.http2 = http2;
+    }
+
+    public Boolean getHttp2ClearTextUpgrade() {
+        return http2ClearTextUpgrade;
+    }
+
+    public void setHttp2ClearTextUpgrade(Boolean http2ClearTextUpgrade) {
+        this.http2ClearTextUpgrade = http2ClearTextUpgrade;
+    }
+
+    public Integer getHttp2MaxPoolSize() {
+        return http2MaxPoolSize;
+    }
+
+    public void setHttp2MaxPoolSize(Integer http2MaxPoolSize) {
+        this.http2MaxPoolSize = http2MaxPoolSize;
+    }
+
+    public Integer getHttp2MultiplexingLimit() {
+        return http2MultiplexingLimit;
+    }
+
+    public void setHttp2MultiplexingLimit(Integer http2MultiplexingLimit) {
+        this.http2MultiplexingLimit = http2MultiplexingLimit;
+    }
+
+    public Integer getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    public void setMaxPoolSize(Integer maxPoolSize) {
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    public Boolean getPipelining() {
+        return pipelining;
+    }
+
+    public void setPipelining(Boolean pipelining) {
+        this.pipelining = pipelining;
+    }
+
+    public Integer getPipeliningLimit() {
+        return pipeliningLimit;
+    }
+
+    public void setPipeliningLimit(Integer pipeliningLimit) {
+        this.pipeliningLimit = pipeliningLimit;
+    }
+
+    public Boolean getKeepAlive() {
+        return keepAlive;
+    }
+
+    public void setKeepAlive(Boolean keepAlive) {
+        this.keepAlive = keepAlive;
+    }
+
+    public Integer getKeepAliveTimeout() {
+        return keepAliveTimeout;
+    }
+
+    public void setKeepAliveTimeout(Integer keepAliveTimeout) {
+        this.keepAliveTimeout = keepAliveTimeout;
+    }
+
+    public Integer getRequestCompressionThreshold() {
+        return requestCompressionThreshold;
+    }
+
+    public void setRequestCompressionThreshold(Integer requestCompressionThreshold) {
+        this.requestCompressionThreshold = requestCompressionThreshold;
+    }
+
     /**
      * Merge the `other` configuration into this one. Values in `other` take precedence.
      * This method has to be idempotent because it can be called multiple times to allow for changes in configuration.
@@ -313,6 +532,54 @@ public class GraphQLClientConfiguration {
         if (other.websocketInitializationTimeout != null) {
             this.websocketInitializationTimeout = other.websocketInitializationTimeout;
         }
+        if (other.batchingWindow != null) {
+            this.batchingWindow = other.batchingWindow;
+        }
+        if (other.cacheSize != null) {
+            this.cacheSize = other.cacheSize;
+        }
+        if (other.cacheTtl != null) {
+            this.cacheTtl = other.cacheTtl;
+        }
+        if (other.cacheKeyHeaders != null) {
+            this.cacheKeyHeaders = other.cacheKeyHeaders;
+        }
+        if (other.persistedQueries != null) {
+            this.persistedQueries = other.persistedQueries;
+        }
+        if (other.persistedQueriesGet != null) {
+            this.persistedQueriesGet = other.persistedQueriesGet;
+        }
+        if (other.http2 != null) {
+            this.http2 = other.http2;
+        }
+        if (other.http2ClearTextUpgrade != null) {
+            this.http2ClearTextUpgrade = other.http2ClearTextUpgrade;
+        }
+        if (other.http2MaxPoolSize != null) {
+            this.http2MaxPoolSize = other.http2MaxPoolSize;
+        }
+        if (other.http2MultiplexingLimit != null) {
+            this.http2MultiplexingLimit = other.http2MultiplexingLimit;
+        }
+        if (other.maxPoolSize != null) {
+            this.maxPoolSize = other.maxPoolSize;
+        }
+        if (other.pipelining != null) {
+            this.pipelining = other.pipelining;
+        }
+        if (other.pipeliningLimit != null) {
+            this.pipeliningLimit = other.pipeliningLimit;
+        }
+        if (other.keepAlive != null) {
+            this.keepAlive = other.keepAlive;
+        }
+        if (other.keepAliveTimeout != null) {
+            this.keepAliveTimeout = other.keepAliveTimeout;
+        }
+        if (other.requestCompressionThreshold != null) {
+            this.requestCompressionThreshold = other.requestCompressionThreshold;
+        }
         return this;
     }
 }
@@ -122,6 +122,40 @@ public class GraphQLClientsConfiguration {
                 .ifPresent(configuration::setWebsocketInitializationTimeout);
         mpConfig.getOptionalValue(clientName + "/mp-graphql/executeSingleOperationsOverWebsocket", Boolean.class)
                 .ifPresent(configuration::setExecuteSingleOperationsOverWebsocket);
+        mpConfig.getOptionalValue(clientName + "/mp-graphql/batchingWindow", Integer.class)
+                .ifPresent(configuration::setBatchingWindow);
+        mpConfig.getOptionalValue(clientName + "/mp-graphql/cacheSize", Integer.class)
+                .ifPresent(configuration::setCacheSize);
+        mpConfig.getOptionalValue(clientName + "/mp-graphql/cacheTtl", Integer.class)
+                .ifPresent(configuration::setCacheTtl);
+        mpConfig.getOptionalValue(clientName + "/mp-graphql/cacheKeyHeaders", String[].class)
+                .ifPresent(headers -> configuration.setCacheKeyHeaders(List.of(headers)));
+        mpConfig.getOptionalValue(clientName + "/mp-graphql/persistedQueries", Boolean.class)
+                .ifPresent(configuration::setPersistedQueries);
+        mpConfig.getOptionalValue(clientName + "/mp-graphql/persistedQueriesGet", Boolean.class)
+                .ifPresent(configuration::setPersistedQueriesGet);
+
+        // HTTP connections
+        mpConfig.getOptionalValue(clientName + "/mp-graphql/http2", Boolean.class)
+                .ifPresent(configuration::setHttp2);
+        mpConfig.getOptionalValue(clientName + "/mp-graphql/http2ClearTextUpgrade", Boolean.class)
+                .ifPresent(configuration::setHttp2ClearTextUpgrade);
+        mpConfig.getOptionalValue(clientName + "/mp-graphql/http2MaxPoolSize", Integer.class)
+                .ifPresent(configuration::setHttp2MaxPoolSize);
+        mpConfig.getOptionalValue(clientName + "/mp-graphql/http2MultiplexingLimit", Integer.class)
+                .ifPresent(configuration::setHttp2MultiplexingLimit);
+        mpConfig.getOptionalValue(clientName + "/mp-graphql/maxPoolSize", Integer.class)
+                .ifPresent(configuration::setMaxPoolSize);
+        mpConfig.getOptionalValue(clientName + "/mp-graphql/pipelining", Boolean.class)
+                .ifPresent(configuration::setPipelining);
+        mpConfig.getOptionalValue(clientName + "/mp-graphql/pipeliningLimit", Integer.class)
+                .ifPresent(configuration::setPipeliningLimit);
+        mpConfig.getOptionalValue(clientName + "/mp-graphql/keepAlive", Boolean.class)
+                .ifPresent(configuration::setKeepAlive);
+        mpConfig.getOptionalValue(clientName + "/mp-graphql/keepAliveTimeout", Integer.class)
+                .ifPresent(configuration::setKeepAliveTimeout);
+        mpConfig.getOptionalValue(clientName + "/mp-graphql/requestCompressionThreshold", Integer.class)
+                .ifPresent(configuration::setRequestCompressionThreshold);
 
         return configuration;
     }
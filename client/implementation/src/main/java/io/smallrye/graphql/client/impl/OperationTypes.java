@@ -0,0 +1,207 @@
+package io.smallrye.graphql.client.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.smallrye.graphql.client.core.OperationType;
+
+/**
+ * Finds the type of the operation a GraphQL document executes, e.g. to decide if the response may be cached.
+ * <p>
+ * This reads only the headers of the definitions in the document: the selection sets, and everything in parentheses,
+ * are skipped by matching the brackets, while strings, block strings and comments are skipped as a whole.
+ */
+public class OperationTypes {
+
+    private OperationTypes() {
+    }
+
+    /**
+     * @param document the GraphQL document
+     * @param operationName the name of the operation to execute, or null if the document has only one operation
+     * @return the type of the operation, or null if the document is not a valid executable document, or it doesn't
+     *         contain the operation
+     */
+    public static OperationType of(String document, String operationName) {
+        List<Definition> operations = new Reader(document).operations();
+        if (operations == null) {
+            return null;
+        }
+        if (operationName == null || operationName.isEmpty()) {
+            return (operations.size() == 1) ? operations.get(0).type : null;
+        }
+        for (Definition operation : operations) {
+            if (operationName.equals(operation.name)) {
+                return operation.type;
+            }
+        }
+        return null;
+    }
+
+    private static class Definition {
+        private final OperationType type;
+        private final String name;
+
+        private Definition(OperationType type, String name) {
+            this.type = type;
+            this.name = name;
+        }
+    }
+
+    private static class Reader {
+        private final String document;
+        private int pos;
+
+        private Reader(String document) {
+            this.document = document;
+        }
+
+        /**
+         * @return the operations in the document, or null if it contains anything else than operations and fragments
+         */
+        private List<Definition> operations() {
+            List<Definition> operations = new ArrayList<>();
+            while (skipIgnored()) {
+                if (document.charAt(pos) == '{') {
+                    // the query shorthand
+                    operations.add(new Definition(OperationType.QUERY, null));
+                } else {
+                    String keyword = name();
+                    if (keyword == null) {
+                        return null;
+                    }
+                    OperationType type = type(keyword);
+                    if (type != null) {
+                        skipIgnored();
+                        operations.add(new Definition(type, name()));
+                    } else if (!keyword.equals("fragment")) {
+                        return null;
+                    }
+                }
+                if (!skipDefinition()) {
+                    return null;
+                }
+            }
+            return operations;
+        }
+
+        private static OperationType type(String keyword) {
+            switch (keyword) {
+                case "query":
+                    return OperationType.QUERY;
+                case "mutation":
+                    return OperationType.MUTATION;
+                case "subscription":
+                    return OperationType.SUBSCRIPTION;
+                default:
+                    return null;
+            }
+        }
+
+        /**
+         * Skip the rest of a definition, up to and including its selection set
+         *
+         * @return false if the definition doesn't end properly
+         */
+        private boolean skipDefinition() {
+            int parentheses = 0;
+            int braces = 0;
+            while (skipIgnored()) {
+                char c = document.charAt(pos);
+                if (c == '"') {
+                    if (!skipString()) {
+                        return false;
+                    }
+                    continue;
+                }
+                pos++;
+                if (c == '(') {
+                    parentheses++;
+                } else if (c == ')') {
+                    parentheses--;
+                } else if (c == '{') {
+                    braces++;
+                } else if (c == '}') {
+                    braces--;
+                    if (braces == 0 && parentheses == 0) {
+                        return true;
+                    }
+                }
+                if (braces < 0 || parentheses < 0) {
+                    return false;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Skip white space, commas and comments
+         *
+         * @return true if there is more to read
+         */
+        private boolean skipIgnored() {
+            while (pos < document.length()) {
+                char c = document.charAt(pos);
+                if (c == '#') {
+                    while (pos < document.length() && document.charAt(pos) != '\n' && document.charAt(pos) != '\r') {
+                        pos++;
+                    }
+                } else if (c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == ',' || c == '\uFEFF') {
+                    pos++;
+                } else {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Skip a string or block string
+         *
+         * @return false if it doesn't end
+         */
+        private boolean skipString() {
+            if (document.startsWith("\"\"\"", pos)) {
+                pos += 3;
+                while (pos < document.length()) {
+                    if (document.startsWith("\\\"\"\"", pos)) {
+                        pos += 4;
+                    } else if (document.startsWith("\"\"\"", pos)) {
+                        pos += 3;
+                        return true;
+                    } else {
+                        pos++;
+                    }
+                }
+                return false;
+            }
+            pos++;
+            while (pos < document.length()) {
+                char c = document.charAt(pos++);
+                if (c == '\\') {
+                    pos++;
+                } else if (c == '"') {
+                    return true;
+                } else if (c == '\n' || c == '\r') {
+                    return false;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * @return the name at the current position, or null if there is none
+         */
+        private String name() {
+            int start = pos;
+            while (pos < document.length() && isNameChar(document.charAt(pos), pos == start)) {
+                pos++;
+            }
+            return (pos == start) ? null : document.substring(start, pos);
+        }
+
+        private static boolean isNameChar(char c, boolean first) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || (!first && c >= '0' && c <= '9');
+        }
+    }
+}
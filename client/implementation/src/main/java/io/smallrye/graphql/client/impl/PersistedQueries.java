@@ -0,0 +1,88 @@
+package io.smallrye.graphql.client.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+
+import jakarta.json.Json;
+import jakarta.json.JsonBuilderFactory;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+
+import io.smallrye.graphql.client.GraphQLError;
+
+/**
+ * Automatic persisted queries: a request only contains the SHA-256 hash of the query in
+ * <code>extensions.persistedQuery</code>. If the server doesn't know the hash (yet), it responds with a
+ * <code>PersistedQueryNotFound</code> error, and the request is sent again with the query,
+ * so the server can store it for the next time.
+ */
+public class PersistedQueries {
+    private static final JsonBuilderFactory JSON = Json.createBuilderFactory(null);
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private PersistedQueries() {
+    }
+
+    /** The lowercase hex SHA-256 hash of the query */
+    public static String sha256(String query) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(query.getBytes(UTF_8));
+            char[] hex = new char[digest.length * 2];
+            for (int i = 0; i < digest.length; i++) {
+                hex[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+                hex[i * 2 + 1] = HEX[digest[i] & 0xF];
+            }
+            return new String(hex);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    public static JsonObject extensions(String sha256Hash) {
+        return JSON.createObjectBuilder()
+                .add("persistedQuery", JSON.createObjectBuilder()
+                        .add("version", 1)
+                        .add("sha256Hash", sha256Hash))
+                .build();
+    }
+
+    /** The request without the <code>query</code>, but with the hash of it in the <code>extensions</code> */
+    public static JsonObject hashOnly(JsonObject request, String sha256Hash) {
+        JsonObjectBuilder builder = JSON.createObjectBuilder(request).remove("query");
+        return builder.add("extensions", extensions(sha256Hash)).build();
+    }
+
+    /** The request with the <code>query</code> and the hash of it in the <code>extensions</code>, to store it */
+    public static JsonObject withQuery(JsonObject request, String sha256Hash) {
+        return JSON.createObjectBuilder(request).add("extensions", extensions(sha256Hash)).build();
+    }
+
+    /**
+     * If the server doesn't know the hash, or doesn't support persisted queries at all,
+     * so the request has to be sent with the query.
+     */
+    public static boolean isNotFound(List<GraphQLError> errors) {
+        return errors != null && errors.stream().anyMatch(PersistedQueries::isNotFound);
+    }
+
+    private static boolean isNotFound(GraphQLError error) {
+        return "PersistedQueryNotFound".equals(error.getMessage())
+                || (error.getExtensions() != null && "PERSISTED_QUERY_NOT_FOUND".equals(error.getCode()))
+                || isNotSupported(error);
+    }
+
+    /**
+     * If the server doesn't support persisted queries at all, so the client should stop sending hashes
+     */
+    public static boolean isNotSupported(List<GraphQLError> errors) {
+        return errors != null && errors.stream().anyMatch(PersistedQueries::isNotSupported);
+    }
+
+    private static boolean isNotSupported(GraphQLError error) {
+        return "PersistedQueryNotSupported".equals(error.getMessage())
+                || (error.getExtensions() != null && "PERSISTED_QUERY_NOT_SUPPORTED".equals(error.getCode()));
+    }
+}
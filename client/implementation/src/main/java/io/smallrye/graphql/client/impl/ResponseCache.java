@@ -0,0 +1,215 @@
+package io.smallrye.graphql.client.impl;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+/**
+ * An in-memory cache for the responses to queries, with a time to live, stale-while-revalidate,
+ * and the least recently used responses evicted when it's full.
+ * <p>
+ * The <code>Cache-Control</code> header of a response is honored: <code>no-store</code> and <code>no-cache</code>
+ * prevent caching, a <code>max-age</code> limits the time to live or, if there is none, defines it,
+ * and a <code>stale-while-revalidate</code> is used if there is none.
+ *
+ * @param <V> the type of the responses
+ */
+public class ResponseCache<V> {
+    private static final Logger log = Logger.getLogger(ResponseCache.class);
+
+    private final int maxSize;
+    private final Predicate<V> cacheable;
+    private final Function<V, String> cacheControl;
+    private final LongSupplier clock;
+
+    private final Map<String, CacheEntry<V>> entries;
+
+    /**
+     * @param maxSize the maximum number of cached responses
+     * @param cacheable if a response may be cached at all, e.g. not if it contains errors
+     * @param cacheControl the <code>Cache-Control</code> header of a response, or <code>null</code>
+     */
+    public ResponseCache(int maxSize, Predicate<V> cacheable, Function<V, String> cacheControl) {
+        this(maxSize, cacheable, cacheControl, System::currentTimeMillis);
+    }
+
+    ResponseCache(int maxSize, Predicate<V> cacheable, Function<V, String> cacheControl, LongSupplier clock) {
+        this.maxSize = maxSize;
+        this.cacheable = cacheable;
+        this.cacheControl = cacheControl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry<V>> eldest) {
+                return size() > ResponseCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * The key for a request: the request itself and the values of the headers that select a different response.
+     *
+     * @param keyHeaders the names of the headers to use, or <code>null</code> for all headers
+     */
+    public static String key(String request, Iterable<Map.Entry<String, String>> headers, Collection<String> keyHeaders) {
+        StringBuilder key = new StringBuilder(request);
+        for (Map.Entry<String, String> header : headers) {
+            if (keyHeaders == null || keyHeaders.stream().anyMatch(header.getKey()::equalsIgnoreCase)) {
+                key.append('\n').append(header.getKey().toLowerCase(Locale.ROOT)).append(':').append(header.getValue());
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * Get the cached response, or fetch and cache it. An expired response is still returned within the
+     * <code>staleWhileRevalidate</code> time, while a fresh response is fetched in the background.
+     *
+     * @param ttl the time to live, or <code>null</code> to use only the <code>max-age</code> of the response
+     * @param staleWhileRevalidate the time to serve a stale response, or <code>null</code> to use only the
+     *        <code>stale-while-revalidate</code> of the response
+     */
+    public CompletionStage<V> get(String key, Duration ttl, Duration staleWhileRevalidate, Supplier<CompletionStage<V>> fetch) {
+        CacheEntry<V> entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry != null) {
+            long now = clock.getAsLong();
+            if (now < entry.expires) {
+                log.tracef("cache hit for %s", key);
+                return CompletableFuture.completedFuture(entry.value);
+            }
+            if (now < entry.staleUntil) {
+                if (entry.revalidating.compareAndSet(false, true)) {
+                    log.tracef("revalidate stale cache entry for %s", key);
+                    fetch(key, ttl, staleWhileRevalidate, fetch).whenComplete((value, failure) -> {
+                        if (failure != null) {
+                            log.debugf(failure, "failed to revalidate cache entry for %s", key);
+                            entry.revalidating.set(false);
+                        }
+                    });
+                }
+                return CompletableFuture.completedFuture(entry.value);
+            }
+        }
+        return fetch(key, ttl, staleWhileRevalidate, fetch);
+    }
+
+    private CompletionStage<V> fetch(String key, Duration ttl, Duration staleWhileRevalidate,
+            Supplier<CompletionStage<V>> fetch) {
+        return fetch.get().thenApply(value -> {
+            put(key, value, ttl, staleWhileRevalidate);
+            return value;
+        });
+    }
+
+    private void put(String key, V value, Duration ttl, Duration staleWhileRevalidate) {
+        CacheControl control = CacheControl.parse(cacheControl.apply(value));
+        Long timeToLive = control.timeToLive((ttl == null) ? null : ttl.toMillis());
+        if (timeToLive == null || timeToLive <= 0 || !cacheable.test(value)) {
+            synchronized (entries) {
+                entries.remove(key);
+            }
+            return;
+        }
+        long stale = (staleWhileRevalidate != null) ? staleWhileRevalidate.toMillis()
+                : (control.staleWhileRevalidate != null) ? control.staleWhileRevalidate : 0;
+        long now = clock.getAsLong();
+        CacheEntry<V> entry = new CacheEntry<>(value, now + timeToLive, now + timeToLive + stale);
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private static class CacheEntry<V> {
+        private final V value;
+        private final long expires;
+        private final long staleUntil;
+        private final AtomicBoolean revalidating = new AtomicBoolean();
+
+        private CacheEntry(V value, long expires, long staleUntil) {
+            this.value = value;
+            this.expires = expires;
+            this.staleUntil = staleUntil;
+        }
+    }
+
+    /** The directives of a <code>Cache-Control</code> header that are relevant for a client; times in milliseconds */
+    private static class CacheControl {
+        private static final CacheControl NONE = new CacheControl();
+
+        private boolean noStore;
+        private Long maxAge;
+        private Long staleWhileRevalidate;
+
+        static CacheControl parse(String header) {
+            if (header == null || header.isBlank()) {
+                return NONE;
+            }
+            CacheControl control = new CacheControl();
+            for (String directive : header.split(",")) {
+                String[] nameAndValue = directive.trim().split("=", 2);
+                String name = nameAndValue[0].trim().toLowerCase(Locale.ROOT);
+                String value = (nameAndValue.length > 1) ? nameAndValue[1].trim().replace("\"", "") : null;
+                switch (name) {
+                    case "no-store":
+                    case "no-cache":
+                        control.noStore = true;
+                        break;
+                    case "max-age":
+                        control.maxAge = seconds(value);
+                        break;
+                    case "stale-while-revalidate":
+                        control.staleWhileRevalidate = seconds(value);
+                        break;
+                    default:
+                        break;
+                }
+            }
+            return control;
+        }
+
+        private static Long seconds(String value) {
+            try {
+                return (value == null) ? null : Duration.ofSeconds(Long.parseLong(value)).toMillis();
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        /** The time to live, limited by the <code>max-age</code>, or <code>null</code> if it must not be cached */
+        Long timeToLive(Long ttl) {
+            if (noStore) {
+                return null;
+            }
+            if (ttl == null) {
+                return maxAge;
+            }
+            return (maxAge == null) ? ttl : Math.min(ttl, maxAge);
+        }
+    }
+}
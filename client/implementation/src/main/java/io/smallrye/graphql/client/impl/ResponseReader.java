@@ -1,17 +1,22 @@
 package io.smallrye.graphql.client.impl;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import java.io.StringReader;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonNumber;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
 import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
 
@@ -22,6 +27,7 @@ import io.smallrye.graphql.client.InvalidResponseException;
 
 public class ResponseReader {
     private static final Logger LOG = Logger.getLogger(ResponseReader.class.getName());
+    private static final JsonReaderFactory READERS = Json.createReaderFactory(null);
 
     /**
      * Parse a GraphQL response from the input string.
@@ -34,36 +40,67 @@ public class ResponseReader {
         if (input == null) {
             return null;
         }
-        JsonReader jsonReader = Json.createReader(new StringReader(input));
+        return parseGraphQLResponse(Json.createReader(new StringReader(input)));
+    }
+
+    /**
+     * Parse a GraphQL response directly from its UTF-8 bytes, without decoding them into a String first.
+     *
+     * @see #parseGraphQLResponse(String)
+     */
+    public static JsonObject parseGraphQLResponse(ByteBuffer input) {
+        if (input == null) {
+            return null;
+        }
+        return parseGraphQLResponse(READERS.createReader(new ByteBufferInputStream(input.duplicate()), UTF_8));
+    }
+
+    private static JsonObject parseGraphQLResponse(JsonReader jsonReader) {
         JsonObject jsonResponse;
         try {
             jsonResponse = jsonReader.readObject();
         } catch (Exception e) {
             return null;
         }
+        return isGraphQLResponse(jsonResponse) ? jsonResponse : null;
+    }
 
-        // validate that this is what we consider a GraphQL response - else return null
+    // validate that this is what we consider a GraphQL response
+    private static boolean isGraphQLResponse(JsonObject jsonResponse) {
         if (jsonResponse.size() >= 1) {
             for (String key : jsonResponse.keySet()) {
                 if (!key.equalsIgnoreCase("data")
                         && !key.equalsIgnoreCase("errors")
                         && !key.equalsIgnoreCase("extensions")) {
-                    return null;
+                    return false;
                 }
             }
-            return jsonResponse;
+            return true;
         } else {
-            return null;
+            return false;
         }
     }
 
     public static ResponseImpl readFrom(String input, Map<String, List<String>> headers, Integer statusCode,
             String statusMessage) {
-        JsonObject jsonResponse = parseGraphQLResponse(input);
+        return readFrom(parseGraphQLResponse(input), () -> input, headers, statusCode, statusMessage);
+    }
+
+    /**
+     * Read the response directly from its UTF-8 bytes, e.g. the buffer of an HTTP response body.
+     */
+    public static ResponseImpl readFrom(ByteBuffer input, Map<String, List<String>> headers, Integer statusCode,
+            String statusMessage) {
+        return readFrom(parseGraphQLResponse(input), () -> (input == null) ? null : UTF_8.decode(input.duplicate()).toString(),
+                headers, statusCode, statusMessage);
+    }
+
+    private static ResponseImpl readFrom(JsonObject jsonResponse, Supplier<String> input, Map<String, List<String>> headers,
+            Integer statusCode, String statusMessage) {
         if (jsonResponse == null) {
             throw new InvalidResponseException(
                     "Unexpected response. Code=" + statusCode + ", message=\"" + statusMessage + "\", " +
-                            "body=\"" + input + "\"");
+                            "body=\"" + input.get() + "\"");
         }
         JsonObject data = null;
         if (jsonResponse.containsKey("data")) {
@@ -85,6 +122,14 @@ public class ResponseReader {
         return new ResponseImpl(data, errors, headers, statusCode, statusMessage);
     }
 
+    /**
+     * Read a response that was already parsed, e.g. the payload of a websocket message.
+     */
+    public static ResponseImpl readFromJson(JsonObject input, Map<String, List<String>> headers) {
+        JsonObject jsonResponse = (input != null && isGraphQLResponse(input)) ? input : null;
+        return readFrom(jsonResponse, () -> String.valueOf(input), headers, null, null);
+    }
+
     public static ResponseImpl readFrom(String input, Map<String, List<String>> headers) {
         return readFrom(input, headers, null, null);
     }
@@ -0,0 +1,197 @@
+package io.smallrye.graphql.client.impl.core;
+
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.smallrye.graphql.client.core.FragmentOrOperation;
+import io.smallrye.graphql.client.core.Operation;
+import io.smallrye.graphql.client.core.PreparedDocument;
+import io.smallrye.graphql.client.core.Variable;
+import io.smallrye.graphql.client.core.VariableType;
+import io.smallrye.graphql.client.core.exceptions.BuildException;
+import io.smallrye.graphql.client.impl.PersistedQueries;
+
+public class PreparedDocumentImpl extends AbstractDocument implements PreparedDocument {
+    /** Everything is computed at once, so it's safely published to other threads with a single volatile write */
+    private volatile Prepared prepared;
+
+    @Override
+    public void setOperations(List<FragmentOrOperation> operations) {
+        if (prepared != null) {
+            throw new IllegalStateException("a prepared document can't be changed");
+        }
+        List<FragmentOrOperation> copy = List.copyOf(operations);
+        super.setOperations(copy);
+        this.prepared = new Prepared(copy);
+    }
+
+    @Override
+    public String build() {
+        return prepared().query;
+    }
+
+    @Override
+    public String getSha256Hash() {
+        return prepared().sha256Hash;
+    }
+
+    @Override
+    public void validate(Map<String, Object> variables) {
+        Prepared prepared = prepared();
+        if (variables != null) {
+            variables.forEach((name, value) -> {
+                VariableDefinition definition = prepared.variables.get(name);
+                if (definition == null) {
+                    throw new IllegalArgumentException("variable '" + name + "' is not defined in the document");
+                }
+                definition.validate(value);
+            });
+        }
+        for (VariableDefinition definition : prepared.variables.values()) {
+            if (definition.required && (variables == null || variables.get(definition.name) == null)) {
+                throw new IllegalArgumentException("non-null variable '" + definition.name + "' is missing");
+            }
+        }
+    }
+
+    private Prepared prepared() {
+        Prepared prepared = this.prepared;
+        if (prepared == null) {
+            throw new IllegalStateException("the document is not prepared yet");
+        }
+        return prepared;
+    }
+
+    @Override
+    public String toString() {
+        return "PreparedDocument(" + prepared().sha256Hash + ")";
+    }
+
+    private static class Prepared {
+        private final String query;
+        private final String sha256Hash;
+        private final Map<String, VariableDefinition> variables;
+
+        private Prepared(List<FragmentOrOperation> operations) {
+            StringBuilder builder = new StringBuilder();
+            for (FragmentOrOperation operation : operations) {
+                builder.append(operation.build());
+            }
+            this.query = builder.toString().intern();
+            this.sha256Hash = PersistedQueries.sha256(query);
+            this.variables = variables(operations);
+        }
+
+        /**
+         * The variables of all operations; if there are several operations, a variable is only required,
+         * if all of them require it, as only one of them is executed.
+         */
+        private static Map<String, VariableDefinition> variables(List<FragmentOrOperation> operations) {
+            Map<String, VariableDefinition> variables = new HashMap<>();
+            int operationCount = 0;
+            Map<String, Integer> requiredCount = new HashMap<>();
+            for (FragmentOrOperation fragmentOrOperation : operations) {
+                if (!(fragmentOrOperation instanceof Operation)) {
+                    continue;
+                }
+                Operation operation = (Operation) fragmentOrOperation;
+                operationCount++;
+                Set<String> names = new HashSet<>();
+                for (Variable variable : operation.getVariables()) {
+                    if (!names.add(variable.getName())) {
+                        throw new BuildException("variable '" + variable.getName() + "' is defined more than once in "
+                                + "operation '" + operation.getName() + "'");
+                    }
+                    if (variable.getType() == null) {
+                        throw new BuildException("variable '" + variable.getName() + "' has no type");
+                    }
+                    VariableDefinition definition = new VariableDefinition(variable);
+                    variables.putIfAbsent(variable.getName(), definition);
+                    if (definition.required) {
+                        requiredCount.merge(variable.getName(), 1, Integer::sum);
+                    }
+                }
+            }
+            for (VariableDefinition definition : variables.values()) {
+                definition.required = requiredCount.getOrDefault(definition.name, 0) == operationCount;
+            }
+            return Map.copyOf(variables);
+        }
+    }
+
+    private static class VariableDefinition {
+        private final String name;
+        private final VariableType type;
+        private boolean required;
+
+        private VariableDefinition(Variable variable) {
+            this.name = variable.getName();
+            this.type = variable.getType();
+            this.required = type.isNonNull()
+                    && (variable.getDefaultValue() == null || variable.getDefaultValue().isEmpty());
+        }
+
+        void validate(Object value) {
+            validate(type, value);
+        }
+
+        private void validate(VariableType type, Object value) {
+            if (value == null) {
+                if (type.isNonNull()) {
+                    throw new IllegalArgumentException("non-null variable '" + name + "' is null");
+                }
+                return;
+            }
+            if (type.isList()) {
+                if (value instanceof Collection) {
+                    for (Object item : (Collection<?>) value) {
+                        validate(type.getChild(), item);
+                    }
+                } else if (value instanceof Object[]) {
+                    for (Object item : (Object[]) value) {
+                        validate(type.getChild(), item);
+                    }
+                } else if (!value.getClass().isArray()) {
+                    throw mismatch(type, value);
+                }
+                return;
+            }
+            if (!matches(type.getName(), value)) {
+                throw mismatch(type, value);
+            }
+        }
+
+        /** Only the built-in scalars are checked, other types are not known to the client */
+        private static boolean matches(String typeName, Object value) {
+            switch (typeName) {
+                case "Int":
+                    return isIntegral(value);
+                case "Float":
+                    return value instanceof Number;
+                case "String":
+                    return value instanceof CharSequence;
+                case "Boolean":
+                    return value instanceof Boolean;
+                case "ID":
+                    return value instanceof CharSequence || isIntegral(value);
+                default:
+                    return true;
+            }
+        }
+
+        private static boolean isIntegral(Object value) {
+            return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+                    || value instanceof BigInteger;
+        }
+
+        private IllegalArgumentException mismatch(VariableType type, Object value) {
+            return new IllegalArgumentException("variable '" + name + "' of type " + type.build()
+                    + " can't have a value of " + value.getClass().getName());
+        }
+    }
+}
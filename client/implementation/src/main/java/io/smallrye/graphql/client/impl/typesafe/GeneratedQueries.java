@@ -0,0 +1,54 @@
+package io.smallrye.graphql.client.impl.typesafe;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.smallrye.graphql.client.impl.typesafe.reflection.MethodInvocation;
+
+/**
+ * The queries of a typesafe client API that the <code>ClientApiProcessor</code> of the client generator rendered
+ * at compile time, so they don't have to be built with the {@link QueryBuilder} when a method is called first.
+ * For an API without generated queries, or for methods that are not included, the queries are built as before.
+ */
+public class GeneratedQueries {
+    private static final Logger log = Logger.getLogger(GeneratedQueries.class);
+
+    private static final String SUFFIX = "_GraphQLQueries";
+
+    private static final ClassValue<Map<String, String>> QUERIES = new ClassValue<>() {
+        @Override
+        protected Map<String, String> computeValue(Class<?> api) {
+            return load(api);
+        }
+    };
+
+    private GeneratedQueries() {
+    }
+
+    public static Optional<String> query(Class<?> api, MethodInvocation method) {
+        // the generated queries use the parameter names from the source code
+        if (!method.hasParameterNames())
+            return Optional.empty();
+        return Optional.ofNullable(QUERIES.get(api).get(method.getSignature()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> load(Class<?> api) {
+        String className = api.getName() + SUFFIX;
+        try {
+            Class<?> generated = Class.forName(className, true, api.getClassLoader());
+            Map<String, String> queries = ((Supplier<Map<String, String>>) generated.getDeclaredConstructor().newInstance())
+                    .get();
+            log.debugf("using %d generated queries for %s", queries.size(), api.getName());
+            return queries;
+        } catch (ClassNotFoundException e) {
+            return Map.of();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warnf(e, "can't load the generated queries %s", className);
+            return Map.of();
+        }
+    }
+}
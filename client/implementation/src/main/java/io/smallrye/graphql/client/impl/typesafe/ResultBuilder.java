@@ -1,120 +1,225 @@
 package io.smallrye.graphql.client.impl.typesafe;
 
-import static io.smallrye.graphql.client.impl.typesafe.json.JsonUtils.isListOf;
-import static jakarta.json.stream.JsonCollectors.toJsonArray;
-import static java.util.stream.Collectors.joining;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
 
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import jakarta.json.Json;
-import jakarta.json.JsonArray;
-import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonException;
 import jakarta.json.JsonObject;
-import jakarta.json.JsonPatch;
-import jakarta.json.JsonPointer;
-import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+import jakarta.json.stream.JsonParserFactory;
 
 import io.smallrye.graphql.client.GraphQLClientException;
+import io.smallrye.graphql.client.GraphQLError;
 import io.smallrye.graphql.client.InvalidResponseException;
+import io.smallrye.graphql.client.impl.ByteBufferInputStream;
 import io.smallrye.graphql.client.impl.ResponseReader;
-import io.smallrye.graphql.client.impl.typesafe.json.JsonReader;
-import io.smallrye.graphql.client.impl.typesafe.json.JsonUtils;
+import io.smallrye.graphql.client.impl.typesafe.json.JsonStreamReader;
 import io.smallrye.graphql.client.impl.typesafe.reflection.MethodInvocation;
-import io.smallrye.graphql.client.typesafe.api.ErrorOr;
 
+/**
+ * Reads the result of a method from a GraphQL response. The data is bound while it's parsed, and the errors are
+ * applied to the values at their path, e.g. for an {@link io.smallrye.graphql.client.typesafe.api.ErrorOr}.
+ * If the errors come after the data, the data is read again, but only if there actually are errors.
+ */
 public class ResultBuilder {
+    private static final JsonParserFactory PARSERS = Json.createParserFactory(null);
+
     private final MethodInvocation method;
-    private final JsonObject response;
-    private final String responseString;
+    private final Supplier<JsonParser> parsers;
+    private final Supplier<String> responseString;
     private final Integer statusCode;
     private final String statusMessage;
-    private JsonObject data;
+
+    /** <code>null</code> until the errors are read */
+    private List<GraphQLError> errors;
+    /** the errors that the data was read with, but that were not applied (yet) */
+    private Map<List<String>, List<GraphQLError>> unapplied;
+    private boolean dataReadBeforeErrors;
+    private RuntimeException failure;
 
     public ResultBuilder(MethodInvocation method, String responseString) {
         this(method, responseString, null, null);
     }
 
     public ResultBuilder(MethodInvocation method, String responseString, Integer statusCode, String statusMessage) {
+        this(method,
+                (responseString == null) ? null : () -> PARSERS.createParser(new StringReader(responseString)),
+                () -> responseString, statusCode, statusMessage);
+    }
+
+    /**
+     * Read a response that was already parsed, e.g. the payload of a websocket message.
+     */
+    public ResultBuilder(MethodInvocation method, JsonObject response) {
+        this(method, response, null, null);
+    }
+
+    public ResultBuilder(MethodInvocation method, JsonObject response, Integer statusCode, String statusMessage) {
+        this(method, (response == null) ? null : () -> PARSERS.createParser(response), () -> String.valueOf(response),
+                statusCode, statusMessage);
+    }
+
+    /**
+     * Read the response directly from its UTF-8 bytes, e.g. the buffer of an HTTP response body.
+     */
+    public ResultBuilder(MethodInvocation method, ByteBuffer response, Integer statusCode, String statusMessage) {
+        this(method,
+                (response == null) ? null
+                        : () -> PARSERS.createParser(new ByteBufferInputStream(response.duplicate()), UTF_8),
+                () -> (response == null) ? null : UTF_8.decode(response.duplicate()).toString(),
+                statusCode, statusMessage);
+    }
+
+    private ResultBuilder(MethodInvocation method, Supplier<JsonParser> parsers, Supplier<String> responseString,
+            Integer statusCode, String statusMessage) {
         this.method = method;
+        this.parsers = parsers;
+        this.responseString = responseString;
         this.statusCode = statusCode;
         this.statusMessage = statusMessage;
-        this.responseString = responseString;
-        this.response = ResponseReader.parseGraphQLResponse(responseString);
     }
 
     public Object read() {
-        if (response == null) {
-            throw new InvalidResponseException(
-                    "Unexpected response. Code=" + statusCode + ", message=\"" + statusMessage + "\", " +
-                            "body=\"" + responseString + "\"");
+        if (parsers == null)
+            throw unexpectedResponse();
+        Object result;
+        try {
+            result = readResponse();
+        } catch (JsonException e) {
+            throw unexpectedResponse();
+        }
+        List<GraphQLError> unappliedErrors = (errors == null) ? List.of()
+                : errors.stream().filter(this::isUnapplied).collect(toList());
+        if (!unappliedErrors.isEmpty())
+            throw new GraphQLClientException("errors from service", unappliedErrors);
+        if (failure != null)
+            throw failure;
+        return result;
+    }
+
+    private Object readResponse() {
+        Object result = readResponse(true);
+        if (dataReadBeforeErrors) {
+            if (failure != null) // we didn't get to the errors
+                readResponse(false);
+            if (errors != null && !errors.isEmpty()) {
+                failure = null;
+                result = readResponse(true);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Parse the response once. The errors are only read the first time, the data only if <code>withData</code> is set.
+     * A failure to read the data is kept for later, as there may be errors that explain it.
+     */
+    private Object readResponse(boolean withData) {
+        try (JsonParser parser = parsers.get()) {
+            // a GraphQL response is an object with at least one of 'data', 'errors', and 'extensions', but no other keys
+            if (!parser.hasNext() || parser.next() != Event.START_OBJECT)
+                throw unexpectedResponse();
+            Object result = null;
+            int keys = 0;
+            while (parser.next() == Event.KEY_NAME) {
+                String key = parser.getString();
+                Event event = parser.next();
+                keys++;
+                if (!key.equalsIgnoreCase("data") && !key.equalsIgnoreCase("errors") && !key.equalsIgnoreCase("extensions"))
+                    throw unexpectedResponse();
+                if (withData && key.equals("data")) {
+                    dataReadBeforeErrors = (errors == null);
+                    unapplied = byPath(errors);
+                    try {
+                        result = readData(parser, event);
+                    } catch (JsonException e) {
+                        throw e;
+                    } catch (RuntimeException e) {
+                        failure = e;
+                        return null;
+                    }
+                } else if (key.equals("errors") && errors == null) {
+                    errors = readErrors(parser, event);
+                } else {
+                    JsonStreamReader.skip(parser, event);
+                }
+            }
+            if (keys == 0)
+                throw unexpectedResponse();
+            return result;
         }
-        data = readData();
-        readErrors();
-        if (data == null)
-            return null;
-        JsonValue value = method.isSingle() ? data.get(method.getName()) : data;
-        return JsonReader.readJson(method.toString(), method.getReturnType(), value, null);
     }
 
-    private JsonObject readData() {
-        if (!response.containsKey("data") || response.isNull("data"))
+    private Object readData(JsonParser parser, Event event) {
+        if (event == Event.VALUE_NULL)
             return null;
-        JsonObject data = response.getJsonObject("data");
-        if (method.isSingle() && !data.containsKey(method.getName()))
+        if (!method.isSingle())
+            return JsonStreamReader.readJson(method.toString(), method.getReturnType(), parser, event, List.of(), unapplied);
+        if (event != Event.START_OBJECT)
             throw new InvalidResponseException("No data for '" + method.getName() + "'");
-        return data;
+        boolean found = false;
+        Object result = null;
+        while (parser.next() == Event.KEY_NAME) {
+            String key = parser.getString();
+            event = parser.next();
+            if (key.equals(method.getName())) {
+                found = true;
+                result = JsonStreamReader.readJson(method.toString(), method.getReturnType(), parser, event,
+                        List.of(key), unapplied);
+            } else {
+                JsonStreamReader.skip(parser, event);
+            }
+        }
+        if (!found)
+            throw new InvalidResponseException("No data for '" + method.getName() + "'");
+        return result;
     }
 
-    private void readErrors() {
-        if (!response.containsKey("errors") || response.isNull("errors"))
-            return;
-        JsonArray jsonErrors = response.getJsonArray("errors");
-        if (jsonErrors == null)
-            return;
-        JsonArray unapplied = jsonErrors.stream().filter(error -> !apply(error)).collect(toJsonArray());
-        if (unapplied.isEmpty())
-            return;
-        throw new GraphQLClientException("errors from service",
-                unapplied.stream().map(ResponseReader::readError).collect(Collectors.toList()));
+    private List<GraphQLError> readErrors(JsonParser parser, Event event) {
+        if (event == Event.VALUE_NULL)
+            return List.of();
+        if (event != Event.START_ARRAY)
+            throw unexpectedResponse();
+        return JsonStreamReader.readValue(parser, event).asJsonArray().stream()
+                .map(ResponseReader::readError).collect(toList());
     }
 
-    private boolean apply(JsonValue error) {
-        List<Object> path = getPath(error);
-        if (data == null || path == null)
-            return false;
-        JsonPointer pointer = Json.createPointer(path.stream().map(Object::toString).collect(joining("/", "/", "")));
-        if (!exists(pointer))
-            return false;
-        JsonArrayBuilder errors = Json.createArrayBuilder();
-        if (pointer.containsValue(data) && isListOf(pointer.getValue(data), ErrorOr.class.getSimpleName()))
-            pointer.getValue(data).asJsonArray().forEach(errors::add);
-        errors.add(ERROR_MARK.apply((JsonObject) error));
-        this.data = pointer.replace(data, errors.build());
-        return true;
+    private boolean isUnapplied(GraphQLError error) {
+        List<String> path = pathOf(error);
+        return path == null || unapplied == null || unapplied.containsKey(path);
     }
 
-    private boolean exists(JsonPointer pointer) {
-        try {
-            pointer.containsValue(data);
-            return true;
-        } catch (JsonException e) {
-            return false;
+    private static Map<List<String>, List<GraphQLError>> byPath(List<GraphQLError> errors) {
+        Map<List<String>, List<GraphQLError>> map = new HashMap<>();
+        if (errors != null) {
+            for (GraphQLError error : errors) {
+                List<String> path = pathOf(error);
+                if (path != null)
+                    map.computeIfAbsent(path, p -> new ArrayList<>()).add(error);
+            }
         }
+        return map;
     }
 
-    private static List<Object> getPath(JsonValue jsonValue) {
-        JsonValue value = jsonValue.asJsonObject().get("path");
-        JsonArray jsonArray;
-        if (value != null && value.getValueType().equals(JsonValue.ValueType.ARRAY)) {
-            jsonArray = value.asJsonArray();
-        } else {
-            jsonArray = null;
-        }
-        return (jsonArray == null) ? null : jsonArray.stream().map(JsonUtils::toValue).collect(Collectors.toList());
+    private static List<String> pathOf(GraphQLError error) {
+        Object[] path = error.getPath();
+        return (path == null) ? null : Stream.of(path).map(String::valueOf).collect(toList());
     }
 
-    private static final JsonPatch ERROR_MARK = Json.createPatchBuilder().add("/__typename", ErrorOr.class.getSimpleName())
-            .build();
+    private InvalidResponseException unexpectedResponse() {
+        return new InvalidResponseException(
+                "Unexpected response. Code=" + statusCode + ", message=\"" + statusMessage + "\", " +
+                        "body=\"" + responseString.get() + "\"");
+    }
 }
@@ -6,15 +6,15 @@ import io.smallrye.graphql.client.impl.typesafe.reflection.TypeInfo;
 
 class IndexedLocationBuilder {
     private final TypeInfo itemType;
-    private final String baseDescription;
+    private final Location location;
     private final AtomicInteger index = new AtomicInteger();
 
     IndexedLocationBuilder(Location location) {
         this.itemType = location.getType().getItemType();
-        this.baseDescription = location.getDescription();
+        this.location = location;
     }
 
     Location nextLocation() {
-        return new Location(itemType, baseDescription + "[" + index.getAndIncrement() + "]");
+        return location.item(itemType, index.getAndIncrement());
     }
 }
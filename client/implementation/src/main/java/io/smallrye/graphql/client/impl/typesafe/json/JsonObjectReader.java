@@ -42,6 +42,14 @@ class JsonObjectReader extends Reader<JsonObject> {
     }
 
     private Object newInstance(Object[] parameters) {
+        return newInstance(type, location, parameters);
+    }
+
+    private Object newInstance() {
+        return newInstance(new Object[0]);
+    }
+
+    static Object newInstance(TypeInfo type, Location location, Object[] parameters) {
         try {
             return type.newInstance(parameters);
         } catch (Exception e) {
@@ -49,13 +57,9 @@ class JsonObjectReader extends Reader<JsonObject> {
         }
     }
 
-    private Object newInstance() {
-        return newInstance(new Object[0]);
-    }
-
     private Object buildValue(Location location, JsonObject value, FieldInfo field) {
         String fieldName = field.getAlias().orElseGet(field::getName);
-        Location fieldLocation = new Location(field.getType(), location.getDescription() + "." + fieldName);
+        Location fieldLocation = location.field(field.getType(), fieldName);
         JsonValue jsonFieldValue = value.get(fieldName);
         if (jsonFieldValue == null) {
             if (field.isNonNull())
@@ -0,0 +1,199 @@
+package io.smallrye.graphql.client.impl.typesafe.json;
+
+import static io.smallrye.graphql.client.impl.typesafe.json.JsonObjectReader.newInstance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+
+import io.smallrye.graphql.client.GraphQLClientException;
+import io.smallrye.graphql.client.GraphQLError;
+import io.smallrye.graphql.client.InvalidResponseException;
+import io.smallrye.graphql.client.impl.typesafe.reflection.FieldInfo;
+import io.smallrye.graphql.client.impl.typesafe.reflection.TypeInfo;
+import io.smallrye.graphql.client.typesafe.api.ErrorOr;
+
+/**
+ * Reads a value directly from a {@link JsonParser}, so the response doesn't have to be parsed into a tree first.
+ * Objects and arrays are bound while they are parsed; all other values are read with the {@link JsonReader}.
+ * <p>
+ * Errors are applied where their path points to: they are removed from the <code>errors</code> map,
+ * so the ones that are left over couldn't be applied.
+ */
+public class JsonStreamReader {
+    private static final JsonProvider JSON = JsonProvider.provider();
+
+    /**
+     * Read the value the parser has just returned the <code>event</code> for.
+     *
+     * @param path the GraphQL path of the value, for the errors
+     * @param errors the errors by their path; the errors that are applied are removed
+     */
+    public static Object readJson(String description, TypeInfo type, JsonParser parser, Event event,
+            List<String> path, Map<List<String>, List<GraphQLError>> errors) {
+        return new JsonStreamReader(parser, path, errors).read(new Location(type, description), type, event, null);
+    }
+
+    private final JsonParser parser;
+    private final List<String> rootPath;
+    private final Map<List<String>, List<GraphQLError>> errors;
+
+    private JsonStreamReader(JsonParser parser, List<String> rootPath, Map<List<String>, List<GraphQLError>> errors) {
+        this.parser = parser;
+        this.rootPath = rootPath;
+        this.errors = errors;
+    }
+
+    private Object read(Location location, TypeInfo type, Event event, FieldInfo field) {
+        if (type.isOptional())
+            return Optional.ofNullable(read(location, type.getItemType(), event, field));
+        if (type.isAsync())
+            return read(location, type.getItemType(), event, field);
+        List<GraphQLError> applicable = errorsAt(location);
+        if (applicable != null) {
+            skip(event);
+            if (type.isErrorOr())
+                return ErrorOr.ofErrors(applicable);
+            throw new GraphQLClientException(
+                    "errors from service (and we can't apply them to a " + location + "; see ErrorOr)", applicable);
+        }
+        if (type.isErrorOr())
+            return ErrorOr.of(read(location, type.getItemType(), event, field));
+        if (event == Event.START_OBJECT && isObject(type))
+            return readObject(location, type);
+        if (event == Event.START_ARRAY && type.isCollection())
+            return readArray(location, type, field);
+        return JsonReader.readJson(location, type, readValue(parser, event), field);
+    }
+
+    private boolean isObject(TypeInfo type) {
+        return !type.isCollection() && !type.isScalar() && !Map.class.equals(type.getRawType());
+    }
+
+    private Object readObject(Location location, TypeInfo type) {
+        List<FieldInfo> fields = type.getFields();
+        Object[] values = new Object[fields.size()];
+        boolean[] present = new boolean[fields.size()];
+        int next = 0;
+        while (parser.next() == Event.KEY_NAME) {
+            String name = parser.getString();
+            Event event = parser.next();
+            // the fields are normally returned in the order they were requested
+            int i = indexOf(fields, name, next);
+            if (i < 0) {
+                skip(event);
+                continue;
+            }
+            FieldInfo field = fields.get(i);
+            values[i] = read(location.field(field.getType(), name), field.getType(), event, field);
+            present[i] = true;
+            next = i + 1;
+        }
+        for (int i = 0; i < fields.size(); i++) {
+            FieldInfo field = fields.get(i);
+            if (!present[i] && field.isNonNull())
+                throw new InvalidResponseException("missing " + location.field(field.getType(), nameOf(field)));
+        }
+        if (type.isRecord())
+            return newInstance(type, location, values);
+        Object instance = newInstance(type, location, new Object[0]);
+        for (int i = 0; i < fields.size(); i++)
+            fields.get(i).set(instance, values[i]);
+        return instance;
+    }
+
+    private static int indexOf(List<FieldInfo> fields, String name, int start) {
+        for (int n = 0; n < fields.size(); n++) {
+            int i = (start + n) % fields.size();
+            if (name.equals(nameOf(fields.get(i))))
+                return i;
+        }
+        return -1;
+    }
+
+    private static String nameOf(FieldInfo field) {
+        return field.getAlias().orElseGet(field::getName);
+    }
+
+    private Object readArray(Location location, TypeInfo type, FieldInfo field) {
+        TypeInfo itemType = type.getItemType();
+        List<Object> items = new ArrayList<>();
+        Event event;
+        while ((event = parser.next()) != Event.END_ARRAY) {
+            Location itemLocation = location.item(itemType, items.size());
+            if (event == Event.VALUE_NULL && itemType.isNonNull() && !hasErrorsAt(itemLocation))
+                throw new InvalidResponseException("invalid null " + itemLocation);
+            items.add(read(itemLocation, itemType, event, field));
+        }
+        return items.stream().collect(JsonArrayReader.collector(type.getRawType(), itemType));
+    }
+
+    private void skip(Event event) {
+        skip(parser, event);
+    }
+
+    /**
+     * Read the value the parser has just returned the <code>event</code> for.
+     * Not all parsers support {@link JsonParser#getValue()}, e.g. not those parsing a {@link JsonObject}.
+     */
+    public static JsonValue readValue(JsonParser parser, Event event) {
+        switch (event) {
+            case START_OBJECT:
+                JsonObjectBuilder object = JSON.createObjectBuilder();
+                while (parser.next() == Event.KEY_NAME) {
+                    String name = parser.getString();
+                    object.add(name, readValue(parser, parser.next()));
+                }
+                return object.build();
+            case START_ARRAY:
+                JsonArrayBuilder array = JSON.createArrayBuilder();
+                Event item;
+                while ((item = parser.next()) != Event.END_ARRAY)
+                    array.add(readValue(parser, item));
+                return array.build();
+            case VALUE_STRING:
+                return JSON.createValue(parser.getString());
+            case VALUE_NUMBER:
+                return JSON.createValue(parser.getBigDecimal());
+            case VALUE_TRUE:
+                return JsonValue.TRUE;
+            case VALUE_FALSE:
+                return JsonValue.FALSE;
+            case VALUE_NULL:
+                return JsonValue.NULL;
+            default:
+                throw new IllegalStateException("expected a value but got " + event);
+        }
+    }
+
+    /** Skip the value the parser has just returned the <code>event</code> for */
+    public static void skip(JsonParser parser, Event event) {
+        if (event == Event.START_OBJECT)
+            parser.skipObject();
+        else if (event == Event.START_ARRAY)
+            parser.skipArray();
+    }
+
+    private boolean hasErrorsAt(Location location) {
+        return !errors.isEmpty() && errors.containsKey(path(location));
+    }
+
+    private List<GraphQLError> errorsAt(Location location) {
+        return errors.isEmpty() ? null : errors.remove(path(location));
+    }
+
+    private List<String> path(Location location) {
+        List<String> path = new ArrayList<>(rootPath);
+        location.appendPath(path);
+        return path;
+    }
+}
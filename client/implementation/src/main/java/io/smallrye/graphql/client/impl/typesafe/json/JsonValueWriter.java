@@ -0,0 +1,137 @@
+package io.smallrye.graphql.client.impl.typesafe.json;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+
+import jakarta.json.stream.JsonGenerator;
+
+import io.smallrye.graphql.client.impl.typesafe.reflection.FieldInfo;
+import io.smallrye.graphql.client.impl.typesafe.reflection.TypeInfo;
+
+/**
+ * Writes the values of variables directly with a {@link JsonGenerator}, instead of building a tree of
+ * {@link jakarta.json.JsonValue}s first. How a class is written, and the fields of input types,
+ * are looked up only once per class.
+ */
+public class JsonValueWriter {
+    private enum Kind {
+        SCALAR,
+        COLLECTION,
+        MAP,
+        OBJECT
+    }
+
+    private static final ClassValue<Kind> KINDS = new ClassValue<>() {
+        @Override
+        protected Kind computeValue(Class<?> type) {
+            TypeInfo typeInfo = TypeInfo.of(type);
+            if (typeInfo.isScalar())
+                return Kind.SCALAR;
+            if (typeInfo.isCollection())
+                return Kind.COLLECTION;
+            if (typeInfo.isMap())
+                return Kind.MAP;
+            return Kind.OBJECT;
+        }
+    };
+
+    private static final ClassValue<FieldInfo[]> FIELDS = new ClassValue<>() {
+        @Override
+        protected FieldInfo[] computeValue(Class<?> type) {
+            return TypeInfo.of(type).getFields().toArray(new FieldInfo[0]);
+        }
+    };
+
+    private JsonValueWriter() {
+    }
+
+    /** Write the value, e.g. after the key in an object, or as an item of an array */
+    public static void write(JsonGenerator out, Object value) {
+        if (value == null) {
+            out.writeNull();
+            return;
+        }
+        switch (KINDS.get(value.getClass())) {
+            case SCALAR:
+                writeScalar(out, value);
+                break;
+            case COLLECTION:
+                writeCollection(out, value);
+                break;
+            case MAP:
+                writeMap(out, (Map<?, ?>) value);
+                break;
+            default:
+                writeObject(out, value);
+        }
+    }
+
+    private static void writeScalar(JsonGenerator out, Object value) {
+        if (value instanceof String) {
+            out.write((String) value);
+        } else if (value instanceof Date) {
+            out.write(((Date) value).toInstant().toString());
+        } else if (value instanceof Enum) {
+            out.write(((Enum<?>) value).name());
+        } else if (value instanceof Boolean) {
+            out.write((Boolean) value);
+        } else if (value instanceof Byte || value instanceof Short || value instanceof Integer) {
+            out.write(((Number) value).intValue());
+        } else if (value instanceof Long) {
+            out.write((Long) value);
+        } else if (value instanceof Double || value instanceof Float) {
+            // the same as a JsonNumber created from the double
+            out.write(BigDecimal.valueOf(((Number) value).doubleValue()));
+        } else if (value instanceof BigInteger) {
+            out.write((BigInteger) value);
+        } else if (value instanceof BigDecimal) {
+            out.write((BigDecimal) value);
+        } else {
+            out.write(value.toString());
+        }
+    }
+
+    private static void writeCollection(JsonGenerator out, Object value) {
+        out.writeStartArray();
+        if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            for (int i = 0; i < length; i++) {
+                write(out, Array.get(value, i));
+            }
+        } else {
+            for (Object item : (Collection<?>) value) {
+                write(out, item);
+            }
+        }
+        out.writeEnd();
+    }
+
+    private static void writeMap(JsonGenerator out, Map<?, ?> map) {
+        out.writeStartArray();
+        map.forEach((key, value) -> {
+            out.writeStartObject();
+            out.writeKey("key");
+            write(out, key);
+            out.writeKey("value");
+            write(out, value);
+            out.writeEnd();
+        });
+        out.writeEnd();
+    }
+
+    private static void writeObject(JsonGenerator out, Object object) {
+        out.writeStartObject();
+        for (FieldInfo field : FIELDS.get(object.getClass())) {
+            Object value = field.get(object);
+            if (value != null || field.isIncludeNull()) {
+                out.writeKey(field.getName());
+                write(out, value);
+            }
+        }
+        out.writeEnd();
+    }
+}
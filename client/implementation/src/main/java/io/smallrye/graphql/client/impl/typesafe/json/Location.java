@@ -1,19 +1,53 @@
 package io.smallrye.graphql.client.impl.typesafe.json;
 
+import java.util.List;
+
 import io.smallrye.graphql.client.impl.typesafe.reflection.TypeInfo;
 
+/**
+ * Where a value is in the response, for error messages. The description is only built when it's needed, as most
+ * responses are read without any error.
+ */
 class Location {
     private final TypeInfo type;
-    private final String description;
+    private final Location parent;
+    private final String name; // the field name, or null for an index
+    private final int index;
+    private String description;
 
     public Location(TypeInfo type, String description) {
-        this.type = type;
+        this(type, null, null, -1);
         this.description = description;
     }
 
+    private Location(TypeInfo type, Location parent, String name, int index) {
+        this.type = type;
+        this.parent = parent;
+        this.name = name;
+        this.index = index;
+    }
+
+    /** The location of a field of the object at this location */
+    Location field(TypeInfo fieldType, String fieldName) {
+        return new Location(fieldType, this, fieldName, -1);
+    }
+
+    /** The location of an item of the array at this location */
+    Location item(TypeInfo itemType, int itemIndex) {
+        return new Location(itemType, this, null, itemIndex);
+    }
+
+    /** Add the GraphQL path segments of this location (below the root) to the path */
+    void appendPath(List<String> path) {
+        if (parent == null)
+            return;
+        parent.appendPath(path);
+        path.add((name == null) ? Integer.toString(index) : name);
+    }
+
     @Override
     public String toString() {
-        return type.getTypeName() + " value for " + description;
+        return type.getTypeName() + " value for " + getDescription();
     }
 
     public TypeInfo getType() {
@@ -21,6 +55,11 @@ class Location {
     }
 
     public String getDescription() {
+        if (description == null) {
+            description = (name == null)
+                    ? parent.getDescription() + "[" + index + "]"
+                    : parent.getDescription() + "." + name;
+        }
         return this.description;
     }
 }
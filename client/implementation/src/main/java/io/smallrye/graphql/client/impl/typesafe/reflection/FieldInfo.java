@@ -1,6 +1,9 @@
 package io.smallrye.graphql.client.impl.typesafe.reflection;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Arrays;
@@ -16,6 +19,10 @@ public class FieldInfo {
     private final Field field;
     private final boolean includeIfNull;
     private final String name;
+    private final Optional<String> alias;
+    private TypeInfo type;
+    private MethodHandle getter;
+    private MethodHandle setter;
 
     private static final String JSONB_PROPERTY = "jakarta.json.bind.annotation.JsonbProperty";
     private static final String JACKSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
@@ -30,6 +37,7 @@ public class FieldInfo {
             includeIfNull = false;
         }
         this.name = computeName();
+        this.alias = field.isAnnotationPresent(Name.class) ? Optional.of(getRawName()) : Optional.empty();
     }
 
     @Override
@@ -38,7 +46,9 @@ public class FieldInfo {
     }
 
     public TypeInfo getType() {
-        return new TypeInfo(container, field.getGenericType());
+        if (type == null)
+            type = new TypeInfo(container, field.getGenericType());
+        return type;
     }
 
     public String getName() {
@@ -82,9 +92,7 @@ public class FieldInfo {
 
     /** If the field is renamed with a {@link Name} annotation, the real field name is used as an alias. */
     public Optional<String> getAlias() {
-        if (field.isAnnotationPresent(Name.class))
-            return Optional.of(getRawName());
-        return Optional.empty();
+        return alias;
     }
 
     public <T extends Annotation> T getAnnotation(Class<T> annotationClass) {
@@ -93,23 +101,44 @@ public class FieldInfo {
 
     public Object get(Object instance) {
         try {
-            field.setAccessible(true);
-            return field.get(instance);
-        } catch (ReflectiveOperationException e) {
+            return getter().invokeExact(instance);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
             throw new RuntimeException("can't get field " + this, e); // TODO test with static?
         }
     }
 
+    /** Like the {@link #setter()}, e.g. for every input object in a large list of variables */
+    private MethodHandle getter() throws IllegalAccessException {
+        if (getter == null) {
+            field.setAccessible(true);
+            getter = MethodHandles.lookup().unreflectGetter(field)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+        }
+        return getter;
+    }
+
     public void set(Object instance, Object value) {
         try {
-            field.setAccessible(true);
-            field.set(instance, value);
-        } catch (ReflectiveOperationException e) {
-            // this code is unreachable: setAccessible also allows to change `final` fields
+            setter().invokeExact(instance, value);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
             throw new RuntimeException("can't set field " + this + " to " + value, e); // TODO test with static
         }
     }
 
+    /** Setting the field through a method handle is much cheaper than through reflection, when it's done often */
+    private MethodHandle setter() throws IllegalAccessException {
+        if (setter == null) {
+            field.setAccessible(true);
+            setter = MethodHandles.lookup().unreflectSetter(field)
+                    .asType(MethodType.methodType(void.class, Object.class, Object.class));
+        }
+        return setter;
+    }
+
     public boolean isNonNull() {
         return field.isAnnotationPresent(NonNull.class) || getType().isPrimitive();
     }
@@ -1,5 +1,6 @@
 package io.smallrye.graphql.client.impl.typesafe.reflection;
 
+import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 
 import java.io.Closeable;
@@ -11,8 +12,10 @@ import java.lang.reflect.Modifier;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -28,6 +31,17 @@ import io.smallrye.graphql.client.core.OperationType;
 import io.smallrye.graphql.client.typesafe.api.Multiple;
 
 public class MethodInvocation {
+    /**
+     * The return types of the methods of each API, kept for the life of the API class. They cache all they need to read
+     * the responses, so that is done only once, not for every call.
+     */
+    private static final ClassValue<Map<Method, TypeInfo>> RETURN_TYPES = new ClassValue<>() {
+        @Override
+        protected Map<Method, TypeInfo> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     public static MethodInvocation of(Method method, Object... args) {
         return new MethodInvocation(new TypeInfo(null, method.getDeclaringClass()), method, args);
     }
@@ -52,6 +66,13 @@ public class MethodInvocation {
         return method.toGenericString();
     }
 
+    /** The name and the parameter types, e.g. <code>heroesIn(java.lang.String)</code> */
+    public String getSignature() {
+        return Stream.of(method.getParameterTypes())
+                .map(Class::getTypeName)
+                .collect(joining(",", method.getName() + "(", ")"));
+    }
+
     public OperationType getOperationType() {
         if (method.isAnnotationPresent(Mutation.class)) {
             return OperationType.MUTATION;
@@ -105,7 +126,8 @@ public class MethodInvocation {
     }
 
     public TypeInfo getReturnType() {
-        return new TypeInfo(type, method.getGenericReturnType(), method.getAnnotatedReturnType());
+        return RETURN_TYPES.get(method.getDeclaringClass()).computeIfAbsent(method,
+                m -> new TypeInfo(type, m.getGenericReturnType(), m.getAnnotatedReturnType()));
     }
 
     public boolean hasValueParameters() {
@@ -116,6 +138,10 @@ public class MethodInvocation {
         return rootParameters().findAny().isPresent();
     }
 
+    public boolean hasParameterNames() {
+        return valueParameters().allMatch(ParameterInfo::isNamePresent);
+    }
+
     public Stream<ParameterInfo> headerParameters() {
         return parameters().filter(ParameterInfo::isHeaderParameter);
     }
@@ -135,6 +135,10 @@ public class ParameterInfo {
         return getRawName();
     }
 
+    public boolean isNamePresent() {
+        return parameter.isNamePresent();
+    }
+
     public String getRawName() {
         return parameter.getName();
     }
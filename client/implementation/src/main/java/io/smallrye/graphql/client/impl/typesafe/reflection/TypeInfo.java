@@ -5,6 +5,9 @@ import static java.lang.reflect.Modifier.isTransient;
 import static java.util.Objects.requireNonNull;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AnnotatedParameterizedType;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Constructor;
@@ -21,9 +24,11 @@ import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.Stream.Builder;
 
@@ -45,6 +50,11 @@ public class TypeInfo {
     private TypeInfo keyType; // if `this` represents a map, this field denotes the type of the map's keys
     private TypeInfo valueType; // if `this` represents a map, this field denotes the type of the map's values
     private Class<?> rawType;
+    // these are computed once, as reading a response needs them for every object;
+    // they are immutable, as a TypeInfo can be shared by all threads
+    private volatile List<FieldInfo> fields;
+    private volatile Boolean scalar;
+    private volatile ConstructorHandle constructor;
 
     public static TypeInfo of(Type type) {
         return new TypeInfo(null, type);
@@ -136,7 +146,13 @@ public class TypeInfo {
     }
 
     public Stream<FieldInfo> fields() {
-        return fields(getRawType());
+        return getFields().stream();
+    }
+
+    public List<FieldInfo> getFields() {
+        if (fields == null)
+            fields = List.copyOf(fields(getRawType()).collect(Collectors.toList()));
+        return fields;
     }
 
     private Stream<FieldInfo> fields(Class<?> rawType) {
@@ -179,6 +195,12 @@ public class TypeInfo {
     }
 
     public boolean isScalar() {
+        if (scalar == null)
+            scalar = computeScalar();
+        return scalar;
+    }
+
+    private boolean computeScalar() {
         return isPrimitive()
                 || Number.class.isAssignableFrom(getRawType())
                 || Boolean.class.isAssignableFrom(getRawType())
@@ -229,29 +251,37 @@ public class TypeInfo {
 
     public Object newInstance(Object[] args) {
         try {
-            if (args.length == 0) {
-                Constructor<?> noArgsConstructor = getDeclaredConstructor(getRawType());
-                noArgsConstructor.setAccessible(true);
-                return noArgsConstructor.newInstance();
-            } else {
-                Class<?> rawType = getRawType();
-                Optional<Constructor<?>> constructor = Arrays.stream(rawType.getDeclaredConstructors())
-                        .filter(c -> !c.getDeclaringClass().equals(Class.class))
-                        .filter(c -> c.getParameterCount() == args.length)
-                        .findAny();
-                if (constructor.isPresent()) {
-                    Constructor<?> c = constructor.get();
-                    c.setAccessible(true);
-                    return c.newInstance(args);
-                } else {
-                    throw new RuntimeException("Could not find a suitable constructor of type " + type);
-                }
+            ConstructorHandle handle = constructor;
+            if (handle == null || handle.arity != args.length) {
+                handle = new ConstructorHandle(args.length, constructorHandle(args.length));
+                constructor = handle;
             }
-        } catch (ReflectiveOperationException e) {
+            return handle.handle.invokeExact(args);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
             throw new RuntimeException("can't instantiate " + type, e);
         }
     }
 
+    /** A handle that takes the constructor arguments as an Object[], so it can be called without reflection */
+    private MethodHandle constructorHandle(int arity) throws ReflectiveOperationException {
+        Constructor<?> c;
+        if (arity == 0) {
+            c = getDeclaredConstructor(getRawType());
+        } else {
+            c = Arrays.stream(getRawType().getDeclaredConstructors())
+                    .filter(candidate -> !candidate.getDeclaringClass().equals(Class.class))
+                    .filter(candidate -> candidate.getParameterCount() == arity)
+                    .findAny()
+                    .orElseThrow(() -> new RuntimeException("Could not find a suitable constructor of type " + type));
+        }
+        c.setAccessible(true);
+        return MethodHandles.lookup().unreflectConstructor(c)
+                .asType(MethodType.genericMethodType(arity))
+                .asSpreader(Object[].class, arity);
+    }
+
     private Constructor<?> getDeclaredConstructor(Class<?> type) throws NoSuchMethodException {
         return getDeclaredConstructor(type, new Class[0]);
     }
@@ -392,4 +422,15 @@ public class TypeInfo {
     public <T extends Annotation> T getAnnotation(Class<T> type) {
         return ((Class<?>) this.type).getAnnotation(type);
     }
+
+    /** The constructor handle together with its arity, so they are read and written as one */
+    private static class ConstructorHandle {
+        private final int arity;
+        private final MethodHandle handle;
+
+        private ConstructorHandle(int arity, MethodHandle handle) {
+            this.arity = arity;
+            this.handle = handle;
+        }
+    }
 }
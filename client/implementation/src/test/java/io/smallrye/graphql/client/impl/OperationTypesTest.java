@@ -0,0 +1,50 @@
+package io.smallrye.graphql.client.impl;
+
+import static io.smallrye.graphql.client.core.OperationType.MUTATION;
+import static io.smallrye.graphql.client.core.OperationType.QUERY;
+import static io.smallrye.graphql.client.core.OperationType.SUBSCRIPTION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+public class OperationTypesTest {
+
+    @Test
+    public void shouldFindTheTypeOfASingleOperation() {
+        assertEquals(QUERY, OperationTypes.of("{ heroes { name } }", null));
+        assertEquals(QUERY, OperationTypes.of("query { heroes { name } }", null));
+        assertEquals(QUERY, OperationTypes.of("query Heroes($where: String = \"{\") { heroes(where: $where) }", null));
+        assertEquals(MUTATION, OperationTypes.of("  # a comment\n mutation Add { add(name: \"query\") { id } }", null));
+        assertEquals(SUBSCRIPTION, OperationTypes.of("subscription{ticks}", ""));
+    }
+
+    @Test
+    public void shouldNotBeFooledByNamesOrValues() {
+        // neither a field called mutation, nor a string with subscription makes this anything else than a query
+        assertEquals(QUERY, OperationTypes.of("query { mutation subscription(x: \"subscription {\") }", null));
+        assertEquals(QUERY, OperationTypes.of("query ($in: In = {a: \"}\", b: [1, 2]}) { find(in: $in) { id } }", null));
+        assertEquals(QUERY, OperationTypes.of("query { find(text: \"\"\"mutation \\\"\"\" }\"\"\") }", null));
+    }
+
+    @Test
+    public void shouldSelectTheOperationByName() {
+        String document = "query Get { hero { ...Name } } "
+                + "fragment Name on Hero { name } "
+                + "mutation Rename { rename { ...Name } }";
+
+        assertEquals(QUERY, OperationTypes.of(document, "Get"));
+        assertEquals(MUTATION, OperationTypes.of(document, "Rename"));
+        assertNull(OperationTypes.of(document, "Other"));
+        assertNull(OperationTypes.of(document, null));
+    }
+
+    @Test
+    public void shouldNotGuessOnInvalidDocuments() {
+        assertNull(OperationTypes.of("", null));
+        assertNull(OperationTypes.of("query { heroes { name }", null));
+        assertNull(OperationTypes.of("query { heroes(name: \"x) }", null));
+        assertNull(OperationTypes.of("type Query { heroes: [Hero] }", null));
+        assertNull(OperationTypes.of("} query { heroes }", null));
+    }
+}
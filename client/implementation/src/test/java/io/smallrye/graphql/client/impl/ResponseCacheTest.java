@@ -0,0 +1,119 @@
+package io.smallrye.graphql.client.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+public class ResponseCacheTest {
+
+    /** a response with a body and an optional Cache-Control header */
+    static class Response {
+        final String body;
+        final String cacheControl;
+
+        Response(String body, String cacheControl) {
+            this.body = body;
+            this.cacheControl = cacheControl;
+        }
+    }
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger fetches = new AtomicInteger();
+    private final ResponseCache<Response> cache = new ResponseCache<>(2,
+            response -> !response.body.startsWith("error"), response -> response.cacheControl, now::get);
+
+    private String get(String key, Duration ttl, Duration staleWhileRevalidate, String cacheControl) {
+        return cache.get(key, ttl, staleWhileRevalidate, () -> fetch(cacheControl))
+                .toCompletableFuture().join().body;
+    }
+
+    private CompletionStage<Response> fetch(String cacheControl) {
+        return CompletableFuture.completedFuture(new Response("response " + fetches.incrementAndGet(), cacheControl));
+    }
+
+    @Test
+    public void shouldCacheForTheTimeToLive() {
+        assertEquals("response 1", get("a", Duration.ofSeconds(10), null, null));
+        now.set(9_999);
+        assertEquals("response 1", get("a", Duration.ofSeconds(10), null, null));
+        now.set(10_000);
+        assertEquals("response 2", get("a", Duration.ofSeconds(10), null, null));
+    }
+
+    @Test
+    public void shouldNotCacheWithoutTimeToLive() {
+        assertEquals("response 1", get("a", null, null, null));
+        assertEquals("response 2", get("a", null, null, null));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldNotCacheUncacheableResponses() {
+        ResponseCache<Response> errors = new ResponseCache<>(2, response -> false, response -> null, now::get);
+
+        errors.get("a", Duration.ofSeconds(10), null, () -> fetch(null));
+        errors.get("a", Duration.ofSeconds(10), null, () -> fetch(null));
+
+        assertEquals(2, fetches.get());
+        assertEquals(0, errors.size());
+    }
+
+    @Test
+    public void shouldUseMaxAgeWithoutTimeToLive() {
+        assertEquals("response 1", get("a", null, null, "public, max-age=5"));
+        now.set(4_999);
+        assertEquals("response 1", get("a", null, null, "public, max-age=5"));
+        now.set(5_000);
+        assertEquals("response 2", get("a", null, null, "public, max-age=5"));
+    }
+
+    @Test
+    public void shouldLimitTimeToLiveToMaxAge() {
+        assertEquals("response 1", get("a", Duration.ofSeconds(60), null, "max-age=5"));
+        now.set(5_000);
+        assertEquals("response 2", get("a", Duration.ofSeconds(60), null, "max-age=5"));
+    }
+
+    @Test
+    public void shouldNotStoreWithNoStore() {
+        assertEquals("response 1", get("a", Duration.ofSeconds(60), null, "no-store"));
+        assertEquals("response 2", get("a", Duration.ofSeconds(60), null, "No-Cache"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldServeStaleWhileRevalidating() {
+        assertEquals("response 1", get("a", Duration.ofSeconds(10), Duration.ofSeconds(5), null));
+        now.set(12_000);
+        assertEquals("response 1", get("a", Duration.ofSeconds(10), Duration.ofSeconds(5), null));
+        assertEquals(2, fetches.get());
+        assertEquals("response 2", get("a", Duration.ofSeconds(10), Duration.ofSeconds(5), null));
+        now.set(27_000);
+        assertEquals("response 3", get("a", Duration.ofSeconds(10), Duration.ofSeconds(5), null));
+    }
+
+    @Test
+    public void shouldUseStaleWhileRevalidateOfTheResponse() {
+        assertEquals("response 1", get("a", Duration.ofSeconds(10), null, "stale-while-revalidate=5"));
+        now.set(14_000);
+        assertEquals("response 1", get("a", Duration.ofSeconds(10), null, "stale-while-revalidate=5"));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsed() {
+        get("a", Duration.ofSeconds(10), null, null);
+        get("b", Duration.ofSeconds(10), null, null);
+        get("a", Duration.ofSeconds(10), null, null);
+        get("c", Duration.ofSeconds(10), null, null);
+
+        assertEquals(2, cache.size());
+        assertEquals("response 1", get("a", Duration.ofSeconds(10), null, null));
+        assertEquals("response 4", get("b", Duration.ofSeconds(10), null, null));
+    }
+}
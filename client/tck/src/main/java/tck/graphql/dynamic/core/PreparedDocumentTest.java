@@ -0,0 +1,111 @@
+package tck.graphql.dynamic.core;
+
+import static io.smallrye.graphql.client.core.Argument.arg;
+import static io.smallrye.graphql.client.core.Argument.args;
+import static io.smallrye.graphql.client.core.Document.document;
+import static io.smallrye.graphql.client.core.Field.field;
+import static io.smallrye.graphql.client.core.Operation.operation;
+import static io.smallrye.graphql.client.core.OperationType.QUERY;
+import static io.smallrye.graphql.client.core.ScalarType.GQL_INT;
+import static io.smallrye.graphql.client.core.ScalarType.GQL_STRING;
+import static io.smallrye.graphql.client.core.Variable.var;
+import static io.smallrye.graphql.client.core.Variable.vars;
+import static io.smallrye.graphql.client.core.VariableType.list;
+import static io.smallrye.graphql.client.core.VariableType.nonNull;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.graphql.client.core.Document;
+import io.smallrye.graphql.client.core.PreparedDocument;
+import io.smallrye.graphql.client.core.Variable;
+import io.smallrye.graphql.client.core.exceptions.BuildException;
+
+public class PreparedDocumentTest {
+    private final Variable name = var("name", nonNull(GQL_STRING));
+    private final Variable count = var("count", GQL_INT);
+    private final Variable tags = var("tags", list(nonNull(GQL_STRING)));
+
+    private final Document document = document(
+            operation(QUERY, "hello",
+                    vars(name, count, tags),
+                    field("helloYou", args(arg("name", name), arg("count", count), arg("tags", tags)))));
+
+    @Test
+    public void shouldRenderOnlyOnce() {
+        PreparedDocument prepared = PreparedDocument.prepare(document);
+
+        then(prepared.build()).isEqualTo(document.build());
+        then(prepared.build()).isSameAs(prepared.build());
+        then(prepared.getSha256Hash()).hasSize(64).isEqualTo(PreparedDocument.prepare(document).getSha256Hash());
+    }
+
+    @Test
+    public void shouldNotBeChangeable() {
+        PreparedDocument prepared = PreparedDocument.prepare(document);
+
+        Throwable thrown = catchThrowable(() -> prepared.setOperations(List.of()));
+
+        then(thrown).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void shouldFailToPrepareDuplicateVariables() {
+        Document duplicate = document(operation(QUERY, vars(name, var("name", GQL_INT)), field("helloYou")));
+
+        Throwable thrown = catchThrowable(() -> PreparedDocument.prepare(duplicate));
+
+        then(thrown).isInstanceOf(BuildException.class).hasMessageContaining("'name'");
+    }
+
+    @Test
+    public void shouldAcceptMatchingVariables() {
+        PreparedDocument prepared = PreparedDocument.prepare(document);
+
+        prepared.validate(Map.of("name", "foo"));
+        prepared.validate(Map.of("name", "foo", "count", 3L, "tags", List.of("a", "b")));
+        prepared.validate(Map.of("name", "foo", "tags", new String[] { "a" }));
+    }
+
+    @Test
+    public void shouldRejectMissingNonNullVariable() {
+        PreparedDocument prepared = PreparedDocument.prepare(document);
+
+        Throwable thrown = catchThrowable(() -> prepared.validate(Map.of("count", 3)));
+
+        then(thrown).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("'name'");
+    }
+
+    @Test
+    public void shouldRejectUndefinedVariable() {
+        PreparedDocument prepared = PreparedDocument.prepare(document);
+
+        Throwable thrown = catchThrowable(() -> prepared.validate(Map.of("name", "foo", "other", 1)));
+
+        then(thrown).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("'other'");
+    }
+
+    @Test
+    public void shouldRejectMismatchingScalar() {
+        PreparedDocument prepared = PreparedDocument.prepare(document);
+
+        Throwable thrown = catchThrowable(() -> prepared.validate(Map.of("name", "foo", "count", "three")));
+
+        then(thrown).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("variable 'count' of type Int can't have a value of java.lang.String");
+    }
+
+    @Test
+    public void shouldRejectNullListItem() {
+        PreparedDocument prepared = PreparedDocument.prepare(document);
+
+        Throwable thrown = catchThrowable(() -> prepared.validate(Map.of("name", "foo", "tags", asList("a", null))));
+
+        then(thrown).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("'tags'");
+    }
+}
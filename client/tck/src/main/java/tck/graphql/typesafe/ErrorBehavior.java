@@ -489,6 +489,28 @@ class ErrorBehavior {
                 .hasErrorCode("team-search-disabled");
     }
 
+    @Test
+    void shouldFetchErrorOrInListWithErrorsBeforeData() {
+        fixture.returns("{" +
+                "\"errors\":[{" +
+                /**/"\"message\":\"can't find hero\"," +
+                /**/"\"path\": [\"find\",\"superHeroes\",1],\n" +
+                /**/"\"extensions\":{\"code\":\"hero-not-found\"}" +
+                "}]," +
+                "\"data\":{\"find\":{\"superHeroes\":[{\"name\":\"Wolverine\"},null],\"teams\":[{\"name\":\"X-Men\"}]}}}");
+        SuperHeroWrappedApi api = fixture.build(SuperHeroWrappedApi.class);
+
+        Wrapper response = api.find();
+
+        then(response.superHeroes).hasSize(2);
+        then(response.superHeroes.get(0).get().name).isEqualTo("Wolverine");
+        then(response.superHeroes.get(1)).hasExactlyOneErrorWhich()
+                .hasMessage("can't find hero")
+                .hasPath("find", "superHeroes", 1)
+                .hasErrorCode("hero-not-found");
+        then(response.teams.get().get(0).name).isEqualTo("X-Men");
+    }
+
     @GraphQLClientApi
     interface OrderApi {
         @SuppressWarnings("UnusedReturnValue")
@@ -761,6 +761,23 @@ class NestedBehavior {
         then(thrown).hasMessage("missing java.lang.String value for " + MissingNonNullFieldApi.class.getName() + "#call.bar");
     }
 
+    @GraphQLClientApi
+    interface MissingNonNullFieldInListApi {
+        @SuppressWarnings("UnusedReturnValue")
+        List<MissingNonNullField> call();
+    }
+
+    @Test
+    void shouldFailToSetMissingNonNullFieldInList() {
+        fixture.returnsData("'call':[{'foo':'a','bar':'b'},{'foo':'c'}]");
+        MissingNonNullFieldInListApi api = fixture.build(MissingNonNullFieldInListApi.class);
+
+        InvalidResponseException thrown = catchThrowableOfType(api::call, InvalidResponseException.class);
+
+        then(thrown).hasMessage(
+                "missing java.lang.String value for " + MissingNonNullFieldInListApi.class.getName() + "#call[1].bar");
+    }
+
     @GraphQLClientApi
     interface MissingPrimitiveFieldApi {
         @SuppressWarnings("UnusedReturnValue")
@@ -0,0 +1,250 @@
+package io.smallrye.graphql.schema;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+import org.jboss.jandex.JarIndexer;
+import org.jboss.logging.Logger;
+
+/**
+ * Caches the Jandex indexes of jars on disk, keyed by the checksum of the jar.
+ * <p>
+ * This is used by the Maven and Gradle plugins in incremental mode. Jars that did not change since the last build are
+ * read from the cache, and the others are indexed in parallel. The plugins also use the composite hash over all inputs
+ * to skip generating the schema altogether if nothing changed.
+ */
+public class IndexCache {
+    private static final Logger LOG = Logger.getLogger(IndexCache.class.getName());
+
+    private static final String INDEX_EXTENSION = ".idx";
+    private static final String CHECKSUMS_FILE = "checksums.properties";
+    private static final String HASH_FILE = "schema.sha256";
+    private static final String CLASS_EXTENSION = ".class";
+
+    private final Path directory;
+    private final Properties checksums = new Properties();
+    private final Map<File, String> jarChecksums = new ConcurrentHashMap<>();
+
+    public IndexCache(Path directory) {
+        this.directory = directory;
+        Path checksumsFile = directory.resolve(CHECKSUMS_FILE);
+        if (Files.isRegularFile(checksumsFile)) {
+            try (InputStream in = Files.newInputStream(checksumsFile)) {
+                checksums.load(in);
+            } catch (IOException ex) {
+                LOG.debug("Could not read " + checksumsFile + ", ignoring", ex);
+                checksums.clear();
+            }
+        }
+    }
+
+    /**
+     * Calculate a hash over the classes in the classes directories, the jars and the settings that influence the schema.
+     *
+     * @param classesDirs the directories containing the compiled classes of the module
+     * @param jars the jars that will be indexed
+     * @param settings anything else that changes the generated schema, like the plugin configuration
+     * @return the hash
+     * @throws IOException if the classes or jars can not be read
+     */
+    public String hash(List<Path> classesDirs, List<File> jars, String settings) throws IOException {
+        MessageDigest digest = newDigest();
+        for (Path classesDir : classesDirs) {
+            if (Files.isDirectory(classesDir)) {
+                for (Path classFile : classFiles(classesDir)) {
+                    digest.update(classesDir.relativize(classFile).toString().getBytes(StandardCharsets.UTF_8));
+                    digest.update(Files.readAllBytes(classFile));
+                }
+            }
+        }
+        for (File jar : jars) {
+            digest.update(checksum(jar).getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update(settings.getBytes(StandardCharsets.UTF_8));
+        return toHex(digest.digest());
+    }
+
+    /**
+     * @param hash the hash as calculated by {@link #hash(List, List, String)}
+     * @return true if the schema was generated from the exact same inputs before
+     */
+    public boolean isUpToDate(String hash) {
+        Path hashFile = directory.resolve(HASH_FILE);
+        try {
+            return Files.isRegularFile(hashFile) && hash.equals(Files.readString(hashFile).trim());
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Remember the hash of the inputs the schema was generated from, together with the checksums of the jars.
+     * The cached indexes of jars that were not used in this build are deleted, so old versions of the dependencies
+     * don't pile up.
+     *
+     * @param hash the hash as calculated by {@link #hash(List, List, String)}
+     * @throws IOException if the cache can not be written
+     */
+    public void store(String hash) throws IOException {
+        Files.createDirectories(directory);
+        Properties current = new Properties();
+        for (Map.Entry<File, String> entry : jarChecksums.entrySet()) {
+            current.setProperty(stamp(entry.getKey()), entry.getValue());
+        }
+        Path checksumsFile = directory.resolve(CHECKSUMS_FILE);
+        try (OutputStream out = Files.newOutputStream(checksumsFile)) {
+            current.store(out, null);
+        }
+        Files.writeString(directory.resolve(HASH_FILE), hash);
+        pruneIndexes();
+    }
+
+    private void pruneIndexes() throws IOException {
+        List<Path> unused;
+        try (Stream<Path> files = Files.list(directory)) {
+            unused = files.filter(path -> {
+                String name = path.getFileName().toString();
+                return name.endsWith(INDEX_EXTENSION) && !jarChecksums.containsValue(
+                        name.substring(0, name.length() - INDEX_EXTENSION.length()));
+            }).collect(Collectors.toList());
+        }
+        for (Path path : unused) {
+            LOG.debug("Deleting the unused cached index " + path);
+            Files.deleteIfExists(path);
+        }
+    }
+
+    /**
+     * Index the jars, reusing the cached index of every jar that did not change.
+     * Jars that are not cached yet get indexed in parallel.
+     *
+     * @param jars the jars to index
+     * @return the indexes, in the same order as the jars. Jars that could not be indexed are left out
+     */
+    public List<IndexView> index(List<File> jars) {
+        return jars.parallelStream()
+                .map(this::index)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private IndexView index(File jar) {
+        try {
+            Path indexFile = directory.resolve(checksum(jar) + INDEX_EXTENSION);
+            if (Files.isRegularFile(indexFile)) {
+                try (InputStream in = Files.newInputStream(indexFile)) {
+                    LOG.debug("Using cached index of " + jar);
+                    return new IndexReader(in).read();
+                } catch (IOException | IllegalArgumentException ex) {
+                    LOG.debug("Could not read the cached index of " + jar + ", indexing again", ex);
+                }
+            }
+            LOG.debug("Indexing file " + jar);
+            Index index = JarIndexer.createJarIndex(jar, new Indexer(), false, false, false).getIndex();
+            write(indexFile, index);
+            return index;
+        } catch (IOException ex) {
+            LOG.error("Can't compute index of " + jar.getAbsolutePath() + ", skipping", ex);
+            return null;
+        }
+    }
+
+    private void write(Path indexFile, Index index) throws IOException {
+        Files.createDirectories(directory);
+        // Write to a temporary file first, so that an interrupted build never leaves a broken index behind
+        Path tmp = Files.createTempFile(directory, "index", ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                new IndexWriter(out).write(index);
+            }
+            Files.move(tmp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * The checksum of a jar. To avoid reading all jars on every build, the checksum of the previous build is reused if
+     * the path, size and modification time of the jar are still the same.
+     */
+    private String checksum(File jar) throws IOException {
+        try {
+            return jarChecksums.computeIfAbsent(jar, this::checksumOf);
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private String checksumOf(File file) {
+        String previous = checksums.getProperty(stamp(file));
+        if (previous != null) {
+            return previous;
+        }
+        try {
+            MessageDigest digest = newDigest();
+            try (InputStream in = Files.newInputStream(file.toPath())) {
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+            return toHex(digest.digest());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String stamp(File file) {
+        return file.getAbsolutePath() + "|" + file.length() + "|" + file.lastModified();
+    }
+
+    private static List<Path> classFiles(Path classesDir) throws IOException {
+        try (Stream<Path> stream = Files.walk(classesDir)) {
+            List<Path> classFiles = new ArrayList<>();
+            stream.filter(path -> path.toString().endsWith(CLASS_EXTENSION))
+                    .sorted()
+                    .forEach(classFiles::add);
+            return classFiles;
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+            sb.append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+}
@@ -4,6 +4,8 @@ import java.lang.reflect.Modifier;
 import java.util.List;
 import java.util.Optional;
 
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
@@ -17,6 +19,7 @@ import io.smallrye.graphql.schema.model.Execute;
 import io.smallrye.graphql.schema.model.Operation;
 import io.smallrye.graphql.schema.model.OperationType;
 import io.smallrye.graphql.schema.model.Reference;
+import io.smallrye.graphql.schema.model.Throttle;
 
 /**
  * Creates a Operation object
@@ -76,6 +79,9 @@ public class OperationCreator extends ModelCreator {
         if (type != null) {
             operation.setSourceFieldOn(new Reference.Builder().reference(type).build());
         }
+        if (operationType == OperationType.SUBSCRIPTION) {
+            operation.setThrottle(getThrottle(annotationsForMethod));
+        }
 
         // Arguments
         List<Type> parameters = methodInfo.parameterTypes();
@@ -145,6 +151,16 @@ public class OperationCreator extends ModelCreator {
         return methodName;
     }
 
+    private static Throttle getThrottle(Annotations annotationsForMethod) {
+        Optional<AnnotationInstance> throttle = annotationsForMethod.getOneOfTheseAnnotations(Annotations.THROTTLE);
+        if (!throttle.isPresent()) {
+            return null;
+        }
+        AnnotationValue period = throttle.get().value();
+        AnnotationValue mode = throttle.get().value("mode");
+        return new Throttle(mode == null ? "SAMPLE" : mode.asEnum(), period == null ? 0 : period.asLong());
+    }
+
     private Execute getExecution(Annotations annotationsForMethod, Annotations annotationsForClass) {
         // first check annotation on method
         if (annotationsForMethod.containsOneOfTheseAnnotations(Annotations.BLOCKING)) {
@@ -0,0 +1,121 @@
+package io.smallrye.graphql.schema;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class IndexCacheTest {
+
+    @TempDir
+    Path tmp;
+
+    @Test
+    public void shouldIndexAndCacheJars() throws IOException {
+        File jar = jar("one.jar", ClassesTest.class);
+        Path cacheDir = tmp.resolve("cache");
+
+        List<IndexView> indexes = new IndexCache(cacheDir).index(List.of(jar));
+
+        assertEquals(1, indexes.size());
+        assertNotNull(indexes.get(0).getClassByName(DotName.createSimple(ClassesTest.class.getName())));
+        try (var files = Files.list(cacheDir)) {
+            assertEquals(1, files.filter(path -> path.toString().endsWith(".idx")).count());
+        }
+
+        // a new cache instance reads the index from disk
+        List<IndexView> cached = new IndexCache(cacheDir).index(List.of(jar));
+        assertNotNull(cached.get(0).getClassByName(DotName.createSimple(ClassesTest.class.getName())));
+    }
+
+    @Test
+    public void shouldDetectChanges() throws IOException {
+        File jar = jar("one.jar", ClassesTest.class);
+        Path cacheDir = tmp.resolve("cache");
+        List<Path> classesDirs = Collections.singletonList(tmp.resolve("classes"));
+
+        IndexCache cache = new IndexCache(cacheDir);
+        String hash = cache.hash(classesDirs, List.of(jar), "settings");
+        assertFalse(cache.isUpToDate(hash));
+        cache.store(hash);
+
+        IndexCache next = new IndexCache(cacheDir);
+        assertEquals(hash, next.hash(classesDirs, List.of(jar), "settings"));
+        assertTrue(next.isUpToDate(hash));
+        assertNotEquals(hash, next.hash(classesDirs, List.of(jar), "other settings"));
+
+        File other = jar("other.jar", IndexCacheTest.class);
+        assertNotEquals(hash, next.hash(classesDirs, List.of(jar, other), "settings"));
+
+        Files.createDirectories(classesDirs.get(0));
+        Files.write(classesDirs.get(0).resolve("Foo.class"), new byte[] { 1, 2, 3 });
+        assertNotEquals(hash, new IndexCache(cacheDir).hash(classesDirs, List.of(jar), "settings"));
+    }
+
+    @Test
+    public void shouldDeleteUnusedIndexes() throws IOException {
+        File jar = jar("one.jar", ClassesTest.class);
+        File other = jar("other.jar", IndexCacheTest.class);
+        Path cacheDir = tmp.resolve("cache");
+        List<Path> classesDirs = Collections.singletonList(tmp.resolve("classes"));
+
+        IndexCache cache = new IndexCache(cacheDir);
+        cache.index(List.of(jar, other));
+        cache.store(cache.hash(classesDirs, List.of(jar, other), "settings"));
+        assertEquals(2, indexFileCount(cacheDir));
+
+        // the other jar is not a dependency anymore
+        IndexCache next = new IndexCache(cacheDir);
+        next.index(List.of(jar));
+        next.store(next.hash(classesDirs, List.of(jar), "settings"));
+        assertEquals(1, indexFileCount(cacheDir));
+        assertNotNull(new IndexCache(cacheDir).index(List.of(jar)).get(0)
+                .getClassByName(DotName.createSimple(ClassesTest.class.getName())));
+    }
+
+    @Test
+    public void shouldSkipBrokenJars() throws IOException {
+        Path broken = tmp.resolve("broken.jar");
+        Files.write(broken, new byte[] { 1, 2, 3 });
+
+        List<IndexView> indexes = new IndexCache(tmp.resolve("cache")).index(List.of(broken.toFile()));
+
+        assertTrue(indexes.isEmpty());
+    }
+
+    private static long indexFileCount(Path cacheDir) throws IOException {
+        try (var files = Files.list(cacheDir)) {
+            return files.filter(path -> path.toString().endsWith(".idx")).count();
+        }
+    }
+
+    private File jar(String name, Class<?> clazz) throws IOException {
+        Path jar = tmp.resolve(name);
+        String entry = clazz.getName().replace('.', '/') + ".class";
+        try (OutputStream out = Files.newOutputStream(jar);
+                JarOutputStream jarOut = new JarOutputStream(out);
+                InputStream in = clazz.getClassLoader().getResourceAsStream(entry)) {
+            jarOut.putNextEntry(new JarEntry(entry));
+            in.transferTo(jarOut);
+            jarOut.closeEntry();
+        }
+        return jar.toFile();
+    }
+}
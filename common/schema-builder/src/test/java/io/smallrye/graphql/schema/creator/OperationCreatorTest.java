@@ -1,6 +1,7 @@
 package io.smallrye.graphql.schema.creator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import org.jboss.jandex.ClassInfo;
@@ -52,6 +53,22 @@ public class OperationCreatorTest {
         assertEquals("publicQuery", operation.getName());
     }
 
+    @Test
+    public void testThrottledSubscription() throws Exception {
+        Index complete = IndexCreator.index(TestApi.class);
+        ScanningContext.register(complete);
+
+        ClassInfo classByName = complete.getClassByName(DotName.createSimple(TestApi.class.getName()));
+
+        Operation subscription = operationCreator().createOperation(classByName.method("throttledSubscription"),
+                OperationType.SUBSCRIPTION, null);
+        assertEquals("DEBOUNCE", subscription.getThrottle().getMode());
+        assertEquals(100, subscription.getThrottle().getPeriod());
+
+        Operation query = operationCreator().createOperation(classByName.method("publicQuery"), OperationType.QUERY, null);
+        assertFalse(query.hasThrottle());
+    }
+
     @AfterEach
     void tearDown() {
         ScanningContext.remove();
@@ -2,6 +2,9 @@ package io.smallrye.graphql.schema.creator;
 
 import org.eclipse.microprofile.graphql.Query;
 
+import io.smallrye.graphql.api.Subscription;
+import io.smallrye.graphql.api.Throttle;
+
 public class TestApi {
 
     @Query
@@ -14,4 +17,10 @@ public class TestApi {
         return null;
     }
 
+    @Subscription
+    @Throttle(value = 100, mode = Throttle.Mode.DEBOUNCE)
+    public String throttledSubscription() {
+        return null;
+    }
+
 }
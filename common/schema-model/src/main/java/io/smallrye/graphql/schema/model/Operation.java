@@ -41,6 +41,11 @@ public final class Operation extends Field {
      */
     private Execute execute;
 
+    /**
+     * If the events of this subscription should be rate limited
+     */
+    private Throttle throttle;
+
     public Operation() {
     }
 
@@ -104,6 +109,18 @@ public final class Operation extends Field {
         this.execute = execute;
     }
 
+    public Throttle getThrottle() {
+        return throttle;
+    }
+
+    public void setThrottle(Throttle throttle) {
+        this.throttle = throttle;
+    }
+
+    public boolean hasThrottle() {
+        return this.throttle != null;
+    }
+
     @Override
     public String toString() {
         return "Operation{" + "className=" + className + ", arguments=" + arguments + ", operationType=" + operationType
@@ -0,0 +1,47 @@
+package io.smallrye.graphql.schema.model;
+
+import java.io.Serializable;
+
+/**
+ * Represent the rate limiting of the events of a subscription, as declared with {@code @Throttle}.
+ */
+public final class Throttle implements Serializable {
+
+    private String mode;
+    private long period;
+
+    public Throttle() {
+    }
+
+    public Throttle(String mode, long period) {
+        this.mode = mode;
+        this.period = period;
+    }
+
+    /**
+     * @return SAMPLE, DEBOUNCE or CONFLATE
+     */
+    public String getMode() {
+        return mode;
+    }
+
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * @return the period in milliseconds
+     */
+    public long getPeriod() {
+        return period;
+    }
+
+    public void setPeriod(long period) {
+        this.period = period;
+    }
+
+    @Override
+    public String toString() {
+        return "Throttle{" + "mode=" + mode + ", period=" + period + '}';
+    }
+}
@@ -0,0 +1,54 @@
+package io.smallrye.graphql.api;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Limit the rate of the events of a {@link Subscription}. Events that are left out are never resolved or sent, so a
+ * fast source doesn't cost more than the clients can take. For example, to send a stock quote at most every 100ms:
+ *
+ * <pre>
+ * {@literal @}Subscription
+ * {@literal @}Throttle(100)
+ * public Multi{@literal <}Stock{@literal >} stockQuote(String stockCode) {
+ *     //...
+ * }
+ * </pre>
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(METHOD)
+@Experimental("Rate limiting of subscription events. Not covered by the specification. Subject to change.")
+public @interface Throttle {
+
+    /**
+     * @return the period in milliseconds. Not used by {@link Mode#CONFLATE}
+     */
+    long value() default 0;
+
+    /**
+     * @return how to pick the events to send
+     */
+    Mode mode() default Mode.SAMPLE;
+
+    enum Mode {
+        /**
+         * Send the latest event of every period, if there was one
+         */
+        SAMPLE,
+        /**
+         * Send an event only once no other event followed within the period
+         */
+        DEBOUNCE,
+        /**
+         * Send only the latest event whenever the client is ready for the next one
+         */
+        CONFLATE
+    }
+}
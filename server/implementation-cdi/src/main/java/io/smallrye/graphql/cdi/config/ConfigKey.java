@@ -15,12 +15,25 @@ public interface ConfigKey extends org.eclipse.microprofile.graphql.ConfigKey {
     public static final String ENABLE_VALIDATION = "smallrye.graphql.validation.enabled";
     public static final String ENABLE_EVENTS = "smallrye.graphql.events.enabled";
     public static final String ENABLE_FEDERATION = "smallrye.graphql.federation.enabled";
+    public static final String ENABLE_PARALLEL_BOOTSTRAP = "smallrye.graphql.bootstrap.parallel.enabled";
     public static final String SCHEMA_INCLUDE_SCALARS = "smallrye.graphql.schema.includeScalars";
     public static final String SCHEMA_INCLUDE_DEFINITION = "smallrye.graphql.schema.includeSchemaDefinition";
     public static final String SCHEMA_INCLUDE_DIRECTIVES = "smallrye.graphql.schema.includeDirectives";
     public static final String SCHEMA_INCLUDE_INTROSPECTION_TYPES = "smallrye.graphql.schema.includeIntrospectionTypes";
     public static final String LOG_PAYLOAD = "smallrye.graphql.logPayload";
     public static final String ERROR_EXTENSION_FIELDS = "smallrye.graphql.errorExtensionFields";
+    public static final String MAX_ERRORS = "smallrye.graphql.maxErrors";
+    public static final String ENABLE_SHARED_SUBSCRIPTIONS = "smallrye.graphql.subscriptions.shared.enabled";
+    public static final String WEBSOCKET_KEEP_ALIVE_INTERVAL = "smallrye.graphql.websocket.keepAlive.interval";
+    public static final String WEBSOCKET_BUFFER_SIZE = "smallrye.graphql.websocket.buffer.size";
+    public static final String WEBSOCKET_OVERFLOW_POLICY = "smallrye.graphql.websocket.buffer.overflowPolicy";
+    public static final String ENABLE_ASYNC_HTTP = "smallrye.graphql.http.async.enabled";
+    public static final String ENABLE_HTTP_COMPRESSION = "smallrye.graphql.http.compression.enabled";
+    public static final String HTTP_COMPRESSION_THRESHOLD = "smallrye.graphql.http.compression.threshold";
+    public static final String HTTP_COMPRESSION_LEVEL = "smallrye.graphql.http.compression.level";
+    public static final String ENABLE_HTTP_BATCHING = "smallrye.graphql.http.batching.enabled";
+    public static final String HTTP_BATCHING_MAX_OPERATIONS = "smallrye.graphql.http.batching.maxOperations";
+    public static final String ENABLE_HTTP_EVENT_STREAM = "smallrye.graphql.http.sse.enabled";
     public static final String FIELD_VISIBILITY = "smallrye.graphql.fieldVisibility";
     public static final String UNWRAP_EXCEPTIONS = "smallrye.graphql.unwrapExceptions";
     public static final String PARSER_CAPTURE_IGNORED_CHARS = "smallrye.graphql.parser.capture.ignoredChars";
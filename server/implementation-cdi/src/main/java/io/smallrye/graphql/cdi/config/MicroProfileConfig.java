@@ -8,6 +8,7 @@ import org.eclipse.microprofile.config.ConfigProvider;
 
 import io.smallrye.graphql.spi.config.Config;
 import io.smallrye.graphql.spi.config.LogPayloadOption;
+import io.smallrye.graphql.spi.config.WebSocketOverflowPolicy;
 
 /**
  * Configuration for GraphQL
@@ -27,6 +28,7 @@ public class MicroProfileConfig implements Config {
     private Boolean validationEnabled;
     private Boolean eventsEnabled;
     private Boolean federationEnabled;
+    private Boolean parallelBootstrapEnabled;
     private Boolean includeScalarsInSchema;
     private Boolean includeDirectivesInSchema;
     private Boolean includeSchemaDefinitionInSchema;
@@ -42,6 +44,18 @@ public class MicroProfileConfig implements Config {
     private Optional<Boolean> parserCaptureIgnoredChars;
     private Optional<Integer> queryComplexityInstrumentation;
     private Optional<Integer> queryDepthInstrumentation;
+    private Optional<Integer> maxErrors;
+    private Boolean sharedSubscriptionsEnabled;
+    private Integer webSocketKeepAliveInterval;
+    private Optional<Integer> webSocketBufferSize;
+    private WebSocketOverflowPolicy webSocketOverflowPolicy;
+    private Boolean asyncHttpEnabled;
+    private Boolean httpCompressionEnabled;
+    private Integer httpCompressionThreshold;
+    private Integer httpCompressionLevel;
+    private Boolean httpBatchingEnabled;
+    private Integer httpBatchingMaxOperations;
+    private Boolean httpEventStreamEnabled;
 
     @Override
     public String getName() {
@@ -142,6 +156,14 @@ public class MicroProfileConfig implements Config {
         return federationEnabled;
     }
 
+    @Override
+    public boolean isParallelBootstrapEnabled() {
+        if (parallelBootstrapEnabled == null) {
+            parallelBootstrapEnabled = getBooleanConfigValue(ConfigKey.ENABLE_PARALLEL_BOOTSTRAP);
+        }
+        return parallelBootstrapEnabled;
+    }
+
     @Override
     public boolean isIncludeScalarsInSchema() {
         if (includeScalarsInSchema == null) {
@@ -259,6 +281,119 @@ public class MicroProfileConfig implements Config {
         return errorExtensionFields;
     }
 
+    @Override
+    public Optional<Integer> getMaxErrors() {
+        if (maxErrors == null) {
+            org.eclipse.microprofile.config.Config microProfileConfig = ConfigProvider.getConfig();
+            maxErrors = microProfileConfig.getOptionalValue(ConfigKey.MAX_ERRORS, Integer.class);
+        }
+        return maxErrors;
+    }
+
+    @Override
+    public boolean isSharedSubscriptionsEnabled() {
+        if (sharedSubscriptionsEnabled == null) {
+            sharedSubscriptionsEnabled = getBooleanConfigValue(ConfigKey.ENABLE_SHARED_SUBSCRIPTIONS);
+        }
+        return sharedSubscriptionsEnabled;
+    }
+
+    @Override
+    public int getWebSocketKeepAliveInterval() {
+        if (webSocketKeepAliveInterval == null) {
+            org.eclipse.microprofile.config.Config microProfileConfig = ConfigProvider.getConfig();
+            webSocketKeepAliveInterval = microProfileConfig
+                    .getOptionalValue(ConfigKey.WEBSOCKET_KEEP_ALIVE_INTERVAL, Integer.class)
+                    .orElse(10);
+        }
+        return webSocketKeepAliveInterval;
+    }
+
+    @Override
+    public Optional<Integer> getWebSocketBufferSize() {
+        if (webSocketBufferSize == null) {
+            org.eclipse.microprofile.config.Config microProfileConfig = ConfigProvider.getConfig();
+            webSocketBufferSize = microProfileConfig.getOptionalValue(ConfigKey.WEBSOCKET_BUFFER_SIZE, Integer.class);
+        }
+        return webSocketBufferSize;
+    }
+
+    @Override
+    public WebSocketOverflowPolicy getWebSocketOverflowPolicy() {
+        if (webSocketOverflowPolicy == null) {
+            org.eclipse.microprofile.config.Config microProfileConfig = ConfigProvider.getConfig();
+            webSocketOverflowPolicy = microProfileConfig
+                    .getOptionalValue(ConfigKey.WEBSOCKET_OVERFLOW_POLICY, WebSocketOverflowPolicy.class)
+                    .orElse(WebSocketOverflowPolicy.dropOldest);
+        }
+        return webSocketOverflowPolicy;
+    }
+
+    @Override
+    public boolean isAsyncHttpEnabled() {
+        if (asyncHttpEnabled == null) {
+            asyncHttpEnabled = getBooleanConfigValue(ConfigKey.ENABLE_ASYNC_HTTP);
+        }
+        return asyncHttpEnabled;
+    }
+
+    @Override
+    public boolean isHttpCompressionEnabled() {
+        if (httpCompressionEnabled == null) {
+            httpCompressionEnabled = getBooleanConfigValue(ConfigKey.ENABLE_HTTP_COMPRESSION);
+        }
+        return httpCompressionEnabled;
+    }
+
+    @Override
+    public int getHttpCompressionThreshold() {
+        if (httpCompressionThreshold == null) {
+            org.eclipse.microprofile.config.Config microProfileConfig = ConfigProvider.getConfig();
+            httpCompressionThreshold = microProfileConfig
+                    .getOptionalValue(ConfigKey.HTTP_COMPRESSION_THRESHOLD, Integer.class)
+                    .orElse(1024);
+        }
+        return httpCompressionThreshold;
+    }
+
+    @Override
+    public int getHttpCompressionLevel() {
+        if (httpCompressionLevel == null) {
+            org.eclipse.microprofile.config.Config microProfileConfig = ConfigProvider.getConfig();
+            httpCompressionLevel = microProfileConfig
+                    .getOptionalValue(ConfigKey.HTTP_COMPRESSION_LEVEL, Integer.class)
+                    .orElse(-1);
+        }
+        return httpCompressionLevel;
+    }
+
+    @Override
+    public boolean isHttpBatchingEnabled() {
+        if (httpBatchingEnabled == null) {
+            httpBatchingEnabled = getBooleanConfigValue(ConfigKey.ENABLE_HTTP_BATCHING);
+        }
+        return httpBatchingEnabled;
+    }
+
+    @Override
+    public int getHttpBatchingMaxOperations() {
+        if (httpBatchingMaxOperations == null) {
+            org.eclipse.microprofile.config.Config microProfileConfig = ConfigProvider.getConfig();
+            httpBatchingMaxOperations = microProfileConfig
+                    .getOptionalValue(ConfigKey.HTTP_BATCHING_MAX_OPERATIONS, Integer.class)
+                    .orElse(100);
+        }
+        return httpBatchingMaxOperations;
+    }
+
+    @Override
+    public boolean isHttpEventStreamEnabled() {
+        if (httpEventStreamEnabled == null) {
+            httpEventStreamEnabled = getBooleanConfigValue(ConfigKey.ENABLE_HTTP_EVENT_STREAM);
+        }
+        return httpEventStreamEnabled;
+    }
+
     @Override
     public Optional<Integer> getQueryComplexityInstrumentation() {
         if (queryComplexityInstrumentation == null) {
@@ -369,6 +504,54 @@ public class MicroProfileConfig implements Config {
         this.errorExtensionFields = errorExtensionFields;
     }
 
+    public void setMaxErrors(Optional<Integer> maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+
+    public void setSharedSubscriptionsEnabled(Boolean sharedSubscriptionsEnabled) {
+        this.sharedSubscriptionsEnabled = sharedSubscriptionsEnabled;
+    }
+
+    public void setWebSocketKeepAliveInterval(Integer webSocketKeepAliveInterval) {
+        this.webSocketKeepAliveInterval = webSocketKeepAliveInterval;
+    }
+
+    public void setWebSocketBufferSize(Optional<Integer> webSocketBufferSize) {
+        this.webSocketBufferSize = webSocketBufferSize;
+    }
+
+    public void setWebSocketOverflowPolicy(WebSocketOverflowPolicy webSocketOverflowPolicy) {
+        this.webSocketOverflowPolicy = webSocketOverflowPolicy;
+    }
+
+    public void setAsyncHttpEnabled(Boolean asyncHttpEnabled) {
+        this.asyncHttpEnabled = asyncHttpEnabled;
+    }
+
+    public void setHttpCompressionEnabled(Boolean httpCompressionEnabled) {
+        this.httpCompressionEnabled = httpCompressionEnabled;
+    }
+
+    public void setHttpCompressionThreshold(Integer httpCompressionThreshold) {
+        this.httpCompressionThreshold = httpCompressionThreshold;
+    }
+
+    public void setHttpCompressionLevel(Integer httpCompressionLevel) {
+        this.httpCompressionLevel = httpCompressionLevel;
+    }
+
+    public void setHttpBatchingEnabled(Boolean httpBatchingEnabled) {
+        this.httpBatchingEnabled = httpBatchingEnabled;
+    }
+
+    public void setHttpBatchingMaxOperations(Integer httpBatchingMaxOperations) {
+        this.httpBatchingMaxOperations = httpBatchingMaxOperations;
+    }
+
+    public void setHttpEventStreamEnabled(Boolean httpEventStreamEnabled) {
+        this.httpEventStreamEnabled = httpEventStreamEnabled;
+    }
+
     public void setHideList(Optional<List<String>> hideList) {
         this.hideList = hideList;
     }
@@ -405,6 +588,10 @@ public class MicroProfileConfig implements Config {
         this.eventsEnabled = eventsEnabled;
     }
 
+    public void setParallelBootstrapEnabled(Boolean parallelBootstrapEnabled) {
+        this.parallelBootstrapEnabled = parallelBootstrapEnabled;
+    }
+
     public void setIncludeScalarsInSchema(Boolean includeScalarsInSchema) {
         this.includeScalarsInSchema = includeScalarsInSchema;
     }
@@ -14,10 +14,12 @@ import org.eclipse.microprofile.metrics.MetricType;
 import org.eclipse.microprofile.metrics.Tag;
 import org.eclipse.microprofile.metrics.annotation.RegistryType;
 
+import graphql.schema.GraphQLSchema;
 import io.smallrye.graphql.api.Context;
 import io.smallrye.graphql.cdi.config.ConfigKey;
 import io.smallrye.graphql.schema.model.Operation;
 import io.smallrye.graphql.spi.EventingService;
+import io.smallrye.graphql.websocket.OutboundBuffer;
 
 /**
  * Listening for event and create metrics from it. Uses MP Metrics 3.x API.
@@ -31,6 +33,15 @@ public class MPMetricsService implements EventingService {
     private final Map<Context, Long> startTimes = Collections.synchronizedMap(new IdentityHashMap<>());
     private static final String METRIC_NAME = "mp_graphql";
     private final String DESCRIPTION = "Call statistics for the operation denoted by the 'name' tag";
+    private static final String QUEUE_DEPTH_METRIC_NAME = "mp_graphql_websocket_queue_depth";
+    private static final String DROPPED_METRIC_NAME = "mp_graphql_websocket_dropped_events";
+
+    @Override
+    public GraphQLSchema.Builder beforeSchemaBuild(GraphQLSchema.Builder builder) {
+        getMetricRegistry().gauge(QUEUE_DEPTH_METRIC_NAME, OutboundBuffer::getTotalQueueDepth);
+        getMetricRegistry().gauge(DROPPED_METRIC_NAME, OutboundBuffer::getTotalDroppedCount);
+        return builder;
+    }
 
     @Override
     public Operation createOperation(Operation operation) {
@@ -5,6 +5,9 @@ import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.Map;
 
+import graphql.schema.GraphQLSchema;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Tags;
@@ -13,6 +16,7 @@ import io.smallrye.graphql.api.Context;
 import io.smallrye.graphql.cdi.config.ConfigKey;
 import io.smallrye.graphql.schema.model.Operation;
 import io.smallrye.graphql.spi.EventingService;
+import io.smallrye.graphql.websocket.OutboundBuffer;
 
 public class MicrometerMetricsService implements EventingService {
 
@@ -20,6 +24,19 @@ public class MicrometerMetricsService implements EventingService {
     private final Map<Context, Long> startTimes = Collections.synchronizedMap(new IdentityHashMap<>());
     private static final String METRIC_NAME = "mp_graphql";
     private final String DESCRIPTION = "Call statistics for the operation denoted by the 'name' tag";
+    private static final String QUEUE_DEPTH_METRIC_NAME = "mp_graphql_websocket_queue_depth";
+    private static final String DROPPED_METRIC_NAME = "mp_graphql_websocket_dropped_events";
+
+    @Override
+    public GraphQLSchema.Builder beforeSchemaBuild(GraphQLSchema.Builder builder) {
+        Gauge.builder(QUEUE_DEPTH_METRIC_NAME, OutboundBuffer::getTotalQueueDepth)
+                .description("Subscription events waiting to be written to websocket clients")
+                .register(meterRegistry);
+        FunctionCounter.builder(DROPPED_METRIC_NAME, OutboundBuffer.class, buffer -> OutboundBuffer.getTotalDroppedCount())
+                .description("Subscription events dropped because the outbound buffer of a websocket session was full")
+                .register(meterRegistry);
+        return builder;
+    }
 
     @Override
     public Operation createOperation(Operation operation) {
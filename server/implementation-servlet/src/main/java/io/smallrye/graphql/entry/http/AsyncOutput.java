@@ -0,0 +1,230 @@
+package io.smallrye.graphql.entry.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+
+import org.jboss.logging.Logger;
+
+/**
+ * The output of an asynchronous request, written with non-blocking servlet I/O.
+ * <p>
+ * Chunks can be written from any thread. They are queued, and written whenever the connection can take them, so a slow
+ * client never blocks the thread that produces the response.
+ */
+class AsyncOutput implements WriteListener, AsyncListener {
+    private static final Logger LOG = Logger.getLogger(AsyncOutput.class.getName());
+    private static final int SINGLE_BYTES_BUFFER_SIZE = 512;
+
+    private final AsyncContext asyncContext;
+    private final ServletOutputStream out;
+    private final Deque<Chunk> pending = new ArrayDeque<>(); // guarded by this
+    private final List<Runnable> closeHandlers = new CopyOnWriteArrayList<>();
+    private boolean closing; // guarded by this
+    private volatile boolean closed;
+
+    private AsyncOutput(AsyncContext asyncContext, ServletOutputStream out) {
+        this.asyncContext = asyncContext;
+        this.out = out;
+    }
+
+    /**
+     * Start writing the response of an asynchronous request
+     */
+    static AsyncOutput start(AsyncContext asyncContext) throws IOException {
+        AsyncOutput output = new AsyncOutput(asyncContext, asyncContext.getResponse().getOutputStream());
+        asyncContext.addListener(output);
+        output.out.setWriteListener(output);
+        return output;
+    }
+
+    /**
+     * Write a chunk of the response, and flush it
+     *
+     * @param bytes the chunk
+     * @param onSent called once the chunk is written, or null
+     */
+    void write(byte[] bytes, Runnable onSent) {
+        synchronized (this) {
+            if (closing) {
+                return;
+            }
+            pending.add(new Chunk(bytes, onSent));
+        }
+        drain();
+    }
+
+    /**
+     * End the response, once the pending chunks are written
+     */
+    void close() {
+        synchronized (this) {
+            closing = true;
+        }
+        drain();
+    }
+
+    /**
+     * @return a stream that writes every chunk it gets to this output, and closes it when it is closed. Single bytes
+     *         are buffered until the next chunk, flush or close, so they don't become a chunk each.
+     */
+    OutputStream asStream() {
+        return new OutputStream() {
+            private final byte[] buffer = new byte[SINGLE_BYTES_BUFFER_SIZE];
+            private int buffered;
+
+            @Override
+            public void write(int b) {
+                buffer[buffered++] = (byte) b;
+                if (buffered == buffer.length) {
+                    writeBuffered();
+                }
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                if (len > 0) {
+                    writeBuffered();
+                    // the caller may reuse its buffer, but the chunk waits in the queue
+                    AsyncOutput.this.write(Arrays.copyOfRange(b, off, off + len), null);
+                }
+            }
+
+            @Override
+            public void flush() {
+                writeBuffered();
+            }
+
+            @Override
+            public void close() {
+                writeBuffered();
+                AsyncOutput.this.close();
+            }
+
+            private void writeBuffered() {
+                if (buffered > 0) {
+                    AsyncOutput.this.write(Arrays.copyOf(buffer, buffered), null);
+                    buffered = 0;
+                }
+            }
+        };
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * @param handler called once when the response ends, because it was closed or the client went away
+     */
+    void onClose(Runnable handler) {
+        closeHandlers.add(handler);
+        if (closed) {
+            handler.run();
+        }
+    }
+
+    @Override
+    public void onWritePossible() {
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        LOG.debug("Writing the response failed", throwable);
+        ended();
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+        ended();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+        ended();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+        ended();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+
+    private void drain() {
+        List<Runnable> sent = new ArrayList<>();
+        boolean complete = false;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            try {
+                boolean written = false;
+                while (!pending.isEmpty() && out.isReady()) {
+                    Chunk chunk = pending.poll();
+                    out.write(chunk.bytes);
+                    written = true;
+                    if (chunk.onSent != null) {
+                        sent.add(chunk.onSent);
+                    }
+                }
+                if (written && out.isReady()) {
+                    out.flush();
+                }
+                complete = closing && pending.isEmpty() && out.isReady();
+            } catch (IOException | IllegalStateException e) {
+                LOG.debug("Could not write the response", e);
+                complete = true;
+            }
+        }
+        for (Runnable onSent : sent) {
+            onSent.run();
+        }
+        if (complete) {
+            ended();
+            asyncContext.complete();
+        }
+    }
+
+    private void ended() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            closing = true;
+            pending.clear();
+        }
+        for (Runnable handler : closeHandlers) {
+            try {
+                handler.run();
+            } catch (RuntimeException e) {
+                LOG.warn("Could not end the response", e);
+            }
+        }
+    }
+
+    private static class Chunk {
+        private final byte[] bytes;
+        private final Runnable onSent;
+
+        private Chunk(byte[] bytes, Runnable onSent) {
+            this.bytes = bytes;
+            this.onSent = onSent;
+        }
+    }
+}
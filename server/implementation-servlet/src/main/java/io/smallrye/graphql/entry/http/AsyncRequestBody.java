@@ -0,0 +1,60 @@
+package io.smallrye.graphql.entry.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.function.Consumer;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Reads the body of an asynchronous request with non-blocking servlet I/O, so no thread waits for a slow client
+ */
+class AsyncRequestBody implements ReadListener {
+
+    private final ServletInputStream in;
+    private final Consumer<byte[]> onBody;
+    private final Consumer<Throwable> onError;
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+    private final byte[] buffer = new byte[8192];
+
+    private AsyncRequestBody(ServletInputStream in, Consumer<byte[]> onBody, Consumer<Throwable> onError) {
+        this.in = in;
+        this.onBody = onBody;
+        this.onError = onError;
+    }
+
+    /**
+     * Start reading the body of a request that is in asynchronous mode
+     *
+     * @param onBody called with the whole body once it is read
+     * @param onError called if the body can not be read
+     */
+    static void read(HttpServletRequest request, Consumer<byte[]> onBody, Consumer<Throwable> onError)
+            throws IOException {
+        ServletInputStream in = request.getInputStream();
+        in.setReadListener(new AsyncRequestBody(in, onBody, onError));
+    }
+
+    @Override
+    public void onDataAvailable() throws IOException {
+        while (in.isReady() && !in.isFinished()) {
+            int read = in.read(buffer);
+            if (read == -1) {
+                return;
+            }
+            body.write(buffer, 0, read);
+        }
+    }
+
+    @Override
+    public void onAllDataRead() {
+        onBody.accept(body.toByteArray());
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        onError.accept(throwable);
+    }
+}
@@ -0,0 +1,164 @@
+package io.smallrye.graphql.entry.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Compress the body of a response, if it is big enough to be worth it.
+ * <p>
+ * The first bytes, up to the threshold, are held back. If the body ends before that, it is written as is, with a
+ * Content-Length. Otherwise the Content-Encoding header is set, and everything is compressed on the fly, so the body is
+ * never held in memory as a whole.
+ */
+class CompressingOutputStream extends OutputStream {
+    static final String GZIP = "gzip";
+    static final String DEFLATE = "deflate";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final HttpServletResponse response;
+    private final OutputStream out;
+    private final String encoding;
+    private final int level;
+
+    private byte[] held; // null once it is decided if the body gets compressed
+    private int count;
+    private OutputStream target;
+
+    /**
+     * @param response the response, to set the headers on
+     * @param out where the body goes
+     * @param encoding {@link #GZIP} or {@link #DEFLATE}
+     * @param threshold the minimum number of bytes to compress the body
+     * @param level the compression level, 0-9, or -1 for the default level
+     */
+    CompressingOutputStream(HttpServletResponse response, OutputStream out, String encoding, int threshold, int level) {
+        this.response = response;
+        this.out = out;
+        this.encoding = encoding;
+        this.level = level;
+        this.held = new byte[Math.max(threshold, 0)];
+    }
+
+    /**
+     * Pick the encoding for an Accept-Encoding header
+     *
+     * @return {@link #GZIP}, {@link #DEFLATE}, or null if the client accepts neither
+     */
+    static String negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+            return null;
+        }
+        // -1 for codings the client did not mention
+        float gzip = -1;
+        float deflate = -1;
+        float any = 0;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            float quality = quality(parts);
+            if (name.equals(GZIP) || name.equals("x-gzip")) {
+                gzip = quality;
+            } else if (name.equals(DEFLATE)) {
+                deflate = quality;
+            } else if (name.equals("*")) {
+                any = quality;
+            }
+        }
+        if (gzip < 0) {
+            gzip = any;
+        }
+        if (deflate < 0) {
+            deflate = any;
+        }
+        if (gzip > 0 && gzip >= deflate) {
+            return GZIP;
+        }
+        return deflate > 0 ? DEFLATE : null;
+    }
+
+    private static float quality(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Float.parseFloat(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[] { (byte) b }, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (held == null) {
+            target.write(b, off, len);
+        } else if (count + len <= held.length) {
+            System.arraycopy(b, off, held, count, len);
+            count += len;
+        } else {
+            startCompression();
+            target.write(b, off, len);
+        }
+    }
+
+    /**
+     * Flush what is compressed so far. Below the threshold nothing is written yet, as it is not yet known if the body
+     * gets compressed.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (held == null) {
+            target.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (held != null) {
+            // the body ended before the threshold, so it goes as is
+            response.setContentLength(count);
+            target = out;
+            out.write(held, 0, count);
+            held = null;
+        }
+        target.close();
+    }
+
+    private void startCompression() throws IOException {
+        response.setHeader("Content-Encoding", encoding);
+        if (GZIP.equals(encoding)) {
+            // GZIPOutputStream has no way to set the level, other than on its deflater
+            target = new GZIPOutputStream(out, BUFFER_SIZE, true) {
+                {
+                    def.setLevel(level);
+                }
+            };
+        } else {
+            Deflater deflater = new Deflater(level);
+            target = new DeflaterOutputStream(out, deflater, BUFFER_SIZE, true) {
+                @Override
+                public void close() throws IOException {
+                    super.close();
+                    // a deflater that is passed in is not ended by the stream
+                    deflater.end();
+                }
+            };
+        }
+        target.write(held, 0, count);
+        held = null;
+    }
+}
@@ -0,0 +1,73 @@
+package io.smallrye.graphql.entry.http;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * A text/event-stream response, written with non-blocking servlet I/O.
+ * <p>
+ * Events can be sent from any thread. They are queued, and written whenever the connection can take them, so a slow
+ * client never blocks the thread that produces the events.
+ */
+class EventStream {
+
+    private static final String TEXT_EVENT_STREAM = "text/event-stream";
+
+    private final AsyncOutput output;
+
+    private EventStream(AsyncOutput output) {
+        this.output = output;
+    }
+
+    /**
+     * Start an event stream as the response to a request
+     */
+    static EventStream start(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(TEXT_EVENT_STREAM);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader("Cache-Control", "no-cache");
+        // send the headers now, so the client knows the stream is open before the first event
+        response.flushBuffer();
+        AsyncContext asyncContext = request.startAsync();
+        // the stream stays open as long as the client wants
+        asyncContext.setTimeout(0);
+        return new EventStream(AsyncOutput.start(asyncContext));
+    }
+
+    /**
+     * Send an event
+     *
+     * @param event the name of the event
+     * @param data the data of the event, without line breaks
+     * @param onSent called once the event is written, or null
+     */
+    void send(String event, String data, Runnable onSent) {
+        String message = new StringBuilder(event.length() + data.length() + 16)
+                .append("event: ").append(event).append('\n')
+                .append("data: ").append(data).append("\n\n")
+                .toString();
+        output.write(message.getBytes(StandardCharsets.UTF_8), onSent);
+    }
+
+    /**
+     * End the stream, once the pending events are written
+     */
+    void close() {
+        output.close();
+    }
+
+    boolean isClosed() {
+        return output.isClosed();
+    }
+
+    /**
+     * @param handler called once when the stream ends, because it was closed or the client went away
+     */
+    void onClose(Runnable handler) {
+        output.onClose(handler);
+    }
+}
@@ -0,0 +1,379 @@
+package io.smallrye.graphql.entry.http;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.inject.Inject;
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletRegistration;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.jboss.logging.Logger;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.GraphqlErrorBuilder;
+import io.smallrye.graphql.execution.ExecutionResponse;
+import io.smallrye.graphql.execution.ExecutionResponseWriter;
+import io.smallrye.graphql.execution.ExecutionService;
+import io.smallrye.graphql.spi.config.Config;
+
+/**
+ * Executing GraphQL operations, mostly subscriptions, over Server-Sent Events.
+ * <p>
+ * This follows the GraphQL over SSE protocol, in both of its modes:
+ * <ul>
+ * <li>Distinct connections: a POST with the operation gets the results as an event stream, that ends with the
+ * operation.</li>
+ * <li>Single connection: a PUT reserves a stream and returns its token, a GET with the token opens it, and every POST
+ * with the token and an operation id in the extensions delivers its results on that stream. A DELETE with the token and
+ * the operation id stops an operation.</li>
+ * </ul>
+ * The results are {@code next} events, and every operation ends with a {@code complete} event. If an operation fails,
+ * it gets a {@code next} event with the error before that.
+ * <p>
+ * This servlet is only registered if {@code smallrye.graphql.http.sse.enabled} is set. A reservation that is not
+ * opened within {@value #RESERVATION_TIMEOUT_SECONDS} seconds expires, and at most {@value #MAX_PENDING_RESERVATIONS}
+ * reservations may wait to be opened at any time.
+ */
+public class EventStreamServlet extends HttpServlet {
+    private static final long serialVersionUID = 8227290312342735315L;
+
+    private static final Logger LOG = Logger.getLogger(EventStreamServlet.class.getName());
+    private static final JsonReaderFactory jsonReaderFactory = Json.createReaderFactory(null);
+    private static final JsonGeneratorFactory jsonGeneratorFactory = Json.createGeneratorFactory(null);
+
+    static final int RESERVATION_TIMEOUT_SECONDS = 30;
+    static final int MAX_PENDING_RESERVATIONS = 1000;
+    private static final long RESERVATION_TIMEOUT = TimeUnit.SECONDS.toNanos(RESERVATION_TIMEOUT_SECONDS);
+
+    @Inject
+    ExecutionService executionService;
+
+    private final Map<String, Reservation> reservations = new ConcurrentHashMap<>();
+
+    public EventStreamServlet() {
+    }
+
+    public EventStreamServlet(ExecutionService executionService) {
+        this.executionService = executionService;
+    }
+
+    /**
+     * Add this servlet to a web application
+     */
+    static void register(ServletContext servletContext) {
+        ServletRegistration.Dynamic registration = servletContext.addServlet("SmallRyeGraphQLEventStreamServlet",
+                EventStreamServlet.class);
+        registration.addMapping("/graphql/stream");
+        registration.setAsyncSupported(true);
+        registration.setLoadOnStartup(1);
+    }
+
+    @Override
+    protected void doPut(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (removeExpiredReservations() >= MAX_PENDING_RESERVATIONS) {
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Too many event stream reservations");
+            return;
+        }
+        String token = UUID.randomUUID().toString();
+        reservations.put(token, new Reservation(System.nanoTime()));
+        response.setStatus(HttpServletResponse.SC_CREATED);
+        response.setContentType(TEXT_PLAIN);
+        try (PrintWriter out = response.getWriter()) {
+            out.print(token);
+        }
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String token = getToken(request);
+        Reservation reservation = token == null ? null : reservations.get(token);
+        if (reservation == null || reservation.isExpired(System.nanoTime())) {
+            if (reservation != null) {
+                reservations.remove(token, reservation);
+            }
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Unknown event stream token");
+            return;
+        }
+        if (reservation.stream.get() != null) {
+            response.sendError(HttpServletResponse.SC_CONFLICT, "Event stream is already open");
+            return;
+        }
+        EventStream stream = EventStream.start(request, response);
+        if (!reservation.stream.compareAndSet(null, stream)) {
+            stream.close();
+            return;
+        }
+        stream.onClose(() -> {
+            reservations.remove(token);
+            reservation.operations.values().forEach(StreamedOperation::cancel);
+        });
+    }
+
+    @Override
+    protected void doPost(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        JsonObject jsonInput;
+        try {
+            jsonInput = getJsonObjectFromBody(request);
+        } catch (JsonException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid JSON");
+            return;
+        }
+        String token = getToken(request);
+        if (token == null) {
+            executeOnDistinctConnection(jsonInput, request, response);
+        } else {
+            executeOnSingleConnection(token, jsonInput, response);
+        }
+    }
+
+    @Override
+    protected void doDelete(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String token = getToken(request);
+        Reservation reservation = token == null ? null : reservations.get(token);
+        if (reservation == null) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Unknown event stream token");
+            return;
+        }
+        String operationId = request.getParameter(OPERATION_ID);
+        StreamedOperation operation = operationId == null ? null : reservation.operations.remove(operationId);
+        if (operation != null) {
+            operation.cancel();
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+    }
+
+    private void executeOnDistinctConnection(JsonObject jsonInput, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        EventStream stream = EventStream.start(request, response);
+        StreamedOperation operation = new StreamedOperation(stream, null, stream::close);
+        stream.onClose(operation::cancel);
+        executionService.executeAsync(jsonInput, new HashMap<>(), operation);
+    }
+
+    private void executeOnSingleConnection(String token, JsonObject jsonInput, HttpServletResponse response)
+            throws IOException {
+        Reservation reservation = reservations.get(token);
+        if (reservation == null) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Unknown event stream token");
+            return;
+        }
+        EventStream stream = reservation.stream.get();
+        if (stream == null) {
+            response.sendError(HttpServletResponse.SC_CONFLICT, "Event stream is not open");
+            return;
+        }
+        JsonObject extensions = jsonInput.getJsonObject(EXTENSIONS);
+        String operationId = extensions == null ? null : extensions.getString(OPERATION_ID, null);
+        if (operationId == null) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Operation id is missing");
+            return;
+        }
+        StreamedOperation operation = new StreamedOperation(stream, operationId,
+                () -> reservation.operations.remove(operationId));
+        if (reservation.operations.putIfAbsent(operationId, operation) != null) {
+            response.sendError(HttpServletResponse.SC_CONFLICT, "Operation with id " + operationId + " already exists");
+            return;
+        }
+        response.setStatus(HttpServletResponse.SC_ACCEPTED);
+        executionService.executeAsync(jsonInput, new HashMap<>(), operation);
+    }
+
+    /**
+     * @return the number of reservations that are still waiting to be opened
+     */
+    private int removeExpiredReservations() {
+        long now = System.nanoTime();
+        int pending = 0;
+        for (Iterator<Reservation> it = reservations.values().iterator(); it.hasNext();) {
+            Reservation reservation = it.next();
+            if (reservation.isExpired(now)) {
+                it.remove();
+            } else if (reservation.stream.get() == null) {
+                pending++;
+            }
+        }
+        return pending;
+    }
+
+    private static String getToken(HttpServletRequest request) {
+        String token = request.getHeader(TOKEN_HEADER);
+        if (token == null || token.isEmpty()) {
+            token = request.getParameter(TOKEN);
+        }
+        return token == null || token.isEmpty() ? null : token;
+    }
+
+    private static JsonObject getJsonObjectFromBody(HttpServletRequest request) throws IOException {
+        try (BufferedReader bufferedReader = request.getReader();
+                JsonReader jsonReader = jsonReaderFactory.createReader(bufferedReader)) {
+            return jsonReader.readObject();
+        }
+    }
+
+    /**
+     * A stream reserved for the single connection mode, and the operations that deliver their results on it
+     */
+    private static class Reservation {
+        private final long created;
+        private final AtomicReference<EventStream> stream = new AtomicReference<>();
+        private final Map<String, StreamedOperation> operations = new ConcurrentHashMap<>();
+
+        private Reservation(long created) {
+            this.created = created;
+        }
+
+        /**
+         * @return true if the stream was not opened in time
+         */
+        private boolean isExpired(long now) {
+            return stream.get() == null && now - created > RESERVATION_TIMEOUT;
+        }
+    }
+
+    /**
+     * Sends the results of one operation as events. The next event of a subscription is only requested once the
+     * previous one is written.
+     */
+    private static class StreamedOperation implements ExecutionResponseWriter, Subscriber<ExecutionResult> {
+        private final EventStream stream;
+        private final String operationId; // null on a distinct connection
+        private final Runnable onComplete;
+        private final AtomicReference<Subscription> subscription = new AtomicReference<>();
+        private volatile boolean cancelled;
+
+        private StreamedOperation(EventStream stream, String operationId, Runnable onComplete) {
+            this.stream = stream;
+            this.operationId = operationId;
+            this.onComplete = onComplete;
+        }
+
+        @Override
+        public void write(ExecutionResponse executionResponse) {
+            if (cancelled) {
+                return;
+            }
+            ExecutionResult executionResult = executionResponse.getExecutionResult();
+            Object data = executionResult.getData();
+            if (executionResult.isDataPresent() && data instanceof Publisher) {
+                ((Publisher<ExecutionResult>) data).subscribe(this);
+            } else {
+                sendNext(executionResponse, null);
+                complete();
+            }
+        }
+
+        @Override
+        public void fail(Throwable t) {
+            LOG.warn("Could not execute operation", t);
+            sendError();
+            complete();
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (subscription.compareAndSet(null, s)) {
+                if (cancelled) {
+                    s.cancel();
+                } else {
+                    s.request(1);
+                }
+            } else {
+                s.cancel();
+            }
+        }
+
+        @Override
+        public void onNext(ExecutionResult executionResult) {
+            if (!cancelled) {
+                sendNext(new ExecutionResponse(executionResult), () -> subscription.get().request(1));
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            LOG.warn("Subscription failed", t);
+            sendError();
+            complete();
+        }
+
+        @Override
+        public void onComplete() {
+            complete();
+        }
+
+        private void cancel() {
+            cancelled = true;
+            Subscription s = subscription.get();
+            if (s != null) {
+                s.cancel();
+            }
+        }
+
+        private void sendNext(ExecutionResponse executionResponse, Runnable onSent) {
+            StringWriter writer = new StringWriter();
+            try (JsonGenerator generator = jsonGeneratorFactory.createGenerator(writer)) {
+                if (operationId == null) {
+                    executionResponse.writeExecutionResult(generator);
+                } else {
+                    generator.writeStartObject().write(ID, operationId).writeKey(PAYLOAD);
+                    executionResponse.writeExecutionResult(generator);
+                    generator.writeEnd();
+                }
+            }
+            stream.send(NEXT, writer.toString(), onSent);
+        }
+
+        /**
+         * The protocol has no error event, so the error is sent as the result of the operation, without the details
+         */
+        private void sendError() {
+            if (!cancelled && !stream.isClosed()) {
+                sendNext(new ExecutionResponse(ExecutionResultImpl.newExecutionResult()
+                        .addError(GraphqlErrorBuilder.newError().message(Config.get().getDefaultErrorMessage()).build())
+                        .build()), null);
+            }
+        }
+
+        private void complete() {
+            if (!cancelled && !stream.isClosed()) {
+                String data = operationId == null ? ""
+                        : Json.createObjectBuilder().add(ID, operationId).build().toString();
+                stream.send(COMPLETE, data, null);
+            }
+            onComplete.run();
+        }
+    }
+
+    private static final String TEXT_PLAIN = "text/plain";
+    private static final String TOKEN_HEADER = "X-GraphQL-Event-Stream-Token";
+    private static final String TOKEN = "token";
+    private static final String EXTENSIONS = "extensions";
+    private static final String OPERATION_ID = "operationId";
+    private static final String ID = "id";
+    private static final String PAYLOAD = "payload";
+    private static final String NEXT = "next";
+    private static final String COMPLETE = "complete";
+}
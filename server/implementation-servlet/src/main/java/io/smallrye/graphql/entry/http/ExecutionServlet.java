@@ -1,18 +1,28 @@
 package io.smallrye.graphql.entry.http;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.StringReader;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.stream.Collectors;
 
 import jakarta.inject.Inject;
 import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonException;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
 import jakarta.json.JsonReader;
 import jakarta.json.JsonReaderFactory;
+import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
+import jakarta.servlet.AsyncContext;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,7 +36,7 @@ import io.smallrye.graphql.spi.config.Config;
  *
  * @author Phillip Kruger (phillip.kruger@redhat.com)
  */
-@WebServlet(name = "SmallRyeGraphQLExecutionServlet", urlPatterns = { "/graphql/*" }, loadOnStartup = 1)
+@WebServlet(name = "SmallRyeGraphQLExecutionServlet", urlPatterns = { "/graphql/*" }, asyncSupported = true, loadOnStartup = 1)
 public class ExecutionServlet extends HttpServlet {
     private static final long serialVersionUID = -2859915918802356120L;
 
@@ -49,7 +59,12 @@ public class ExecutionServlet extends HttpServlet {
         try {
             if (config.isAllowGet()) {
                 JsonObject jsonObject = getJsonObjectFromQueryParameters(request);
-                executionService.executeSync(jsonObject, new HttpServletResponseWriter(response));
+                if (config.isAsyncHttpEnabled()) {
+                    AsyncContext asyncContext = request.startAsync();
+                    executionService.executeAsync(jsonObject, createAsyncResponseWriter(request, response, asyncContext));
+                } else {
+                    executionService.executeSync(jsonObject, createResponseWriter(request, response));
+                }
             } else {
                 response.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED, "GET Queries is not enabled");
             }
@@ -61,16 +76,24 @@ public class ExecutionServlet extends HttpServlet {
 
     @Override
     protected void doPost(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (config.isAsyncHttpEnabled()) {
+            doPostAsync(request, response);
+            return;
+        }
         try {
-            JsonObject jsonObjectFromBody = getJsonObjectFromBody(request);
-            if (request.getQueryString() != null && !request.getQueryString().isEmpty()
-                    && config.isAllowPostWithQueryParameters()) {
-                JsonObject jsonObjectFromQueryParameters = getJsonObjectFromQueryParameters(request);
-                JsonObject mergedJsonObject = Json.createMergePatch(jsonObjectFromQueryParameters).apply(jsonObjectFromBody)
-                        .asJsonObject();
-                executionService.executeSync(mergedJsonObject, new HttpServletResponseWriter(response));
+            JsonStructure jsonFromBody;
+            try (BufferedReader bufferedReader = request.getReader()) {
+                jsonFromBody = getJsonFromBody(request.getContentType(), bufferedReader);
+            }
+            if (jsonFromBody instanceof JsonArray) {
+                if (isValidBatch((JsonArray) jsonFromBody)) {
+                    executeBatch(request, response, request.startAsync(), (JsonArray) jsonFromBody);
+                } else {
+                    response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Not a valid batch of operations");
+                }
             } else {
-                executionService.executeSync(jsonObjectFromBody, new HttpServletResponseWriter(response));
+                executionService.executeSync(withQueryParameters(request, jsonFromBody.asJsonObject()),
+                        createResponseWriter(request, response));
             }
         } catch (IOException ex) {
             SmallRyeGraphQLServletLogging.log.ioException(ex);
@@ -78,6 +101,102 @@ public class ExecutionServlet extends HttpServlet {
         }
     }
 
+    /**
+     * Read the body and write the response with non-blocking I/O, and execute asynchronously, so that no container
+     * thread waits for the client or for the execution
+     */
+    private void doPostAsync(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        AsyncContext asyncContext = request.startAsync();
+        AsyncRequestBody.read(request, body -> {
+            JsonStructure jsonFromBody;
+            try (BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(
+                    new ByteArrayInputStream(body), getCharset(request)))) {
+                jsonFromBody = getJsonFromBody(request.getContentType(), bufferedReader);
+            } catch (IOException | JsonException | IllegalArgumentException ex) {
+                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                asyncContext.complete();
+                return;
+            }
+            try {
+                if (jsonFromBody instanceof JsonArray) {
+                    if (isValidBatch((JsonArray) jsonFromBody)) {
+                        executeBatch(request, response, asyncContext, (JsonArray) jsonFromBody);
+                    } else {
+                        response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                        asyncContext.complete();
+                    }
+                } else {
+                    executionService.executeAsync(withQueryParameters(request, jsonFromBody.asJsonObject()),
+                            createAsyncResponseWriter(request, response, asyncContext));
+                }
+            } catch (IOException ex) {
+                SmallRyeGraphQLServletLogging.log.ioException(ex);
+                asyncContext.complete();
+            }
+        }, error -> {
+            SmallRyeGraphQLServletLogging.log.ioException(new IOException(error));
+            asyncContext.complete();
+        });
+    }
+
+    /**
+     * Execute the operations of a batch concurrently, and stream their responses back as a JSON array. This is always
+     * done asynchronously, as the operations do not finish in order.
+     */
+    private void executeBatch(HttpServletRequest request, HttpServletResponse response, AsyncContext asyncContext,
+            JsonArray operations) throws IOException {
+        executionService.executeBatch(operations, new HashMap<>(),
+                createAsyncResponseWriter(request, response, asyncContext).batch(operations.size()), true);
+    }
+
+    private boolean isValidBatch(JsonArray operations) {
+        return config.isHttpBatchingEnabled()
+                && !operations.isEmpty()
+                && operations.size() <= config.getHttpBatchingMaxOperations()
+                && operations.stream().allMatch(operation -> operation.getValueType() == JsonValue.ValueType.OBJECT);
+    }
+
+    private JsonObject withQueryParameters(HttpServletRequest request, JsonObject jsonObjectFromBody)
+            throws UnsupportedEncodingException {
+        if (request.getQueryString() != null && !request.getQueryString().isEmpty()
+                && config.isAllowPostWithQueryParameters()) {
+            JsonObject jsonObjectFromQueryParameters = getJsonObjectFromQueryParameters(request);
+            return Json.createMergePatch(jsonObjectFromQueryParameters).apply(jsonObjectFromBody)
+                    .asJsonObject();
+        }
+        return jsonObjectFromBody;
+    }
+
+    private HttpServletResponseWriter createResponseWriter(HttpServletRequest request, HttpServletResponse response) {
+        return new HttpServletResponseWriter(response, null,
+                acceptsGraphQLResponseJson(request), getContentEncoding(request, response));
+    }
+
+    private HttpServletResponseWriter createAsyncResponseWriter(HttpServletRequest request, HttpServletResponse response,
+            AsyncContext asyncContext) throws IOException {
+        return new HttpServletResponseWriter(response, AsyncOutput.start(asyncContext),
+                acceptsGraphQLResponseJson(request), getContentEncoding(request, response));
+    }
+
+    private static boolean acceptsGraphQLResponseJson(HttpServletRequest request) {
+        String accept = request.getHeader(ACCEPT);
+        return accept != null && accept.contains(APPLICATION_GRAPHQL_RESPONSE_JSON);
+    }
+
+    private String getContentEncoding(HttpServletRequest request, HttpServletResponse response) {
+        if (!config.isHttpCompressionEnabled()) {
+            return null;
+        }
+        // the same URL gives a different body depending on the header, which caches have to know
+        response.addHeader(VARY, ACCEPT_ENCODING);
+        return CompressingOutputStream.negotiate(request.getHeader(ACCEPT_ENCODING));
+    }
+
+    private static Charset getCharset(HttpServletRequest request) {
+        String encoding = request.getCharacterEncoding();
+        return encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+    }
+
     private JsonObject getJsonObjectFromQueryParameters(HttpServletRequest request) throws UnsupportedEncodingException {
         JsonObjectBuilder input = Json.createObjectBuilder();
         // Query
@@ -108,21 +227,17 @@ public class ExecutionServlet extends HttpServlet {
         return input.build();
     }
 
-    private JsonObject getJsonObjectFromBody(HttpServletRequest request) throws IOException {
-
-        String contentType = request.getContentType();
-        try (BufferedReader bufferedReader = request.getReader()) {
-            // If the content type is application/graphql, the query is in the body
-            if (contentType != null && contentType.startsWith(APPLICATION_GRAPHQL)) {
-                String query = bufferedReader.lines().collect(Collectors.joining("\n"));
-                JsonObjectBuilder input = Json.createObjectBuilder();
-                input.add(QUERY, query);
-                return input.build();
-                // Else we expect a Json in the content    
-            } else {
-                try (JsonReader jsonReader = jsonReaderFactory.createReader(bufferedReader)) {
-                    return jsonReader.readObject();
-                }
+    private JsonStructure getJsonFromBody(String contentType, BufferedReader bufferedReader) {
+        // If the content type is application/graphql, the query is in the body
+        if (contentType != null && contentType.startsWith(APPLICATION_GRAPHQL)) {
+            String query = bufferedReader.lines().collect(Collectors.joining("\n"));
+            JsonObjectBuilder input = Json.createObjectBuilder();
+            input.add(QUERY, query);
+            return input.build();
+            // Else we expect a Json in the content, or a Json array for a batch
+        } else {
+            try (JsonReader jsonReader = jsonReaderFactory.createReader(bufferedReader)) {
+                return jsonReader.read();
             }
         }
     }
@@ -141,5 +256,9 @@ public class ExecutionServlet extends HttpServlet {
     private static final String VARIABLES = "variables";
     private static final String EXTENSIONS = "extensions";
     private static final String APPLICATION_GRAPHQL = "application/graphql";
+    private static final String ACCEPT = "Accept";
+    private static final String APPLICATION_GRAPHQL_RESPONSE_JSON = "application/graphql-response+json";
+    private static final String ACCEPT_ENCODING = "Accept-Encoding";
+    private static final String VARY = "Vary";
 
 }
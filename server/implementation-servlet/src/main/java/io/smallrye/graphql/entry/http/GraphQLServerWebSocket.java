@@ -1,8 +1,11 @@
 package io.smallrye.graphql.entry.http;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.websocket.CloseReason;
@@ -10,6 +13,7 @@ import jakarta.websocket.OnClose;
 import jakarta.websocket.OnError;
 import jakarta.websocket.OnMessage;
 import jakarta.websocket.OnOpen;
+import jakarta.websocket.SendResult;
 import jakarta.websocket.Session;
 import jakarta.websocket.server.ServerEndpoint;
 
@@ -28,6 +32,11 @@ import io.smallrye.graphql.websocket.graphqlws.GraphQLWSSubprotocolHandler;
 @ServerEndpoint(value = "/graphql", subprotocols = { "graphql-transport-ws", "graphql-ws" })
 public class GraphQLServerWebSocket {
 
+    // the number of messages that may wait for a slow client, before it is disconnected
+    private static final int MAX_PENDING_MESSAGES = 1000;
+    // the close code for policy violations
+    private static final short OVERFLOW_CLOSE_CODE = 1008;
+
     private final Logger log = Logger.getLogger(GraphQLServerWebSocket.class.getName());
 
     private final Map<Session, GraphQLWebsocketHandler> sessionsToHandlers = new ConcurrentHashMap<>();
@@ -38,10 +47,10 @@ public class GraphQLServerWebSocket {
         String subprotocol = session.getNegotiatedSubprotocol();
         switch (subprotocol) {
             case "graphql-transport-ws":
-                handler = new GraphQLTransportWSSubprotocolHandler(new SmallRyeWebSocketSession(session), new HashMap<>());
+                handler = new GraphQLTransportWSSubprotocolHandler(new SmallRyeWebSocketSession(session), context(session));
                 break;
             case "graphql-ws":
-                handler = new GraphQLWSSubprotocolHandler(new SmallRyeWebSocketSession(session), new HashMap<>());
+                handler = new GraphQLWSSubprotocolHandler(new SmallRyeWebSocketSession(session), context(session));
                 break;
             default:
                 log.warn("Unknown subprotocol: " + subprotocol);
@@ -57,6 +66,12 @@ public class GraphQLServerWebSocket {
         log.debug("Opened graphql-over-websocket session on " + session + " with subprotocol=" + subprotocol);
     }
 
+    private static Map<String, Object> context(Session session) {
+        Map<String, Object> context = new HashMap<>();
+        context.put(GraphQLWebsocketHandler.PRINCIPAL_CONTEXT_KEY, Optional.ofNullable(session.getUserPrincipal()));
+        return context;
+    }
+
     @OnClose
     public void onClose(Session session) {
         log.debug("Closing session " + session);
@@ -84,9 +99,20 @@ public class GraphQLServerWebSocket {
         }
     }
 
+    /**
+     * Sends messages asynchronously, one at a time. The session is writable while no message is in flight.
+     * <p>
+     * Subscription events are only sent while the session is writable, and dropped according to the overflow policy by
+     * the handler otherwise, so the messages that queue up here are the ones that can't be dropped, like results,
+     * errors and completions. A client that doesn't read them is disconnected when too many are pending.
+     */
     private class SmallRyeWebSocketSession implements GraphQLWebSocketSession {
 
         private final Session session;
+        private final Deque<String> pending = new ArrayDeque<>(); // guarded by this
+        private boolean sending; // guarded by this
+        private IOException failure; // guarded by this
+        private volatile Runnable writableHandler;
 
         public SmallRyeWebSocketSession(Session session) {
             this.session = session;
@@ -97,7 +123,70 @@ public class GraphQLServerWebSocket {
             if (log.isTraceEnabled()) {
                 log.trace(">>> " + message);
             }
-            session.getBasicRemote().sendText(message);
+            IOException overflow = null;
+            synchronized (this) {
+                if (failure != null) {
+                    throw new IOException("Could not send a previous message", failure);
+                }
+                if (!sending) {
+                    sending = true;
+                } else if (pending.size() < MAX_PENDING_MESSAGES) {
+                    pending.add(message);
+                    return;
+                } else {
+                    overflow = new IOException("Too many pending messages");
+                    failure = overflow;
+                    pending.clear();
+                }
+            }
+            if (overflow != null) {
+                close(OVERFLOW_CLOSE_CODE, overflow.getMessage());
+                throw overflow;
+            }
+            send(message);
+        }
+
+        private void send(String message) {
+            try {
+                session.getAsyncRemote().sendText(message, this::onSent);
+            } catch (RuntimeException e) {
+                onSent(new SendResult(e));
+            }
+        }
+
+        private void onSent(SendResult result) {
+            String next;
+            synchronized (this) {
+                if (!result.isOK() && failure == null) {
+                    log.warn("Could not send message", result.getException());
+                    // the next send reports it, and nothing more is sent on this session
+                    failure = result.getException() instanceof IOException ? (IOException) result.getException()
+                            : new IOException(result.getException());
+                    pending.clear();
+                }
+                next = pending.poll();
+                if (next == null) {
+                    sending = false;
+                }
+            }
+            if (next != null) {
+                send(next);
+            } else {
+                Runnable handler = writableHandler;
+                if (handler != null) {
+                    handler.run();
+                }
+            }
+        }
+
+        @Override
+        public synchronized boolean isWritable() {
+            return !sending;
+        }
+
+        @Override
+        public void setWritableHandler(Runnable handler) {
+            this.writableHandler = handler;
         }
 
         @Override
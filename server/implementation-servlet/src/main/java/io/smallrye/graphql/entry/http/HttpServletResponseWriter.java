@@ -1,39 +1,133 @@
 package io.smallrye.graphql.entry.http;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 
 import jakarta.json.Json;
-import jakarta.json.JsonWriter;
-import jakarta.json.JsonWriterFactory;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
 import jakarta.servlet.http.HttpServletResponse;
 
 import io.smallrye.graphql.execution.ExecutionResponse;
 import io.smallrye.graphql.execution.ExecutionResponseWriter;
+import io.smallrye.graphql.spi.config.Config;
 
 /**
  * Writing the response to HTTP servlet
+ * <p>
+ * For asynchronous requests, the response is written with non-blocking I/O, and the request completes with the last
+ * write.
+ * <p>
+ * The responses of a batch are written as a JSON array, each one flushed as soon as it is there.
+ * <p>
+ * The JSON is generated straight into the response, through a {@link CompressingOutputStream} if the response is
+ * compressed, so it is never held in memory as a whole.
  * 
  * @author Phillip Kruger (phillip.kruger@redhat.com)
  */
 public class HttpServletResponseWriter implements ExecutionResponseWriter {
     private static final String APPLICATION_JSON_UTF8 = "application/json;charset=UTF-8";
-    private static final JsonWriterFactory jsonWriterFactory = Json.createWriterFactory(null);
+    private static final String APPLICATION_GRAPHQL_RESPONSE_JSON_UTF8 = "application/graphql-response+json;charset=UTF-8";
+    private static final JsonGeneratorFactory jsonGeneratorFactory = Json.createGeneratorFactory(null);
 
     private final HttpServletResponse response;
+    private final AsyncOutput output;
+    private final boolean graphqlResponseJson;
+    private final String contentEncoding;
+    private OutputStream body;
+    private int unwrittenInBatch = -1;
+    private JsonGenerator batch;
 
     public HttpServletResponseWriter(HttpServletResponse response) {
+        this(response, null, false, null);
+    }
+
+    /**
+     * @param output the output of an asynchronous request, or null to write with blocking I/O
+     * @param graphqlResponseJson if the response is application/graphql-response+json, rather than application/json
+     * @param contentEncoding the encoding to compress the response with, or null to not compress it
+     */
+    HttpServletResponseWriter(HttpServletResponse response, AsyncOutput output, boolean graphqlResponseJson,
+            String contentEncoding) {
         this.response = response;
+        this.output = output;
+        this.graphqlResponseJson = graphqlResponseJson;
+        this.contentEncoding = contentEncoding;
+    }
+
+    /**
+     * Write the responses of a batch of operations
+     *
+     * @param size the number of operations
+     * @return this writer
+     */
+    HttpServletResponseWriter batch(int size) {
+        this.unwrittenInBatch = size;
+        return this;
     }
 
     @Override
     public void write(ExecutionResponse executionResponse) {
-        if (executionResponse != null) {
-            try (JsonWriter jsonWriter = jsonWriterFactory.createWriter(response.getOutputStream())) {
-                response.setContentType(APPLICATION_JSON_UTF8);
-                jsonWriter.writeObject(executionResponse.getExecutionResultAsJsonObject());
+        if (unwrittenInBatch >= 0) {
+            writeBatched(executionResponse);
+        } else if (executionResponse != null) {
+            response.setContentType(graphqlResponseJson ? APPLICATION_GRAPHQL_RESPONSE_JSON_UTF8 : APPLICATION_JSON_UTF8);
+            if (graphqlResponseJson && !executionResponse.getExecutionResult().isDataPresent()) {
+                // the request could not be executed at all
+                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            }
+            try (JsonGenerator generator = jsonGeneratorFactory.createGenerator(body(), StandardCharsets.UTF_8)) {
+                executionResponse.writeExecutionResult(generator);
             } catch (IOException ex) {
                 throw new RuntimeException(ex);
             }
+        } else if (output != null) {
+            output.close();
+        }
+    }
+
+    @Override
+    public void fail(Throwable t) {
+        if (output == null) {
+            ExecutionResponseWriter.super.fail(t);
+        } else {
+            // nobody up the stack of an asynchronous request can turn the exception into a response
+            SmallRyeGraphQLServletLogging.log.executionFailed(t);
+            if (!response.isCommitted()) {
+                response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            }
+            output.close();
+        }
+    }
+
+    private void writeBatched(ExecutionResponse executionResponse) {
+        try {
+            if (batch == null) {
+                response.setContentType(graphqlResponseJson ? APPLICATION_GRAPHQL_RESPONSE_JSON_UTF8 : APPLICATION_JSON_UTF8);
+                batch = jsonGeneratorFactory.createGenerator(body(), StandardCharsets.UTF_8);
+                batch.writeStartArray();
+            }
+            executionResponse.writeExecutionResult(batch);
+            if (--unwrittenInBatch == 0) {
+                batch.writeEnd();
+                batch.close();
+            } else {
+                batch.flush();
+            }
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    private OutputStream body() throws IOException {
+        if (body == null) {
+            body = output != null ? output.asStream() : response.getOutputStream();
+            if (contentEncoding != null) {
+                body = new CompressingOutputStream(response, body, contentEncoding,
+                        Config.get().getHttpCompressionThreshold(), Config.get().getHttpCompressionLevel());
+            }
         }
+        return body;
     }
 }
@@ -69,4 +69,8 @@ public interface SmallRyeGraphQLServletLogging {
     @Message(id = 21002, value = "Unable to log reader %s")
     void unableToLogReader(Reader reader);
 
+    @LogMessage(level = Logger.Level.ERROR)
+    @Message(id = 21003, value = "Executing the request failed")
+    void executionFailed(@Cause Throwable t);
+
 }
@@ -24,6 +24,7 @@ import graphql.schema.GraphQLSchema;
 import io.smallrye.graphql.cdi.producer.GraphQLProducer;
 import io.smallrye.graphql.schema.SchemaBuilder;
 import io.smallrye.graphql.schema.model.Schema;
+import io.smallrye.graphql.spi.config.Config;
 
 /**
  * Bootstrap the application on startup
@@ -58,6 +59,10 @@ public class StartupListener implements ServletContextListener {
             GraphQLSchema graphQLSchema = graphQLProducer.initialize(schema, true);
 
             sce.getServletContext().setAttribute(SchemaServlet.SCHEMA_PROP, graphQLSchema);
+
+            if (Config.get().isHttpEventStreamEnabled()) {
+                EventStreamServlet.register(sce.getServletContext());
+            }
             SmallRyeGraphQLServletLogging.log.initialized();
         } catch (MalformedURLException ex) {
             throw new RuntimeException(ex);
@@ -28,6 +28,10 @@ public interface SmallRyeGraphQLServerLogging {
     @Message(id = 10002, value = "Operation [%s] also exist as a batch operation - ignoring the non-batch operation")
     void duplicateOperation(String operationName);
 
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 10003, value = "Bootstrapping the GraphQL types in parallel")
+    void enableParallelBootstrap();
+
     /* 11000-11999: query related logs */
 
     @LogMessage(level = Logger.Level.WARN)
@@ -58,6 +62,10 @@ public interface SmallRyeGraphQLServerLogging {
     @Message(id = 11006, value = "Payload Out [%s]")
     void payloadOut(String payload);
 
+    @LogMessage(level = Logger.Level.ERROR)
+    @Message(id = 11007, value = "Operation %d of the batch failed")
+    void batchOperationFailed(int index, @Cause Throwable cause);
+
     /* 12000-12999: data fetching related logs */
 
     @LogMessage(level = Logger.Level.ERROR)
@@ -75,4 +75,7 @@ public interface SmallRyeGraphQLServerMessages {
 
     @Message(id = 20, value = "Can not inject an instance of class [%s]. Please make sure it is a CDI bean, also possibly the beans.xml file is needed")
     RuntimeException canNotInjectClass(String className, @Cause Exception cause);
+
+    @Message(id = 21, value = "Too many errors, %d more errors were omitted")
+    String tooManyErrors(int omitted);
 }
@@ -18,6 +18,13 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import jakarta.json.Json;
@@ -109,6 +116,10 @@ public class Bootstrap {
 
     private final ClassloadingService classloadingService = ClassloadingService.get();
 
+    // Only set when bootstrapping in parallel
+    private ExecutorService executor;
+    private final ThreadLocal<List<Runnable>> deferredRegistrations = new ThreadLocal<>();
+
     public static GraphQLSchema bootstrap(Schema schema) {
         return bootstrap(schema, false);
     }
@@ -159,16 +170,28 @@ public class Bootstrap {
     private void generateGraphQLSchema() {
         GraphQLSchema.Builder schemaBuilder = GraphQLSchema.newSchema();
 
-        createGraphQLDirectiveTypes();
-        createGraphQLEnumTypes();
-        createGraphQLInterfaceTypes();
-        createGraphQLUnionTypes();
-        createGraphQLObjectTypes();
-        createGraphQLInputObjectTypes();
-
-        addQueries(schemaBuilder);
-        addMutations(schemaBuilder);
-        addSubscriptions(schemaBuilder);
+        if (Config.get().isParallelBootstrapEnabled()) {
+            log.enableParallelBootstrap();
+            this.executor = createExecutor();
+        }
+        try {
+            createGraphQLDirectiveTypes();
+            createGraphQLEnumTypes();
+            // Inputs first, so that auto map arguments on interfaces and types can find their key input
+            createGraphQLInputObjectTypes();
+            createGraphQLInterfaceTypes();
+            createGraphQLUnionTypes();
+            createGraphQLObjectTypes();
+
+            addQueries(schemaBuilder);
+            addMutations(schemaBuilder);
+            addSubscriptions(schemaBuilder);
+        } finally {
+            if (this.executor != null) {
+                this.executor.shutdownNow();
+                this.executor = null;
+            }
+        }
 
         schemaBuilder.additionalDirectives(directiveTypes);
         schemaBuilder.additionalTypes(new HashSet<>(enumMap.values()));
@@ -304,10 +327,9 @@ public class Bootstrap {
     private void addRootObject(GraphQLObjectType.Builder rootBuilder, Set<Operation> operations,
             String rootName) {
 
-        for (Operation operation : operations) {
-            operation = eventEmitter.fireCreateOperation(operation);
-            GraphQLFieldDefinition graphQLFieldDefinition = createGraphQLFieldDefinitionFromOperation(rootName,
-                    operation);
+        List<GraphQLFieldDefinition> graphQLFieldDefinitions = createAll(operations,
+                operation -> createGraphQLFieldDefinitionFromOperation(rootName, fireCreateOperation(operation)));
+        for (GraphQLFieldDefinition graphQLFieldDefinition : graphQLFieldDefinitions) {
             rootBuilder.field(graphQLFieldDefinition);
         }
     }
@@ -331,9 +353,9 @@ public class Bootstrap {
 
             GraphQLFieldDefinition namedField = graphQLFieldDefinitionBuilder.build();
 
-            this.codeRegistryBuilder.dataFetcherIfAbsent(
+            register(() -> this.codeRegistryBuilder.dataFetcherIfAbsent(
                     FieldCoordinates.coordinates(rootName, namedField.getName()),
-                    dummyDataFetcher);
+                    dummyDataFetcher));
 
             rootBuilder.field(namedField);
         }
@@ -346,11 +368,9 @@ public class Bootstrap {
                 .description(group.getDescription());
 
         // Operations
-        for (Operation operation : operations) {
-            operation = eventEmitter.fireCreateOperation(operation);
-
-            GraphQLFieldDefinition graphQLFieldDefinition = createGraphQLFieldDefinitionFromOperation(namedTypeName,
-                    operation);
+        List<GraphQLFieldDefinition> graphQLFieldDefinitions = createAll(operations,
+                operation -> createGraphQLFieldDefinitionFromOperation(namedTypeName, fireCreateOperation(operation)));
+        for (GraphQLFieldDefinition graphQLFieldDefinition : graphQLFieldDefinitions) {
             objectTypeBuilder = objectTypeBuilder.field(graphQLFieldDefinition);
         }
 
@@ -360,9 +380,7 @@ public class Bootstrap {
     // Create all enums and map them
     private void createGraphQLEnumTypes() {
         if (schema.hasEnums()) {
-            for (EnumType enumType : schema.getEnums().values()) {
-                createGraphQLEnumType(enumType);
-            }
+            forEachType(schema.getEnums().values(), this::createGraphQLEnumType);
         }
     }
 
@@ -386,14 +404,12 @@ public class Bootstrap {
             enumBuilder = enumBuilder.value(definitionBuilder.build());
         }
         GraphQLEnumType graphQLEnumType = enumBuilder.build();
-        enumMap.put(enumType.getClassName(), graphQLEnumType);
+        register(() -> enumMap.put(enumType.getClassName(), graphQLEnumType));
     }
 
     private void createGraphQLInterfaceTypes() {
         if (schema.hasInterfaces()) {
-            for (Type interfaceType : schema.getInterfaces().values()) {
-                createGraphQLInterfaceType(interfaceType);
-            }
+            forEachType(schema.getInterfaces().values(), this::createGraphQLInterfaceType);
         }
     }
 
@@ -429,7 +445,7 @@ public class Bootstrap {
             for (Operation operation : interfaceType.getOperations().values()) {
                 String name = operation.getName();
                 if (!interfaceType.hasBatchOperation(name)) {
-                    operation = eventEmitter.fireCreateOperation(operation);
+                    operation = fireCreateOperation(operation);
 
                     GraphQLFieldDefinition graphQLFieldDefinition = createGraphQLFieldDefinitionFromOperation(
                             interfaceType.getName(),
@@ -444,7 +460,7 @@ public class Bootstrap {
         // Batch Operations
         if (interfaceType.hasBatchOperations()) {
             for (Operation operation : interfaceType.getBatchOperations().values()) {
-                operation = eventEmitter.fireCreateOperation(operation);
+                operation = fireCreateOperation(operation);
 
                 GraphQLFieldDefinition graphQLFieldDefinition = createGraphQLFieldDefinitionFromBatchOperation(
                         interfaceType.getName(),
@@ -455,16 +471,16 @@ public class Bootstrap {
 
         GraphQLInterfaceType graphQLInterfaceType = interfaceTypeBuilder.build();
         // To resolve the concrete class
-        this.codeRegistryBuilder.typeResolver(graphQLInterfaceType, new InterfaceResolver(interfaceType));
-        this.interfaceMap.put(interfaceType.getName(), graphQLInterfaceType);
+        register(() -> {
+            this.codeRegistryBuilder.typeResolver(graphQLInterfaceType, new InterfaceResolver(interfaceType));
+            this.interfaceMap.put(interfaceType.getName(), graphQLInterfaceType);
+        });
     }
 
     private void createGraphQLUnionTypes() {
         // We can't create unions if there are no types to be a member of them
         if (schema.hasUnions() && schema.hasTypes()) {
-            for (UnionType unionType : schema.getUnions().values()) {
-                createGraphQLUnionType(unionType);
-            }
+            forEachType(schema.getUnions().values(), this::createGraphQLUnionType);
         }
     }
 
@@ -482,15 +498,22 @@ public class Bootstrap {
 
         GraphQLUnionType graphQLUnionType = unionTypeBuilder.build();
         // To resolve the concrete class
-        this.codeRegistryBuilder.typeResolver(graphQLUnionType, new UnionResolver(unionType));
-        this.unionMap.put(unionType.getName(), graphQLUnionType);
+        register(() -> {
+            this.codeRegistryBuilder.typeResolver(graphQLUnionType, new UnionResolver(unionType));
+            this.unionMap.put(unionType.getName(), graphQLUnionType);
+        });
     }
 
     private void createGraphQLInputObjectTypes() {
         if (schema.hasInputs()) {
+            // Register the inputs for possible JsonB usage before any of them is created, as the default values of the
+            // fields are deserialized with it; this way they don't depend on the order (or the timing) of the inputs
             for (InputType inputType : schema.getInputs().values()) {
-                createGraphQLInputObjectType(inputType);
+                if (inputType.hasFields()) {
+                    JsonInputRegistry.register(inputType);
+                }
             }
+            forEachType(schema.getInputs().values(), this::createGraphQLInputObjectType);
         }
     }
 
@@ -509,22 +532,16 @@ public class Bootstrap {
         if (inputType.hasFields()) {
             inputObjectTypeBuilder = inputObjectTypeBuilder
                     .fields(createGraphQLInputObjectFieldsFromFields(inputType.getFields().values()));
-            // Register this input for posible JsonB usage
-            JsonInputRegistry.register(inputType);
         }
 
         GraphQLInputObjectType graphQLInputObjectType = inputObjectTypeBuilder.build();
-        if (!inputMap.containsKey(inputType.getName())) {
-            inputMap.put(inputType.getName(), graphQLInputObjectType);
-        }
+        register(() -> inputMap.putIfAbsent(inputType.getName(), graphQLInputObjectType));
         return graphQLInputObjectType;
     }
 
     private void createGraphQLObjectTypes() {
         if (schema.hasTypes()) {
-            for (Type type : schema.getTypes().values()) {
-                createGraphQLObjectType(type);
-            }
+            forEachType(schema.getTypes().values(), this::createGraphQLObjectType);
         }
     }
 
@@ -551,7 +568,7 @@ public class Bootstrap {
             for (Operation operation : type.getOperations().values()) {
                 String name = operation.getName();
                 if (!type.hasBatchOperation(name)) {
-                    operation = eventEmitter.fireCreateOperation(operation);
+                    operation = fireCreateOperation(operation);
 
                     GraphQLFieldDefinition graphQLFieldDefinition = createGraphQLFieldDefinitionFromOperation(type.getName(),
                             operation);
@@ -565,7 +582,7 @@ public class Bootstrap {
         // Batch Operations
         if (type.hasBatchOperations()) {
             for (Operation operation : type.getBatchOperations().values()) {
-                operation = eventEmitter.fireCreateOperation(operation);
+                operation = fireCreateOperation(operation);
 
                 GraphQLFieldDefinition graphQLFieldDefinition = createGraphQLFieldDefinitionFromBatchOperation(type.getName(),
                         operation);
@@ -585,11 +602,13 @@ public class Bootstrap {
         }
 
         GraphQLObjectType graphQLObjectType = objectTypeBuilder.build();
-        typeMap.put(type.getName(), graphQLObjectType);
+        register(() -> {
+            typeMap.put(type.getName(), graphQLObjectType);
 
-        // Register this output for interface/union type resolving
-        InterfaceOutputRegistry.register(type, graphQLObjectType);
-        UnionOutputRegistry.register(type, graphQLObjectType);
+            // Register this output for interface/union type resolving
+            InterfaceOutputRegistry.register(type, graphQLObjectType);
+            UnionOutputRegistry.register(type, graphQLObjectType);
+        });
     }
 
     private GraphQLDirective createGraphQLDirectiveFrom(DirectiveInstance directiveInstance) {
@@ -630,8 +649,7 @@ public class Bootstrap {
         DataFetcher<?> datafetcher = new BatchDataFetcher<>(operation, getTypeForField(operation));
         GraphQLFieldDefinition graphQLFieldDefinition = fieldBuilder.build();
 
-        this.codeRegistryBuilder.dataFetcher(FieldCoordinates.coordinates(operationTypeName, graphQLFieldDefinition.getName()),
-                datafetcher);
+        registerDataFetcher(FieldCoordinates.coordinates(operationTypeName, graphQLFieldDefinition.getName()), datafetcher);
 
         return graphQLFieldDefinition;
     }
@@ -665,8 +683,7 @@ public class Bootstrap {
         // DataFetcher
         DataFetcher<?> datafetcher = dataFetcherFactory.getDataFetcher(operation, getTypeForField(operation));
 
-        this.codeRegistryBuilder.dataFetcher(FieldCoordinates.coordinates(operationTypeName, graphQLFieldDefinition.getName()),
-                datafetcher);
+        registerDataFetcher(FieldCoordinates.coordinates(operationTypeName, graphQLFieldDefinition.getName()), datafetcher);
 
         return graphQLFieldDefinition;
     }
@@ -709,8 +726,7 @@ public class Bootstrap {
 
         // DataFetcher
         PlugableDataFetcher<?> datafetcher = dataFetcherFactory.getFieldDataFetcher(field, getTypeForField(field), owner);
-        this.codeRegistryBuilder.dataFetcher(FieldCoordinates.coordinates(owner.getName(), graphQLFieldDefinition.getName()),
-                datafetcher);
+        registerDataFetcher(FieldCoordinates.coordinates(owner.getName(), graphQLFieldDefinition.getName()), datafetcher);
 
         return graphQLFieldDefinition;
     }
@@ -1040,6 +1056,113 @@ public class Bootstrap {
         return types.get(field.getReference().getName());
     }
 
+    private Operation fireCreateOperation(Operation operation) {
+        // Extensions are not expected to be thread safe
+        synchronized (eventEmitter) {
+            return eventEmitter.fireCreateOperation(operation);
+        }
+    }
+
+    private void registerDataFetcher(FieldCoordinates coordinates, DataFetcher<?> dataFetcher) {
+        register(() -> this.codeRegistryBuilder.dataFetcher(coordinates, dataFetcher));
+    }
+
+    /**
+     * Anything that changes shared state (the code registry and the type maps) goes through here.
+     * When running on a bootstrap thread the change is deferred, and applied later by the bootstrapping thread in the
+     * order of the schema model, so that a parallel bootstrap ends up with exactly the same result as a sequential one.
+     */
+    private void register(Runnable registration) {
+        List<Runnable> deferred = deferredRegistrations.get();
+        if (deferred != null) {
+            deferred.add(registration);
+        } else {
+            registration.run();
+        }
+    }
+
+    private <T> void forEachType(Collection<T> types, Consumer<T> creator) {
+        createAll(types, type -> {
+            creator.accept(type);
+            return null;
+        });
+    }
+
+    /**
+     * Create something for every item, concurrently if parallel bootstrap is enabled.
+     *
+     * @return the created results, in the same order as the items
+     */
+    private <T, R> List<R> createAll(Collection<T> items, Function<T, R> creator) {
+        List<R> results = new ArrayList<>(items.size());
+        if (executor == null || deferredRegistrations.get() != null) {
+            for (T item : items) {
+                results.add(creator.apply(item));
+            }
+            return results;
+        }
+
+        List<Future<Created<R>>> futures = new ArrayList<>(items.size());
+        for (T item : items) {
+            futures.add(executor.submit(() -> {
+                List<Runnable> registrations = new ArrayList<>();
+                deferredRegistrations.set(registrations);
+                try {
+                    return new Created<>(creator.apply(item), registrations);
+                } finally {
+                    deferredRegistrations.remove();
+                }
+            }));
+        }
+        for (Future<Created<R>> future : futures) {
+            Created<R> created = await(future);
+            for (Runnable registration : created.registrations) {
+                registration.run();
+            }
+            results.add(created.result);
+        }
+        return results;
+    }
+
+    private static <R> R await(Future<R> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    private static ExecutorService createExecutor() {
+        // Classes get loaded while creating the data fetchers, so make sure the bootstrap threads use the same classloader
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "smallrye-graphql-bootstrap-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        });
+    }
+
+    private static class Created<R> {
+        private final R result;
+        private final List<Runnable> registrations;
+
+        Created(R result, List<Runnable> registrations) {
+            this.result = result;
+            this.registrations = registrations;
+        }
+    }
+
     private static final String QUERY = "Query";
     private static final String QUERY_DESCRIPTION = "Query root";
 
@@ -1,6 +1,7 @@
 package io.smallrye.graphql.execution;
 
 import java.io.StringReader;
+import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Collection;
@@ -20,6 +21,8 @@ import jakarta.json.bind.Jsonb;
 import jakarta.json.bind.JsonbBuilder;
 import jakarta.json.bind.JsonbConfig;
 import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
 
 import graphql.ExecutionResult;
 import graphql.GraphQLError;
@@ -35,6 +38,7 @@ public class ExecutionResponse {
     private static final JsonProvider jsonProvider = JsonProvider.provider();
     private static final JsonBuilderFactory jsonObjectFactory = Json.createBuilderFactory(null);
     private static final JsonReaderFactory jsonReaderFactory = Json.createReaderFactory(null);
+    private static final JsonGeneratorFactory jsonGeneratorFactory = Json.createGeneratorFactory(null);
     private static final Jsonb jsonB = JsonbBuilder.create(new JsonbConfig()
             .withNullValues(Boolean.TRUE)
             .withFormatting(Boolean.TRUE));
@@ -67,7 +71,46 @@ public class ExecutionResponse {
     }
 
     public String getExecutionResultAsString() {
-        return getExecutionResultAsJsonObject().toString();
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = jsonGeneratorFactory.createGenerator(writer)) {
+            writeExecutionResult(generator);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Write the execution result as a JSON object to the generator, at the position the generator is at. This gives the
+     * same JSON as {@link #getExecutionResultAsJsonObject()}, without building the object first, so it can be embedded in
+     * a bigger message.
+     *
+     * @param generator the generator, positioned where a value is expected
+     */
+    public void writeExecutionResult(JsonGenerator generator) {
+        generator.writeStartObject();
+        // Errors
+        List<GraphQLError> errors = executionResult.getErrors();
+        if (errors != null) {
+            JsonArray jsonArray = errorsService.toJsonErrors(errors);
+            if (!jsonArray.isEmpty()) {
+                generator.write(ERRORS, jsonArray);
+            }
+        }
+        // Data
+        generator.writeKey(DATA);
+        writeValue(generator, executionResult.getData());
+        // Extensions
+        final Map<Object, Object> extensions = executionResult.getExtensions();
+        if (extensions != null) {
+            generator.writeStartObject(EXTENSIONS);
+            for (final Map.Entry<Object, Object> entry : extensions.entrySet()) {
+                if (entry.getKey() instanceof String) {
+                    generator.writeKey((String) entry.getKey());
+                    writeValue(generator, entry.getValue());
+                }
+            }
+            generator.writeEnd();
+        }
+        generator.writeEnd();
     }
 
     private JsonObjectBuilder addErrorsToResponse(JsonObjectBuilder returnObjectBuilder, ExecutionResult executionResult) {
@@ -178,6 +221,51 @@ public class ExecutionResponse {
         return jsonValue;
     }
 
+    /**
+     * Write the value like {@link #toJsonValue(Object)} builds it
+     */
+    private void writeValue(JsonGenerator generator, Object pojo) {
+        if (pojo == null) {
+            generator.writeNull();
+        } else if (pojo instanceof Map) {
+            generator.writeStartObject();
+            Map<String, Object> map = (Map<String, Object>) pojo;
+            for (final Map.Entry<String, Object> stringObjectEntry : map.entrySet()) {
+                generator.writeKey(stringObjectEntry.getKey());
+                writeValue(generator, stringObjectEntry.getValue());
+            }
+            generator.writeEnd();
+        } else if (pojo instanceof Collection) {
+            generator.writeStartArray();
+            for (final Object o : (Collection<Object>) pojo) {
+                writeValue(generator, o);
+            }
+            generator.writeEnd();
+        } else if (pojo instanceof Boolean) {
+            generator.write((Boolean) pojo);
+        } else if (pojo instanceof String) {
+            generator.write((String) pojo);
+        } else if (pojo instanceof Double) {
+            // the same notation as the JsonNumber of a double
+            generator.write(BigDecimal.valueOf(((Number) pojo).doubleValue()));
+        } else if (pojo instanceof Float) {
+            //upcast to double would lead to precision loss
+            generator.write(new BigDecimal(String.valueOf(((Number) pojo).floatValue())));
+        } else if (pojo instanceof Long) {
+            generator.write((Long) pojo);
+        } else if (pojo instanceof Integer || pojo instanceof Short || pojo instanceof Byte) {
+            generator.write(((Number) pojo).intValue());
+        } else if (pojo instanceof BigDecimal) {
+            generator.write((BigDecimal) pojo);
+        } else if (pojo instanceof BigInteger) {
+            generator.write((BigInteger) pojo);
+        } else if (pojo instanceof Enum<?>) {
+            generator.write(((Enum<?>) pojo).name());
+        } else {
+            generator.write(toJsonValue(pojo));
+        }
+    }
+
     private static final String DATA = "data";
     private static final String ERRORS = "errors";
     private static final String EXTENSIONS = "extensions";
@@ -10,6 +10,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 
+import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 
 import org.dataloader.BatchLoaderWithContext;
@@ -20,7 +21,9 @@ import org.dataloader.DataLoaderRegistry;
 import graphql.ExecutionInput;
 import graphql.ExecutionInput.Builder;
 import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
 import graphql.GraphQL;
+import graphql.GraphqlErrorBuilder;
 import graphql.analysis.MaxQueryComplexityInstrumentation;
 import graphql.analysis.MaxQueryDepthInstrumentation;
 import graphql.execution.ExecutionId;
@@ -124,6 +127,24 @@ public class ExecutionService {
         execute(jsonInput, new HashMap<>(), writer, async);
     }
 
+    /**
+     * Execute a batch of operations, as sent by clients that batch their requests.
+     * <p>
+     * The operations are all started before any of them is written. Each operation has its own context, as that holds
+     * its query, and its own DataLoaderRegistry, as a batch loader gets the arguments and the environment of only one of
+     * the fields it loads, and caches its results by the source objects.
+     *
+     * @param jsonInputs the operations
+     * @param context the context of the request, that all the operations see
+     * @param writer gets the responses in the order of the operations, each one as soon as it and the ones before it are
+     *        done
+     * @param async if the operations are executed asynchronously
+     */
+    public void executeBatch(JsonArray jsonInputs, Map<String, Object> context, ExecutionResponseWriter writer,
+            boolean async) {
+        new BatchExecution(jsonInputs.size(), writer).start(jsonInputs, context, async);
+    }
+
     public void execute(JsonObject jsonInput, Map<String, Object> context, ExecutionResponseWriter writer, boolean async) {
         SmallRyeContext smallRyeContext = SmallRyeContextManager.fromInitialRequest(jsonInput);
 
@@ -160,8 +181,7 @@ public class ExecutionService {
                 // DataLoaders
                 List<Operation> batchOperations = schema.getBatchOperations();
                 if (batchOperations != null && !batchOperations.isEmpty()) {
-                    DataLoaderRegistry dataLoaderRegistry = getDataLoaderRegistry(batchOperations);
-                    executionBuilder.dataLoaderRegistry(dataLoaderRegistry);
+                    executionBuilder.dataLoaderRegistry(getDataLoaderRegistry(batchOperations));
                 }
 
                 ExecutionInput executionInput = executionBuilder.build();
@@ -237,6 +257,63 @@ public class ExecutionService {
         writer.write(executionResponse);
     }
 
+    /**
+     * Runs the operations of a batch, and writes their responses in order
+     */
+    private class BatchExecution {
+        private final ExecutionResponse[] responses; // guarded by this
+        private final ExecutionResponseWriter writer;
+        private int written; // guarded by this
+
+        private BatchExecution(int size, ExecutionResponseWriter writer) {
+            this.responses = new ExecutionResponse[size];
+            this.writer = writer;
+        }
+
+        private void start(JsonArray jsonInputs, Map<String, Object> context, boolean async) {
+            SmallRyeContext current = SmallRyeContextManager.getCurrentSmallRyeContext();
+            try {
+                for (int i = 0; i < responses.length; i++) {
+                    int index = i;
+                    // else all the operations would share, and overwrite, the context of this thread
+                    SmallRyeContextManager.clearCurrentSmallRyeContext();
+                    execute(jsonInputs.getJsonObject(i), new HashMap<>(context),
+                            new ExecutionResponseWriter() {
+                                @Override
+                                public void write(ExecutionResponse executionResponse) {
+                                    done(index, executionResponse);
+                                }
+
+                                @Override
+                                public void fail(Throwable t) {
+                                    failed(index, t);
+                                }
+                            }, async);
+                }
+            } finally {
+                SmallRyeContextManager.restore(current);
+            }
+        }
+
+        private synchronized void done(int index, ExecutionResponse executionResponse) {
+            responses[index] = executionResponse;
+            while (written < responses.length && responses[written] != null) {
+                writer.write(responses[written]);
+                responses[written++] = null;
+            }
+        }
+
+        /**
+         * An operation that fails gets an error in its place, so the array of responses is still complete
+         */
+        private void failed(int index, Throwable t) {
+            log.batchOperationFailed(index, t);
+            done(index, new ExecutionResponse(ExecutionResultImpl.newExecutionResult()
+                    .addError(GraphqlErrorBuilder.newError().message(Config.get().getDefaultErrorMessage()).build())
+                    .build()));
+        }
+    }
+
     private <K, T> DataLoaderRegistry getDataLoaderRegistry(List<Operation> operations) {
         DataLoaderRegistry dataLoaderRegistry = new DataLoaderRegistry();
         for (Operation operation : operations) {
@@ -1,7 +1,11 @@
 package io.smallrye.graphql.execution.datafetcher;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 import org.eclipse.microprofile.graphql.GraphQLException;
@@ -11,10 +15,14 @@ import graphql.schema.DataFetchingEnvironment;
 import io.smallrye.graphql.SmallRyeGraphQLServerMessages;
 import io.smallrye.graphql.api.Context;
 import io.smallrye.graphql.schema.model.Operation;
+import io.smallrye.graphql.schema.model.Throttle;
 import io.smallrye.graphql.schema.model.Type;
 import io.smallrye.graphql.transformation.AbstractDataFetcherException;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.subscription.BackPressureStrategy;
+import io.smallrye.mutiny.subscription.Cancellable;
+import io.smallrye.mutiny.subscription.MultiEmitter;
 
 /**
  * Handle Stream calls with Multi, used as base for Multi and Publisher
@@ -38,6 +46,10 @@ public abstract class AbstractStreamingDataFetcher<K, T> extends AbstractDataFet
             Object[] transformedArguments) throws Exception {
 
         Multi<?> multi = handleUserMethodCall(dfe, transformedArguments);
+        if (operation.hasThrottle()) {
+            // before the transformation, so that events that are left out are never resolved
+            multi = throttle(multi, operation.getThrottle());
+        }
 
         return (O) multi
                 .onItem().transform((t) -> {
@@ -72,6 +84,141 @@ public abstract class AbstractStreamingDataFetcher<K, T> extends AbstractDataFet
 
     }
 
+    static <E> Multi<E> throttle(Multi<E> multi, Throttle throttle) {
+        Duration period = Duration.ofMillis(throttle.getPeriod());
+        switch (throttle.getMode()) {
+            case "CONFLATE":
+                return multi.onOverflow().dropPreviousItems();
+            case "DEBOUNCE":
+                if (period.isZero()) {
+                    return multi;
+                }
+                return debounce(multi, period.toNanos());
+            case "SAMPLE":
+            default:
+                if (period.isZero()) {
+                    return multi;
+                }
+                return sample(multi, period.toNanos());
+        }
+    }
+
+    /**
+     * Emit the latest item of every period. Only the latest item is kept, and a slow client gets the latest sample.
+     */
+    private static <E> Multi<E> sample(Multi<E> multi, long periodNanos) {
+        return Multi.createFrom().<E> emitter(emitter -> {
+            AtomicReference<E> latest = new AtomicReference<>();
+            // the latest item is emitted while holding the lock, so it can't overtake the completion
+            Runnable emitLatest = () -> {
+                synchronized (latest) {
+                    E item = latest.getAndSet(null);
+                    if (item != null) {
+                        emitter.emit(item);
+                    }
+                }
+            };
+            ScheduledFuture<?> ticker = Infrastructure.getDefaultWorkerPool().scheduleAtFixedRate(emitLatest,
+                    periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+            Cancellable upstream = multi.subscribe().with(
+                    latest::set,
+                    failure -> {
+                        ticker.cancel(false);
+                        emitter.fail(failure);
+                    },
+                    () -> {
+                        ticker.cancel(false);
+                        synchronized (latest) {
+                            emitLatest.run();
+                            emitter.complete();
+                        }
+                    });
+            emitter.onTermination(() -> {
+                ticker.cancel(false);
+                upstream.cancel();
+            });
+        }, BackPressureStrategy.LATEST);
+    }
+
+    /**
+     * Emit an item only when no other item followed within the period. There is at most one timer at a time: when it
+     * fires before the period after the latest item is over, it is scheduled again for the rest of the period.
+     */
+    private static <E> Multi<E> debounce(Multi<E> multi, long periodNanos) {
+        return Multi.createFrom().<E> emitter(emitter -> {
+            Debouncer<E> debouncer = new Debouncer<>(emitter, periodNanos);
+            Cancellable upstream = multi.subscribe().with(debouncer::onItem, debouncer::onFailure,
+                    debouncer::onCompletion);
+            emitter.onTermination(() -> {
+                debouncer.cancel();
+                upstream.cancel();
+            });
+        }, BackPressureStrategy.LATEST);
+    }
+
+    private static class Debouncer<E> {
+        private final MultiEmitter<? super E> emitter;
+        private final long periodNanos;
+        private E latest; // guarded by this
+        private long deadline; // guarded by this
+        private ScheduledFuture<?> timer; // guarded by this
+
+        private Debouncer(MultiEmitter<? super E> emitter, long periodNanos) {
+            this.emitter = emitter;
+            this.periodNanos = periodNanos;
+        }
+
+        private synchronized void onItem(E item) {
+            latest = item;
+            deadline = System.nanoTime() + periodNanos;
+            if (timer == null) {
+                timer = schedule(periodNanos);
+            }
+        }
+
+        // items are emitted while holding the lock, so they can't overtake the completion
+        private synchronized void onTimer() {
+            long remaining = deadline - System.nanoTime();
+            if (remaining > 0) {
+                // more items came in the meantime
+                timer = schedule(remaining);
+                return;
+            }
+            timer = null;
+            emitLatest();
+        }
+
+        private void emitLatest() {
+            if (latest != null) {
+                E item = latest;
+                latest = null;
+                emitter.emit(item);
+            }
+        }
+
+        private synchronized void onFailure(Throwable failure) {
+            cancel();
+            emitter.fail(failure);
+        }
+
+        private synchronized void onCompletion() {
+            cancel();
+            emitLatest();
+            emitter.complete();
+        }
+
+        private synchronized void cancel() {
+            if (timer != null) {
+                timer.cancel(false);
+                timer = null;
+            }
+        }
+
+        private ScheduledFuture<?> schedule(long delayNanos) {
+            return Infrastructure.getDefaultWorkerPool().schedule(this::onTimer, delayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
     protected abstract Multi<?> handleUserMethodCall(DataFetchingEnvironment dfe, final Object[] transformedArguments)
             throws Exception;
 
@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import graphql.schema.DataFetchingEnvironment;
 import io.smallrye.graphql.api.Entry;
@@ -33,7 +34,7 @@ public abstract class AbstractHelper {
 
     protected final ClassloadingService classloadingService = ClassloadingService.get();
     protected final DefaultMapAdapter mapAdapter = new DefaultMapAdapter();
-    private final Map<String, Transformer> transformerMap = new HashMap<>();
+    private final Map<String, Transformer> transformerMap = new ConcurrentHashMap<>();
     private final Map<Integer, ReflectionInvoker> invokerMap = new HashMap<>();
 
     protected AbstractHelper() {
@@ -355,11 +356,17 @@ public abstract class AbstractHelper {
     }
 
     protected Transformer getTransformer(Field field) {
-        if (transformerMap.containsKey(field.getName())) {
-            return transformerMap.get(field.getName());
+        Transformer transformer = transformerMap.get(field.getName());
+        if (transformer == null) {
+            // the helpers are shared by concurrent requests, so the transformers (and their formats) are only created once
+            transformer = Transformer.transformer(field);
+            if (transformer != null) {
+                Transformer existing = transformerMap.putIfAbsent(field.getName(), transformer);
+                if (existing != null) {
+                    transformer = existing;
+                }
+            }
         }
-        Transformer transformer = Transformer.transformer(field);
-        transformerMap.put(field.getName(), transformer);
         return transformer;
     }
 
@@ -1,8 +1,15 @@
 package io.smallrye.graphql.execution.error;
 
+import static io.smallrye.graphql.SmallRyeGraphQLServerMessages.msg;
+
 import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 import jakarta.json.Json;
@@ -42,30 +49,89 @@ public class ExecutionErrorsService {
 
     public JsonArray toJsonErrors(List<GraphQLError> errors) {
         JsonArrayBuilder arrayBuilder = jsonBuilderFactory.createArrayBuilder();
+        int maxErrors = config.getMaxErrors().orElse(Integer.MAX_VALUE);
+        // A failing batch or downstream service often fails every element of a list with the same exception,
+        // so the extensions are only created once per exception
+        Map<Throwable, CachedExtensions> extensionsPerException = new IdentityHashMap<>();
+        int count = 0;
         for (GraphQLError e : errors) {
-            arrayBuilder.add(toJsonError(e));
+            if (count++ == maxErrors) {
+                arrayBuilder.add(jsonBuilderFactory.createObjectBuilder()
+                        .add(MESSAGE, msg.tooManyErrors(errors.size() - maxErrors)));
+                break;
+            }
+            arrayBuilder.add(toJsonError(e, extensionsPerException));
         }
         return arrayBuilder.build();
     }
 
-    private JsonObject toJsonError(GraphQLError error) {
-        String json = JSONB.toJson(error.toSpecification());
-        try (StringReader sr = new StringReader(json); JsonReader reader = jsonReaderFactory.createReader(sr)) {
-
-            JsonObject jsonErrors = reader.readObject();
+    private JsonObject toJsonError(GraphQLError error, Map<Throwable, CachedExtensions> extensionsPerException) {
+        // Build the json straight from the specification map, instead of a round trip through a json string
+        JsonObjectBuilder resultBuilder = jsonBuilderFactory.createObjectBuilder();
+        for (Map.Entry<String, Object> entry : error.toSpecification().entrySet()) {
+            resultBuilder.add(entry.getKey(), toJsonValue(entry.getValue()));
+        }
 
-            JsonObjectBuilder resultBuilder = jsonBuilderFactory.createObjectBuilder(jsonErrors);
+        getOptionalExtensions(error, extensionsPerException)
+                .ifPresent(jsonObject -> resultBuilder.add(EXTENSIONS, jsonObject));
+        return resultBuilder.build();
+    }
 
-            getOptionalExtensions(error).ifPresent(jsonObject -> resultBuilder.add(EXTENSIONS, jsonObject));
-            return resultBuilder.build();
+    private JsonValue toJsonValue(Object value) {
+        if (value == null) {
+            return JsonValue.NULL;
+        } else if (value instanceof JsonValue) {
+            return (JsonValue) value;
+        } else if (value instanceof String) {
+            return Json.createValue((String) value);
+        } else if (value instanceof Boolean) {
+            return ((Boolean) value) ? JsonValue.TRUE : JsonValue.FALSE;
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return Json.createValue(((Number) value).longValue());
+        } else if ((value instanceof Double || value instanceof Float) && Double.isFinite(((Number) value).doubleValue())) {
+            return Json.createValue(((Number) value).doubleValue());
+        } else if (value instanceof BigDecimal) {
+            return Json.createValue((BigDecimal) value);
+        } else if (value instanceof BigInteger) {
+            return Json.createValue((BigInteger) value);
+        } else if (value instanceof Enum) {
+            return Json.createValue(((Enum<?>) value).name());
+        } else if (value instanceof Map) {
+            JsonObjectBuilder objectBuilder = jsonBuilderFactory.createObjectBuilder();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                objectBuilder.add(String.valueOf(entry.getKey()), toJsonValue(entry.getValue()));
+            }
+            return objectBuilder.build();
+        } else if (value instanceof Collection) {
+            JsonArrayBuilder arrayBuilder = jsonBuilderFactory.createArrayBuilder();
+            for (Object o : (Collection<?>) value) {
+                arrayBuilder.add(toJsonValue(o));
+            }
+            return arrayBuilder.build();
+        }
+        // Anything else (e.g. custom objects in the extensions) is left to JSON-B
+        String json = JSONB.toJson(value);
+        try (StringReader sr = new StringReader(json); JsonReader reader = jsonReaderFactory.createReader(sr)) {
+            return reader.readValue();
         }
     }
 
-    private Optional<JsonObject> getOptionalExtensions(GraphQLError error) {
+    private Optional<JsonObject> getOptionalExtensions(GraphQLError error,
+            Map<Throwable, CachedExtensions> extensionsPerException) {
         if (error instanceof ValidationError) {
             return getValidationExtensions((ValidationError) error);
         } else if (error instanceof ExceptionWhileDataFetching) {
-            return getDataFetchingExtensions((ExceptionWhileDataFetching) error);
+            ExceptionWhileDataFetching dataFetchingError = (ExceptionWhileDataFetching) error;
+            Throwable exception = dataFetchingError.getException();
+            CachedExtensions cached = exception == null ? null : extensionsPerException.get(exception);
+            if (cached != null && Objects.equals(cached.source, error.getExtensions())) {
+                return cached.extensions;
+            }
+            Optional<JsonObject> extensions = getDataFetchingExtensions(dataFetchingError);
+            if (exception != null) {
+                extensionsPerException.put(exception, new CachedExtensions(error.getExtensions(), extensions));
+            }
+            return extensions;
         }
         return Optional.empty();
     }
@@ -144,6 +210,17 @@ public class ExecutionErrorsService {
         }
     }
 
+    private static class CachedExtensions {
+        private final Map<String, Object> source;
+        private final Optional<JsonObject> extensions;
+
+        private CachedExtensions(Map<String, Object> source, Optional<JsonObject> extensions) {
+            this.source = source;
+            this.extensions = extensions;
+        }
+    }
+
+    private static final String MESSAGE = "message";
     private static final String EXTENSIONS = "extensions";
 
 }
@@ -43,6 +43,23 @@ public class InterfaceOutputRegistry {
         return null;
     }
 
+    /**
+     * Find the concrete type of the class, or of the closest superclass that is known.
+     * This allows runtime subclasses, like JPA proxies or CDI generated subclasses, to be resolved
+     */
+    public static GraphQLObjectType getGraphQLObjectType(Type interfaceType, Class<?> concreteClass) {
+        Map<String, GraphQLObjectType> concreateMap = interfaceMap.get(interfaceType.getName());
+        if (concreateMap != null) {
+            for (Class<?> c = concreteClass; c != null && c != Object.class; c = c.getSuperclass()) {
+                GraphQLObjectType graphQLObjectType = concreateMap.get(c.getName());
+                if (graphQLObjectType != null) {
+                    return graphQLObjectType;
+                }
+            }
+        }
+        return null;
+    }
+
     private static Map<String, GraphQLObjectType> getConcreteMap(String itype) {
         if (interfaceMap.containsKey(itype)) {
             return interfaceMap.get(itype);
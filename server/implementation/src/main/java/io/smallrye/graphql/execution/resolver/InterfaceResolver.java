@@ -16,21 +16,27 @@ public class InterfaceResolver implements TypeResolver {
 
     private final Type interfaceType;
 
+    // The concrete type per runtime class, so that the class hierarchy is only walked once per class
+    private final ClassValue<GraphQLObjectType> concreteTypes = new ClassValue<>() {
+        @Override
+        protected GraphQLObjectType computeValue(Class<?> concreteClass) {
+            return InterfaceOutputRegistry.getGraphQLObjectType(interfaceType, concreteClass);
+        }
+    };
+
     public InterfaceResolver(Type interfaceType) {
         this.interfaceType = interfaceType;
     }
 
     @Override
     public GraphQLObjectType getType(TypeResolutionEnvironment tre) {
+        Class<?> concreteClass = tre.getObject().getClass();
 
-        String concreteClassName = tre.getObject().getClass().getName();
-
-        GraphQLObjectType graphQLObjectType = InterfaceOutputRegistry.getGraphQLObjectType(interfaceType,
-                concreteClassName);
+        GraphQLObjectType graphQLObjectType = concreteTypes.get(concreteClass);
         if (graphQLObjectType != null) {
             return graphQLObjectType;
         } else {
-            throw msg.concreteClassNotFoundForInterface(concreteClassName,
+            throw msg.concreteClassNotFoundForInterface(concreteClass.getName(),
                     interfaceType.getName());
         }
     }
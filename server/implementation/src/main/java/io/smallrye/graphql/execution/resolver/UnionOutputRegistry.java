@@ -36,6 +36,23 @@ public class UnionOutputRegistry {
         return null;
     }
 
+    /**
+     * Find the concrete type of the class, or of the closest superclass that is known.
+     * This allows runtime subclasses, like JPA proxies or CDI generated subclasses, to be resolved
+     */
+    public static GraphQLObjectType getGraphQLObjectType(UnionType unionType, Class<?> concreteClass) {
+        Map<String, GraphQLObjectType> concreteMap = unionMap.get(unionType.getName());
+        if (concreteMap != null) {
+            for (Class<?> c = concreteClass; c != null && c != Object.class; c = c.getSuperclass()) {
+                GraphQLObjectType graphQLObjectType = concreteMap.get(c.getName());
+                if (graphQLObjectType != null) {
+                    return graphQLObjectType;
+                }
+            }
+        }
+        return null;
+    }
+
     private static Map<String, GraphQLObjectType> getConcreteMap(String union) {
         if (unionMap.containsKey(union)) {
             return unionMap.get(union);
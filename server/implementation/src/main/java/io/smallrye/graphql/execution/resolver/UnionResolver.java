@@ -11,19 +11,27 @@ public class UnionResolver implements TypeResolver {
 
     private final UnionType unionType;
 
+    // The concrete type per runtime class, so that the class hierarchy is only walked once per class
+    private final ClassValue<GraphQLObjectType> concreteTypes = new ClassValue<>() {
+        @Override
+        protected GraphQLObjectType computeValue(Class<?> concreteClass) {
+            return UnionOutputRegistry.getGraphQLObjectType(unionType, concreteClass);
+        }
+    };
+
     public UnionResolver(UnionType unionType) {
         this.unionType = unionType;
     }
 
     @Override
     public GraphQLObjectType getType(TypeResolutionEnvironment tre) {
-        String concreteClassName = tre.getObject().getClass().getName();
+        Class<?> concreteClass = tre.getObject().getClass();
 
-        GraphQLObjectType graphQLObjectType = UnionOutputRegistry.getGraphQLObjectType(unionType, concreteClassName);
+        GraphQLObjectType graphQLObjectType = concreteTypes.get(concreteClass);
         if (graphQLObjectType != null) {
             return graphQLObjectType;
         } else {
-            throw msg.concreteClassNotFoundForInterface(concreteClassName, unionType.getName());
+            throw msg.concreteClassNotFoundForInterface(concreteClass.getName(), unionType.getName());
         }
     }
 }
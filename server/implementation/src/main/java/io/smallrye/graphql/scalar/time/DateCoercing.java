@@ -23,17 +23,16 @@ public class DateCoercing implements Coercing {
     }
 
     private Object convertImpl(Object input) {
+        // Strings are passed on as is (the transformer parses them), so check that first
+        if (input instanceof String) {
+            return input;
+        }
         for (Class supportedType : supportedTypes) {
             if (supportedType.isInstance(input)) {
-                return supportedType.cast(input);
+                return input;
             }
         }
-
-        if (input instanceof String) {
-            return input;
-        } else {
-            throw msg.unknownDateFormat(input.toString());
-        }
+        throw msg.unknownDateFormat(input.toString());
     }
 
     // Get's called on startup for @DefaultValue
@@ -163,6 +163,10 @@ public interface Config {
         return false;
     }
 
+    default boolean isParallelBootstrapEnabled() {
+        return false;
+    }
+
     default LogPayloadOption logPayload() {
         return LogPayloadOption.off;
     }
@@ -211,6 +215,54 @@ public interface Config {
         return Optional.empty();
     }
 
+    default Optional<Integer> getMaxErrors() {
+        return Optional.empty();
+    }
+
+    default boolean isSharedSubscriptionsEnabled() {
+        return false;
+    }
+
+    default int getWebSocketKeepAliveInterval() {
+        return 10;
+    }
+
+    default Optional<Integer> getWebSocketBufferSize() {
+        return Optional.empty();
+    }
+
+    default WebSocketOverflowPolicy getWebSocketOverflowPolicy() {
+        return WebSocketOverflowPolicy.dropOldest;
+    }
+
+    default boolean isAsyncHttpEnabled() {
+        return false;
+    }
+
+    default boolean isHttpCompressionEnabled() {
+        return false;
+    }
+
+    default int getHttpCompressionThreshold() {
+        return 1024;
+    }
+
+    default int getHttpCompressionLevel() {
+        return -1;
+    }
+
+    default boolean isHttpBatchingEnabled() {
+        return false;
+    }
+
+    default int getHttpBatchingMaxOperations() {
+        return 100;
+    }
+
+    default boolean isHttpEventStreamEnabled() {
+        return false;
+    }
+
     default <T> T getConfigValue(String key, Class<T> type, T defaultValue) {
         return defaultValue;
     }
@@ -0,0 +1,13 @@
+package io.smallrye.graphql.spi.config;
+
+/**
+ * What to do when the outbound buffer of a websocket session is full
+ */
+public enum WebSocketOverflowPolicy {
+
+    dropOldest, // drop the oldest pending event
+    dropNewest, // drop the new event
+    conflate, // replace the pending event of the same operation, else drop the oldest
+    disconnect; // close the session
+
+}
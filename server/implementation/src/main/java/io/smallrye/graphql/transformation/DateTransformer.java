@@ -21,6 +21,7 @@ import java.time.temporal.TemporalQuery;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.smallrye.graphql.schema.model.Field;
 import io.smallrye.graphql.schema.model.Transformation;
@@ -32,13 +33,21 @@ public class DateTransformer implements Transformer<Temporal, String> {
 
     private static final Map<String, DateTimeFormatter> DEFAULT_FORMATTER = createDefaultFormatter();
     private static final Map<String, TemporalQuery<?>> TEMPORAL_QUERYS = createTemporalQuerys();
+    // Formatters are immutable and thread-safe, so fields with the same format can share them
+    private static final Map<String, DateTimeFormatter> CUSTOM_FORMATTER = new ConcurrentHashMap<>();
 
     private final DateTimeFormatter dateTimeFormatter;
 
+    private final TemporalQuery<?> temporalQuery;
+
+    private final boolean isoFormat;
+
     private final String targetClassName;
 
     public DateTransformer(final Field field, final String targetClassName) {
         this.dateTimeFormatter = getDateFormat(field.getTransformation(), targetClassName);
+        this.temporalQuery = TEMPORAL_QUERYS.get(targetClassName);
+        this.isoFormat = dateTimeFormatter != null && dateTimeFormatter == DEFAULT_FORMATTER.get(targetClassName);
         this.targetClassName = targetClassName;
     }
 
@@ -48,17 +57,21 @@ public class DateTransformer implements Transformer<Temporal, String> {
 
     @Override
     public Temporal in(final String o) {
-        TemporalQuery<?> temporalAccessor = TEMPORAL_QUERYS.get(targetClassName);
-
-        if (temporalAccessor == null || dateTimeFormatter == null) {
+        if (temporalQuery == null || dateTimeFormatter == null) {
             throw msg.notValidDateOrTimeType(targetClassName);
         }
 
-        return (Temporal) dateTimeFormatter.parse(o, temporalAccessor);
+        return (Temporal) dateTimeFormatter.parse(o, temporalQuery);
     }
 
     @Override
     public String out(Temporal temporal) {
+        if (isoFormat) {
+            String iso = IsoFormat.format(temporal);
+            if (iso != null) {
+                return iso;
+            }
+        }
         if (temporal instanceof Instant) {
             /*
              * Instant provides only INSTANT_SECONDS and fractions thereof.
@@ -103,11 +116,14 @@ public class DateTransformer implements Transformer<Temporal, String> {
             String locale = formatter.getLocale();
             if (format == null) {
                 return null;
-            } else if (locale == null) {
-                return DateTimeFormatter.ofPattern(format);
-            } else {
-                return DateTimeFormatter.ofPattern(format).withLocale(Locale.forLanguageTag(locale));
             }
+            return CUSTOM_FORMATTER.computeIfAbsent(locale == null ? format : format + '\u0000' + locale, key -> {
+                if (locale == null) {
+                    return DateTimeFormatter.ofPattern(format);
+                } else {
+                    return DateTimeFormatter.ofPattern(format).withLocale(Locale.forLanguageTag(locale));
+                }
+            });
         }
         return DEFAULT_FORMATTER.get(className);
     }
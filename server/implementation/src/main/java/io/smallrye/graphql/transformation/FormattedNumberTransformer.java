@@ -11,17 +11,20 @@ import io.smallrye.graphql.schema.model.Transformation;
 
 /**
  * Parses and formats numbers in the needed format.
+ * <p>
+ * {@link DecimalFormat} is not thread-safe, so the format is resolved once and every thread gets its own copy.
  */
 public class FormattedNumberTransformer implements Transformer<Number, String> {
 
-    private final DecimalFormat numberFormat;
+    private final ThreadLocal<DecimalFormat> numberFormat;
 
     private final NumberTransformer numberTransformer;
 
     protected FormattedNumberTransformer(Field field) {
         this.numberTransformer = new NumberTransformer(field);
-        this.numberFormat = getNumberFormat(field.getTransformation());
-        numberFormat.setParseBigDecimal(true);
+        DecimalFormat prototype = getNumberFormat(field.getTransformation());
+        prototype.setParseBigDecimal(true);
+        this.numberFormat = ThreadLocal.withInitial(() -> (DecimalFormat) prototype.clone());
     }
 
     private DecimalFormat getNumberFormat(Transformation formatter) {
@@ -43,11 +46,11 @@ public class FormattedNumberTransformer implements Transformer<Number, String> {
 
     @Override
     public Number in(final String o) throws ParseException {
-        Number parsed = numberFormat.parse(o);
+        Number parsed = numberFormat.get().parse(o);
         return numberTransformer.in(parsed);
     }
 
     public String out(final Number object) {
-        return this.numberFormat.format(object);
+        return this.numberFormat.get().format(object);
     }
 }
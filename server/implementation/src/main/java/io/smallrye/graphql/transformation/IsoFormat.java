@@ -0,0 +1,148 @@
+package io.smallrye.graphql.transformation;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.temporal.Temporal;
+
+/**
+ * Writes the common ISO formats directly into a char buffer, without the intermediate objects
+ * {@link java.time.format.DateTimeFormatter} creates for every value.
+ * <p>
+ * The output is exactly the same as the one of the ISO formatters in {@link java.time.format.DateTimeFormatter}.
+ * Values that these fast paths do not cover (e.g. years before 0 or after 9999) return null, and should be formatted
+ * with the formatter instead.
+ */
+class IsoFormat {
+
+    // yyyy-MM-ddTHH:mm:ss.nnnnnnnnn+HH:MM:ss
+    private static final int MAX_LENGTH = 38;
+
+    private IsoFormat() {
+    }
+
+    /**
+     * @return the temporal in the format of the matching ISO formatter, or null if there is no fast path for it
+     */
+    static String format(Temporal temporal) {
+        if (temporal instanceof LocalDate) {
+            return format((LocalDate) temporal);
+        } else if (temporal instanceof LocalDateTime) {
+            return format((LocalDateTime) temporal);
+        } else if (temporal instanceof LocalTime) {
+            return format((LocalTime) temporal);
+        } else if (temporal instanceof OffsetDateTime) {
+            return format((OffsetDateTime) temporal);
+        } else if (temporal instanceof OffsetTime) {
+            return format((OffsetTime) temporal);
+        }
+        return null;
+    }
+
+    static String format(LocalDate date) {
+        if (!isSupported(date)) {
+            return null;
+        }
+        char[] buffer = new char[10];
+        int length = writeDate(buffer, 0, date);
+        return new String(buffer, 0, length);
+    }
+
+    static String format(LocalTime time) {
+        char[] buffer = new char[MAX_LENGTH];
+        int length = writeTime(buffer, 0, time);
+        return new String(buffer, 0, length);
+    }
+
+    static String format(LocalDateTime dateTime) {
+        if (!isSupported(dateTime.toLocalDate())) {
+            return null;
+        }
+        char[] buffer = new char[MAX_LENGTH];
+        int length = writeDateTime(buffer, 0, dateTime);
+        return new String(buffer, 0, length);
+    }
+
+    static String format(OffsetDateTime dateTime) {
+        if (!isSupported(dateTime.toLocalDate())) {
+            return null;
+        }
+        char[] buffer = new char[MAX_LENGTH];
+        int length = writeDateTime(buffer, 0, dateTime.toLocalDateTime());
+        length = writeOffset(buffer, length, dateTime.getOffset().getId());
+        return new String(buffer, 0, length);
+    }
+
+    static String format(OffsetTime time) {
+        char[] buffer = new char[MAX_LENGTH];
+        int length = writeTime(buffer, 0, time.toLocalTime());
+        length = writeOffset(buffer, length, time.getOffset().getId());
+        return new String(buffer, 0, length);
+    }
+
+    private static boolean isSupported(LocalDate date) {
+        int year = date.getYear();
+        return year >= 0 && year <= 9999;
+    }
+
+    private static int writeDateTime(char[] buffer, int pos, LocalDateTime dateTime) {
+        pos = writeDate(buffer, pos, dateTime.toLocalDate());
+        buffer[pos++] = 'T';
+        return writeTime(buffer, pos, dateTime.toLocalTime());
+    }
+
+    private static int writeDate(char[] buffer, int pos, LocalDate date) {
+        int year = date.getYear();
+        buffer[pos++] = digit(year / 1000);
+        buffer[pos++] = digit(year / 100 % 10);
+        pos = writeTwoDigits(buffer, pos, year % 100);
+        buffer[pos++] = '-';
+        pos = writeTwoDigits(buffer, pos, date.getMonthValue());
+        buffer[pos++] = '-';
+        return writeTwoDigits(buffer, pos, date.getDayOfMonth());
+    }
+
+    /**
+     * Like {@link java.time.format.DateTimeFormatter#ISO_LOCAL_TIME}: the seconds are always written, the fraction only
+     * if it is not zero, and without trailing zeros
+     */
+    private static int writeTime(char[] buffer, int pos, LocalTime time) {
+        pos = writeTwoDigits(buffer, pos, time.getHour());
+        buffer[pos++] = ':';
+        pos = writeTwoDigits(buffer, pos, time.getMinute());
+        buffer[pos++] = ':';
+        pos = writeTwoDigits(buffer, pos, time.getSecond());
+        int nano = time.getNano();
+        if (nano > 0) {
+            buffer[pos++] = '.';
+            int digits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                digits--;
+            }
+            for (int i = pos + digits - 1; i >= pos; i--) {
+                buffer[i] = digit(nano % 10);
+                nano /= 10;
+            }
+            pos += digits;
+        }
+        return pos;
+    }
+
+    private static int writeOffset(char[] buffer, int pos, String offsetId) {
+        offsetId.getChars(0, offsetId.length(), buffer, pos);
+        return pos + offsetId.length();
+    }
+
+    private static int writeTwoDigits(char[] buffer, int pos, int value) {
+        buffer[pos] = digit(value / 10);
+        buffer[pos + 1] = digit(value % 10);
+        return pos + 2;
+    }
+
+    private static char digit(int value) {
+        return (char) ('0' + value);
+    }
+}
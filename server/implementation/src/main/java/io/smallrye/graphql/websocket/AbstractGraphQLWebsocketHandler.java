@@ -2,7 +2,7 @@ package io.smallrye.graphql.websocket;
 
 import java.io.IOException;
 import java.io.StringReader;
-import java.time.Duration;
+import java.io.StringWriter;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -10,6 +10,10 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
 import jakarta.json.stream.JsonParsingException;
 
 import org.jboss.logging.Logger;
@@ -22,10 +26,19 @@ import io.smallrye.graphql.execution.ExecutionResponse;
 import io.smallrye.graphql.execution.ExecutionResponseWriter;
 import io.smallrye.graphql.execution.ExecutionService;
 import io.smallrye.graphql.spi.LookupService;
-import io.smallrye.mutiny.Multi;
+import io.smallrye.graphql.spi.config.Config;
 import io.smallrye.mutiny.subscription.Cancellable;
 
 public abstract class AbstractGraphQLWebsocketHandler implements GraphQLWebsocketHandler {
+    private static final JsonReaderFactory READER_FACTORY = Json.createReaderFactory(null);
+    private static final JsonGeneratorFactory GENERATOR_FACTORY = Json.createGeneratorFactory(null);
+    private static final String TYPE_ONLY_PREFIX = "{\"type\":\"";
+    private static final String TYPE_ONLY_SUFFIX = "\"}";
+    private static final int MAX_TYPE_LENGTH = 32;
+    private static final int MAX_CONTROL_FRAMES = 16;
+    // messages that only consist of their type, like pings, parsed once
+    private static final Map<String, JsonObject> CONTROL_FRAMES = new ConcurrentHashMap<>();
+
     // TODO: Replace with prepared log messages
     protected final Logger LOG = Logger.getLogger(GraphQLWebsocketHandler.class.getName());
 
@@ -37,6 +50,11 @@ public abstract class AbstractGraphQLWebsocketHandler implements GraphQLWebsocke
     protected final Cancellable keepAliveSender;
     private final String dataMessageTypeName;
     private final Map<String, Object> context;
+    private final SharedSubscriptions sharedSubscriptions;
+    // the operations of activeOperations that are members of shared subscriptions
+    private final Map<String, SharedSubscriptionMember> sharedSubscriptionMembers = new ConcurrentHashMap<>();
+    private final OutboundBuffer outboundBuffer;
+    private final KeepAliveScheduler.Registration keepAlive;
 
     public AbstractGraphQLWebsocketHandler(GraphQLWebSocketSession session, String dataMessageTypeName,
             Map<String, Object> context) {
@@ -46,10 +64,13 @@ public abstract class AbstractGraphQLWebsocketHandler implements GraphQLWebsocke
         this.connectionInitialized = new AtomicBoolean(false);
         this.connectionAckMessage = createConnectionAckMessage().toString();
         this.activeOperations = new ConcurrentHashMap<>();
-        this.keepAliveSender = Multi.createFrom().ticks()
-                .startingAfter(Duration.ofSeconds(10))
-                .every(Duration.ofSeconds(10))
-                .subscribe().with(tick -> sendKeepAlive());
+        Config config = Config.get();
+        this.sharedSubscriptions = config.isSharedSubscriptionsEnabled() ? SharedSubscriptions.get() : null;
+        this.outboundBuffer = new OutboundBuffer(session, config.getWebSocketBufferSize().orElse(null),
+                config.getWebSocketOverflowPolicy());
+        KeepAliveScheduler keepAliveScheduler = KeepAliveScheduler.get();
+        this.keepAlive = keepAliveScheduler != null ? keepAliveScheduler.register(session, this::sendKeepAlive) : null;
+        this.keepAliveSender = keepAlive;
     }
 
     @Override
@@ -57,6 +78,9 @@ public abstract class AbstractGraphQLWebsocketHandler implements GraphQLWebsocke
         if (LOG.isTraceEnabled()) {
             LOG.trace("<<< " + text);
         }
+        if (keepAlive != null) {
+            keepAlive.onActivity();
+        }
         onMessage(getMessageAsJsonObject(text));
     }
 
@@ -72,6 +96,7 @@ public abstract class AbstractGraphQLWebsocketHandler implements GraphQLWebsocke
     public void onClose() {
         LOG.debug("GraphQL-over-websocket session " + session + " closed");
         activeOperations.forEach((id, operation) -> cancelOperation(id));
+        outboundBuffer.clear();
         if (!session.isClosed()) {
             session.close((short) 1000, "");
         }
@@ -97,6 +122,10 @@ public abstract class AbstractGraphQLWebsocketHandler implements GraphQLWebsocke
         if (validSubscription(operationId)) {
             JsonObject payload = message.getJsonObject("payload");
 
+            if (sharedSubscriptions != null && joinSharedSubscription(operationId, payload)) {
+                return;
+            }
+
             executionService.executeAsync(payload, context, new ExecutionResponseWriter() {
                 @Override
                 public void write(ExecutionResponse executionResponse) {
@@ -134,6 +163,24 @@ public abstract class AbstractGraphQLWebsocketHandler implements GraphQLWebsocke
         }
     }
 
+    private boolean joinSharedSubscription(String operationId, JsonObject payload) {
+        SharedSubscriptionMember member = new SharedSubscriptionMember(operationId);
+        // register the member first, so that a fast completion can remove it again
+        sharedSubscriptionMembers.put(operationId, member);
+        SharedSubscriptions.Membership membership = sharedSubscriptions.join(executionService, payload, context, member);
+        if (membership == null) {
+            // not a subscription that can be shared, execute it the normal way
+            sharedSubscriptionMembers.remove(operationId, member);
+            return false;
+        }
+        member.membership = membership;
+        if (sharedSubscriptionMembers.get(operationId) != member) {
+            // cancelled in the meantime
+            membership.leave();
+        }
+        return true;
+    }
+
     private JsonObject createConnectionAckMessage() {
         return Json.createObjectBuilder()
                 .add("type", "connection_ack")
@@ -154,7 +201,39 @@ public abstract class AbstractGraphQLWebsocketHandler implements GraphQLWebsocke
 
     // TODO: we need more validation on the incoming messages (correct fields and types etc)
     private JsonObject parseIncomingMessage(String message) {
-        return Json.createReader(new StringReader(message)).readObject();
+        String type = getTypeOfControlFrame(message);
+        if (type != null) {
+            JsonObject frame = CONTROL_FRAMES.get(type);
+            if (frame == null) {
+                frame = Json.createObjectBuilder().add("type", type).build();
+                if (CONTROL_FRAMES.size() < MAX_CONTROL_FRAMES) {
+                    CONTROL_FRAMES.putIfAbsent(type, frame);
+                }
+            }
+            return frame;
+        }
+        try (JsonReader reader = READER_FACTORY.createReader(new StringReader(message))) {
+            return reader.readObject();
+        }
+    }
+
+    /**
+     * @return the type of a message that has nothing but a plain type, like {"type":"ping"}, or null for anything else
+     */
+    private static String getTypeOfControlFrame(String message) {
+        if (message.length() > TYPE_ONLY_PREFIX.length() + TYPE_ONLY_SUFFIX.length() + MAX_TYPE_LENGTH
+                || !message.startsWith(TYPE_ONLY_PREFIX)
+                || !message.endsWith(TYPE_ONLY_SUFFIX)) {
+            return null;
+        }
+        int end = message.length() - TYPE_ONLY_SUFFIX.length();
+        for (int i = TYPE_ONLY_PREFIX.length(); i < end; i++) {
+            char c = message.charAt(i);
+            if (c == '"' || c == '\\' || c < ' ') {
+                return null;
+            }
+        }
+        return message.substring(TYPE_ONLY_PREFIX.length(), end);
     }
 
     private JsonObject createCompleteMessage(String operationId) {
@@ -164,12 +243,20 @@ public abstract class AbstractGraphQLWebsocketHandler implements GraphQLWebsocke
                 .build();
     }
 
-    private JsonObject createDataMessage(String operationId, JsonObject payload) {
-        return Json.createObjectBuilder()
-                .add("type", this.dataMessageTypeName)
-                .add("id", operationId)
-                .add("payload", payload)
-                .build();
+    /**
+     * Write the data message with the result as payload, without building the result as JSON object first
+     */
+    private String createDataMessage(String operationId, ExecutionResponse executionResponse) {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = GENERATOR_FACTORY.createGenerator(writer)) {
+            generator.writeStartObject()
+                    .write("type", this.dataMessageTypeName)
+                    .write("id", operationId)
+                    .writeKey("payload");
+            executionResponse.writeExecutionResult(generator);
+            generator.writeEnd();
+        }
+        return writer.toString();
     }
 
     private void logUnknownResult(ExecutionResult executionResult) {
@@ -179,10 +266,7 @@ public abstract class AbstractGraphQLWebsocketHandler implements GraphQLWebsocke
 
     private void sendSingleMessage(String operationId, ExecutionResponse executionResponse) throws IOException {
         if (activeOperations.remove(operationId) != null) {
-            session.sendMessage(
-                    createDataMessage(operationId,
-                            executionResponse.getExecutionResultAsJsonObject())
-                                    .toString());
+            session.sendMessage(createDataMessage(operationId, executionResponse));
             session.sendMessage(createCompleteMessage(operationId).toString());
         }
     }
@@ -201,6 +285,10 @@ public abstract class AbstractGraphQLWebsocketHandler implements GraphQLWebsocke
     }
 
     private void sendKeepAlive() {
+        if (!session.isWritable()) {
+            // the client is busy receiving something, so it doesn't need a ping to keep the connection open
+            return;
+        }
         try {
             session.sendMessage(getPingMessage());
         } catch (IOException e) {
@@ -232,6 +320,10 @@ public abstract class AbstractGraphQLWebsocketHandler implements GraphQLWebsocke
             if (subscriber instanceof SubscriptionSubscriber) {
                 ((SubscriptionSubscriber) subscriber).cancel();
             }
+            SharedSubscriptionMember member = sharedSubscriptionMembers.remove(opId);
+            if (member != null) {
+                member.cancel();
+            }
             return true;
         } else {
             return false;
@@ -282,18 +374,22 @@ public abstract class AbstractGraphQLWebsocketHandler implements GraphQLWebsocke
         public void onNext(ExecutionResult executionResult) {
             if (!session.isClosed()) {
                 ExecutionResponse executionResponse = new ExecutionResponse(executionResult);
-                try {
-                    session.sendMessage(
-                            createDataMessage(operationId,
-                                    executionResponse.getExecutionResultAsJsonObject())
-                                            .toString());
-                } catch (IOException e) {
-                    LOG.warn(e);
+                String message = createDataMessage(operationId, executionResponse);
+                if (outboundBuffer.isBounded()) {
+                    // the buffer deals with slow clients, so keep the stream going
+                    outboundBuffer.offer(operationId, message, null);
+                    requestNext();
+                } else {
+                    // only ask for the next event once the client took this one
+                    outboundBuffer.offer(operationId, message, this::requestNext);
                 }
-                subscription.get().request(1);
             }
         }
 
+        private void requestNext() {
+            subscription.get().request(1);
+        }
+
         @Override
         public void onError(Throwable t) {
             // TODO: I'm not sure if/when this can happen. Even if the operation's root fails, it goes into `onNext`.
@@ -305,11 +401,7 @@ public abstract class AbstractGraphQLWebsocketHandler implements GraphQLWebsocke
             if (LOG.isTraceEnabled()) {
                 LOG.trace("Subscription with id " + operationId + " completed");
             }
-            try {
-                session.sendMessage(createCompleteMessage(operationId).toString());
-            } catch (IOException e) {
-                LOG.warn(e);
-            }
+            outboundBuffer.offerControl(operationId, createCompleteMessage(operationId).toString());
             activeOperations.remove(operationId);
         }
 
@@ -321,7 +413,68 @@ public abstract class AbstractGraphQLWebsocketHandler implements GraphQLWebsocke
         }
     }
 
-    // dummy value to put into the `activeOperations` map for single-result operations
+    /**
+     * An operation of this session that receives the events of a subscription shared with other sessions.
+     * The events are already serialized, so they only have to be wrapped in the data message.
+     */
+    private class SharedSubscriptionMember implements SharedSubscriptions.Member {
+
+        private final String operationId;
+        private final String dataMessagePrefix;
+        private volatile SharedSubscriptions.Membership membership;
+
+        public SharedSubscriptionMember(String operationId) {
+            this.operationId = operationId;
+            // the same fields, in the same order, as createDataMessage
+            this.dataMessagePrefix = "{\"type\":" + Json.createValue(dataMessageTypeName)
+                    + ",\"id\":" + Json.createValue(operationId)
+                    + ",\"payload\":";
+        }
+
+        @Override
+        public void sendPayload(String payload, Runnable onSent) {
+            if (session.isClosed()) {
+                onSent.run();
+            } else if (outboundBuffer.isBounded()) {
+                // the buffer deals with slow clients, so don't hold up the group
+                outboundBuffer.offer(operationId, dataMessagePrefix + payload + "}", null);
+                onSent.run();
+            } else {
+                // only let the group go on once the client took this event
+                outboundBuffer.offer(operationId, dataMessagePrefix + payload + "}", onSent);
+            }
+        }
+
+        @Override
+        public void sendError(ExecutionResponse executionResponse) {
+            if (sharedSubscriptionMembers.remove(operationId, this)) {
+                activeOperations.remove(operationId);
+                try {
+                    sendErrorMessage(operationId, executionResponse);
+                } catch (IOException e) {
+                    LOG.warn(e);
+                }
+            }
+        }
+
+        @Override
+        public void sendComplete() {
+            if (sharedSubscriptionMembers.remove(operationId, this)) {
+                activeOperations.remove(operationId);
+                outboundBuffer.offerControl(operationId, createCompleteMessage(operationId).toString());
+            }
+        }
+
+        public void cancel() {
+            SharedSubscriptions.Membership m = membership;
+            if (m != null) {
+                m.leave();
+            }
+        }
+    }
+
+    // dummy value to put into the `activeOperations` map for single-result operations, and for the members of shared
+    // subscriptions, which are in `sharedSubscriptionMembers` too
     private static final Subscriber<ExecutionResult> SINGLE_RESULT_MARKER = new Subscriber<ExecutionResult>() {
         @Override
         public void onSubscribe(Subscription s) {
@@ -15,4 +15,18 @@ public interface GraphQLWebSocketSession {
 
     boolean isClosed();
 
+    /**
+     * Whether the session can take another message without queueing it up in the underlying transport.
+     * Sessions that can't tell are always writable.
+     */
+    default boolean isWritable() {
+        return true;
+    }
+
+    /**
+     * Set the handler to call when the session becomes writable again after {@link #isWritable()} returned false.
+     */
+    default void setWritableHandler(Runnable handler) {
+    }
+
 }
@@ -2,6 +2,14 @@ package io.smallrye.graphql.websocket;
 
 public interface GraphQLWebsocketHandler {
 
+    /**
+     * The key of the {@link java.security.Principal} of the connection in the context that a transport passes to the
+     * handler, as an {@code Optional<Principal>} that is empty if the connection is not authenticated. Subscriptions are
+     * only shared between connections of the same principal, so they are not shared at all if the transport doesn't put
+     * it in the context.
+     */
+    String PRINCIPAL_CONTEXT_KEY = "io.smallrye.graphql.websocket.principal";
+
     /**
      * Called when a message arrives and needs to be handled. Implementation of this method MUST NOT block the calling thread!
      */
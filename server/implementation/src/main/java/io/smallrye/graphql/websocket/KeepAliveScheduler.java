@@ -0,0 +1,159 @@
+package io.smallrye.graphql.websocket;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
+
+import io.smallrye.graphql.spi.config.Config;
+import io.smallrye.mutiny.subscription.Cancellable;
+
+/**
+ * Sends the keep-alive messages of all websocket sessions from one timer.
+ * <p>
+ * The sessions are spread over the slots of a wheel that turns once per interval. Every tick sweeps one slot, and
+ * pings the sessions in it that have been idle for about an interval. Sessions whose client sent something in the
+ * meantime are skipped, as the connection is evidently alive.
+ */
+class KeepAliveScheduler {
+    private static final Logger LOG = Logger.getLogger(KeepAliveScheduler.class.getName());
+
+    private static final int WHEEL_SIZE = 32;
+
+    private static volatile KeepAliveScheduler instance;
+
+    private final long intervalNanos;
+    private final long tickNanos;
+    private final Set<Registration>[] wheel;
+    private final ScheduledExecutorService timer;
+    private volatile int cursor; // only moved by the timer
+    private volatile boolean started;
+
+    /**
+     * @return the shared scheduler, or null if keep-alive messages are disabled
+     */
+    static KeepAliveScheduler get() {
+        if (instance == null) {
+            synchronized (KeepAliveScheduler.class) {
+                if (instance == null) {
+                    int seconds = Config.get().getWebSocketKeepAliveInterval();
+                    if (seconds <= 0) {
+                        return null;
+                    }
+                    instance = new KeepAliveScheduler(Duration.ofSeconds(seconds),
+                            Executors.newSingleThreadScheduledExecutor(r -> {
+                                Thread thread = new Thread(r, "smallrye-graphql-keep-alive");
+                                thread.setDaemon(true);
+                                return thread;
+                            }));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * @param timer the executor that turns the wheel, or null to turn it by calling {@link #tick(long)}
+     */
+    @SuppressWarnings("unchecked")
+    KeepAliveScheduler(Duration interval, ScheduledExecutorService timer) {
+        this.intervalNanos = interval.toNanos();
+        this.tickNanos = Math.max(1, intervalNanos / WHEEL_SIZE);
+        this.timer = timer;
+        this.wheel = new Set[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = ConcurrentHashMap.newKeySet();
+        }
+    }
+
+    /**
+     * Start sending keep-alive messages for a session
+     *
+     * @param pinger sends the keep-alive message
+     * @return the registration, to report client activity and to stop
+     */
+    Registration register(GraphQLWebSocketSession session, Runnable pinger) {
+        startIfNeeded();
+        // the slot that is swept last, so the first ping comes after about an interval
+        Set<Registration> slot = wheel[(cursor + WHEEL_SIZE - 1) % WHEEL_SIZE];
+        Registration registration = new Registration(session, pinger, slot, System.nanoTime());
+        slot.add(registration);
+        return registration;
+    }
+
+    int size() {
+        int size = 0;
+        for (Set<Registration> slot : wheel) {
+            size += slot.size();
+        }
+        return size;
+    }
+
+    /**
+     * Sweep the next slot of the wheel
+     */
+    void tick(long now) {
+        Set<Registration> slot = wheel[cursor];
+        cursor = (cursor + 1) % WHEEL_SIZE;
+        for (Registration registration : slot) {
+            if (registration.session.isClosed()) {
+                slot.remove(registration);
+            } else if (now - registration.lastActivity >= intervalNanos - tickNanos) {
+                registration.lastActivity = now;
+                try {
+                    registration.pinger.run();
+                } catch (RuntimeException e) {
+                    LOG.warn("Could not send keep-alive message", e);
+                }
+            }
+        }
+    }
+
+    private void startIfNeeded() {
+        if (!started && timer != null) {
+            synchronized (this) {
+                if (!started) {
+                    timer.scheduleAtFixedRate(() -> tick(System.nanoTime()), tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+                    started = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * The keep-alive messages of one session
+     */
+    static class Registration implements Cancellable {
+        private final GraphQLWebSocketSession session;
+        private final Runnable pinger;
+        private final Set<Registration> slot;
+        private volatile long lastActivity;
+
+        private Registration(GraphQLWebSocketSession session, Runnable pinger, Set<Registration> slot, long now) {
+            this.session = session;
+            this.pinger = pinger;
+            this.slot = slot;
+            this.lastActivity = now;
+        }
+
+        /**
+         * The client sent something, so there is no need to ping it for a while
+         */
+        void onActivity() {
+            onActivity(System.nanoTime());
+        }
+
+        void onActivity(long now) {
+            lastActivity = now;
+        }
+
+        @Override
+        public void cancel() {
+            slot.remove(this);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package io.smallrye.graphql.websocket;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.logging.Logger;
+
+import io.smallrye.graphql.spi.config.WebSocketOverflowPolicy;
+
+/**
+ * The outbound messages of the subscriptions of one websocket session that could not be written yet.
+ * <p>
+ * Messages are only handed to the session while it is writable, so a slow client doesn't block the streams that feed
+ * it. If the buffer is bounded, the streams keep going at their own pace and the {@link WebSocketOverflowPolicy} decides
+ * what happens to events that don't fit anymore. If it is unbounded, every message carries a callback that requests the
+ * next event once the message is written, so the streams are slowed down to the pace of the client instead.
+ * <p>
+ * Completion messages are never dropped, so that the client always learns that an operation ended.
+ */
+public final class OutboundBuffer {
+    private static final Logger LOG = Logger.getLogger(OutboundBuffer.class.getName());
+
+    // the close code for policy violations
+    static final short OVERFLOW_CLOSE_CODE = 1008;
+
+    private static final AtomicLong TOTAL_QUEUE_DEPTH = new AtomicLong();
+    private static final AtomicLong TOTAL_DROPPED = new AtomicLong();
+
+    private final GraphQLWebSocketSession session;
+    private final int capacity;
+    private final WebSocketOverflowPolicy overflowPolicy;
+    private final Deque<Message> queue = new ArrayDeque<>(); // guarded by this
+    private final AtomicInteger drainers = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+
+    OutboundBuffer(GraphQLWebSocketSession session, Integer capacity, WebSocketOverflowPolicy overflowPolicy) {
+        this.session = session;
+        this.capacity = capacity == null ? Integer.MAX_VALUE : capacity;
+        this.overflowPolicy = overflowPolicy;
+        session.setWritableHandler(this::drain);
+    }
+
+    /**
+     * @return true if the senders don't have to wait for their messages to be written before sending the next
+     */
+    boolean isBounded() {
+        return capacity != Integer.MAX_VALUE;
+    }
+
+    /**
+     * Queue an event of an operation. It may get dropped if the buffer is full.
+     *
+     * @param operationId the operation the event belongs to
+     * @param message the encoded message
+     * @param onSent called when the message was handed to the session, may be null
+     */
+    void offer(String operationId, String message, Runnable onSent) {
+        if (add(new Message(operationId, message, onSent, true))) {
+            drain();
+        } else {
+            LOG.debug("Closing websocket session " + session + ", its outbound buffer is full");
+            clear();
+            session.close(OVERFLOW_CLOSE_CODE, "Too many pending messages");
+        }
+    }
+
+    /**
+     * Queue a message that must not get dropped, like the completion of an operation
+     */
+    void offerControl(String operationId, String message) {
+        add(new Message(operationId, message, null, false));
+        drain();
+    }
+
+    /**
+     * @return the number of messages waiting to be written
+     */
+    public synchronized int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * @return the number of events this buffer dropped
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * @return the number of messages waiting to be written, over all websocket sessions
+     */
+    public static long getTotalQueueDepth() {
+        return TOTAL_QUEUE_DEPTH.get();
+    }
+
+    /**
+     * @return the number of events dropped, over all websocket sessions
+     */
+    public static long getTotalDroppedCount() {
+        return TOTAL_DROPPED.get();
+    }
+
+    /**
+     * Forget the pending messages, e.g. because the session is closed
+     */
+    void clear() {
+        int size;
+        synchronized (this) {
+            size = queue.size();
+            queue.clear();
+        }
+        TOTAL_QUEUE_DEPTH.addAndGet(-size);
+    }
+
+    /**
+     * @return false if the message doesn't fit and the session has to be disconnected
+     */
+    private boolean add(Message message) {
+        synchronized (this) {
+            if (message.droppable && queue.size() >= capacity) {
+                switch (overflowPolicy) {
+                    case dropNewest:
+                        drop();
+                        return true;
+                    case conflate:
+                        if (replacePending(message)) {
+                            drop();
+                            return true;
+                        }
+                        if (removeOldest()) {
+                            drop();
+                        }
+                        break;
+                    case disconnect:
+                        return false;
+                    case dropOldest:
+                    default:
+                        if (removeOldest()) {
+                            drop();
+                        }
+                        break;
+                }
+            }
+            queue.add(message);
+        }
+        TOTAL_QUEUE_DEPTH.incrementAndGet();
+        return true;
+    }
+
+    // replace the last pending event of the same operation, so that the client still gets the latest one
+    private boolean replacePending(Message message) {
+        Iterator<Message> it = queue.descendingIterator();
+        while (it.hasNext()) {
+            Message pending = it.next();
+            if (pending.droppable && pending.operationId.equals(message.operationId)) {
+                pending.text = message.text;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean removeOldest() {
+        Iterator<Message> it = queue.iterator();
+        while (it.hasNext()) {
+            if (it.next().droppable) {
+                it.remove();
+                TOTAL_QUEUE_DEPTH.decrementAndGet();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void drop() {
+        dropped.incrementAndGet();
+        TOTAL_DROPPED.incrementAndGet();
+    }
+
+    /**
+     * Write pending messages as long as the session is writable. Only one thread writes at a time, others that call
+     * this in the meantime make it check again.
+     */
+    private void drain() {
+        if (drainers.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            while (session.isWritable() && !session.isClosed()) {
+                Message message;
+                synchronized (this) {
+                    message = queue.poll();
+                }
+                if (message == null) {
+                    break;
+                }
+                TOTAL_QUEUE_DEPTH.decrementAndGet();
+                try {
+                    session.sendMessage(message.text);
+                } catch (IOException e) {
+                    LOG.warn(e);
+                }
+                if (message.onSent != null) {
+                    message.onSent.run();
+                }
+            }
+        } while (drainers.decrementAndGet() != 0);
+    }
+
+    private static class Message {
+        private final String operationId;
+        private final Runnable onSent;
+        private final boolean droppable;
+        private String text; // guarded by the buffer
+
+        private Message(String operationId, String text, Runnable onSent, boolean droppable) {
+            this.operationId = operationId;
+            this.text = text;
+            this.onSent = onSent;
+            this.droppable = droppable;
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package io.smallrye.graphql.websocket;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+
+import org.jboss.logging.Logger;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.GraphqlErrorBuilder;
+import graphql.language.AstPrinter;
+import graphql.language.Document;
+import graphql.language.NodeUtil;
+import graphql.language.OperationDefinition;
+import graphql.parser.Parser;
+import io.smallrye.graphql.execution.ExecutionResponse;
+import io.smallrye.graphql.execution.ExecutionResponseWriter;
+import io.smallrye.graphql.execution.ExecutionService;
+import io.smallrye.graphql.execution.context.SmallRyeContextManager;
+import io.smallrye.graphql.spi.config.Config;
+
+/**
+ * Shares the execution of identical subscriptions between websocket sessions.
+ * <p>
+ * Subscribers are grouped by the normalized document, the rest of the request (operation name, variables and
+ * extensions), the principal of the connection and the rest of its context, as the subscription runs with the
+ * identity and the context of the first subscriber. Connections whose transport doesn't supply the principal in
+ * {@link GraphQLWebsocketHandler#PRINCIPAL_CONTEXT_KEY} never share their subscriptions. The first subscriber of a group
+ * executes the subscription, and every
+ * event is resolved and serialized once for the whole group. Subscribers that join later receive the events from then
+ * on, so this only suits subscriptions that are hot streams, like tickers or notifications.
+ * <p>
+ * The next event is only requested when every member took the current one, so the group goes at the pace of its
+ * slowest member, unless the members buffer their events with a bounded buffer.
+ */
+class SharedSubscriptions {
+    private static final Logger LOG = Logger.getLogger(SharedSubscriptions.class.getName());
+
+    private static final SharedSubscriptions INSTANCE = new SharedSubscriptions();
+
+    private final Map<Key, Group> groups = new ConcurrentHashMap<>();
+
+    static SharedSubscriptions get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Something that receives the events of a shared subscription, typically an operation on a websocket session
+     */
+    interface Member {
+
+        /**
+         * @param payload the serialized execution result of the event
+         * @param onSent to be called when the member took the event, so the group can go on with the next one
+         */
+        void sendPayload(String payload, Runnable onSent);
+
+        void sendError(ExecutionResponse executionResponse);
+
+        void sendComplete();
+    }
+
+    /**
+     * Join the group of subscribers of this request, executing the subscription if the group is new.
+     *
+     * @return the handle to leave the group again, or null if the request is not a subscription that can be shared
+     */
+    Membership join(ExecutionService executionService, JsonObject payload, Map<String, Object> context, Member member) {
+        Key key = Key.of(executionService, payload, context);
+        if (key == null) {
+            return null;
+        }
+        while (true) {
+            Group group = groups.get(key);
+            boolean created = false;
+            if (group == null) {
+                Group newGroup = new Group(key);
+                group = groups.putIfAbsent(key, newGroup);
+                if (group == null) {
+                    group = newGroup;
+                    created = true;
+                }
+            }
+            if (group.join(member)) {
+                if (created) {
+                    Map<String, Object> executionContext = new HashMap<>(context);
+                    executionContext.remove(SmallRyeContextManager.CONTEXT);
+                    group.execute(executionService, payload, executionContext);
+                }
+                return new Membership(group, member);
+            }
+            // the group just completed, so start over with a new one
+            groups.remove(key, group);
+        }
+    }
+
+    int getGroupCount() {
+        return groups.size();
+    }
+
+    /**
+     * The membership of one subscriber in a group
+     */
+    static class Membership {
+        private final Group group;
+        private final Member member;
+
+        private Membership(Group group, Member member) {
+            this.group = group;
+            this.member = member;
+        }
+
+        void leave() {
+            group.leave(member);
+        }
+    }
+
+    private class Group implements Subscriber<ExecutionResult> {
+        private final Key key;
+        private final List<Member> members = new CopyOnWriteArrayList<>();
+        private final AtomicReference<Subscription> subscription = new AtomicReference<>();
+        private volatile Delivery delivery;
+        private boolean closed; // guarded by this
+
+        private Group(Key key) {
+            this.key = key;
+        }
+
+        private synchronized boolean join(Member member) {
+            if (closed) {
+                return false;
+            }
+            members.add(member);
+            return true;
+        }
+
+        private void leave(Member member) {
+            boolean last;
+            synchronized (this) {
+                if (!members.remove(member)) {
+                    return;
+                }
+                last = members.isEmpty() && !closed;
+                if (last) {
+                    closed = true;
+                }
+            }
+            if (!last) {
+                Delivery current = delivery;
+                if (current != null) {
+                    // don't wait for a member that is gone
+                    current.sent(member);
+                }
+                return;
+            }
+            // the last member left, so stop the stream
+            groups.remove(key, this);
+            Subscription s = subscription.get();
+            if (s != null) {
+                s.cancel();
+            }
+        }
+
+        /**
+         * Close the group, so that no new members can join
+         *
+         * @return the members at the time the group was closed, or an empty list if it was closed already
+         */
+        private List<Member> close() {
+            List<Member> remaining;
+            synchronized (this) {
+                if (closed) {
+                    return List.of();
+                }
+                closed = true;
+                remaining = new ArrayList<>(members);
+            }
+            groups.remove(key, this);
+            return remaining;
+        }
+
+        private synchronized boolean isClosed() {
+            return closed;
+        }
+
+        private void execute(ExecutionService executionService, JsonObject payload, Map<String, Object> context) {
+            executionService.executeAsync(payload, context, new ExecutionResponseWriter() {
+                @Override
+                public void write(ExecutionResponse executionResponse) {
+                    ExecutionResult executionResult = executionResponse.getExecutionResult();
+                    if (executionResult != null && executionResult.isDataPresent()
+                            && executionResult.getData() instanceof Publisher) {
+                        if (!isClosed()) {
+                            Publisher<ExecutionResult> stream = executionResult.getData();
+                            stream.subscribe(Group.this);
+                        }
+                    } else {
+                        // a validation error, or the subscription method failed
+                        for (Member member : close()) {
+                            member.sendError(executionResponse);
+                        }
+                    }
+                }
+
+                @Override
+                public void fail(Throwable t) {
+                    LOG.warn("Shared subscription failed", t);
+                    failMembers();
+                }
+            });
+        }
+
+        private void failMembers() {
+            ExecutionResponse error = new ExecutionResponse(ExecutionResultImpl.newExecutionResult()
+                    .addError(GraphqlErrorBuilder.newError().message(Config.get().getDefaultErrorMessage()).build())
+                    .build());
+            for (Member member : close()) {
+                member.sendError(error);
+            }
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            subscription.set(s);
+            if (isClosed()) {
+                s.cancel();
+            } else {
+                s.request(1);
+            }
+        }
+
+        @Override
+        public void onNext(ExecutionResult executionResult) {
+            // resolved and serialized once for all members
+            String payload = new ExecutionResponse(executionResult).getExecutionResultAsString();
+            List<Member> recipients = new ArrayList<>(members);
+            Delivery current = new Delivery(subscription.get(), recipients);
+            this.delivery = current;
+            for (Member member : recipients) {
+                member.sendPayload(payload, () -> current.sent(member));
+            }
+            current.start();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            LOG.warn("Shared subscription failed", t);
+            failMembers();
+        }
+
+        @Override
+        public void onComplete() {
+            for (Member member : close()) {
+                member.sendComplete();
+            }
+        }
+    }
+
+    /**
+     * The members that didn't take the current event yet; when all of them did, the next event is requested
+     */
+    private static class Delivery {
+        private final Set<Member> pending = ConcurrentHashMap.newKeySet();
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final AtomicBoolean requested = new AtomicBoolean();
+        private final Subscription subscription;
+
+        private Delivery(Subscription subscription, List<Member> recipients) {
+            this.subscription = subscription;
+            pending.addAll(recipients);
+        }
+
+        /**
+         * Called when the event was handed to all the recipients, as some may take it only later
+         */
+        private void start() {
+            started.set(true);
+            requestNextIfDone();
+        }
+
+        private void sent(Member member) {
+            if (pending.remove(member)) {
+                requestNextIfDone();
+            }
+        }
+
+        private void requestNextIfDone() {
+            if (started.get() && pending.isEmpty() && requested.compareAndSet(false, true)) {
+                subscription.request(1);
+            }
+        }
+    }
+
+    private static class Key {
+        private final ExecutionService executionService;
+        private final String document;
+        private final JsonObject request;
+        private final String principal;
+        private final Map<String, Object> context;
+        private final int hashCode;
+
+        private Key(ExecutionService executionService, String document, JsonObject request, String principal,
+                Map<String, Object> context) {
+            this.executionService = executionService;
+            this.document = document;
+            this.request = request;
+            this.principal = principal;
+            this.context = context;
+            this.hashCode = Objects.hash(System.identityHashCode(executionService), document, request, principal, context);
+        }
+
+        /**
+         * @return the key, or null if the payload is not a subscription, or the principal of the connection is unknown
+         */
+        private static Key of(ExecutionService executionService, JsonObject payload, Map<String, Object> context) {
+            if (!context.containsKey(GraphQLWebsocketHandler.PRINCIPAL_CONTEXT_KEY)) {
+                return null;
+            }
+            String query = payload.getString(QUERY, null);
+            if (query == null) {
+                return null;
+            }
+            String operationName = payload.getString(OPERATION_NAME, null);
+            Document document;
+            try {
+                document = Parser.parse(query);
+                OperationDefinition operation = NodeUtil.getOperation(document, operationName).operationDefinition;
+                if (operation.getOperation() != OperationDefinition.Operation.SUBSCRIPTION) {
+                    return null;
+                }
+            } catch (RuntimeException e) {
+                // let the normal execution report the problem
+                return null;
+            }
+
+            JsonObjectBuilder request = Json.createObjectBuilder(payload);
+            request.remove(QUERY);
+            // the context of a previous execution on the same connection is not relevant, and principals are compared
+            // by their name, as not all of them implement equals
+            Map<String, Object> relevantContext = new HashMap<>(context);
+            relevantContext.remove(SmallRyeContextManager.CONTEXT);
+            Optional<?> principal = (Optional<?>) relevantContext.remove(GraphQLWebsocketHandler.PRINCIPAL_CONTEXT_KEY);
+            return new Key(executionService, AstPrinter.printAstCompact(document), request.build(),
+                    principal.map(p -> ((Principal) p).getName()).orElse(null), relevantContext);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return executionService == other.executionService
+                    && document.equals(other.document)
+                    && request.equals(other.request)
+                    && Objects.equals(principal, other.principal)
+                    && context.equals(other.context);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final String QUERY = "query";
+    private static final String OPERATION_NAME = "operationName";
+}
@@ -18,13 +18,12 @@ import io.smallrye.graphql.websocket.GraphQLWebSocketSession;
  */
 public class GraphQLTransportWSSubprotocolHandler extends AbstractGraphQLWebsocketHandler {
 
-    private final String pingMessage;
-    private final String pongMessage;
+    // encoded once, as they are sent to all sessions
+    private static final String PING_MESSAGE = createPingMessage().toString();
+    private static final String PONG_MESSAGE = createPongMessage().toString();
 
     public GraphQLTransportWSSubprotocolHandler(GraphQLWebSocketSession session, Map<String, Object> context) {
         super(session, "next", context);
-        this.pongMessage = createPongMessage().toString();
-        this.pingMessage = createPingMessage().toString();
     }
 
     @Deprecated
@@ -87,21 +86,21 @@ public class GraphQLTransportWSSubprotocolHandler extends AbstractGraphQLWebsock
     }
 
     private void sendPongMessage() throws IOException {
-        session.sendMessage(pongMessage);
+        session.sendMessage(PONG_MESSAGE);
     }
 
     @Override
     protected String getPingMessage() {
-        return pingMessage;
+        return PING_MESSAGE;
     }
 
-    private JsonObject createPongMessage() {
+    private static JsonObject createPongMessage() {
         return Json.createObjectBuilder()
                 .add("type", "pong")
                 .build();
     }
 
-    private JsonObject createPingMessage() {
+    private static JsonObject createPingMessage() {
         return Json.createObjectBuilder()
                 .add("type", "ping")
                 .build();
@@ -17,11 +17,11 @@ import io.smallrye.graphql.websocket.GraphQLWebSocketSession;
  */
 public class GraphQLWSSubprotocolHandler extends AbstractGraphQLWebsocketHandler {
 
-    private final String pingMessage;
+    // encoded once, as it is sent to all sessions
+    private static final String PING_MESSAGE = createPingMessage().toString();
 
     public GraphQLWSSubprotocolHandler(GraphQLWebSocketSession session, Map<String, Object> context) {
         super(session, MessageType.GQL_DATA.asString(), context);
-        pingMessage = createPingMessage().toString();
     }
 
     @Deprecated
@@ -62,7 +62,7 @@ public class GraphQLWSSubprotocolHandler extends AbstractGraphQLWebsocketHandler
 
     @Override
     protected String getPingMessage() {
-        return pingMessage;
+        return PING_MESSAGE;
     }
 
     @Override
@@ -81,7 +81,7 @@ public class GraphQLWSSubprotocolHandler extends AbstractGraphQLWebsocketHandler
                 .build();
     }
 
-    private JsonObject createPingMessage() {
+    private static JsonObject createPingMessage() {
         return Json.createObjectBuilder()
                 .add("type", MessageType.GQL_CONNECTION_KEEP_ALIVE.asString())
                 .build();
@@ -0,0 +1,53 @@
+package io.smallrye.graphql.bootstrap;
+
+import io.smallrye.graphql.execution.TestConfig;
+import io.smallrye.graphql.schema.model.Schema;
+import io.smallrye.graphql.spi.config.Config;
+
+/**
+ * Compares the time to bootstrap the generated schema of the {@link ParallelBootstrapTest} sequentially and in
+ * parallel. This is not a test, as timings are too unreliable for a build gate; run the main method from the IDE,
+ * or after a <code>mvn test-compile</code> with the test classpath, e.g.
+ *
+ * <pre>
+ * java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *     io.smallrye.graphql.bootstrap.ParallelBootstrapBenchmark 500 25
+ * </pre>
+ *
+ * The arguments are the number of generated types (default 500), the number of fields of each type (default 25),
+ * and the number of measured rounds (default 5).
+ */
+public class ParallelBootstrapBenchmark {
+
+    public static void main(String... args) {
+        int types = (args.length > 0) ? Integer.parseInt(args[0]) : 500;
+        int fields = (args.length > 1) ? Integer.parseInt(args[1]) : 25;
+        int rounds = (args.length > 2) ? Integer.parseInt(args[2]) : 5;
+
+        TestConfig config = (TestConfig) Config.get();
+        Schema schema = ParallelBootstrapTest.generateSchema(types, fields);
+
+        // warm up, so that the measured rounds are comparable
+        for (int i = 0; i < rounds; i++) {
+            time(config, schema, false);
+            time(config, schema, true);
+        }
+
+        long sequential = Long.MAX_VALUE;
+        long parallel = Long.MAX_VALUE;
+        for (int i = 0; i < rounds; i++) {
+            sequential = Math.min(sequential, time(config, schema, false));
+            parallel = Math.min(parallel, time(config, schema, true));
+        }
+
+        System.out.printf("Bootstrapped %d types with %d fields each on %d processors: sequential %d ms, parallel %d ms%n",
+                types, fields, Runtime.getRuntime().availableProcessors(), sequential / 1_000_000, parallel / 1_000_000);
+    }
+
+    private static long time(TestConfig config, Schema schema, boolean parallel) {
+        config.parallelBootstrapEnabled = parallel;
+        long start = System.nanoTime();
+        Bootstrap.bootstrap(schema, true);
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,149 @@
+package io.smallrye.graphql.bootstrap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import graphql.schema.GraphQLSchema;
+import io.smallrye.graphql.execution.Indexer;
+import io.smallrye.graphql.execution.SchemaPrinter;
+import io.smallrye.graphql.execution.TestConfig;
+import io.smallrye.graphql.schema.SchemaBuilder;
+import io.smallrye.graphql.schema.model.Argument;
+import io.smallrye.graphql.schema.model.EnumType;
+import io.smallrye.graphql.schema.model.EnumValue;
+import io.smallrye.graphql.schema.model.Execute;
+import io.smallrye.graphql.schema.model.Field;
+import io.smallrye.graphql.schema.model.InputType;
+import io.smallrye.graphql.schema.model.Operation;
+import io.smallrye.graphql.schema.model.OperationType;
+import io.smallrye.graphql.schema.model.Reference;
+import io.smallrye.graphql.schema.model.ReferenceType;
+import io.smallrye.graphql.schema.model.Scalars;
+import io.smallrye.graphql.schema.model.Schema;
+import io.smallrye.graphql.schema.model.Type;
+import io.smallrye.graphql.spi.config.Config;
+
+/**
+ * Test that bootstrapping in parallel creates the same schema as bootstrapping sequentially
+ */
+class ParallelBootstrapTest {
+    private static final int GENERATED_TYPES = 100;
+    private static final int GENERATED_FIELDS = 5;
+
+    private final TestConfig config = (TestConfig) Config.get();
+
+    @AfterEach
+    void tearDown() {
+        config.reset();
+    }
+
+    @Test
+    void testParallelBootstrapOfTestSchema() {
+        Schema schema = SchemaBuilder.build(Indexer.getAllTestIndex());
+
+        assertEquals(print(schema, false), print(schema, true));
+    }
+
+    @Test
+    void testParallelBootstrapOfGeneratedSchema() {
+        Schema schema = generateSchema(GENERATED_TYPES, GENERATED_FIELDS);
+
+        String sequential = print(schema, false);
+
+        assertTrue(sequential.contains("previous: Generated0Input = {first_name : \"Koos\", size : 3}"), sequential);
+        assertEquals(sequential, print(schema, true));
+    }
+
+    private String print(Schema schema, boolean parallel) {
+        return new SchemaPrinter().print(bootstrap(schema, parallel));
+    }
+
+    private GraphQLSchema bootstrap(Schema schema, boolean parallel) {
+        config.parallelBootstrapEnabled = parallel;
+        GraphQLSchema graphQLSchema = Bootstrap.bootstrap(schema, true);
+        assertNotNull(graphQLSchema, "GraphQLSchema should not be null");
+        return graphQLSchema;
+    }
+
+    /**
+     * A schema with an interface, an enum and the given number of types, each with an input and a query, that
+     * reference their predecessors
+     */
+    static Schema generateSchema(int types, int fields) {
+        Schema schema = new Schema();
+
+        EnumType status = new EnumType("generated.Status", "Status", "A generated enum");
+        status.addValue(new EnumValue(null, "ACTIVE", null));
+        status.addValue(new EnumValue(null, "INACTIVE", null));
+        schema.addEnum(status);
+
+        Type node = new Type("generated.Node", "Node", "A generated interface");
+        node.setIsInterface(true);
+        node.addField(new Field("getId", "id", "id", Scalars.getIDScalar(String.class.getName())));
+        schema.addInterface(node);
+        Reference nodeReference = reference(node.getClassName(), node.getName(), ReferenceType.INTERFACE);
+
+        for (int i = 0; i < types; i++) {
+            String name = "Generated" + i;
+            Type type = new Type("generated." + name, name, "Generated type " + i);
+            type.addInterface(nodeReference);
+            type.addField(new Field("getId", "id", "id", Scalars.getIDScalar(String.class.getName())));
+            type.addField(new Field("getStatus", "status", "status",
+                    reference(status.getClassName(), status.getName(), ReferenceType.ENUM)));
+            for (int j = 0; j < fields; j++) {
+                type.addField(new Field("getField" + j, "field" + j, "field" + j, Scalars.getStringScalar()));
+            }
+            if (i > 0) {
+                String previous = "Generated" + (i - 1);
+                type.addField(new Field("getPrevious", "previous", "previous",
+                        reference("generated." + previous, previous, ReferenceType.TYPE)));
+            }
+            schema.addType(type);
+
+            // the inputs have renamed fields, so they are registered for JsonB, and default values to be deserialized
+            InputType input = new InputType("generated." + name + "Input", name + "Input", "Generated input " + i);
+            input.addField(new Field("setFirstName", "firstName", "first_name", Scalars.getStringScalar()));
+            Field size = new Field("setSize", "size", "size", Scalars.getIntScalar());
+            size.setDefaultValue("3");
+            input.addField(size);
+            if (i > 0) {
+                String previous = "Generated" + (i - 1) + "Input";
+                Field previousField = new Field("setPrevious", "previous", "previous",
+                        reference("generated." + previous, previous, ReferenceType.INPUT));
+                previousField.setDefaultValue("{\"first_name\":\"Koos\",\"size\":3}");
+                input.addField(previousField);
+            }
+            schema.addInput(input);
+
+            Operation query = new Operation(GeneratedApi.class.getName(), "get", "generated" + i, "generated" + i,
+                    reference(type.getClassName(), type.getName(), ReferenceType.TYPE), OperationType.QUERY,
+                    Execute.DEFAULT);
+            query.addArgument(new Argument("filter", "get", "filter", "filter",
+                    reference(GeneratedInput.class.getName(), input.getName(), ReferenceType.INPUT)));
+            schema.addQuery(query);
+        }
+        return schema;
+    }
+
+    private static Reference reference(String className, String name, ReferenceType type) {
+        return new Reference.Builder()
+                .className(className)
+                .name(name)
+                .type(type)
+                .graphQLClassName(className)
+                .build();
+    }
+
+    public static class GeneratedApi {
+        public Object get(GeneratedInput filter) {
+            return null;
+        }
+    }
+
+    public static class GeneratedInput {
+    }
+}
@@ -0,0 +1,90 @@
+package io.smallrye.graphql.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+
+import org.jboss.jandex.CompositeIndex;
+import org.jboss.jandex.IndexView;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test the execution of a batch of operations
+ */
+public class BatchExecutionTest extends ExecutionTestBase {
+
+    @Override
+    protected IndexView getIndex() {
+        return CompositeIndex.create(Indexer.getAllTestIndex(), Indexer.getTestIndex("io/smallrye/graphql/test/batch"));
+    }
+
+    @Test
+    public void shouldWriteTheResponsesInOrder() {
+        List<JsonObject> responses = executeBatch(
+                "{ testObject(yourname: \"Koos\") { name } }",
+                "{ testObjects { name timestamp { __typename } } }",
+                "{ testObject(yourname: \"Phillip\") { name } }");
+
+        assertEquals(3, responses.size());
+        assertEquals("{\"data\":{\"testObject\":{\"name\":\"Koos\"}}}", responses.get(0).toString());
+        assertEquals("{\"data\":{\"testObjects\":["
+                + "{\"name\":\"Phillip\",\"timestamp\":{\"__typename\":\"TestSource\"}},"
+                + "{\"name\":\"Charmaine\",\"timestamp\":{\"__typename\":\"TestSource\"}}]}}",
+                responses.get(1).toString());
+        assertEquals("{\"data\":{\"testObject\":{\"name\":\"Phillip\"}}}", responses.get(2).toString());
+    }
+
+    @Test
+    public void shouldKeepTheErrorsOfAnOperationToItself() {
+        List<JsonObject> responses = executeBatch(
+                "{ testObject(yourname: \"Koos\") { unknown } }",
+                "{ testObject(yourname: \"Koos\") { name } }");
+
+        assertEquals(2, responses.size());
+        assertTrue(responses.get(0).containsKey("errors"));
+        assertEquals("{\"data\":{\"testObject\":{\"name\":\"Koos\"}}}", responses.get(1).toString());
+    }
+
+    @Test
+    public void shouldGiveEveryOperationItsOwnContext() {
+        List<JsonObject> responses = executeBatch(
+                "{ testContext { query } }",
+                "query second { testContext { query executionId } }");
+
+        assertEquals("{ testContext { query } }",
+                responses.get(0).getJsonObject("data").getJsonObject("testContext").getString("query"));
+        JsonObject second = responses.get(1).getJsonObject("data").getJsonObject("testContext");
+        assertEquals("query second { testContext { query executionId } }", second.getString("query"));
+        assertNotEquals("", second.getString("executionId"));
+    }
+
+    @Test
+    public void shouldLoadBatchedFieldsWithTheArgumentsOfEachOperation() {
+        List<JsonObject> responses = executeBatch(
+                "{ product { name price(currency: \"EUR\") } }",
+                "{ product { price(currency: \"USD\") } }");
+
+        assertEquals("{\"data\":{\"product\":{\"name\":\"pencil\",\"price\":\"1.00 EUR\"}}}",
+                responses.get(0).toString());
+        assertEquals("{\"data\":{\"product\":{\"price\":\"1.00 USD\"}}}", responses.get(1).toString());
+    }
+
+    private List<JsonObject> executeBatch(String... queries) {
+        JsonArrayBuilder operations = Json.createArrayBuilder();
+        for (String query : queries) {
+            operations.add(Json.createObjectBuilder().add("query", query));
+        }
+        List<JsonObject> responses = new ArrayList<>();
+        executionService.executeBatch(operations.build(), new HashMap<>(),
+                executionResponse -> responses.add(executionResponse.getExecutionResultAsJsonObject()), false);
+        return responses;
+    }
+}
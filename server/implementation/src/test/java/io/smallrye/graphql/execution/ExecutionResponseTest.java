@@ -0,0 +1,73 @@
+package io.smallrye.graphql.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import jakarta.json.Json;
+import jakarta.json.stream.JsonGenerator;
+
+import org.junit.jupiter.api.Test;
+
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.GraphqlErrorBuilder;
+
+/**
+ * Test that the streamed execution result is the same as the built one
+ */
+public class ExecutionResponseTest {
+
+    @Test
+    public void shouldStreamTheSameJsonAsTheObject() {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("string", "with \"quotes\"");
+        data.put("int", 42);
+        data.put("long", 4_200_000_000L);
+        data.put("short", (short) 7);
+        data.put("double", 1.0E10);
+        data.put("float", 3.14f);
+        data.put("bigDecimal", new BigDecimal("1.50"));
+        data.put("bigInteger", BigInteger.TEN.pow(30));
+        data.put("boolean", true);
+        data.put("enum", Thread.State.NEW);
+        data.put("null", null);
+        data.put("list", Arrays.asList(1, "two", null, Arrays.asList(false)));
+        ExecutionResult result = ExecutionResultImpl.newExecutionResult()
+                .data(Map.of("root", data))
+                .addError(GraphqlErrorBuilder.newError().message("boom").build())
+                .addExtension("cost", 5)
+                .build();
+        ExecutionResponse response = new ExecutionResponse(result);
+
+        assertEquals(response.getExecutionResultAsJsonObject().toString(), response.getExecutionResultAsString());
+    }
+
+    @Test
+    public void shouldStreamNullData() {
+        ExecutionResponse response = new ExecutionResponse(ExecutionResultImpl.newExecutionResult().build());
+
+        assertEquals(response.getExecutionResultAsJsonObject().toString(), response.getExecutionResultAsString());
+    }
+
+    @Test
+    public void shouldEmbedTheResult() {
+        ExecutionResponse response = new ExecutionResponse(ExecutionResultImpl.newExecutionResult()
+                .data(Map.of("hello", "world"))
+                .build());
+
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = Json.createGenerator(writer)) {
+            generator.writeStartObject().write("id", "1").writeKey("payload");
+            response.writeExecutionResult(generator);
+            generator.writeEnd();
+        }
+
+        assertEquals("{\"id\":\"1\",\"payload\":{\"data\":{\"hello\":\"world\"}}}", writer.toString());
+    }
+}
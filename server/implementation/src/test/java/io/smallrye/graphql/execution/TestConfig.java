@@ -16,6 +16,8 @@ import io.smallrye.graphql.spi.config.LogPayloadOption;
 public class TestConfig implements Config {
 
     public boolean federationEnabled;
+    public boolean parallelBootstrapEnabled;
+    public Integer maxErrors;
 
     public TestConfig() {
         reset();
@@ -36,6 +38,11 @@ public class TestConfig implements Config {
         return federationEnabled;
     }
 
+    @Override
+    public boolean isParallelBootstrapEnabled() {
+        return parallelBootstrapEnabled;
+    }
+
     @Override
     public LogPayloadOption logPayload() {
         return LogPayloadOption.queryAndVariables;
@@ -48,6 +55,11 @@ public class TestConfig implements Config {
                 "validationErrorType", "queryPath", "test-extension"));
     }
 
+    @Override
+    public Optional<Integer> getMaxErrors() {
+        return Optional.ofNullable(maxErrors);
+    }
+
     @Override
     public boolean isIncludeDirectivesInSchema() {
         return true;
@@ -69,5 +81,7 @@ public class TestConfig implements Config {
 
     public void reset() {
         this.federationEnabled = false;
+        this.parallelBootstrapEnabled = false;
+        this.maxErrors = null;
     }
 }
@@ -0,0 +1,82 @@
+package io.smallrye.graphql.execution.datafetcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.graphql.schema.model.Throttle;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+
+/**
+ * Test the rate limiting of subscription events
+ */
+public class ThrottleTest {
+
+    @Test
+    public void shouldSampleTheLatestEventPerPeriod() {
+        Multi<Long> ticks = Multi.createFrom().ticks().every(Duration.ofMillis(1)).select().first(200);
+
+        List<Long> events = AbstractStreamingDataFetcher.throttle(ticks, new Throttle("SAMPLE", 50))
+                .collect().asList().await().atMost(Duration.ofSeconds(10));
+
+        assertTrue(events.size() < 20, "Expected a few samples, got " + events);
+        assertEquals(199L, events.get(events.size() - 1));
+    }
+
+    @Test
+    public void shouldDebounce() {
+        // a burst, a pause, and another burst
+        Multi<Integer> bursts = Multi.createBy().concatenating().streams(
+                Multi.createFrom().items(1, 2, 3),
+                Multi.createFrom().item(4).onItem().call(() -> Uni.createFrom().voidItem()
+                        .onItem().delayIt().by(Duration.ofMillis(300))),
+                Multi.createFrom().items(5, 6));
+
+        List<Integer> events = AbstractStreamingDataFetcher.throttle(bursts, new Throttle("DEBOUNCE", 100))
+                .collect().asList().await().atMost(Duration.ofSeconds(10));
+
+        assertEquals(List.of(3, 6), events);
+    }
+
+    @Test
+    public void shouldCancelTheStreamWithTheSubscription() {
+        for (String mode : List.of("SAMPLE", "DEBOUNCE")) {
+            AtomicBoolean cancelled = new AtomicBoolean();
+            Multi<Long> ticks = Multi.createFrom().ticks().every(Duration.ofMillis(10))
+                    .onCancellation().invoke(() -> cancelled.set(true));
+
+            AbstractStreamingDataFetcher.throttle(ticks, new Throttle(mode, 50))
+                    .subscribe().withSubscriber(AssertSubscriber.create(10))
+                    .cancel();
+
+            assertTrue(cancelled.get(), mode + " should cancel the stream");
+        }
+    }
+
+    @Test
+    public void shouldConflateForSlowSubscribers() {
+        AssertSubscriber<Integer> subscriber = AbstractStreamingDataFetcher
+                .throttle(Multi.createFrom().range(0, 100), new Throttle("CONFLATE", 0))
+                .subscribe().withSubscriber(AssertSubscriber.create(1));
+
+        subscriber.request(1);
+
+        subscriber.assertItems(0, 99).assertCompleted();
+    }
+
+    @Test
+    public void shouldPassThroughWithoutPeriod() {
+        List<Integer> events = AbstractStreamingDataFetcher.throttle(Multi.createFrom().items(1, 2, 3),
+                new Throttle("SAMPLE", 0))
+                .collect().asList().await().indefinitely();
+
+        assertEquals(List.of(1, 2, 3), events);
+    }
+}
@@ -3,6 +3,7 @@ package io.smallrye.graphql.execution.error;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -11,15 +12,18 @@ import java.util.Optional;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 import graphql.ExceptionWhileDataFetching;
 import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
 import graphql.GraphqlErrorException;
 import graphql.execution.ResultPath;
 import graphql.language.SourceLocation;
 import graphql.validation.ValidationError;
 import graphql.validation.ValidationErrorType;
+import io.smallrye.graphql.execution.TestConfig;
 import io.smallrye.graphql.spi.config.Config;
 
 /**
@@ -31,6 +35,11 @@ class ExecutionErrorsServiceTest {
 
     private final ExecutionErrorsService executionErrorsService = new ExecutionErrorsService();
 
+    @AfterEach
+    void tearDown() {
+        ((TestConfig) Config.get()).reset();
+    }
+
     @Test
     void testToJsonErrors_WhenExceptionWhileDataFetchingErrorCaught_ShouldReturnJsonBodyWithCustomExtensions() {
         // Given
@@ -91,6 +100,76 @@ class ExecutionErrorsServiceTest {
         assertThat(extensions.getString("code", null)).isEqualTo("dummy-business");
     }
 
+    @Test
+    void shouldWriteTheSpecificationFields() {
+        JsonArray jsonArray = whenConverting(new RuntimeException("dummy-message"));
+
+        JsonObject error = jsonArray.getJsonObject(0);
+        assertThat(error.getString("message")).isEqualTo("dummy-message");
+        assertThat(error.getJsonArray("locations").getJsonObject(0).getInt("line")).isEqualTo(12);
+        assertThat(error.getJsonArray("locations").getJsonObject(0).getInt("column")).isEqualTo(34);
+        assertThat(error.getJsonArray("path").getString(0)).isEqualTo("foo");
+        assertThat(error.getJsonArray("path").getString(1)).isEqualTo("bar");
+    }
+
+    @Test
+    void shouldConvertCustomExtensionValues() {
+        Map<String, Object> nested = new HashMap<>();
+        nested.put("retryable", true);
+        Map<String, Object> extensions = new HashMap<>();
+        extensions.put("status", 503);
+        extensions.put("details", nested);
+        extensions.put("classification", ValidationErrorType.UnknownDirective);
+        GraphQLError graphQLError = GraphqlErrorBuilder.newError()
+                .message("custom")
+                .path(List.of("list", 3, "field"))
+                .extensions(extensions)
+                .build();
+
+        JsonObject error = executionErrorsService.toJsonErrors(singletonList(graphQLError)).getJsonObject(0);
+
+        assertThat(error.getJsonArray("path").getInt(1)).isEqualTo(3);
+        assertThat(error.getJsonObject("extensions").getInt("status")).isEqualTo(503);
+        assertThat(error.getJsonObject("extensions").getJsonObject("details").getBoolean("retryable")).isTrue();
+        assertThat(error.getJsonObject("extensions").getString("classification")).isEqualTo("UnknownDirective");
+    }
+
+    @Test
+    void shouldShareTheExtensionsOfTheSameException() {
+        RuntimeException downstreamFailure = new RuntimeException("downstream is down");
+        List<GraphQLError> errors = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            errors.add(new GraphQLExceptionWhileDataFetching(ResultPath.parse("/list[" + i + "]/field"),
+                    downstreamFailure, new SourceLocation(1, 1)));
+        }
+
+        JsonArray jsonArray = executionErrorsService.toJsonErrors(errors);
+
+        assertThat(jsonArray).hasSize(3);
+        for (int i = 0; i < 3; i++) {
+            JsonObject error = jsonArray.getJsonObject(i);
+            assertThat(error.getJsonArray("path").getInt(1)).isEqualTo(i);
+            assertThat(error.getJsonObject("extensions").getString("exception"))
+                    .isEqualTo(RuntimeException.class.getName());
+        }
+    }
+
+    @Test
+    void shouldCapTheNumberOfErrors() {
+        ((TestConfig) Config.get()).maxErrors = 2;
+        List<GraphQLError> errors = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            errors.add(GraphqlErrorBuilder.newError().message("error " + i).build());
+        }
+
+        JsonArray jsonArray = executionErrorsService.toJsonErrors(errors);
+
+        assertThat(jsonArray).hasSize(3);
+        assertThat(jsonArray.getJsonObject(0).getString("message")).isEqualTo("error 0");
+        assertThat(jsonArray.getJsonObject(1).getString("message")).isEqualTo("error 1");
+        assertThat(jsonArray.getJsonObject(2).getString("message")).contains("3 more errors were omitted");
+    }
+
     private JsonArray whenConverting(RuntimeException exception) {
         ResultPath path = ResultPath.parse("/foo/bar");
         SourceLocation location = new SourceLocation(12, 34);
@@ -0,0 +1,73 @@
+package io.smallrye.graphql.execution.resolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import graphql.TypeResolutionEnvironment;
+import graphql.execution.TypeResolutionParameters;
+import graphql.schema.GraphQLObjectType;
+import io.smallrye.graphql.execution.ExecutionTestBase;
+import io.smallrye.graphql.schema.model.Type;
+import io.smallrye.graphql.schema.model.UnionType;
+import io.smallrye.graphql.test.ObjectWithName;
+import io.smallrye.graphql.test.TestUnion;
+import io.smallrye.graphql.test.UnionInterfaceOne;
+import io.smallrye.graphql.test.UnionMember;
+
+/**
+ * Test that interfaces and unions resolve runtime subclasses (like JPA proxies) to the type of their superclass
+ */
+public class TypeResolverTest extends ExecutionTestBase {
+
+    private final UnionResolver unionResolver = new UnionResolver(
+            new UnionType(TestUnion.class.getName(), "TestUnion", null));
+    private final InterfaceResolver interfaceResolver = new InterfaceResolver(
+            new Type(UnionInterfaceOne.class.getName(), "UnionInterfaceOne", null));
+
+    @Test
+    public void testUnionResolvesRegisteredClass() {
+        GraphQLObjectType type = unionResolver.getType(env(new UnionMember("my name")));
+
+        assertEquals("UnionMember", type.getName());
+    }
+
+    @Test
+    public void testUnionResolvesSubclass() {
+        GraphQLObjectType type = unionResolver.getType(env(new ProxiedUnionMember()));
+
+        assertEquals("UnionMember", type.getName());
+        assertSame(type, unionResolver.getType(env(new ProxiedUnionMember())));
+    }
+
+    @Test
+    public void testInterfaceResolvesSubclass() {
+        GraphQLObjectType type = interfaceResolver.getType(env(new ProxiedObjectWithName()));
+
+        assertEquals("ObjectWithName", type.getName());
+    }
+
+    @Test
+    public void testUnknownClassFails() {
+        TypeResolutionEnvironment env = env(new Object());
+
+        assertThrows(ConcreteImplementationNotFoundException.class, () -> unionResolver.getType(env));
+        assertThrows(ConcreteImplementationNotFoundException.class, () -> interfaceResolver.getType(env));
+    }
+
+    private static TypeResolutionEnvironment env(Object value) {
+        return TypeResolutionParameters.newParameters().value(value).build();
+    }
+
+    // Not in the index, like a class generated at runtime
+    static class ProxiedUnionMember extends UnionMember {
+        ProxiedUnionMember() {
+            super("proxied");
+        }
+    }
+
+    static class ProxiedObjectWithName extends ObjectWithName {
+    }
+}
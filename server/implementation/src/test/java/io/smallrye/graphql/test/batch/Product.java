@@ -0,0 +1,16 @@
+package io.smallrye.graphql.test.batch;
+
+/**
+ * A POJO with a batched field that takes an argument
+ */
+public class Product {
+    private final String name;
+
+    public Product(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,27 @@
+package io.smallrye.graphql.test.batch;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Query;
+import org.eclipse.microprofile.graphql.Source;
+
+/**
+ * Always returns the same product, so the batch loader of the price gets the same source object in every operation
+ */
+@GraphQLApi
+public class ProductApi {
+    private static final Product PRODUCT = new Product("pencil");
+
+    @Query
+    public Product getProduct() {
+        return PRODUCT;
+    }
+
+    public List<String> price(@Source List<Product> products, String currency) {
+        return products.stream()
+                .map(product -> "1.00 " + currency)
+                .collect(Collectors.toList());
+    }
+}
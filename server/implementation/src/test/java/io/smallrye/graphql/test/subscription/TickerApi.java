@@ -0,0 +1,28 @@
+package io.smallrye.graphql.test.subscription;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Query;
+
+import io.smallrye.graphql.api.Subscription;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.subscription.MultiEmitter;
+
+/**
+ * A subscription that the test feeds with events
+ */
+@GraphQLApi
+public class TickerApi {
+    public static final AtomicReference<MultiEmitter<? super Integer>> EMITTER = new AtomicReference<>();
+
+    @Subscription
+    public Multi<Integer> ticks() {
+        return Multi.createFrom().<Integer> emitter(EMITTER::set);
+    }
+
+    @Query
+    public String dummy() {
+        return null;
+    }
+}
@@ -8,9 +8,13 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.time.OffsetTime;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -130,4 +134,82 @@ class DateTransformerTest {
             assertThat(out).isEqualTo(text);
         }
     }
+
+    @Nested
+    class IsoFastPath {
+        private static final int ROWS = 100_000;
+
+        private final Random random = new Random(42);
+
+        @Test
+        void shouldFormatLikeTheIsoFormatters() {
+            for (int i = 0; i < ROWS; i++) {
+                LocalDateTime dateTime = randomDateTime();
+                ZoneOffset offset = ZoneOffset.ofTotalSeconds((random.nextInt(36) - 18) * 1800);
+
+                shouldFormat(dateTime.toLocalDate(), DateTimeFormatter.ISO_LOCAL_DATE);
+                shouldFormat(dateTime.toLocalTime(), DateTimeFormatter.ISO_LOCAL_TIME);
+                shouldFormat(dateTime, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+                shouldFormat(dateTime.atOffset(offset), DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+                shouldFormat(dateTime.toLocalTime().atOffset(offset), DateTimeFormatter.ISO_OFFSET_TIME);
+            }
+        }
+
+        @Test
+        void shouldFormatEdgeCases() {
+            shouldFormat(LocalTime.MIDNIGHT, DateTimeFormatter.ISO_LOCAL_TIME);
+            shouldFormat(LocalTime.MAX, DateTimeFormatter.ISO_LOCAL_TIME);
+            shouldFormat(LocalTime.of(10, 15, 0, 100_000_000), DateTimeFormatter.ISO_LOCAL_TIME);
+            shouldFormat(LocalTime.of(10, 15, 0, 1), DateTimeFormatter.ISO_LOCAL_TIME);
+            shouldFormat(LocalDate.of(0, 1, 1), DateTimeFormatter.ISO_LOCAL_DATE);
+            shouldFormat(LocalDate.of(-1, 1, 1), DateTimeFormatter.ISO_LOCAL_DATE);
+            shouldFormat(LocalDate.of(9999, 12, 31), DateTimeFormatter.ISO_LOCAL_DATE);
+            shouldFormat(LocalDate.of(10000, 1, 1), DateTimeFormatter.ISO_LOCAL_DATE);
+            shouldFormat(OffsetDateTime.of(2007, 12, 3, 10, 15, 30, 0, ZoneOffset.ofHoursMinutesSeconds(1, 2, 3)),
+                    DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+        }
+
+        @Test
+        void shouldFormatLists() {
+            List<Temporal> rows = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                rows.add(randomDateTime());
+            }
+            DateTransformer transformer = new DateTransformer(field, LocalDateTime.class.getName());
+
+            assertThat(formatWithTransformer(transformer, rows)).isEqualTo(formatWithFormatter(rows));
+        }
+
+        private List<String> formatWithTransformer(DateTransformer transformer, List<Temporal> rows) {
+            List<String> result = new ArrayList<>(rows.size());
+            for (Temporal row : rows) {
+                result.add(transformer.out(row));
+            }
+            return result;
+        }
+
+        private List<String> formatWithFormatter(List<Temporal> rows) {
+            List<String> result = new ArrayList<>(rows.size());
+            for (Temporal row : rows) {
+                result.add(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(row));
+            }
+            return result;
+        }
+
+        private LocalDateTime randomDateTime() {
+            long nanos = random.nextInt(4) == 0 ? 0 : random.nextInt(1_000_000_000);
+            if (random.nextBoolean()) {
+                // whole milliseconds are the common case
+                nanos = nanos / 1_000_000 * 1_000_000;
+            }
+            return LocalDateTime.of(random.nextInt(3000), random.nextInt(12) + 1, random.nextInt(28) + 1,
+                    random.nextInt(24), random.nextInt(60), random.nextInt(60), (int) nanos);
+        }
+
+        private void shouldFormat(Temporal temporal, DateTimeFormatter formatter) {
+            DateTransformer transformer = new DateTransformer(field, temporal.getClass().getName());
+
+            assertThat(transformer.out(temporal)).isEqualTo(formatter.format(temporal));
+        }
+    }
 }
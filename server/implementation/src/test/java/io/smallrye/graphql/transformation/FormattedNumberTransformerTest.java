@@ -0,0 +1,66 @@
+package io.smallrye.graphql.transformation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.graphql.schema.model.Field;
+import io.smallrye.graphql.schema.model.Reference;
+import io.smallrye.graphql.schema.model.ReferenceType;
+import io.smallrye.graphql.schema.model.Transformation;
+import io.smallrye.graphql.schema.model.Transformation.Type;
+
+class FormattedNumberTransformerTest {
+
+    @Test
+    void shouldTransform() throws Exception {
+        FormattedNumberTransformer transformer = transformer("#,##0.00", "en-US");
+
+        assertThat(transformer.out(1234567.891)).isEqualTo("1,234,567.89");
+        assertThat(transformer.in("1,234,567.89")).isEqualTo(new BigDecimal("1234567.89"));
+    }
+
+    @Test
+    void shouldBeThreadSafe() throws Exception {
+        FormattedNumberTransformer transformer = transformer("#,##0.000", "de-DE");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        BigDecimal value = BigDecimal.valueOf(thread * 1_000_000L + i, 3);
+                        String out = transformer.out(value);
+                        if (value.compareTo((BigDecimal) transformer.in(out)) != 0) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private FormattedNumberTransformer transformer(String format, String locale) {
+        Field field = new Field("foo", "bar", "baz", new Reference.Builder()
+                .className(BigDecimal.class.getName())
+                .name("BigDecimal")
+                .type(ReferenceType.SCALAR)
+                .build());
+        field.setTransformation(new Transformation(Type.NUMBER, format, locale, false));
+        return new FormattedNumberTransformer(field);
+    }
+}
@@ -0,0 +1,93 @@
+package io.smallrye.graphql.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test that the keep-alive wheel pings idle sessions once per interval and skips busy ones
+ */
+public class KeepAliveSchedulerTest {
+
+    private static final long INTERVAL = Duration.ofSeconds(32).toNanos();
+    private static final long TICK = INTERVAL / 32;
+
+    private final KeepAliveScheduler scheduler = new KeepAliveScheduler(Duration.ofNanos(INTERVAL), null);
+    private final TestSession session = new TestSession();
+    private final AtomicInteger pings = new AtomicInteger();
+
+    @Test
+    public void shouldPingIdleSessionOncePerInterval() {
+        long start = System.nanoTime();
+        scheduler.register(session, pings::incrementAndGet);
+
+        long now = turn(start, 1);
+        assertEquals(1, pings.get());
+
+        turn(now, 2);
+        assertEquals(3, pings.get());
+    }
+
+    @Test
+    public void shouldSkipActiveSession() {
+        long start = System.nanoTime();
+        KeepAliveScheduler.Registration registration = scheduler.register(session, pings::incrementAndGet);
+
+        // the client keeps talking, so the wheel passes by without pinging
+        long now = start;
+        for (int i = 0; i < 3; i++) {
+            registration.onActivity(now + INTERVAL / 2);
+            now = turn(now, 1);
+        }
+        assertEquals(0, pings.get());
+
+        // and pings again once the client is quiet
+        turn(now, 1);
+        assertEquals(1, pings.get());
+    }
+
+    @Test
+    public void shouldForgetCancelledAndClosedSessions() {
+        long start = System.nanoTime();
+        scheduler.register(session, pings::incrementAndGet).cancel();
+        TestSession closed = new TestSession();
+        scheduler.register(closed, pings::incrementAndGet);
+        closed.closed = true;
+
+        turn(start, 1);
+
+        assertEquals(0, pings.get());
+        assertEquals(0, scheduler.size());
+    }
+
+    // turn the wheel completely, starting from a time, and return the time afterwards
+    private long turn(long from, int times) {
+        long now = from;
+        for (int i = 0; i < 32 * times; i++) {
+            now += TICK;
+            scheduler.tick(now);
+        }
+        return now;
+    }
+
+    private static class TestSession implements GraphQLWebSocketSession {
+        private boolean closed;
+
+        @Override
+        public void sendMessage(String message) {
+        }
+
+        @Override
+        public void close(short statusCode, String reason) {
+            closed = true;
+        }
+
+        @Override
+        public boolean isClosed() {
+            return closed;
+        }
+    }
+}
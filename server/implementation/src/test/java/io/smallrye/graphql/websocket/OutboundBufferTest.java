@@ -0,0 +1,162 @@
+package io.smallrye.graphql.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.graphql.spi.config.WebSocketOverflowPolicy;
+
+/**
+ * Test the overflow policies and the writability handling of the outbound buffer
+ */
+public class OutboundBufferTest {
+
+    private final TestSession session = new TestSession();
+
+    @Test
+    public void shouldWriteImmediatelyWhenWritable() {
+        OutboundBuffer buffer = new OutboundBuffer(session, 2, WebSocketOverflowPolicy.dropOldest);
+
+        buffer.offer("1", "a", null);
+        buffer.offer("1", "b", null);
+        buffer.offer("1", "c", null);
+
+        assertEquals(List.of("a", "b", "c"), session.sent);
+        assertEquals(0, buffer.getQueueDepth());
+        assertEquals(0, buffer.getDroppedCount());
+    }
+
+    @Test
+    public void shouldWriteWhenWritableAgain() {
+        OutboundBuffer buffer = new OutboundBuffer(session, null, WebSocketOverflowPolicy.dropOldest);
+        AtomicInteger requested = new AtomicInteger();
+        session.writable = false;
+
+        buffer.offer("1", "a", requested::incrementAndGet);
+        buffer.offer("1", "b", requested::incrementAndGet);
+
+        assertFalse(buffer.isBounded());
+        assertTrue(session.sent.isEmpty());
+        assertEquals(0, requested.get());
+        assertEquals(2, buffer.getQueueDepth());
+
+        session.becomeWritable();
+
+        assertEquals(List.of("a", "b"), session.sent);
+        assertEquals(2, requested.get());
+        assertEquals(0, buffer.getQueueDepth());
+    }
+
+    @Test
+    public void shouldDropOldest() {
+        OutboundBuffer buffer = full(WebSocketOverflowPolicy.dropOldest);
+
+        buffer.offer("1", "c", null);
+        session.becomeWritable();
+
+        assertEquals(List.of("b", "c"), session.sent);
+        assertEquals(1, buffer.getDroppedCount());
+    }
+
+    @Test
+    public void shouldDropNewest() {
+        OutboundBuffer buffer = full(WebSocketOverflowPolicy.dropNewest);
+
+        buffer.offer("1", "c", null);
+        session.becomeWritable();
+
+        assertEquals(List.of("a", "b"), session.sent);
+        assertEquals(1, buffer.getDroppedCount());
+    }
+
+    @Test
+    public void shouldConflatePerOperation() {
+        OutboundBuffer buffer = full(WebSocketOverflowPolicy.conflate);
+
+        buffer.offer("1", "a2", null);
+        // no pending event of this operation, so the oldest one goes
+        buffer.offer("3", "c", null);
+        session.becomeWritable();
+
+        assertEquals(List.of("b", "c"), session.sent);
+        assertEquals(2, buffer.getDroppedCount());
+    }
+
+    @Test
+    public void shouldDisconnect() {
+        OutboundBuffer buffer = full(WebSocketOverflowPolicy.disconnect);
+
+        buffer.offer("1", "c", null);
+
+        assertTrue(session.closed);
+        assertEquals(OutboundBuffer.OVERFLOW_CLOSE_CODE, session.closeCode);
+        assertEquals(0, buffer.getQueueDepth());
+    }
+
+    @Test
+    public void shouldNeverDropControlMessages() {
+        OutboundBuffer buffer = full(WebSocketOverflowPolicy.dropOldest);
+
+        buffer.offerControl("1", "complete 1");
+        buffer.offer("2", "c", null);
+        buffer.offer("2", "d", null);
+        session.becomeWritable();
+
+        assertEquals(List.of("complete 1", "c", "d"), session.sent);
+    }
+
+    // a buffer of two, with one message of operation 1 and one of operation 2 waiting
+    private OutboundBuffer full(WebSocketOverflowPolicy policy) {
+        OutboundBuffer buffer = new OutboundBuffer(session, 2, policy);
+        session.writable = false;
+        buffer.offer("1", "a", null);
+        buffer.offer("2", "b", null);
+        assertEquals(2, buffer.getQueueDepth());
+        return buffer;
+    }
+
+    private static class TestSession implements GraphQLWebSocketSession {
+        private final List<String> sent = new ArrayList<>();
+        private boolean writable = true;
+        private boolean closed;
+        private short closeCode;
+        private Runnable writableHandler;
+
+        @Override
+        public void sendMessage(String message) {
+            sent.add(message);
+        }
+
+        @Override
+        public void close(short statusCode, String reason) {
+            closed = true;
+            closeCode = statusCode;
+        }
+
+        @Override
+        public boolean isClosed() {
+            return closed;
+        }
+
+        @Override
+        public boolean isWritable() {
+            return writable;
+        }
+
+        @Override
+        public void setWritableHandler(Runnable handler) {
+            this.writableHandler = handler;
+        }
+
+        private void becomeWritable() {
+            writable = true;
+            writableHandler.run();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package io.smallrye.graphql.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+
+import org.jboss.jandex.IndexView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.graphql.execution.ExecutionResponse;
+import io.smallrye.graphql.execution.ExecutionTestBase;
+import io.smallrye.graphql.execution.Indexer;
+import io.smallrye.graphql.test.subscription.TickerApi;
+import io.smallrye.mutiny.subscription.MultiEmitter;
+
+/**
+ * Test that a shared subscription goes at the pace of its slowest member, and is only shared by one principal
+ */
+public class SharedSubscriptionsTest extends ExecutionTestBase {
+    private static final JsonObject TICKS = Json.createObjectBuilder().add("query", "subscription { ticks }").build();
+
+    private final SharedSubscriptions sharedSubscriptions = SharedSubscriptions.get();
+
+    @Override
+    protected IndexView getIndex() {
+        return Indexer.getTestIndex("io/smallrye/graphql/test/subscription");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TickerApi.EMITTER.set(null);
+    }
+
+    @Test
+    public void shouldRequestTheNextEventWhenEveryMemberTookTheCurrentOne() throws Exception {
+        TestMember fast = new TestMember(true);
+        TestMember slow = new TestMember(false);
+        SharedSubscriptions.Membership fastMembership = join(fast);
+        SharedSubscriptions.Membership slowMembership = join(slow);
+        awaitUntil(() -> TickerApi.EMITTER.get() != null);
+        MultiEmitter<? super Integer> emitter = TickerApi.EMITTER.get();
+
+        emitter.emit(1).emit(2).emit(3);
+
+        awaitUntil(() -> slow.payloads.size() == 1);
+        assertEquals(List.of("{\"data\":{\"ticks\":1}}"), fast.payloads);
+
+        slow.takeAll();
+
+        awaitUntil(() -> slow.payloads.size() == 2);
+        assertEquals(2, fast.payloads.size());
+
+        // the group doesn't wait for a member that left
+        slowMembership.leave();
+
+        awaitUntil(() -> fast.payloads.size() == 3);
+        assertEquals("{\"data\":{\"ticks\":3}}", fast.payloads.get(2));
+
+        fastMembership.leave();
+        assertEquals(0, sharedSubscriptions.getGroupCount());
+    }
+
+    @Test
+    public void shouldCompleteEveryMember() throws Exception {
+        TestMember first = new TestMember(true);
+        TestMember second = new TestMember(true);
+        join(first);
+        join(second);
+        awaitUntil(() -> TickerApi.EMITTER.get() != null);
+
+        TickerApi.EMITTER.get().emit(1).complete();
+
+        awaitUntil(() -> first.completed && second.completed);
+        assertEquals(1, first.payloads.size());
+        assertEquals(1, second.payloads.size());
+        assertEquals(0, sharedSubscriptions.getGroupCount());
+    }
+
+    @Test
+    public void shouldOnlyShareBetweenConnectionsOfTheSamePrincipal() throws Exception {
+        TestMember alice = new TestMember(true);
+        TestMember otherAlice = new TestMember(true);
+        TestMember bob = new TestMember(true);
+        SharedSubscriptions.Membership aliceMembership = join(alice, () -> "alice");
+        SharedSubscriptions.Membership otherAliceMembership = join(otherAlice, () -> "alice");
+        SharedSubscriptions.Membership bobMembership = join(bob, () -> "bob");
+
+        assertEquals(2, sharedSubscriptions.getGroupCount());
+
+        aliceMembership.leave();
+        otherAliceMembership.leave();
+        bobMembership.leave();
+        assertEquals(0, sharedSubscriptions.getGroupCount());
+    }
+
+    @Test
+    public void shouldNotShareWithoutAPrincipalInTheContext() {
+        assertNull(sharedSubscriptions.join(executionService, TICKS, new HashMap<>(), new TestMember(true)));
+        assertEquals(0, sharedSubscriptions.getGroupCount());
+    }
+
+    private SharedSubscriptions.Membership join(TestMember member) {
+        return join(member, null);
+    }
+
+    private SharedSubscriptions.Membership join(TestMember member, Principal principal) {
+        Map<String, Object> context = new HashMap<>();
+        context.put(GraphQLWebsocketHandler.PRINCIPAL_CONTEXT_KEY, Optional.ofNullable(principal));
+        return sharedSubscriptions.join(executionService, TICKS, context, member);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("timed out");
+            }
+            Thread.sleep(10);
+        }
+        // give events that should not come some time to show up
+        Thread.sleep(100);
+    }
+
+    private static class TestMember implements SharedSubscriptions.Member {
+        private final boolean takesEvents;
+        private final List<String> payloads = new CopyOnWriteArrayList<>();
+        private final List<Runnable> pending = new CopyOnWriteArrayList<>();
+        private volatile boolean completed;
+
+        private TestMember(boolean takesEvents) {
+            this.takesEvents = takesEvents;
+        }
+
+        @Override
+        public void sendPayload(String payload, Runnable onSent) {
+            payloads.add(payload);
+            if (takesEvents) {
+                onSent.run();
+            } else {
+                pending.add(onSent);
+            }
+        }
+
+        private void takeAll() {
+            List<Runnable> taken = List.copyOf(pending);
+            pending.clear();
+            taken.forEach(Runnable::run);
+        }
+
+        @Override
+        public void sendError(ExecutionResponse executionResponse) {
+            throw new AssertionError("unexpected error " + executionResponse);
+        }
+
+        @Override
+        public void sendComplete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.smallrye.graphql.tests.client.typesafe.batching;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Mutation;
+import org.eclipse.microprofile.graphql.Query;
+
+@GraphQLApi
+public class BatchingApi {
+    private static final AtomicInteger greetings = new AtomicInteger();
+    private static final AtomicInteger counter = new AtomicInteger();
+
+    @Query
+    public String greeting(String name) {
+        greetings.incrementAndGet();
+        return "Hello " + name;
+    }
+
+    @Query
+    public int greetingCount() {
+        return greetings.get();
+    }
+
+    @Mutation
+    public int increment() {
+        return counter.incrementAndGet();
+    }
+}
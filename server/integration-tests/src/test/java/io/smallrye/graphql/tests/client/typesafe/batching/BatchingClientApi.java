@@ -0,0 +1,17 @@
+package io.smallrye.graphql.tests.client.typesafe.batching;
+
+import org.eclipse.microprofile.graphql.Mutation;
+
+import io.smallrye.graphql.client.typesafe.api.GraphQLClientApi;
+import io.smallrye.mutiny.Uni;
+
+@GraphQLClientApi
+public interface BatchingClientApi {
+
+    Uni<String> greeting(String name);
+
+    int greetingCount();
+
+    @Mutation
+    Uni<Integer> increment();
+}
@@ -0,0 +1,97 @@
+package io.smallrye.graphql.tests.client.typesafe.batching;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import io.smallrye.graphql.client.vertx.typesafe.VertxTypesafeGraphQLClientBuilder;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Test typesafe clients that send the operations invoked at the same time in one request
+ */
+@RunWith(Arquillian.class)
+@RunAsClient
+public class TypesafeClientBatchingTest {
+
+    @Deployment
+    public static WebArchive deployment() {
+        return ShrinkWrap.create(WebArchive.class)
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsResource(new StringAsset("smallrye.graphql.http.batching.enabled=true"),
+                        "META-INF/microprofile-config.properties")
+                .addClasses(BatchingApi.class);
+    }
+
+    @ArquillianResource
+    URL testingURL;
+
+    private BatchingClientApi client;
+
+    @Before
+    public void prepare() {
+        client = new VertxTypesafeGraphQLClientBuilder()
+                .batchingWindow(50)
+                .endpoint(testingURL.toString() + "graphql")
+                .build(BatchingClientApi.class);
+    }
+
+    @Test
+    public void shouldFanOutTheResponsesOfABatch() {
+        List<String> greetings = await(client.greeting("Koos"), client.greeting("Phillip"), client.greeting("Charmaine"));
+
+        assertThat(greetings).containsExactly("Hello Koos", "Hello Phillip", "Hello Charmaine");
+    }
+
+    @Test
+    public void shouldSendASingleOperationAsIs() {
+        assertThat(client.greeting("Alone").await().atMost(Duration.ofSeconds(10))).isEqualTo("Hello Alone");
+    }
+
+    @Test
+    public void shouldDeduplicateIdenticalQueries() {
+        int before = client.greetingCount();
+
+        List<String> greetings = await(client.greeting("Koos"), client.greeting("Koos"), client.greeting("Koos"));
+
+        assertThat(greetings).containsExactly("Hello Koos", "Hello Koos", "Hello Koos");
+        assertThat(client.greetingCount()).isEqualTo(before + 1);
+    }
+
+    @Test
+    public void shouldNotBatchOrDeduplicateMutations() {
+        List<Integer> counts = await(client.increment(), client.increment(), client.increment());
+
+        assertThat(counts).doesNotHaveDuplicates();
+    }
+
+    @SafeVarargs
+    private <T> List<T> await(Uni<T>... unis) {
+        List<Uni<T>> list = List.of(unis);
+        List<T> results = new ArrayList<>();
+        Uni.combine().all().unis(list).combinedWith(items -> {
+            items.forEach(item -> {
+                @SuppressWarnings("unchecked")
+                T result = (T) item;
+                results.add(result);
+            });
+            return results;
+        }).await().atMost(Duration.ofSeconds(10));
+        return results;
+    }
+}
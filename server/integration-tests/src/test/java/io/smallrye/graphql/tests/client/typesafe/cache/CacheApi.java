@@ -0,0 +1,21 @@
+package io.smallrye.graphql.tests.client.typesafe.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Query;
+
+@GraphQLApi
+public class CacheApi {
+    private static final AtomicInteger counter = new AtomicInteger();
+
+    @Query
+    public int cachedCounter(String name) {
+        return counter.incrementAndGet();
+    }
+
+    @Query
+    public int uncachedCounter() {
+        return counter.incrementAndGet();
+    }
+}
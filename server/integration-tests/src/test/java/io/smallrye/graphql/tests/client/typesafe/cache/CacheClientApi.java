@@ -0,0 +1,20 @@
+package io.smallrye.graphql.tests.client.typesafe.cache;
+
+import org.eclipse.microprofile.graphql.Query;
+
+import io.smallrye.graphql.client.typesafe.api.Cached;
+import io.smallrye.graphql.client.typesafe.api.GraphQLClientApi;
+import io.smallrye.mutiny.Uni;
+
+@GraphQLClientApi
+public interface CacheClientApi {
+
+    @Cached(ttl = 60)
+    int cachedCounter(String name);
+
+    @Cached(ttl = 60)
+    @Query("cachedCounter")
+    Uni<Integer> cachedCounterAsync(String name);
+
+    int uncachedCounter();
+}
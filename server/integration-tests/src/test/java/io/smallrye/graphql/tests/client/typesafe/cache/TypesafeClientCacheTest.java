@@ -0,0 +1,66 @@
+package io.smallrye.graphql.tests.client.typesafe.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URL;
+import java.time.Duration;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import io.smallrye.graphql.client.vertx.typesafe.VertxTypesafeGraphQLClientBuilder;
+
+@RunWith(Arquillian.class)
+@RunAsClient
+public class TypesafeClientCacheTest {
+
+    @Deployment
+    public static WebArchive deployment() {
+        return ShrinkWrap.create(WebArchive.class)
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addClasses(CacheApi.class);
+    }
+
+    @ArquillianResource
+    URL testingURL;
+
+    private CacheClientApi client;
+
+    @Before
+    public void prepare() {
+        client = new VertxTypesafeGraphQLClientBuilder()
+                .cacheSize(10)
+                .endpoint(testingURL.toString() + "graphql")
+                .build(CacheClientApi.class);
+    }
+
+    @Test
+    public void shouldCacheAnnotatedQueries() {
+        int first = client.cachedCounter("sync");
+
+        assertThat(client.cachedCounter("sync")).isEqualTo(first);
+        assertThat(client.cachedCounterAsync("sync").await().atMost(Duration.ofSeconds(10))).isEqualTo(first);
+    }
+
+    @Test
+    public void shouldCacheByVariables() {
+        int first = client.cachedCounter("one");
+
+        assertThat(client.cachedCounter("two")).isNotEqualTo(first);
+    }
+
+    @Test
+    public void shouldNotCacheQueriesWithoutTimeToLive() {
+        int first = client.uncachedCounter();
+
+        assertThat(client.uncachedCounter()).isNotEqualTo(first);
+    }
+}
@@ -0,0 +1,96 @@
+package io.smallrye.graphql.tests.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Query;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import io.smallrye.graphql.tests.GraphQLAssured;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Test the non-blocking execution of GraphQL over HTTP
+ */
+@RunWith(Arquillian.class)
+@RunAsClient
+public class AsyncGraphQLOverHttpTest {
+
+    @Deployment
+    public static WebArchive deployment() {
+        return ShrinkWrap.create(WebArchive.class, "async-over-http-test.war")
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsResource(new StringAsset("smallrye.graphql.allowGet=true\n"
+                        + "smallrye.graphql.allowPostWithQueryParameters=true\n"
+                        + "smallrye.graphql.http.async.enabled=true"),
+                        "META-INF/microprofile-config.properties")
+                .addClasses(GraphQLOverHttpApi.class, User.class, SlowApi.class);
+    }
+
+    @ArquillianResource
+    URL testingURL;
+
+    @GraphQLApi
+    public static class SlowApi {
+
+        @Query
+        public Uni<String> slow() {
+            return Uni.createFrom().item("done").onItem().delayIt().by(Duration.ofMillis(200));
+        }
+    }
+
+    @Test
+    public void httpGetTest() throws Exception {
+        GraphQLAssured graphQLAssured = new GraphQLAssured(testingURL);
+
+        String response = graphQLAssured
+                .get("query=query(%24id%3A%20ID!)%7Buser(id%3A%24id)%7Bname%7D%7D&variables=%7B%22id%22%3A%22QVBJcy5ndXJ1%22%7D");
+
+        assertThat(response).isEqualTo("{\"data\":{\"user\":{\"name\":\"Koos\"}}}");
+    }
+
+    @Test
+    public void httpPostTest() throws Exception {
+        GraphQLAssured graphQLAssured = new GraphQLAssured(testingURL);
+
+        String response = graphQLAssured.post("{ slow }");
+
+        assertThat(response).isEqualTo("{\"data\":{\"slow\":\"done\"}}");
+    }
+
+    @Test
+    public void httpPostWithQueryInQueryParamAndBodyTest() throws Exception {
+        GraphQLAssured graphQLAssured = new GraphQLAssured(testingURL);
+
+        Map<String, String> queryparams = new HashMap<>();
+        queryparams.put("query", "query ($id: ID!) {  user(id:$id) {    id    name  surname}}");
+
+        String response = graphQLAssured
+                .post("query ($id: ID!) { user(id:$id) { name } }", queryparams, "{\"id\": \"1\"}");
+
+        assertThat(response).isEqualTo("{\"data\":{\"user\":{\"id\":\"1\",\"name\":\"Koos\",\"surname\":\"van der Merwe\"}}}");
+    }
+
+    @Test
+    public void httpPostWithContentTypeHeader() throws Exception {
+        GraphQLAssured graphQLAssured = new GraphQLAssured(testingURL);
+
+        String response = graphQLAssured.postAsGraphQL("{ slow }", new HashMap<>());
+
+        assertThat(response).isEqualTo("{\"data\":{\"slow\":\"done\"}}");
+    }
+}
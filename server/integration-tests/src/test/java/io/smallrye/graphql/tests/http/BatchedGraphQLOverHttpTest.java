@@ -0,0 +1,123 @@
+package io.smallrye.graphql.tests.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Source;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test batches of operations in one GraphQL over HTTP request
+ */
+@RunWith(Arquillian.class)
+@RunAsClient
+public class BatchedGraphQLOverHttpTest {
+
+    @Deployment
+    public static WebArchive deployment() {
+        return ShrinkWrap.create(WebArchive.class, "batched-over-http-test.war")
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsResource(new StringAsset("smallrye.graphql.http.batching.enabled=true\n"
+                        + "smallrye.graphql.http.batching.maxOperations=3"),
+                        "META-INF/microprofile-config.properties")
+                .addClasses(GraphQLOverHttpApi.class, User.class, GreetingApi.class);
+    }
+
+    @ArquillianResource
+    URL testingURL;
+
+    @GraphQLApi
+    public static class GreetingApi {
+        public List<String> greeting(@Source List<User> users) {
+            List<String> greetings = new ArrayList<>();
+            for (User user : users) {
+                greetings.add("Hello " + user.getName());
+            }
+            return greetings;
+        }
+    }
+
+    @Test
+    public void testBatch() throws Exception {
+        HttpURLConnection connection = post("["
+                + "{\"query\":\"{ user(id: \\\"1\\\") { name greeting } }\"},"
+                + "{\"query\":\"query($id: ID!) { user(id: $id) { surname greeting } }\",\"variables\":{\"id\":\"1\"}}"
+                + "]");
+
+        assertThat(connection.getResponseCode()).isEqualTo(200);
+        assertThat(connection.getContentType()).startsWith("application/json");
+        assertThat(read(connection)).isEqualTo("["
+                + "{\"data\":{\"user\":{\"name\":\"Koos\",\"greeting\":\"Hello Koos\"}}},"
+                + "{\"data\":{\"user\":{\"surname\":\"van der Merwe\",\"greeting\":\"Hello Koos\"}}}"
+                + "]");
+    }
+
+    @Test
+    public void testBatchWithFailingOperation() throws Exception {
+        // the second operation can not even be executed, as it has no query
+        HttpURLConnection connection = post("["
+                + "{\"query\":\"{ user(id: \\\"1\\\") { name } }\"},"
+                + "{\"operationName\":\"none\"}"
+                + "]");
+
+        assertThat(connection.getResponseCode()).isEqualTo(200);
+        assertThat(read(connection)).isEqualTo("["
+                + "{\"data\":{\"user\":{\"name\":\"Koos\"}}},"
+                + "{\"errors\":[{\"message\":\"System error\",\"locations\":[],\"extensions\":{\"classification\":\"DataFetchingException\"}}],\"data\":null}"
+                + "]");
+    }
+
+    @Test
+    public void testSingleOperation() throws Exception {
+        HttpURLConnection connection = post("{\"query\":\"{ user(id: \\\"1\\\") { name } }\"}");
+
+        assertThat(read(connection)).isEqualTo("{\"data\":{\"user\":{\"name\":\"Koos\"}}}");
+    }
+
+    @Test
+    public void testInvalidBatch() throws Exception {
+        assertThat(post("[]").getResponseCode()).isEqualTo(400);
+        assertThat(post("[\"{ user(id: 1) { name } }\"]").getResponseCode()).isEqualTo(400);
+    }
+
+    @Test
+    public void testTooManyOperations() throws Exception {
+        String operation = "{\"query\":\"{ user(id: \\\"1\\\") { name } }\"}";
+
+        assertThat(post("[" + String.join(",", operation, operation, operation) + "]").getResponseCode()).isEqualTo(200);
+        assertThat(post("[" + String.join(",", operation, operation, operation, operation) + "]").getResponseCode())
+                .isEqualTo(400);
+    }
+
+    private HttpURLConnection post(String body) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(testingURL, "graphql").openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        connection.setRequestProperty("Content-Type", "application/json");
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return connection;
+    }
+
+    private String read(HttpURLConnection connection) throws IOException {
+        return new String(connection.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+    }
+}
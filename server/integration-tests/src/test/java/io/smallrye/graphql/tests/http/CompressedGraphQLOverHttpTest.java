@@ -0,0 +1,142 @@
+package io.smallrye.graphql.tests.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Query;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test the compression and the content negotiation of GraphQL over HTTP responses
+ */
+@RunWith(Arquillian.class)
+@RunAsClient
+public class CompressedGraphQLOverHttpTest {
+
+    private static final String USERS = "{\"query\":\"{ users(count: 2000) { id name surname } }\"}";
+
+    @Deployment
+    public static WebArchive deployment() {
+        return ShrinkWrap.create(WebArchive.class, "compressed-over-http-test.war")
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsResource(new StringAsset("smallrye.graphql.http.compression.enabled=true\n"
+                        + "smallrye.graphql.http.compression.threshold=512"),
+                        "META-INF/microprofile-config.properties")
+                .addClasses(GraphQLOverHttpApi.class, User.class, UsersApi.class);
+    }
+
+    @ArquillianResource
+    URL testingURL;
+
+    @GraphQLApi
+    public static class UsersApi {
+
+        @Query
+        public List<User> users(int count) {
+            List<User> users = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                users.add(new User(String.valueOf(i), "Koos", "van der Merwe"));
+            }
+            return users;
+        }
+    }
+
+    @Test
+    public void testGzip() throws Exception {
+        HttpURLConnection connection = post(USERS, "gzip, deflate", "application/json");
+
+        assertThat(connection.getResponseCode()).isEqualTo(200);
+        assertThat(connection.getHeaderField("Content-Encoding")).isEqualTo("gzip");
+        assertThat(connection.getHeaderField("Vary")).contains("Accept-Encoding");
+        String body = read(new GZIPInputStream(connection.getInputStream()));
+        assertThat(body).startsWith("{\"data\":{\"users\":[{\"id\":\"0\",\"name\":\"Koos\",\"surname\":\"van der Merwe\"}")
+                .endsWith("{\"id\":\"1999\",\"name\":\"Koos\",\"surname\":\"van der Merwe\"}]}}");
+    }
+
+    @Test
+    public void testDeflate() throws Exception {
+        HttpURLConnection connection = post(USERS, "gzip;q=0.5, deflate", "application/json");
+
+        assertThat(connection.getHeaderField("Content-Encoding")).isEqualTo("deflate");
+        assertThat(read(new InflaterInputStream(connection.getInputStream())))
+                .endsWith("{\"id\":\"1999\",\"name\":\"Koos\",\"surname\":\"van der Merwe\"}]}}");
+    }
+
+    @Test
+    public void testNotAccepted() throws Exception {
+        HttpURLConnection connection = post(USERS, "identity, gzip;q=0", "application/json");
+
+        assertThat(connection.getHeaderField("Content-Encoding")).isNull();
+        assertThat(read(connection.getInputStream()))
+                .endsWith("{\"id\":\"1999\",\"name\":\"Koos\",\"surname\":\"van der Merwe\"}]}}");
+    }
+
+    @Test
+    public void testBelowThreshold() throws Exception {
+        HttpURLConnection connection = post("{\"query\":\"{ user(id: \\\"1\\\") { name } }\"}", "gzip", "application/json");
+
+        assertThat(connection.getHeaderField("Content-Encoding")).isNull();
+        assertThat(read(connection.getInputStream())).isEqualTo("{\"data\":{\"user\":{\"name\":\"Koos\"}}}");
+    }
+
+    @Test
+    public void testGraphQLResponseJson() throws Exception {
+        HttpURLConnection connection = post(USERS, "gzip",
+                "application/graphql-response+json, application/json;q=0.9");
+
+        assertThat(connection.getResponseCode()).isEqualTo(200);
+        assertThat(connection.getContentType()).startsWith("application/graphql-response+json");
+        assertThat(read(new GZIPInputStream(connection.getInputStream()))).startsWith("{\"data\":{\"users\":[");
+    }
+
+    @Test
+    public void testGraphQLResponseJsonWithoutData() throws Exception {
+        HttpURLConnection connection = post("{\"query\":\"{ users(count: 1) { age } }\"}", null,
+                "application/graphql-response+json");
+
+        assertThat(connection.getResponseCode()).isEqualTo(400);
+        assertThat(connection.getContentType()).startsWith("application/graphql-response+json");
+        assertThat(read(connection.getErrorStream())).contains("\"errors\"");
+    }
+
+    private HttpURLConnection post(String body, String acceptEncoding, String accept) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(testingURL, "graphql").openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        connection.setRequestProperty("Content-Type", "application/json");
+        connection.setRequestProperty("Accept", accept);
+        if (acceptEncoding != null) {
+            connection.setRequestProperty("Accept-Encoding", acceptEncoding);
+        }
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return connection;
+    }
+
+    private String read(InputStream in) throws IOException {
+        try (in) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package io.smallrye.graphql.tests.subscription;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Query;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import io.smallrye.graphql.api.Subscription;
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Verify that subscriptions are delivered over Server-Sent Events, on distinct connections and on a single connection
+ */
+@RunWith(Arquillian.class)
+public class ServerSentEventsSubscriptionTestCase {
+
+    @Deployment
+    public static WebArchive deployment() {
+        return ShrinkWrap.create(WebArchive.class, "sse-subscription-test.war")
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsResource(new StringAsset("smallrye.graphql.http.sse.enabled=true"),
+                        "META-INF/microprofile-config.properties")
+                .addClasses(Counter.class);
+    }
+
+    @ArquillianResource
+    URL testingURL;
+
+    @GraphQLApi
+    public static class Counter {
+
+        static final CountDownLatch CANCELLED = new CountDownLatch(1);
+
+        @Subscription
+        public Multi<Long> count(long to) {
+            return Multi.createFrom().ticks().every(Duration.ofMillis(100))
+                    .select().first(to);
+        }
+
+        @Subscription
+        public Multi<Long> endless() {
+            return Multi.createFrom().ticks().every(Duration.ofMillis(100))
+                    .onCancellation().invoke(CANCELLED::countDown);
+        }
+
+        @Query
+        public String hello() {
+            return "world";
+        }
+    }
+
+    @Test
+    public void testDistinctConnection() throws IOException {
+        HttpURLConnection connection = post(null, "{\"query\":\"subscription { count(to: 3) }\"}");
+
+        assertEquals(200, connection.getResponseCode());
+        assertTrue(connection.getContentType().startsWith("text/event-stream"));
+        List<String> events = readEvents(reader(connection), 4);
+        assertEquals(List.of(
+                "next {\"data\":{\"count\":0}}",
+                "next {\"data\":{\"count\":1}}",
+                "next {\"data\":{\"count\":2}}",
+                "complete "), events);
+    }
+
+    @Test
+    public void testQueryOnDistinctConnection() throws IOException {
+        HttpURLConnection connection = post(null, "{\"query\":\"{ hello }\"}");
+
+        assertEquals(List.of("next {\"data\":{\"hello\":\"world\"}}", "complete "), readEvents(reader(connection), 2));
+    }
+
+    @Test
+    public void testSingleConnection() throws Exception {
+        HttpURLConnection reservation = (HttpURLConnection) streamUrl().openConnection();
+        reservation.setRequestMethod("PUT");
+        assertEquals(201, reservation.getResponseCode());
+        String token = new String(reservation.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+
+        HttpURLConnection stream = (HttpURLConnection) streamUrl().openConnection();
+        stream.setRequestProperty("X-GraphQL-Event-Stream-Token", token);
+        stream.setRequestProperty("Accept", "text/event-stream");
+        assertEquals(200, stream.getResponseCode());
+        BufferedReader events = reader(stream);
+
+        assertEquals(202, post(token, "{\"query\":\"subscription { count(to: 2) }\","
+                + "\"extensions\":{\"operationId\":\"counting\"}}").getResponseCode());
+        assertEquals(List.of(
+                "next {\"id\":\"counting\",\"payload\":{\"data\":{\"count\":0}}}",
+                "next {\"id\":\"counting\",\"payload\":{\"data\":{\"count\":1}}}",
+                "complete {\"id\":\"counting\"}"), readEvents(events, 3));
+
+        assertEquals(202, post(token, "{\"query\":\"subscription { endless }\","
+                + "\"extensions\":{\"operationId\":\"endless\"}}").getResponseCode());
+        readEvents(events, 1);
+        HttpURLConnection stop = (HttpURLConnection) new URL(streamUrl() + "?token=" + token + "&operationId=endless")
+                .openConnection();
+        stop.setRequestMethod("DELETE");
+        assertEquals(200, stop.getResponseCode());
+        assertTrue("The subscription has to be cancelled", Counter.CANCELLED.await(10, TimeUnit.SECONDS));
+        stream.disconnect();
+    }
+
+    private URL streamUrl() throws IOException {
+        return new URL(testingURL, "graphql/stream");
+    }
+
+    private HttpURLConnection post(String token, String body) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) streamUrl().openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        connection.setRequestProperty("Content-Type", "application/json");
+        connection.setRequestProperty("Accept", "text/event-stream");
+        if (token != null) {
+            connection.setRequestProperty("X-GraphQL-Event-Stream-Token", token);
+        }
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return connection;
+    }
+
+    private BufferedReader reader(HttpURLConnection connection) throws IOException {
+        return new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    // read events as "<event> <data>"
+    private List<String> readEvents(BufferedReader reader, int count) throws IOException {
+        List<String> events = new ArrayList<>();
+        String event = null;
+        String line;
+        while (events.size() < count && (line = reader.readLine()) != null) {
+            if (line.startsWith("event: ")) {
+                event = line.substring("event: ".length());
+            } else if (line.startsWith("data: ")) {
+                events.add(event + " " + line.substring("data: ".length()));
+            }
+        }
+        return events;
+    }
+}
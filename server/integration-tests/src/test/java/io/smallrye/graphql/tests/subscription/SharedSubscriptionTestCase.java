@@ -0,0 +1,109 @@
+package io.smallrye.graphql.tests.subscription;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Query;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import io.smallrye.graphql.api.Subscription;
+import io.smallrye.graphql.client.Response;
+import io.smallrye.graphql.client.dynamic.api.DynamicGraphQLClient;
+import io.smallrye.graphql.client.vertx.dynamic.VertxDynamicGraphQLClientBuilder;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.subscription.Cancellable;
+
+/**
+ * Verify that identical subscriptions of different connections are executed only once when shared subscriptions are
+ * enabled, and that the shared stream is cancelled when the last subscriber leaves.
+ */
+@RunWith(Arquillian.class)
+public class SharedSubscriptionTestCase {
+
+    @Deployment
+    public static WebArchive deployment() {
+        return ShrinkWrap.create(WebArchive.class, "shared-subscription-test.war")
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsResource(new StringAsset("smallrye.graphql.subscriptions.shared.enabled=true"),
+                        "META-INF/microprofile-config.properties")
+                .addClasses(Ticker.class);
+    }
+
+    @ArquillianResource
+    URL testingURL;
+
+    @GraphQLApi
+    public static class Ticker {
+
+        static final AtomicInteger INVOCATIONS = new AtomicInteger();
+        static final CountDownLatch CANCELLED = new CountDownLatch(1);
+
+        @Subscription
+        public Multi<Long> ticks() {
+            INVOCATIONS.incrementAndGet();
+            return Multi.createFrom()
+                    .ticks()
+                    .every(Duration.ofMillis(200))
+                    .onCancellation().invoke(CANCELLED::countDown);
+        }
+
+        @Query
+        public String dummy() {
+            return null;
+        }
+    }
+
+    @Test
+    public void testSharedSubscription() throws Exception {
+        DynamicGraphQLClient first = client();
+        DynamicGraphQLClient second = client();
+        try {
+            CountDownLatch firstItems = new CountDownLatch(3);
+            CountDownLatch secondItems = new CountDownLatch(3);
+            Cancellable firstSubscription = subscribe(first, firstItems);
+            Cancellable secondSubscription = subscribe(second, secondItems);
+
+            assertTrue(firstItems.await(10, TimeUnit.SECONDS));
+            assertTrue(secondItems.await(10, TimeUnit.SECONDS));
+            assertEquals("The subscription should only be executed once", 1, Ticker.INVOCATIONS.get());
+
+            firstSubscription.cancel();
+            assertEquals("The shared stream must not be cancelled while a subscriber is left",
+                    1, Ticker.CANCELLED.getCount());
+            secondSubscription.cancel();
+            assertTrue("The shared stream has to be cancelled when the last subscriber leaves",
+                    Ticker.CANCELLED.await(10, TimeUnit.SECONDS));
+        } finally {
+            first.close();
+            second.close();
+        }
+    }
+
+    private DynamicGraphQLClient client() {
+        return new VertxDynamicGraphQLClientBuilder()
+                .url(testingURL.toString() + "graphql")
+                .build();
+    }
+
+    private Cancellable subscribe(DynamicGraphQLClient client, CountDownLatch items) {
+        Multi<Response> multi = client.subscription("subscription { ticks }");
+        return multi.subscribe().with(response -> items.countDown(), error -> {
+            throw new AssertionError("Subscription failed", error);
+        });
+    }
+}
@@ -11,6 +11,7 @@ import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -24,6 +25,7 @@ import org.gradle.api.artifacts.ResolvedArtifact;
 import org.gradle.api.artifacts.ResolvedConfiguration;
 import org.gradle.api.tasks.Input;
 import org.gradle.api.tasks.InputDirectory;
+import org.gradle.api.tasks.Internal;
 import org.gradle.api.tasks.Optional;
 import org.gradle.api.tasks.OutputFile;
 import org.gradle.api.tasks.TaskAction;
@@ -38,6 +40,7 @@ import org.jboss.jandex.Result;
 import graphql.schema.GraphQLSchema;
 import io.smallrye.graphql.bootstrap.Bootstrap;
 import io.smallrye.graphql.execution.SchemaPrinter;
+import io.smallrye.graphql.schema.IndexCache;
 import io.smallrye.graphql.schema.SchemaBuilder;
 import io.smallrye.graphql.schema.model.Schema;
 import io.smallrye.graphql.spi.config.Config;
@@ -58,8 +61,10 @@ public class GenerateSchemaTask extends DefaultTask {
     private boolean includeDirectives = false;
     private boolean includeSchemaDefinition = false;
     private boolean includeIntrospectionTypes = false;
+    private boolean incremental = false;
     
     private File classesDir = new File(getProject().getBuildDir(), "classes");
+    private File cacheDir = new File(getProject().getBuildDir(), "smallrye-graphql");
 
     @Optional
     @OutputFile
@@ -160,6 +165,25 @@ public class GenerateSchemaTask extends DefaultTask {
         this.includeIntrospectionTypes = includeIntrospectionTypes;
     }
 
+    @Input
+    public boolean getIncremental() {
+        return incremental;
+    }
+
+    @Option(option = "incremental", description = "Whether to only generate the schema when the classes, the scanned dependencies or the configuration changed since the previous build. The indexes of the dependencies are cached, so only new or changed dependencies get indexed.")
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    @Internal
+    public File getCacheDir() {
+        return cacheDir;
+    }
+
+    public void setCacheDir(File cacheDir) {
+        this.cacheDir = cacheDir;
+    }
+
     @Optional
     @InputDirectory
     public File getClassesDir() {
@@ -181,25 +205,67 @@ public class GenerateSchemaTask extends DefaultTask {
         this.config = new GradleConfig(includeScalars, includeDirectives, includeSchemaDefinition, includeIntrospectionTypes);
         ClassLoader classLoader = getClassLoader();
         Thread.currentThread().setContextClassLoader(classLoader);
-        IndexView index = createIndex();
+
+        List<File> jars = getJarsToIndex();
+        IndexCache indexCache = null;
+        String hash = null;
+        if (incremental) {
+            indexCache = new IndexCache(cacheDir.toPath());
+            hash = hash(indexCache, jars);
+            if (indexCache.isUpToDate(hash) && destinationExists()) {
+                getLogger().info("The schema is up to date");
+                return;
+            }
+        }
+
+        IndexView index = createIndex(jars, indexCache);
         String schema = generateSchema(index);
         if (schema != null) {
             write(schema);
         } else {
             getLogger().warn("No Schema generated. Check that your code contains the MicroProfile GraphQL Annotations");
         }
+
+        if (indexCache != null) {
+            try {
+                indexCache.store(hash);
+            } catch (IOException e) {
+                getLogger().warn("Can't write the index cache to " + cacheDir, e);
+            }
+        }
     }
 
-    private IndexView createIndex() {
+    private IndexView createIndex(List<File> jars, IndexCache indexCache) {
         IndexView moduleIndex;
         try {
             moduleIndex = indexModuleClasses();
         } catch (IOException e) {
             throw new GradleException("Can't compute index", e);
         }
+        if (jars.isEmpty()) {
+            return moduleIndex;
+        }
+        List<IndexView> indexes = new ArrayList<>();
+        indexes.add(moduleIndex);
+        if (indexCache != null) {
+            indexes.addAll(indexCache.index(jars));
+        } else {
+            for (File jar : jars) {
+                getLogger().debug("Indexing file " + jar);
+                try {
+                    Result result = JarIndexer.createJarIndex(jar, new Indexer(), false, false, false);
+                    indexes.add(result.getIndex());
+                } catch (Exception e) {
+                    getLogger().error("Can't compute index of " + jar.getAbsolutePath() + ", skipping", e);
+                }
+            }
+        }
+        return CompositeIndex.create(indexes);
+    }
+
+    private List<File> getJarsToIndex() {
+        List<File> jars = new ArrayList<>();
         if (includeDependencies) {
-            List<IndexView> indexes = new ArrayList<>();
-            indexes.add(moduleIndex);
             ConfigurationContainer configurationContainer = getProject().getConfigurations();
             for (String name : configurations) {
                 Configuration configuration = configurationContainer.getByName(name);
@@ -210,21 +276,28 @@ public class GenerateSchemaTask extends DefaultTask {
                 Set<ResolvedArtifact> artifacts = resolvedConfiguration.getResolvedArtifacts();
                 for (ResolvedArtifact artifact : artifacts) {
                     if (dependencyExtensions.contains(artifact.getExtension())) {
-                        getLogger().debug("Indexing file " + artifact.getFile());
-                        try {
-                            Result result = JarIndexer.createJarIndex(artifact.getFile(), new Indexer(), false, false, false);
-                            indexes.add(result.getIndex());
-                        } catch (Exception e) {
-                            getLogger().error("Can't compute index of " + artifact.getFile().getAbsolutePath() + ", skipping",
-                                    e);
-                        }
+                        jars.add(artifact.getFile());
                     }
                 }
             }
-            return CompositeIndex.create(indexes);
-        } else {
-            return moduleIndex;
         }
+        return jars;
+    }
+
+    private String hash(IndexCache indexCache, List<File> jars) {
+        // everything else that changes the generated schema or where it goes
+        String settings = Arrays.asList(destination, includeDependencies, includeTransitiveDependencies,
+                configurations, dependencyExtensions, includeScalars, includeDirectives, includeSchemaDefinition,
+                includeIntrospectionTypes).toString();
+        try {
+            return indexCache.hash(Collections.singletonList(classesDir.toPath()), jars, settings);
+        } catch (IOException e) {
+            throw new GradleException("Can't compute the hash of the classes and dependencies", e);
+        }
+    }
+
+    private boolean destinationExists() {
+        return destination != null && !destination.isEmpty() && new File(destination).isFile();
     }
 
     // index the classes of this Gradle module
@@ -255,8 +328,14 @@ public class GenerateSchemaTask extends DefaultTask {
                 getLogger().quiet(schema);
             } else {
                 Path path = new File(destination).toPath();
+                byte[] content = schema.getBytes();
+                if (Files.isRegularFile(path) && Arrays.equals(content, Files.readAllBytes(path))) {
+                    // don't touch the file, so that whatever depends on it does not have to be rebuilt
+                    getLogger().info("The schema in " + path.toAbsolutePath().toString() + " is unchanged");
+                    return;
+                }
                 path.toFile().getParentFile().mkdirs();
-                Files.write(path, schema.getBytes(),
+                Files.write(path, content,
                         StandardOpenOption.WRITE,
                         StandardOpenOption.CREATE,
                         StandardOpenOption.TRUNCATE_EXISTING);
@@ -9,6 +9,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -34,6 +36,7 @@ import org.jboss.jandex.Result;
 import graphql.schema.GraphQLSchema;
 import io.smallrye.graphql.bootstrap.Bootstrap;
 import io.smallrye.graphql.execution.SchemaPrinter;
+import io.smallrye.graphql.schema.IndexCache;
 import io.smallrye.graphql.schema.SchemaBuilder;
 import io.smallrye.graphql.schema.helper.TypeAutoNameStrategy;
 import io.smallrye.graphql.schema.model.Schema;
@@ -96,6 +99,19 @@ public class GenerateSchemaMojo extends AbstractMojo {
     @Parameter(defaultValue = "false", property = "skip")
     private boolean skip;
 
+    /**
+     * Only generate the schema when the classes, the scanned dependencies or the configuration changed since the
+     * previous build. The indexes of the dependencies are cached, so only new or changed dependencies get indexed.
+     */
+    @Parameter(defaultValue = "false", property = "incremental")
+    private boolean incremental;
+
+    /**
+     * Where the cached indexes are kept when running incrementally.
+     */
+    @Parameter(defaultValue = "${project.build.directory}/smallrye-graphql", property = "cacheDirectory")
+    private File cacheDirectory;
+
     /**
      * Compiled classes of the project.
      */
@@ -117,17 +133,37 @@ public class GenerateSchemaMojo extends AbstractMojo {
             ClassLoader classLoader = getClassLoader();
             Thread.currentThread().setContextClassLoader(classLoader);
 
-            IndexView index = createIndex();
+            List<File> jars = getJarsToIndex();
+            IndexCache indexCache = null;
+            String hash = null;
+            if (incremental) {
+                indexCache = new IndexCache(cacheDirectory.toPath());
+                hash = hash(indexCache, jars);
+                if (indexCache.isUpToDate(hash) && destinationExists()) {
+                    getLog().info("The schema is up to date");
+                    return;
+                }
+            }
+
+            IndexView index = createIndex(jars, indexCache);
             String schema = generateSchema(index);
             if (schema != null) {
                 write(schema);
             } else {
                 getLog().warn("No Schema generated. Check that your code contains the MicroProfile GraphQL Annotations");
             }
+
+            if (indexCache != null) {
+                try {
+                    indexCache.store(hash);
+                } catch (IOException e) {
+                    getLog().warn("Can't write the index cache to " + cacheDirectory, e);
+                }
+            }
         }
     }
 
-    private IndexView createIndex() throws MojoExecutionException {
+    private IndexView createIndex(List<File> jars, IndexCache indexCache) throws MojoExecutionException {
         List<IndexView> indexes = new ArrayList<>();
         try {
             IndexView moduleIndex = indexModuleClasses();
@@ -136,6 +172,22 @@ public class GenerateSchemaMojo extends AbstractMojo {
             throw new MojoExecutionException("Can't compute index", e);
         }
 
+        if (indexCache != null) {
+            indexes.addAll(indexCache.index(jars));
+        } else {
+            for (File jar : jars) {
+                Result result = indexJar(jar);
+                if (result != null) {
+                    indexes.add(result.getIndex());
+                }
+            }
+        }
+        return CompositeIndex.create(indexes);
+    }
+
+    private List<File> getJarsToIndex() {
+        List<File> jars = new ArrayList<>();
+
         // always include Mutiny if it is present in the dependencies,
         // even if includeDependencies=false
         Predicate<Artifact> isMutiny = a -> a.getGroupId().equals("io.smallrye.reactive") &&
@@ -144,12 +196,7 @@ public class GenerateSchemaMojo extends AbstractMojo {
                 .stream()
                 .filter(isMutiny)
                 .findAny()
-                .ifPresent(a -> {
-                    Result r = indexJar(((Artifact) a).getFile());
-                    if (r != null) {
-                        indexes.add(r.getIndex());
-                    }
-                });
+                .ifPresent(a -> jars.add(((Artifact) a).getFile()));
 
         if (includeDependencies) {
             for (Object a : mavenProject.getArtifacts()) {
@@ -157,14 +204,27 @@ public class GenerateSchemaMojo extends AbstractMojo {
                 if (includeDependenciesScopes.contains(artifact.getScope())
                         && includeDependenciesTypes.contains(artifact.getType())
                         && !isMutiny.test(artifact)) {
-                    Result result = indexJar(artifact.getFile());
-                    if (result != null) {
-                        indexes.add(result.getIndex());
-                    }
+                    jars.add(artifact.getFile());
                 }
             }
         }
-        return CompositeIndex.create(indexes);
+        return jars;
+    }
+
+    private String hash(IndexCache indexCache, List<File> jars) throws MojoExecutionException {
+        // everything else that changes the generated schema or where it goes
+        String settings = Arrays.asList(destination, includeDependencies, includeDependenciesScopes,
+                includeDependenciesTypes, includeScalars, includeDirectives, includeSchemaDefinition,
+                includeIntrospectionTypes, typeAutoNameStrategy, classpath).toString();
+        try {
+            return indexCache.hash(Collections.singletonList(classesDir.toPath()), jars, settings);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Can't compute the hash of the classes and dependencies", e);
+        }
+    }
+
+    private boolean destinationExists() {
+        return destination != null && !destination.isEmpty() && new File(destination).isFile();
     }
 
     private Result indexJar(File file) {
@@ -208,8 +268,14 @@ public class GenerateSchemaMojo extends AbstractMojo {
                 getLog().info(schema);
             } else {
                 Path path = new File(destination).toPath();
+                byte[] content = schema.getBytes();
+                if (Files.isRegularFile(path) && Arrays.equals(content, Files.readAllBytes(path))) {
+                    // don't touch the file, so that whatever depends on it does not have to be rebuilt
+                    getLog().info("The schema in " + path.toAbsolutePath().toString() + " is unchanged");
+                    return;
+                }
                 path.toFile().getParentFile().mkdirs();
-                Files.write(path, schema.getBytes(),
+                Files.write(path, content,
                         StandardOpenOption.WRITE,
                         StandardOpenOption.CREATE,
                         StandardOpenOption.TRUNCATE_EXISTING);